@@ -0,0 +1,84 @@
+package com.appsmith.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Generates the inputs shared by the benchmarks, shaped after what real applications send and store. The data is
+ * deterministic, so that results of different runs can be compared.
+ */
+public class BenchmarkData {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Number of widgets in each container of the generated DSL
+    private static final int WIDGETS_PER_CONTAINER = 10;
+
+    /**
+     * Rows as returned by a database query: a mix of numbers, strings, dates, booleans and a nested object.
+     */
+    public static ArrayNode createRows(int rowCount) {
+        ArrayNode rows = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode row = rows.addObject();
+            row.put("id", i);
+            row.put("name", "User " + i);
+            row.put("email", "user" + i + "@example.com");
+            row.put("age", 18 + i % 60);
+            row.put("balance", (i % 10000) / 100.0);
+            row.put("createdAt", "2022-0" + (1 + i % 9) + "-1" + (i % 10) + "T10:15:30Z");
+            row.put("isActive", i % 3 != 0);
+            ObjectNode address = row.putObject("address");
+            address.put("city", "City " + i % 50);
+            address.put("zip", String.format("%05d", i % 100000));
+        }
+        return rows;
+    }
+
+    /**
+     * A page DSL with the given number of widgets, grouped into containers. Every widget has a few dynamic bindings that
+     * refer to queries and other widgets, listed in its `dynamicBindingPathList` like the client does.
+     */
+    public static ObjectNode createDsl(int widgetCount) {
+        ObjectNode dsl = objectMapper.createObjectNode();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("type", "CANVAS_WIDGET");
+        dsl.putArray("dynamicBindingPathList");
+        ArrayNode containers = dsl.putArray("children");
+
+        ArrayNode widgets = null;
+        for (int i = 0; i < widgetCount; i++) {
+            if (i % WIDGETS_PER_CONTAINER == 0) {
+                ObjectNode container = containers.addObject();
+                container.put("widgetName", "Container" + i / WIDGETS_PER_CONTAINER);
+                container.put("type", "CONTAINER_WIDGET");
+                container.putArray("dynamicBindingPathList");
+                widgets = container.putArray("children");
+            }
+            createWidget(widgets.addObject(), i);
+        }
+        return dsl;
+    }
+
+    private static void createWidget(ObjectNode widget, int index) {
+        final String queryName = "Query" + index % 25;
+        widget.put("widgetName", "Table" + index);
+        widget.put("type", "TABLE_WIDGET_V2");
+        widget.put("isVisible", "{{Switch" + index % 10 + ".isSwitchedOn}}");
+        widget.put("tableData", "{{" + queryName + ".data.filter(row => row.isActive)}}");
+        widget.put("searchText", "{{Input" + index % 10 + ".text}}");
+        widget.put("label", "Users of {{Select" + index % 10 + ".selectedOptionValue}} (static text)");
+        ObjectNode primaryColumns = widget.putObject("primaryColumns");
+        for (String column : new String[]{"id", "name", "email"}) {
+            primaryColumns.putObject(column)
+                    .put("computedValue", "{{Table" + index + ".processedTableData.map((currentRow) => currentRow." + column + ")}}");
+        }
+
+        ArrayNode dynamicBindingPathList = widget.putArray("dynamicBindingPathList");
+        for (String path : new String[]{"isVisible", "tableData", "searchText", "label",
+                "primaryColumns.id.computedValue", "primaryColumns.name.computedValue", "primaryColumns.email.computedValue"}) {
+            dynamicBindingPathList.addObject().put("key", path);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.appsmith.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Takes the same arguments as the JMH command line, but writes the results as JSON
+ * to `jmh-result.json` unless another format or file is asked for, so that the results of different releases can be
+ * compared with each other.
+ * <p>
+ * Run all the benchmarks with: java -jar appsmith-benchmarks/target/benchmarks.jar
+ * <br>
+ * Or only some of them, e.g.: java -jar appsmith-benchmarks/target/benchmarks.jar MustacheHelperBenchmark -rff mustache.json
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLineOptions.getResult().orElse(DEFAULT_RESULT_FILE))
+                .build();
+
+        new Runner(options).run();
+    }
+}
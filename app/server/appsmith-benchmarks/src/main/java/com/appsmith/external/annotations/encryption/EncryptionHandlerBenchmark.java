@@ -0,0 +1,141 @@
+package com.appsmith.external.annotations.encryption;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
+import com.appsmith.external.models.SSHConnection;
+import com.appsmith.external.models.SSHPrivateKey;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.appsmith.server.domains.NewAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Measures walking a datasource and an action for their encrypted fields, as done every time they are saved or read.
+ * The first walk over a type scans its fields with reflection and caches them, later walks use the cached fields. The
+ * transformer leaves the values as they are, so that only the walk is measured and not the encryption itself. The
+ * datasource properties and the action's headers, parameters and templates have the given number of entries each.
+ * <p>
+ * Run with: java -jar appsmith-benchmarks/target/benchmarks.jar EncryptionHandlerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncryptionHandlerBenchmark {
+
+    @Param({"10", "1000"})
+    public int propertyCount;
+
+    private final EncryptionHandler encryptionHandler = new EncryptionHandler();
+
+    private final UnaryOperator<String> transformer = UnaryOperator.identity();
+
+    private Datasource datasource;
+
+    private NewAction newAction;
+
+    @Setup
+    public void setUp() {
+        DBAuth authentication = new DBAuth();
+        authentication.setAuthType(DBAuth.Type.USERNAME_PASSWORD);
+        authentication.setUsername("username");
+        authentication.setPassword("password");
+        authentication.setDatabaseName("database");
+
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(SSLDetails.AuthType.VERIFY_FULL);
+        sslDetails.setKeyFile(new UploadedFile("client.key", "a2V5"));
+        sslDetails.setCertificateFile(new UploadedFile("client.crt", "Y2VydGlmaWNhdGU="));
+        sslDetails.setCaCertificateFile(new UploadedFile("ca.crt", "Y2EgY2VydGlmaWNhdGU="));
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+
+        SSHConnection sshConnection = new SSHConnection();
+        sshConnection.setHost("bastion.example.com");
+        sshConnection.setPort(22L);
+        sshConnection.setUsername("ubuntu");
+        sshConnection.setPrivateKey(new SSHPrivateKey(new UploadedFile("id_rsa", "cHJpdmF0ZSBrZXk="), "passphrase"));
+
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setAuthentication(authentication);
+        datasourceConfiguration.setConnection(connection);
+        datasourceConfiguration.setSshProxy(sshConnection);
+        datasourceConfiguration.setSshProxyEnabled(true);
+        datasourceConfiguration.setEndpoints(List.of(new Endpoint("db-1.example.com", 5432L), new Endpoint("db-2.example.com", 5432L)));
+        datasourceConfiguration.setProperties(createProperties("property"));
+
+        datasource = new Datasource();
+        datasource.setName("Users DB");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+
+        newAction = new NewAction();
+        newAction.setUnpublishedAction(createAction());
+        newAction.setPublishedAction(createAction());
+    }
+
+    private List<Property> createProperties(String keyPrefix) {
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < propertyCount; i++) {
+            properties.add(new Property(keyPrefix + i, "value" + i));
+        }
+        return properties;
+    }
+
+    private ActionDTO createAction() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("/api/users/{{Table1.selectedRow.id}}");
+        actionConfiguration.setBody("{\"name\": \"{{Input1.text}}\"}".repeat(propertyCount));
+        actionConfiguration.setHeaders(createProperties("header"));
+        actionConfiguration.setQueryParameters(createProperties("param"));
+        actionConfiguration.setPluginSpecifiedTemplates(createProperties("template"));
+
+        // Actions refer to their datasource by id, only the name and id are stored with the action
+        Datasource actionDatasource = new Datasource();
+        actionDatasource.setId("datasourceId");
+        actionDatasource.setName(datasource.getName());
+
+        ActionDTO action = new ActionDTO();
+        action.setName("Api1");
+        action.setDatasource(actionDatasource);
+        action.setActionConfiguration(actionConfiguration);
+        return action;
+    }
+
+    @Benchmark
+    public boolean convertEncryptionWithScannedTypes() {
+        return encryptionHandler.convertEncryption(datasource, transformer);
+    }
+
+    @Benchmark
+    public boolean convertEncryptionWithFieldScanning() {
+        return new EncryptionHandler().convertEncryption(datasource, transformer);
+    }
+
+    @Benchmark
+    public boolean convertEncryptionOfNewActionWithScannedTypes() {
+        return encryptionHandler.convertEncryption(newAction, transformer);
+    }
+}
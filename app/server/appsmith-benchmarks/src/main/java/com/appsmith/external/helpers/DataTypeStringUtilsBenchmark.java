@@ -0,0 +1,56 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.benchmarks.BenchmarkData;
+import com.appsmith.external.models.ParsedDataType;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding the display data types of an action result, which is done on the body of every execution.
+ * <p>
+ * Run with: java -jar appsmith-benchmarks/target/benchmarks.jar DataTypeStringUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataTypeStringUtilsBenchmark {
+
+    @Param({"100", "10000"})
+    public int rowCount;
+
+    private ArrayNode rows;
+
+    private String rowsString;
+
+    @Setup
+    public void setUp() {
+        rows = BenchmarkData.createRows(rowCount);
+        rowsString = rows.toString();
+    }
+
+    @Benchmark
+    public List<ParsedDataType> getDisplayDataTypesOfJsonNode() {
+        return DataTypeStringUtils.getDisplayDataTypes(rows);
+    }
+
+    @Benchmark
+    public List<ParsedDataType> getDisplayDataTypesOfString() {
+        return DataTypeStringUtils.getDisplayDataTypes(rowsString);
+    }
+}
@@ -0,0 +1,79 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.MustacheBindingToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mustache handling done for every execution of a prepared statement query: tokenizing the query,
+ * extracting the bindings in order and replacing them with `?` placeholders.
+ * <p>
+ * Run with: java -jar appsmith-benchmarks/target/benchmarks.jar MustacheHelperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MustacheHelperBenchmark {
+
+    @Param({"10", "100"})
+    public int bindingCount;
+
+    private String query;
+
+    private List<MustacheBindingToken> mustacheBindings;
+
+    @Setup
+    public void setUp() {
+        StringBuilder queryBuilder = new StringBuilder("SELECT id, name, email FROM users WHERE 1 = 1");
+        for (int i = 0; i < bindingCount; i++) {
+            switch (i % 4) {
+                case 0:
+                    queryBuilder.append("\n  AND name = '{{Input").append(i).append(".text}}'");
+                    break;
+                case 1:
+                    queryBuilder.append("\n  AND age > {{Slider").append(i).append(".value + 1}}");
+                    break;
+                case 2:
+                    queryBuilder.append("\n  AND id IN ({{Table").append(i)
+                            .append(".selectedRows.map(row => row.id).join(\", \")}})");
+                    break;
+                default:
+                    queryBuilder.append("\n  AND status = {{ Select").append(i)
+                            .append(".selectedOptionValue === \"all\" ? { value: 1 }.value : 2 }}");
+            }
+        }
+        queryBuilder.append("\nORDER BY id LIMIT {{Table1.pageSize}} OFFSET {{Table1.pageOffset}};");
+        query = queryBuilder.toString();
+        mustacheBindings = MustacheHelper.extractMustacheKeysInOrder(query);
+    }
+
+    @Benchmark
+    public List<MustacheBindingToken> tokenize() {
+        return MustacheHelper.tokenize(query);
+    }
+
+    @Benchmark
+    public List<MustacheBindingToken> extractMustacheKeysInOrder() {
+        return MustacheHelper.extractMustacheKeysInOrder(query);
+    }
+
+    @Benchmark
+    public String replaceMustacheWithQuestionMark() {
+        return MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheBindings);
+    }
+}
@@ -0,0 +1,85 @@
+package com.appsmith.external.helpers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of tracking the size of a JDBC style result while it is being read, using the incremental
+ * {@link ResultSizeEstimator} against periodically serializing the whole row list with {@link Sizeof}. The time per
+ * operation of the estimator is expected to grow linearly with the row count, while the serialization approach grows
+ * quadratically.
+ * <p>
+ * Run with: java -jar appsmith-benchmarks/target/benchmarks.jar ResultSizeEstimatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ResultSizeEstimatorBenchmark {
+
+    private static final int HEAVY_OP_FREQUENCY = 100;
+
+    @Param({"1000", "10000", "50000"})
+    public int rowCount;
+
+    private List<Map<String, Object>> rows;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("email", "user" + i + "@example.com");
+            row.put("balance", new BigDecimal(i).movePointLeft(2));
+            row.put("created_at", "2022-01-01T10:00:00Z");
+            row.put("is_active", i % 2 == 0);
+            rows.add(row);
+        }
+    }
+
+    @Benchmark
+    public long incrementalEstimate() {
+        ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        for (Map<String, Object> row : rows) {
+            rowsList.add(row);
+            resultSizeEstimator.addRow(row);
+        }
+        return resultSizeEstimator.getCurrentSize();
+    }
+
+    @Benchmark
+    public long periodicSerialization() throws IOException {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        long size = 0;
+        int iterator = 0;
+        for (Map<String, Object> row : rows) {
+            if (iterator % HEAVY_OP_FREQUENCY == 0) {
+                size = Sizeof.sizeof(rowsList);
+            }
+            rowsList.add(row);
+            iterator++;
+        }
+        return size;
+    }
+}
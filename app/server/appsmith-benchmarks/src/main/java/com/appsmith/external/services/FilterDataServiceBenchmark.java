@@ -0,0 +1,98 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Compares filtering data with the columnar filter against loading it into the in memory database, for a where clause
+ * with sorting and pagination, as used by the Google Sheets and S3 plugins. The concurrent variants run the same
+ * filter from 4 threads, which all share the single connection to the in memory database.
+ * <p>
+ * Run with: java -jar appsmith-benchmarks/target/benchmarks.jar FilterDataServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class FilterDataServiceBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final FilterDataService filterDataService = FilterDataService.getInstance();
+
+    @Param({"1000", "10000"})
+    public int rowCount;
+
+    private ArrayNode items;
+
+    @Setup
+    public void setUp() {
+        items = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", i);
+            item.put("email", "user" + i + "@example.com");
+            item.put("orderAmount", (i % 1000) / 10.0 + 0.99);
+            item.put("orderStatus", i % 3 == 0 ? "NOT READY" : "READY");
+        }
+    }
+
+    private UQIDataFilterParams getFilterParams() {
+        Condition condition = new Condition(null, ConditionalOperator.AND, List.of(
+                new Condition("orderAmount", ConditionalOperator.LT.name(), "50"),
+                new Condition("orderStatus", ConditionalOperator.EQ.name(), "READY")
+        ), null);
+        List<Map<String, String>> sortBy = List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "orderAmount", SORT_BY_TYPE_KEY, "DESCENDING"));
+        Map<String, String> paginateBy = Map.of(PAGINATE_LIMIT_KEY, "100", PAGINATE_OFFSET_KEY, "0");
+        return new UQIDataFilterParams(condition, null, sortBy, paginateBy);
+    }
+
+    @Benchmark
+    public ArrayNode columnarFilter() {
+        return filterDataService.filterDataNew(items, getFilterParams());
+    }
+
+    @Benchmark
+    public ArrayNode inMemoryDbFilter() {
+        return filterDataService.filterDataUsingInMemoryDb(items, getFilterParams(), null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ArrayNode columnarFilterConcurrent() {
+        return filterDataService.filterDataNew(items, getFilterParams());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ArrayNode inMemoryDbFilterConcurrent() {
+        return filterDataService.filterDataUsingInMemoryDb(items, getFilterParams(), null);
+    }
+}
@@ -0,0 +1,63 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.benchmarks.BenchmarkData;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures extracting the bindings of every dynamic binding path of every widget in a page, as done when the on load
+ * actions of a page are computed on each layout update.
+ * <p>
+ * Run with: java -jar appsmith-benchmarks/target/benchmarks.jar DslUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DslUtilsBenchmark {
+
+    @Param({"100", "1000"})
+    public int widgetCount;
+
+    private final List<JsonNode> widgets = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        widgets.clear();
+        collectWidgets(BenchmarkData.createDsl(widgetCount));
+    }
+
+    private void collectWidgets(JsonNode widget) {
+        widgets.add(widget);
+        if (widget.has("children")) {
+            widget.get("children").forEach(this::collectWidgets);
+        }
+    }
+
+    @Benchmark
+    public void getMustacheValueSetFromSpecificDynamicBindingPath(Blackhole blackhole) {
+        for (JsonNode widget : widgets) {
+            for (JsonNode dynamicBindingPath : widget.get("dynamicBindingPathList")) {
+                final String fieldPath = dynamicBindingPath.get("key").asText();
+                blackhole.consume(DslUtils.getMustacheValueSetFromSpecificDynamicBindingPath(widget, fieldPath));
+            }
+        }
+    }
+}
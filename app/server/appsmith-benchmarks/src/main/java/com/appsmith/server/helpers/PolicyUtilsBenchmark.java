@@ -0,0 +1,82 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Application;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures merging policies into a domain object and removing them again, as done for every application, page, action
+ * and datasource when an application is shared or made public. Each of the application permissions is held by the given
+ * number of permission groups, and the merged policies add one more permission group to each of them.
+ * <p>
+ * Run with: java -jar appsmith-benchmarks/target/benchmarks.jar PolicyUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyUtilsBenchmark {
+
+    @Param({"5", "100"})
+    public int permissionGroupCount;
+
+    // Only the policy merging methods are measured, which don't use any of the repositories or permissions
+    private final PolicyUtils policyUtils = new PolicyUtils(null, null, null, null, null, null, null, null, null, null, null);
+
+    private Application application;
+
+    private Map<String, Policy> policyMap;
+
+    @Setup
+    public void setUp() {
+        application = new Application();
+        policyMap = new HashMap<>();
+        for (AclPermission permission : AclPermission.values()) {
+            if (!Application.class.equals(permission.getEntity())) {
+                continue;
+            }
+
+            Set<String> permissionGroups = new HashSet<>();
+            for (int i = 0; i < permissionGroupCount; i++) {
+                permissionGroups.add("permissionGroup" + i);
+            }
+            application.getPolicies().add(Policy.builder()
+                    .permission(permission.getValue())
+                    .permissionGroups(permissionGroups)
+                    .build());
+            policyMap.put(permission.getValue(), Policy.builder()
+                    .permission(permission.getValue())
+                    .permissionGroups(new HashSet<>(Set.of("publicPermissionGroup")))
+                    .build());
+        }
+    }
+
+    /**
+     * Removing the policies after adding them leaves the application as it was, so that every invocation does the same
+     * amount of work.
+     */
+    @Benchmark
+    public Application addAndRemovePolicies() {
+        policyUtils.addPoliciesToExistingObject(policyMap, application);
+        return policyUtils.removePoliciesFromExistingObject(policyMap, application);
+    }
+}
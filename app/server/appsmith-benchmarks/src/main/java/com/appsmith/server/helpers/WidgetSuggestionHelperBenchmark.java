@@ -0,0 +1,58 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.benchmarks.BenchmarkData;
+import com.appsmith.external.models.WidgetSuggestionDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the widget suggestions made for the result of every execution in edit mode. Database plugins return the
+ * rows as a JSON array, some others as a list of maps, so both are covered.
+ * <p>
+ * Run with: java -jar appsmith-benchmarks/target/benchmarks.jar WidgetSuggestionHelperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WidgetSuggestionHelperBenchmark {
+
+    @Param({"100", "10000"})
+    public int rowCount;
+
+    private ArrayNode rows;
+
+    private List<?> rowsList;
+
+    @Setup
+    public void setUp() {
+        rows = BenchmarkData.createRows(rowCount);
+        rowsList = new ObjectMapper().convertValue(rows, List.class);
+    }
+
+    @Benchmark
+    public List<WidgetSuggestionDTO> getSuggestedWidgetsForArrayNode() {
+        return WidgetSuggestionHelper.getSuggestedWidgets(rows);
+    }
+
+    @Benchmark
+    public List<WidgetSuggestionDTO> getSuggestedWidgetsForList() {
+        return WidgetSuggestionHelper.getSuggestedWidgets(rowsList);
+    }
+}
@@ -0,0 +1,107 @@
+package com.external.plugins;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.ValidationDepth;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.MariadbConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.MySQLR2DBCDatabaseContainer;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares running a query on a pooled connection with and without validating the connection with a round trip to the
+ * server first, i.e. the cost that the MySQL plugin used to pay on every execution. A MariaDB container stands in for
+ * the MySQL server, so the numbers only show the extra round trip over the local network.
+ * <p>
+ * Requires Docker. Run with: java -jar appsmith-benchmarks/target/benchmarks.jar MySqlConnectionValidationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class MySqlConnectionValidationBenchmark {
+
+    private static final String QUERY = "SELECT 1";
+
+    @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is pseudo-optional.
+    private MySQLContainer mySQLContainer;
+
+    private ConnectionPool connectionPool;
+
+    @Setup
+    public void setUp() {
+        mySQLContainer = new MySQLContainer(DockerImageName.parse("mariadb:10.6").asCompatibleSubstituteFor("mysql"))
+                .withUsername("mysql")
+                .withPassword("password")
+                .withDatabaseName("test_db");
+        mySQLContainer.start();
+
+        ConnectionFactoryOptions options = MySQLR2DBCDatabaseContainer.getOptions(mySQLContainer);
+        MariadbConnectionFactory connectionFactory = new MariadbConnectionFactory(
+                MariadbConnectionConfiguration.fromOptions(options).allowPublicKeyRetrieval(true).build());
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .maxSize(5)
+                .build());
+        connectionPool.warmup().block();
+    }
+
+    @TearDown
+    public void tearDown() {
+        connectionPool.dispose();
+        mySQLContainer.stop();
+    }
+
+    private Mono<Object> runQuery(Connection connection) {
+        return Flux.from(connection.createStatement(QUERY).execute())
+                .flatMap(result -> result.map((row, metadata) -> row.get(0)))
+                .last();
+    }
+
+    @Benchmark
+    public Object queryWithRemoteValidation() {
+        return Mono.usingWhen(
+                connectionPool.create(),
+                connection -> Mono.from(connection.validate(ValidationDepth.REMOTE))
+                        .then(Mono.defer(() -> runQuery(connection))),
+                Connection::close
+        ).block();
+    }
+
+    @Benchmark
+    public Object queryWithoutValidation() {
+        return Mono.usingWhen(connectionPool.create(), this::runQuery, Connection::close).block();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object queryWithRemoteValidationConcurrent() {
+        return queryWithRemoteValidation();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object queryWithoutValidationConcurrent() {
+        return queryWithoutValidation();
+    }
+}
@@ -0,0 +1,155 @@
+package com.appsmith.git.helpers;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the hash of every file that was written to a repo for a branch, along with the size and the modification time
+ * the file had right after it was written. The manifest is stored inside the .git directory of the repo, so it is
+ * neither committed nor touched by resets and checkouts.
+ * <p>
+ * A file whose size and modification time are still the recorded ones is known to have the recorded content, so it is
+ * left as it is when the new content has the same hash, without being read. A file that has changed on the disk since
+ * it was recorded, e.g. by a checkout, is compared with the new content byte by byte instead. Files that are left
+ * untouched keep their modification time, so git doesn't have to read them again to find out that they are unchanged.
+ */
+@Slf4j
+public class FileHashManifest {
+
+    private static final String MANIFEST_FILE_NAME = "appsmith-file-hashes.json";
+
+    private static final Type MANIFEST_TYPE = new TypeToken<Map<String, Map<String, FileHash>>>() {}.getType();
+
+    private static final Gson gson = new Gson();
+
+    private final Path baseRepo;
+
+    private final Path manifestPath;
+
+    private final Map<String, Map<String, FileHash>> branchFileHashes;
+
+    private final Map<String, FileHash> fileHashes;
+
+    private FileHashManifest(Path baseRepo, String branchName, Map<String, Map<String, FileHash>> branchFileHashes) {
+        this.baseRepo = baseRepo;
+        this.manifestPath = getManifestPath(baseRepo);
+        this.branchFileHashes = branchFileHashes;
+        this.fileHashes = branchFileHashes.computeIfAbsent(String.valueOf(branchName), branch -> new HashMap<>());
+    }
+
+    /**
+     * Reads the manifest of the repo. An empty manifest is used if there is none yet or if it can't be read, in which
+     * case every file is compared with its new content.
+     */
+    public static FileHashManifest load(Path baseRepo, String branchName) {
+        final Path manifestPath = getManifestPath(baseRepo);
+        Map<String, Map<String, FileHash>> branchFileHashes = null;
+        if (Files.exists(manifestPath)) {
+            try (BufferedReader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+                branchFileHashes = gson.fromJson(reader, MANIFEST_TYPE);
+            } catch (IOException | JsonParseException e) {
+                log.debug("Unable to read file hash manifest at {}, with error {}", manifestPath, e.getMessage());
+            }
+        }
+
+        return new FileHashManifest(baseRepo, branchName, branchFileHashes == null ? new HashMap<>() : branchFileHashes);
+    }
+
+    /**
+     * Writes the content to the file unless the file already has that content.
+     *
+     * @return true if the file was written
+     */
+    public boolean writeIfChanged(Path path, byte[] content) throws IOException {
+        final String key = baseRepo.relativize(path).toString();
+        final String hash = hash(content);
+        final FileHash recordedHash = fileHashes.get(key);
+
+        BasicFileAttributes attributes = Files.exists(path) ? Files.readAttributes(path, BasicFileAttributes.class) : null;
+        boolean isUnchanged = false;
+        if (attributes != null && attributes.isRegularFile() && attributes.size() == content.length) {
+            isUnchanged = recordedHash != null && recordedHash.matches(attributes)
+                    ? hash.equals(recordedHash.getHash())
+                    : Arrays.equals(Files.readAllBytes(path), content);
+        }
+
+        if (!isUnchanged) {
+            Files.createDirectories(path.getParent());
+            Files.write(path, content);
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        }
+
+        fileHashes.put(key, new FileHash(hash, attributes.size(), attributes.lastModifiedTime().toMillis()));
+        return !isUnchanged;
+    }
+
+    /**
+     * Stores the manifest, leaving out the files that don't exist anymore.
+     */
+    public void save() {
+        final Set<String> deletedFiles = new HashSet<>();
+        fileHashes.keySet().forEach(key -> {
+            if (!Files.exists(baseRepo.resolve(key))) {
+                deletedFiles.add(key);
+            }
+        });
+        fileHashes.keySet().removeAll(deletedFiles);
+
+        try {
+            Files.createDirectories(manifestPath.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8)) {
+                gson.toJson(branchFileHashes, MANIFEST_TYPE, writer);
+            }
+        } catch (IOException e) {
+            log.debug("Unable to save file hash manifest at {}, with error {}", manifestPath, e.getMessage());
+        }
+    }
+
+    private static Path getManifestPath(Path baseRepo) {
+        return baseRepo.resolve(".git").resolve(MANIFEST_FILE_NAME);
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class FileHash {
+        private String hash;
+        private long size;
+        private long lastModified;
+
+        boolean matches(BasicFileAttributes attributes) {
+            return size == attributes.size() && lastModified == attributes.lastModifiedTime().toMillis();
+        }
+    }
+}
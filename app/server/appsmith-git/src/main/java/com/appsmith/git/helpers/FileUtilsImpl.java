@@ -27,11 +27,13 @@ import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -46,6 +48,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -127,6 +130,8 @@ public class FileUtilsImpl implements FileInterface {
     /**
      * This method will save the complete application in the local repo directory.
      * Path to repo will be : ./container-volumes/git-repo/workspaceId/defaultApplicationId/repoName/{application_data}
+     * Every resource is serialized first, with the pages being serialized in parallel, and only the files whose content
+     * has changed are written, see {@link FileHashManifest}.
      * @param baseRepoSuffix path suffix used to create a repo path
      * @param applicationGitReference application reference object from which entire application can be rehydrated
      * @param branchName name of the branch for the current application
@@ -157,41 +162,34 @@ public class FileUtilsImpl implements FileInterface {
                             .setPrettyPrinting()
                             .create();
 
-                    Set<String> validFileNames = new HashSet<>();
+                    // Resources to be saved by the path of their file
+                    Map<Path, Object> resourcesToSave = new LinkedHashMap<>();
                     Map<String, Set<String>> updatedResources = applicationGitReference.getUpdatedResources();
-
-                    // Remove unwanted directories which was present in v1 of the git file format version
-                    deleteDirectory(baseRepo.resolve(ACTION_DIRECTORY));
-                    deleteDirectory(baseRepo.resolve(ACTION_COLLECTION_DIRECTORY));
+                    Path pageDirectory = baseRepo.resolve(PAGE_DIRECTORY);
 
                     // Save application
-                    saveFile(applicationGitReference.getApplication(), baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION), gson);
+                    resourcesToSave.put(baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION), applicationGitReference.getApplication());
 
                     // Save application metadata
                     JsonObject metadata = gson.fromJson(gson.toJson(applicationGitReference.getMetadata()), JsonObject.class);
                     metadata.addProperty(CommonConstants.FILE_FORMAT_VERSION, CommonConstants.fileFormatVersion);
-                    saveFile(metadata, baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION), gson);
+                    resourcesToSave.put(baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION), metadata);
 
                     // Save application theme
-                    saveFile(applicationGitReference.getTheme(), baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION), gson);
+                    resourcesToSave.put(baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION), applicationGitReference.getTheme());
 
                     // Save pages
-                    Path pageDirectory = baseRepo.resolve(PAGE_DIRECTORY);
-                    Set<Map.Entry<String, Object>> pageEntries = applicationGitReference.getPages().entrySet();
-
                     Set<String> validPages = new HashSet<>();
-                    for (Map.Entry<String, Object> pageResource : pageEntries) {
+                    for (Map.Entry<String, Object> pageResource : applicationGitReference.getPages().entrySet()) {
                         final String pageName = pageResource.getKey();
                         Path pageSpecificDirectory = pageDirectory.resolve(pageName);
                         Boolean isResourceUpdated = updatedResources.get(PAGE_LIST).contains(pageName);
                         if(Boolean.TRUE.equals(isResourceUpdated)) {
-                            saveFile(pageResource.getValue(), pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION), gson);
+                            resourcesToSave.put(pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION), pageResource.getValue());
                         }
                         validPages.add(pageName);
                     }
 
-                    scanAndDeleteDirectoryForDeletedResources(validPages, baseRepo.resolve(PAGE_DIRECTORY));
-
                     // Create HashMap for valid actions and actionCollections
                     HashMap<String, Set<String>> validActionsMap = new HashMap<>();
                     HashMap<String, Set<String>> validActionCollectionsMap = new HashMap<>();
@@ -219,21 +217,15 @@ public class FileUtilsImpl implements FileInterface {
                             }
                             validActionsMap.get(pageName).add(queryName + CommonConstants.JSON_EXTENSION);
                             if(Boolean.TRUE.equals(isResourceUpdated)) {
-                                saveFile(
-                                        resource.getValue(),
+                                resourcesToSave.put(
                                         pageSpecificDirectory.resolve(ACTION_DIRECTORY).resolve(queryName + CommonConstants.JSON_EXTENSION),
-                                        gson
+                                        resource.getValue()
                                 );
                             }
 
                         }
                     }
 
-                    validActionsMap.forEach((pageName, validActionNames) -> {
-                        Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-                        scanAndDeleteFileForDeletedResources(validActionNames, pageSpecificDirectory.resolve(ACTION_DIRECTORY));
-                    });
-
                     // Save JSObjects
                     for (Map.Entry<String, Object> resource : applicationGitReference.getActionCollections().entrySet()) {
                         // JSObjectName_pageName => nomenclature for the keys
@@ -251,49 +243,88 @@ public class FileUtilsImpl implements FileInterface {
                             validActionCollectionsMap.get(pageName).add(actionCollectionName + CommonConstants.JSON_EXTENSION);
                             Boolean isResourceUpdated = updatedResources.get(ACTION_COLLECTION_LIST).contains(resource.getKey());
                             if(Boolean.TRUE.equals(isResourceUpdated)) {
-                                saveFile(
-                                        resource.getValue(),
+                                resourcesToSave.put(
                                         pageSpecificDirectory.resolve(ACTION_COLLECTION_DIRECTORY).resolve(actionCollectionName + CommonConstants.JSON_EXTENSION),
-                                        gson
+                                        resource.getValue()
                                 );
                             }
                         }
                     }
 
-                    validActionCollectionsMap.forEach((pageName, validActionCollectionNames) -> {
-                        Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-                        scanAndDeleteFileForDeletedResources(validActionCollectionNames, pageSpecificDirectory.resolve(ACTION_COLLECTION_DIRECTORY));
-                    });
-
                     // Save datasources ref
+                    Set<String> validFileNames = new HashSet<>();
                     for (Map.Entry<String, Object> resource : applicationGitReference.getDatasources().entrySet()) {
-                        saveFile(resource.getValue(), baseRepo.resolve(DATASOURCE_DIRECTORY).resolve(resource.getKey() + CommonConstants.JSON_EXTENSION), gson);
+                        resourcesToSave.put(baseRepo.resolve(DATASOURCE_DIRECTORY).resolve(resource.getKey() + CommonConstants.JSON_EXTENSION), resource.getValue());
                         validFileNames.add(resource.getKey() + CommonConstants.JSON_EXTENSION);
                     }
-                    // Scan datasource directory and delete any unwanted files if present
-                    if (!applicationGitReference.getDatasources().isEmpty()) {
-                        scanAndDeleteFileForDeletedResources(validFileNames, baseRepo.resolve(DATASOURCE_DIRECTORY));
-                    }
-                    processStopwatch.stopAndLogTimeInMillis();
-                    return Mono.just(baseRepo);
+
+                    Stopwatch serializeStopwatch = new Stopwatch("FS application serialize");
+                    return Flux.fromIterable(resourcesToSave.entrySet())
+                            .parallel()
+                            .runOn(Schedulers.parallel())
+                            .map(resource -> Tuples.of(resource.getKey(), serializeToBytes(resource.getValue(), gson)))
+                            .sequential()
+                            .collectMap(Tuple2::getT1, Tuple2::getT2)
+                            .doOnNext(serializedFiles -> serializeStopwatch.stopAndLogTimeInMillis())
+                            // Files are written on the bounded elastic scheduler, as the parallel one is reserved for non-blocking work
+                            .publishOn(scheduler)
+                            .map(serializedFiles -> {
+                                // Remove unwanted directories which was present in v1 of the git file format version
+                                deleteDirectory(baseRepo.resolve(ACTION_DIRECTORY));
+                                deleteDirectory(baseRepo.resolve(ACTION_COLLECTION_DIRECTORY));
+
+                                scanAndDeleteDirectoryForDeletedResources(validPages, pageDirectory);
+
+                                Stopwatch writeStopwatch = new Stopwatch("FS application write");
+                                FileHashManifest fileHashManifest = FileHashManifest.load(baseRepo, branchName);
+                                int writtenFileCount = 0;
+                                for (Map.Entry<Path, byte[]> serializedFile : serializedFiles.entrySet()) {
+                                    if (saveFile(serializedFile.getValue(), serializedFile.getKey(), fileHashManifest)) {
+                                        writtenFileCount++;
+                                    }
+                                }
+                                writeStopwatch.stopAndLogTimeInMillis();
+                                log.debug("Wrote {} of {} serialized files for branch {}", writtenFileCount, serializedFiles.size(), branchName);
+
+                                Stopwatch deleteStopwatch = new Stopwatch("FS application delete");
+                                validActionsMap.forEach((pageName, validActionNames) -> {
+                                    Path pageSpecificDirectory = pageDirectory.resolve(pageName);
+                                    scanAndDeleteFileForDeletedResources(validActionNames, pageSpecificDirectory.resolve(ACTION_DIRECTORY));
+                                });
+
+                                validActionCollectionsMap.forEach((pageName, validActionCollectionNames) -> {
+                                    Path pageSpecificDirectory = pageDirectory.resolve(pageName);
+                                    scanAndDeleteFileForDeletedResources(validActionCollectionNames, pageSpecificDirectory.resolve(ACTION_COLLECTION_DIRECTORY));
+                                });
+
+                                // Scan datasource directory and delete any unwanted files if present
+                                if (!applicationGitReference.getDatasources().isEmpty()) {
+                                    scanAndDeleteFileForDeletedResources(validFileNames, baseRepo.resolve(DATASOURCE_DIRECTORY));
+                                }
+                                deleteStopwatch.stopAndLogTimeInMillis();
+
+                                fileHashManifest.save();
+                                processStopwatch.stopAndLogTimeInMillis();
+                                return baseRepo;
+                            });
                 })
                 .subscribeOn(scheduler);
     }
 
+    private byte[] serializeToBytes(Object sourceEntity, Gson gson) {
+        return gson.toJson(sourceEntity).getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * This method will be used to store the DB resource to JSON file
-     * @param sourceEntity resource extracted from DB to be stored in file
+     * @param content serialized resource extracted from DB to be stored in file
      * @param path file path where the resource to be stored
-     * @param gson
-     * @return if the file operation is successful
+     * @param fileHashManifest hashes of the files, used to skip the files whose content hasn't changed
+     * @return if the file was written
      */
-    private boolean saveFile(Object sourceEntity, Path path, Gson gson) {
+    private boolean saveFile(byte[] content, Path path, FileHashManifest fileHashManifest) {
         try {
-            Files.createDirectories(path.getParent());
-            try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-                gson.toJson(sourceEntity, fileWriter);
-                return true;
-            }
+            return fileHashManifest.writeIfChanged(path, content);
         } catch (IOException e) {
             log.debug(e.getMessage());
         }
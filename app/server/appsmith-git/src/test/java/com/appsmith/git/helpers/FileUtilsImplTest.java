@@ -2,6 +2,7 @@ package com.appsmith.git.helpers;
 
 import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.service.GitExecutorImpl;
 import org.apache.commons.io.FileUtils;
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -18,8 +19,10 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -170,6 +173,38 @@ public class FileUtilsImplTest {
 
     }
 
+    @Test
+    public void saveApplicationRef_whenContentIsUnchanged_fileIsNotRewritten() throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "app"));
+        applicationGitReference.setMetadata(new Object());
+        applicationGitReference.setPages(new HashMap<>());
+        applicationGitReference.setActions(new HashMap<>());
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>());
+        fileUtils.saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch").block();
+
+        Path applicationPath = localTestDirectoryPath.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION);
+        FileTime initialModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(applicationPath, initialModifiedTime);
+
+        // Same content, the file is compared and left untouched
+        fileUtils.saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch").block();
+        Assertions.assertEquals(initialModifiedTime, Files.getLastModifiedTime(applicationPath));
+
+        // Same content again, the recorded hash is enough to leave the file untouched
+        fileUtils.saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch").block();
+        Assertions.assertEquals(initialModifiedTime, Files.getLastModifiedTime(applicationPath));
+
+        applicationGitReference.setApplication(Map.of("name", "renamed app"));
+        fileUtils.saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch").block();
+        Assertions.assertNotEquals(initialModifiedTime, Files.getLastModifiedTime(applicationPath));
+        Assertions.assertTrue(Files.readString(applicationPath).contains("renamed app"));
+    }
+
     /**
      * This will delete localTestDirectory and its contents after the test is executed.
      */
@@ -1,18 +1,52 @@
 package com.appsmith.external.annotations.encryption;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.util.Collection;
+import java.util.Map;
 
 @Getter
 @Setter
-@AllArgsConstructor
 public class CandidateField {
     private Field field;
     private Type type;
 
+    // The declared type of the elements of a collection, or of the values of a map, null for other fields
+    private Class<?> elementType;
+
+    public CandidateField(Field field, Type type) {
+        this.field = field;
+        this.type = type;
+        this.elementType = findElementType(field);
+        // Candidate fields are read and written for every document, so they are made accessible once, here
+        ReflectionUtils.makeAccessible(field);
+    }
+
+    private static Class<?> findElementType(Field field) {
+        if (!(field.getGenericType() instanceof ParameterizedType parameterizedType)) {
+            return null;
+        }
+
+        final java.lang.reflect.Type[] typeArguments = parameterizedType.getActualTypeArguments();
+        final int elementTypeIndex;
+        if (Collection.class.isAssignableFrom(field.getType())) {
+            elementTypeIndex = 0;
+        } else if (Map.class.isAssignableFrom(field.getType())) {
+            elementTypeIndex = 1;
+        } else {
+            return null;
+        }
+
+        if (typeArguments.length > elementTypeIndex && typeArguments[elementTypeIndex] instanceof Class<?> elementClass) {
+            return elementClass;
+        }
+        return null;
+    }
+
     enum Type {
         ANNOTATED_FIELD,
         APPSMITH_FIELD_KNOWN,
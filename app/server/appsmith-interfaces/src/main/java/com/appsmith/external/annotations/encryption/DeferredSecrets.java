@@ -0,0 +1,54 @@
+package com.appsmith.external.annotations.encryption;
+
+import com.appsmith.external.services.EncryptionService;
+
+/**
+ * Keeps the encrypted fields of a document as ciphertext after it is read from the database, until the plaintext is
+ * actually needed. A deferred value is the ciphertext with a marker in front of it, so that it survives the copies and
+ * merges done on domain objects and is written back to the database as the same ciphertext, without being encrypted
+ * again.
+ * <p>
+ * Deferred values are not meant to be read by anything but this class. Code that needs the plaintext of the secrets,
+ * like creating a connection to a datasource, has to call {@link #decrypt(Object)} on the object first.
+ */
+public class DeferredSecrets {
+
+    // A null character can't be typed into any of the encrypted fields, so a plaintext value never starts with it
+    static final String DEFERRED_PREFIX = "\u0000deferred:";
+
+    private final EncryptionService encryptionService;
+
+    private final EncryptionHandler encryptionHandler;
+
+    public DeferredSecrets(EncryptionService encryptionService) {
+        this.encryptionService = encryptionService;
+        this.encryptionHandler = new EncryptionHandler();
+    }
+
+    public static String defer(String ciphertext) {
+        return DEFERRED_PREFIX + ciphertext;
+    }
+
+    public static boolean isDeferred(String value) {
+        return value != null && value.startsWith(DEFERRED_PREFIX);
+    }
+
+    public static String getCiphertext(String value) {
+        return value.substring(DEFERRED_PREFIX.length());
+    }
+
+    /**
+     * Decrypts the deferred values of all the encrypted fields in the given object, in place. Values that aren't
+     * deferred are left as they are, so it is safe to call this on an object more than once, or on an object that was
+     * never read from the database.
+     *
+     * @param source object with encrypted fields
+     * @return the same object, with the plaintext of all its encrypted fields
+     */
+    public <T> T decrypt(T source) {
+        encryptionHandler.convertEncryption(source, value -> isDeferred(value)
+                ? encryptionService.decryptString(getCiphertext(value))
+                : value);
+        return source;
+    }
+}
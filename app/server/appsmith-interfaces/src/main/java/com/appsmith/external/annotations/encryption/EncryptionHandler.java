@@ -12,17 +12,32 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 @Slf4j
 public class EncryptionHandler {
 
+    private static final Set<CandidateField.Type> APPSMITH_FIELD_TYPES = EnumSet.of(
+            CandidateField.Type.APPSMITH_FIELD_KNOWN,
+            CandidateField.Type.APPSMITH_FIELD_UNKNOWN,
+            CandidateField.Type.APPSMITH_FIELD_POLYMORPHIC);
+
+    private static final Set<CandidateField.Type> APPSMITH_COLLECTION_TYPES = EnumSet.of(
+            CandidateField.Type.APPSMITH_COLLECTION_KNOWN,
+            CandidateField.Type.APPSMITH_COLLECTION_UNKNOWN,
+            CandidateField.Type.APPSMITH_COLLECTION_POLYMORPHIC);
+
+    private static final Set<CandidateField.Type> APPSMITH_MAP_TYPES = EnumSet.of(
+            CandidateField.Type.APPSMITH_MAP_KNOWN,
+            CandidateField.Type.APPSMITH_MAP_UNKNOWN,
+            CandidateField.Type.APPSMITH_MAP_POLYMORPHIC);
+
+    // The candidate fields of each type. The lists are never modified, dropping candidates replaces the list instead.
     Map<Class<?>, List<CandidateField>> encryptedFieldsMap = new ConcurrentHashMap<>();
 
     /**
@@ -55,6 +70,12 @@ public class EncryptionHandler {
         // If it is not known, scan each field for annotation or Appsmith type
         List<CandidateField> finalCandidateFields = new ArrayList<>();
         synchronized (sourceClass) {
+            // Another thread may have scanned this type while this one was waiting
+            candidateFields = this.encryptedFieldsMap.get(sourceClass);
+            if (candidateFields != null) {
+                return candidateFields;
+            }
+
             ReflectionUtils.doWithFields(sourceClass, field -> {
                 if (field.getAnnotation(Encrypted.class) != null) {
                     CandidateField candidateField = new CandidateField(field, CandidateField.Type.ANNOTATED_FIELD);
@@ -96,7 +117,6 @@ public class EncryptionHandler {
                         }
                     }
 
-                    field.setAccessible(false);
                     if (candidateField != null) {
                         // This will only ever be null if the field value is populated,
                         // and is known to be a non-encryption related field
@@ -148,8 +168,6 @@ public class EncryptionHandler {
                                     break;
                                 }
                             }
-                            field.setAccessible(false);
-
                         }
                     }
                     // TODO Add support for nested collections
@@ -192,7 +210,6 @@ public class EncryptionHandler {
                                 break;
                             }
                         }
-                        field.setAccessible(false);
                     }
                 }
 
@@ -200,117 +217,116 @@ public class EncryptionHandler {
                     AppsmithDomain.class.isAssignableFrom(field.getType()) ||
                     Collection.class.isAssignableFrom(field.getType()) ||
                     Map.class.isAssignableFrom(field.getType()));
+
+            // Update cache for next use. This is done while holding the lock, so that a thread that was waiting for
+            // the lock finds the candidates of this scan instead of scanning again. Not done with computeIfAbsent,
+            // since the scan adds the candidates of nested types to the same map.
+            candidateFields = List.copyOf(finalCandidateFields);
+            encryptedFieldsMap.put(sourceClass, candidateFields);
         }
-        // Update cache for next use
-        encryptedFieldsMap.put(sourceClass, finalCandidateFields);
 
-        return finalCandidateFields;
-        
+        return candidateFields;
     }
 
-    synchronized boolean convertEncryption(Object source, UnaryOperator<String> transformer) {
+    /**
+     * Transforms the values of all the encrypted fields in the given object, and in the Appsmith types nested in it.
+     * Types without any candidate fields are skipped right away. Candidate fields that turn out to have no encrypted
+     * fields under them are dropped from the candidates of the type, so that they aren't visited again.
+     *
+     * @param source      object with fields to be transformed
+     * @param transformer function to encrypt or decrypt the value of an encrypted field
+     * @return true if the type of the object still has candidate fields
+     */
+    boolean convertEncryption(Object source, UnaryOperator<String> transformer) {
         if (source == null) {
             return false;
         }
 
-        boolean hasEncryptedFields = false;
-
         // find the candidate fields for this object
         List<CandidateField> candidateFields = this.findCandidateFieldsForType(source);
+        if (candidateFields.isEmpty()) {
+            return false;
+        }
+
+        // Candidate fields that turn out to be irrelevant are collected here and dropped from the cache afterwards,
+        // the list of candidates itself is never modified as other threads may be going through it
+        List<CandidateField> irrelevantCandidateFields = null;
 
         // if it is a known type, go to sub type and convert
         // if it is a polymorphic type, go to specific subtype for convert
         // if it is an unknown type, go to specific subtype for convert and update the current candidate field with the verdict
-        Iterator<CandidateField> candidateFieldIterator = candidateFields.iterator();
-        while (candidateFieldIterator.hasNext()) {
-            CandidateField candidateField = candidateFieldIterator.next();
+        for (CandidateField candidateField : candidateFields) {
             Field field = candidateField.getField();
-            field.setAccessible(true);
             Object fieldValue = ReflectionUtils.getField(field, source);
             // if this field is null, skip
-            if (fieldValue != null) {
-                if (CandidateField.Type.ANNOTATED_FIELD.equals(candidateField.getType())) {
-                    // For each known field, encrypt if it is annotated
-                    final String transformedValue = transformer.apply(String.valueOf(fieldValue));
-
-                    ReflectionUtils.setField(field, source, transformedValue);
-                } else if (Set.of(
-                        CandidateField.Type.APPSMITH_FIELD_KNOWN,
-                        CandidateField.Type.APPSMITH_FIELD_UNKNOWN,
-                        CandidateField.Type.APPSMITH_FIELD_POLYMORPHIC)
-                        .contains(candidateField.getType())) {
-                    // or go into field type if it is not (this is an appsmith field)
-                    boolean subTypeHasEncrypted = convertEncryption(fieldValue, transformer);
-                    if (!subTypeHasEncrypted && field
-                            .getType()
-                            .getCanonicalName()
-                            .equals(fieldValue.getClass().getCanonicalName())) {
-                        // This is a previously unknown type that is actually irrelevant
-                        candidateFieldIterator.remove();
-                    } else {
-                        // convert to polymorphic type if it has encrypted and is not the same type
-                        // haven't done this yet because I'm considering whether we can just consider
-                        // unknown types as polymorphic candidates over time
-                        // If that is the case then do we need to store the candidate field type by
-                        // known, unknown or polymorphic types at all?
-                    }
-                } else {
-                    final Type[] typeNames = ((ParameterizedType) field.getGenericType()).getActualTypeArguments();
-                    if (Set.of(
-                            CandidateField.Type.APPSMITH_COLLECTION_KNOWN,
-                            CandidateField.Type.APPSMITH_COLLECTION_UNKNOWN,
-                            CandidateField.Type.APPSMITH_COLLECTION_POLYMORPHIC)
-                            .contains(candidateField.getType())) {
-                        // This is a collection which will necessarily have elements of AppsmithDomain type
-                        boolean subTypeHasEncrypted = false;
-                        Object element = null;
-                        for (Object o : (Collection<?>) fieldValue) {
-                            subTypeHasEncrypted |= convertEncryption(o, transformer);
-                            element = o;
-                        }
-                        // The following condition will be true for unknown types when:
-                        // none of the elements ended up being encrypted, and
-                        // the collection itself was not empty (if it was empty then we never really scanned anything), and
-                        // the declared type of the collection was the same as the first element (not polymorphic)
-                        if (!subTypeHasEncrypted &&
-                                element != null &&
-                                typeNames[0].getTypeName().equals(element.getClass().getCanonicalName())) {
-                            candidateFieldIterator.remove();
-                        }
-                    } else if (Set.of(
-                            CandidateField.Type.APPSMITH_MAP_KNOWN,
-                            CandidateField.Type.APPSMITH_MAP_UNKNOWN,
-                            CandidateField.Type.APPSMITH_MAP_POLYMORPHIC)
-                            .contains(candidateField.getType())) {
-                        // This is a map that will necessarily have element values of AppsmithDomain type
-                        boolean subTypeHasEncrypted = false;
-                        boolean isPolymorphic = false;
-                        final String typeName = typeNames[1].getTypeName();
-                        for (Map.Entry<?, ?> entry : ((Map<?, ?>) fieldValue).entrySet()) {
-                            subTypeHasEncrypted = subTypeHasEncrypted || convertEncryption(entry.getValue(), transformer);
-                            isPolymorphic = isPolymorphic ||
-                                    !typeName.equals(entry.getValue().getClass().getCanonicalName());
-                        }
-                        // The following condition will be true for unknown types when:
-                        // none of the elements ended up being encrypted, and
-                        // the map was not empty (if it was empty then we never really scanned anything), and
-                        // the declared type of the values in the map was the same as the values in the map (not polymorphic)
-                        if (!subTypeHasEncrypted &&
-                                !((Map<?, ?>) fieldValue).isEmpty() &&
-                                !isPolymorphic) {
-                            candidateFieldIterator.remove();
-                        }
-                    }
+            if (fieldValue == null) {
+                continue;
+            }
+
+            boolean isIrrelevant = false;
+            if (CandidateField.Type.ANNOTATED_FIELD.equals(candidateField.getType())) {
+                // For each known field, encrypt if it is annotated
+                final String transformedValue = transformer.apply(String.valueOf(fieldValue));
+
+                ReflectionUtils.setField(field, source, transformedValue);
+            } else if (APPSMITH_FIELD_TYPES.contains(candidateField.getType())) {
+                // or go into field type if it is not (this is an appsmith field)
+                boolean subTypeHasEncrypted = convertEncryption(fieldValue, transformer);
+                // This is a previously unknown type that is actually irrelevant
+                isIrrelevant = !subTypeHasEncrypted && field.getType().equals(fieldValue.getClass());
+            } else if (APPSMITH_COLLECTION_TYPES.contains(candidateField.getType())) {
+                // This is a collection which will necessarily have elements of AppsmithDomain type
+                boolean subTypeHasEncrypted = false;
+                Object element = null;
+                for (Object o : (Collection<?>) fieldValue) {
+                    subTypeHasEncrypted |= convertEncryption(o, transformer);
+                    element = o;
+                }
+                // The following condition will be true for unknown types when:
+                // none of the elements ended up being encrypted, and
+                // the collection itself was not empty (if it was empty then we never really scanned anything), and
+                // the declared type of the collection was the same as the first element (not polymorphic)
+                isIrrelevant = !subTypeHasEncrypted &&
+                        element != null &&
+                        element.getClass().equals(candidateField.getElementType());
+            } else if (APPSMITH_MAP_TYPES.contains(candidateField.getType())) {
+                // This is a map that will necessarily have element values of AppsmithDomain type
+                boolean subTypeHasEncrypted = false;
+                boolean isPolymorphic = false;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) fieldValue).entrySet()) {
+                    subTypeHasEncrypted = subTypeHasEncrypted || convertEncryption(entry.getValue(), transformer);
+                    isPolymorphic = isPolymorphic ||
+                            !entry.getValue().getClass().equals(candidateField.getElementType());
                 }
+                // The following condition will be true for unknown types when:
+                // none of the elements ended up being encrypted, and
+                // the map was not empty (if it was empty then we never really scanned anything), and
+                // the declared type of the values in the map was the same as the values in the map (not polymorphic)
+                isIrrelevant = !subTypeHasEncrypted &&
+                        !((Map<?, ?>) fieldValue).isEmpty() &&
+                        !isPolymorphic;
             }
 
-            field.setAccessible(false);
+            if (isIrrelevant) {
+                if (irrelevantCandidateFields == null) {
+                    irrelevantCandidateFields = new ArrayList<>();
+                }
+                irrelevantCandidateFields.add(candidateField);
+            }
         }
 
-        if (!candidateFields.isEmpty()) {
-            hasEncryptedFields = true;
+        if (irrelevantCandidateFields == null) {
+            return true;
         }
 
-        return hasEncryptedFields;
+        final List<CandidateField> fieldsToRemove = irrelevantCandidateFields;
+        final List<CandidateField> remainingCandidateFields = this.encryptedFieldsMap.computeIfPresent(
+                source.getClass(),
+                (sourceClass, existingCandidateFields) -> existingCandidateFields
+                        .stream()
+                        .filter(existingCandidateField -> !fieldsToRemove.contains(existingCandidateField))
+                        .toList());
+
+        return remainingCandidateFields != null && !remainingCandidateFields.isEmpty();
     }
 }
@@ -1,5 +1,6 @@
 package com.appsmith.external.annotations.encryption;
 
+import com.appsmith.external.models.Datasource;
 import com.appsmith.external.services.EncryptionService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
@@ -23,7 +24,10 @@ public class EncryptionMongoEventListener<E> extends AbstractMongoEventListener<
     public void onBeforeConvert(BeforeConvertEvent<E> event) {
         E source = event.getSource();
 
-        encryptionHandler.convertEncryption(source, encryptionService::encryptString);
+        // Deferred values are still encrypted, they are saved as they were read
+        encryptionHandler.convertEncryption(source, value -> DeferredSecrets.isDeferred(value)
+                ? DeferredSecrets.getCiphertext(value)
+                : encryptionService.encryptString(value));
     }
 
     // This lifecycle event is after we retrieve a document from the DB,
@@ -32,6 +36,13 @@ public class EncryptionMongoEventListener<E> extends AbstractMongoEventListener<
     public void onAfterConvert(AfterConvertEvent<E> event) {
         E source = event.getSource();
 
+        // Datasources are read far more often than their secrets are used, so their secrets are only decrypted when a
+        // connection is created or an action is executed, see DeferredSecrets
+        if (source instanceof Datasource) {
+            encryptionHandler.convertEncryption(source, DeferredSecrets::defer);
+            return;
+        }
+
         encryptionHandler.convertEncryption(source, encryptionService::decryptString);
     }
 
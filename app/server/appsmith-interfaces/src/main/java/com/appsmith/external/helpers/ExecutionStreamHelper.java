@@ -0,0 +1,94 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionStreamFrame;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Helpers to build the frames of a streamed action execution. See {@link ActionExecutionStreamFrame} for the layout of
+ * a stream.
+ */
+public class ExecutionStreamHelper {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /**
+     * Splits an already computed execution result into stream frames. This is what plugins that do not support
+     * streaming fall back to, so that clients can consume every action execution in the same way.
+     *
+     * @param result    : The complete execution result returned by the plugin
+     * @param chunkSize : Maximum number of rows per ROWS frame
+     * @return Flux of HEADER, ROWS and RESULT frames
+     */
+    public static Flux<ActionExecutionStreamFrame> toFrames(ActionExecutionResult result, int chunkSize) {
+        final ActionExecutionStreamFrame header =
+                ActionExecutionStreamFrame.header(null, result.getRequest(), result.getMessages());
+        // The request has been moved to the header frame, so it is not repeated in the result frame
+        result.setRequest(null);
+
+        final Object body = result.getBody();
+        if (!Boolean.TRUE.equals(result.getIsExecutionSuccess()) || !isTabular(body)) {
+            return Flux.just(header, ActionExecutionStreamFrame.result(result, null));
+        }
+
+        final Flux<Object> rows = body instanceof ArrayNode
+                ? Flux.fromIterable((ArrayNode) body).cast(Object.class)
+                : Flux.fromIterable((Collection<?>) body).cast(Object.class);
+        result.setBody(null);
+
+        final AtomicLong rowCount = new AtomicLong();
+        return Flux.concat(
+                Mono.just(header),
+                rows.buffer(chunkSize)
+                        .doOnNext(chunk -> rowCount.addAndGet(chunk.size()))
+                        .map(ActionExecutionStreamFrame::rows),
+                Mono.fromSupplier(() -> ActionExecutionStreamFrame.result(result, rowCount.get()))
+        );
+    }
+
+    /**
+     * Builds the frames for a result that is read row by row from the datasource. Rows are only held in memory for as
+     * long as it takes to fill and emit one chunk.
+     * <p>
+     * An error while reading the rows is passed on as is, after the frames emitted so far, so that the plugin can roll
+     * back its work and the server can map the error to the RESULT frame in the same way as for any other execution.
+     *
+     * @param columns   : Column names of the result, if known before reading the rows
+     * @param request   : The request details to be sent to the client in the header frame
+     * @param messages  : Hint messages to be sent to the client in the header frame
+     * @param rows      : Rows as they are read from the datasource
+     * @param chunkSize : Maximum number of rows per ROWS frame
+     * @return Flux of HEADER, ROWS and RESULT frames
+     */
+    public static Flux<ActionExecutionStreamFrame> toFrames(List<String> columns,
+                                                            ActionExecutionRequest request,
+                                                            Set<String> messages,
+                                                            Flux<?> rows,
+                                                            int chunkSize) {
+        final AtomicLong rowCount = new AtomicLong();
+        return Flux.concat(
+                        Mono.fromSupplier(() -> ActionExecutionStreamFrame.header(columns, request, messages)),
+                        rows.buffer(chunkSize)
+                                .doOnNext(chunk -> rowCount.addAndGet(chunk.size()))
+                                .map(chunk -> ActionExecutionStreamFrame.rows(new ArrayList<>(chunk))),
+                        Mono.fromSupplier(() -> ActionExecutionStreamFrame.success(rowCount.get()))
+                );
+    }
+
+    private static boolean isTabular(Object body) {
+        if (body instanceof JsonNode) {
+            return ((JsonNode) body).isArray();
+        }
+        return body instanceof Collection;
+    }
+}
@@ -0,0 +1,184 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a result being built row by row. Unlike {@link Sizeof#sizeof(Object)}, which
+ * serializes the whole object graph on every call, each row is measured once when it is added, so the cost of tracking
+ * the size of a result grows linearly with the number of rows read.
+ * <p>
+ * The estimate approximates the number of bytes the result would take up once serialized: fixed widths for numeric,
+ * boolean and temporal values and the character count for textual values. It is meant for enforcing the maximum
+ * response size limit and is not an exact measurement.
+ */
+public class ResultSizeEstimator {
+
+    private static final int NULL_SIZE = 4;
+
+    private static final int BOOLEAN_SIZE = 1;
+
+    private static final int INT_SIZE = 4;
+
+    private static final int LONG_SIZE = 8;
+
+    private static final int DATE_SIZE = 24;
+
+    private final long maxSize;
+
+    private long currentSize = 0;
+
+    public ResultSizeEstimator(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds the estimated size of the given row, including its column names, to the running total.
+     *
+     * @param row : A single row of the result, as column name to value.
+     * @return the estimated size of the result so far.
+     */
+    public long addRow(Map<String, Object> row) {
+        currentSize += sizeOf(row);
+        return currentSize;
+    }
+
+    /**
+     * Adds the estimated size of a value that isn't a row of columns, like a document of a NoSQL result.
+     *
+     * @return the estimated size of the result so far.
+     */
+    public long addValue(Object value) {
+        currentSize += sizeOf(value);
+        return currentSize;
+    }
+
+    public long getCurrentSize() {
+        return currentSize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isLimitExceeded() {
+        return currentSize > maxSize;
+    }
+
+    /**
+     * Estimates the serialized size of a single value without allocating a serialized copy of it.
+     */
+    public static long sizeOf(Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length();
+        }
+
+        if (value instanceof Boolean) {
+            return BOOLEAN_SIZE;
+        }
+
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof Float) {
+            return INT_SIZE;
+        }
+
+        if (value instanceof Long || value instanceof Double) {
+            return LONG_SIZE;
+        }
+
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).precision() + 2;
+        }
+
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() / 8 + 1;
+        }
+
+        if (value instanceof Date || value instanceof Temporal) {
+            return DATE_SIZE;
+        }
+
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+
+        if (value instanceof JsonNode) {
+            return sizeOfJsonNode((JsonNode) value);
+        }
+
+        if (value instanceof Map) {
+            long size = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+            }
+            return size;
+        }
+
+        if (value instanceof Collection) {
+            long size = 0;
+            for (Object item : (Collection<?>) value) {
+                size += sizeOf(item);
+            }
+            return size;
+        }
+
+        if (value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            if (value.getClass().getComponentType().isPrimitive()) {
+                return (long) length * LONG_SIZE;
+            }
+            long size = 0;
+            for (int i = 0; i < length; i++) {
+                size += sizeOf(Array.get(value, i));
+            }
+            return size;
+        }
+
+        return String.valueOf(value).length();
+    }
+
+    private static long sizeOfJsonNode(JsonNode node) {
+        if (node.isTextual()) {
+            return node.textValue().length();
+        }
+
+        if (node.isObject()) {
+            long size = 0;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + sizeOfJsonNode(field.getValue());
+            }
+            return size;
+        }
+
+        if (node.isArray()) {
+            long size = 0;
+            for (JsonNode item : node) {
+                size += sizeOfJsonNode(item);
+            }
+            return size;
+        }
+
+        if (node.isNull() || node.isMissingNode()) {
+            return NULL_SIZE;
+        }
+
+        if (node.isBinary()) {
+            return node.asText().length();
+        }
+
+        return LONG_SIZE;
+    }
+}
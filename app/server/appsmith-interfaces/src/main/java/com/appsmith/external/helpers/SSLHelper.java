@@ -3,6 +3,8 @@ package com.appsmith.external.helpers;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.models.UploadedFile;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.tcp.AbstractProtocolSslContextSpec;
 import reactor.netty.tcp.DefaultSslContextSpec;
 import reactor.netty.tcp.SslProvider;
 
@@ -58,23 +60,41 @@ public class SSLHelper {
 
     public static Consumer<? super SslProvider.SslContextSpec> sslCheckForHttpClient(DatasourceConfiguration datasourceConfiguration) {
 
+        return (sslContextSpec) -> sslContextSpec.sslContext(
+                withCertificateTrust(DefaultSslContextSpec.forClient(), datasourceConfiguration));
+    }
+
+    /**
+     * Same as {@link #sslCheckForHttpClient(DatasourceConfiguration)}, but also advertises HTTP/2 over ALPN so that the
+     * protocol can be negotiated with servers that support it. Servers that don't, continue to be spoken to over
+     * HTTP/1.1.
+     */
+    public static Consumer<? super SslProvider.SslContextSpec> sslCheckForHttp2Client(DatasourceConfiguration datasourceConfiguration) {
+
         return (sslContextSpec) -> {
-            final DefaultSslContextSpec sslContextSpec1 = DefaultSslContextSpec.forClient();
-
-            if (datasourceConfiguration.getConnection() != null &&
-                    datasourceConfiguration.getConnection().getSsl() != null &&
-                    datasourceConfiguration.getConnection().getSsl().getAuthType() == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
-
-                sslContextSpec1.configure(sslContextBuilder -> {
-                    try {
-                        final UploadedFile certificateFile = datasourceConfiguration.getConnection().getSsl().getCertificateFile();
-                        sslContextBuilder.trustManager(SSLHelper.getSslTrustManagerFactory(certificateFile));
-                    } catch (CertificateException | KeyStoreException | IOException | NoSuchAlgorithmException e) {
-                        e.printStackTrace();
-                    }
-                });
-            }
-            sslContextSpec.sslContext(sslContextSpec1);
+            final Http2SslContextSpec http2SslContextSpec = Http2SslContextSpec.forClient()
+                    // The HTTP/2 defaults restrict the cipher suites to the ones allowed by RFC 7540. Go back to the
+                    // JDK defaults so that we can still connect to servers that only speak HTTP/1.1 with older ciphers.
+                    .configure(sslContextBuilder -> sslContextBuilder.ciphers(null));
+            sslContextSpec.sslContext(withCertificateTrust(http2SslContextSpec, datasourceConfiguration));
         };
     }
+
+    private static <T extends AbstractProtocolSslContextSpec<T>> T withCertificateTrust(T sslContextSpec,
+                                                                                     DatasourceConfiguration datasourceConfiguration) {
+        if (datasourceConfiguration.getConnection() != null &&
+                datasourceConfiguration.getConnection().getSsl() != null &&
+                datasourceConfiguration.getConnection().getSsl().getAuthType() == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+
+            sslContextSpec.configure(sslContextBuilder -> {
+                try {
+                    final UploadedFile certificateFile = datasourceConfiguration.getConnection().getSsl().getCertificateFile();
+                    sslContextBuilder.trustManager(SSLHelper.getSslTrustManagerFactory(certificateFile));
+                } catch (CertificateException | KeyStoreException | IOException | NoSuchAlgorithmException e) {
+                    e.printStackTrace();
+                }
+            });
+        }
+        return sslContextSpec;
+    }
 }
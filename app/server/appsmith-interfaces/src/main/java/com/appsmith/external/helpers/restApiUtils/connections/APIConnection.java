@@ -3,12 +3,19 @@ package com.appsmith.external.helpers.restApiUtils.connections;
 import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.OAuth2;
+import lombok.Getter;
+import lombok.Setter;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import reactor.netty.http.client.HttpClient;
 
 // Parent type for all API connections that need to be created during datasource create method.
 public abstract class APIConnection implements ExchangeFilterFunction {
 
+    // Identifies the pooled HTTP client of this datasource, so that the pool can be closed along with the connection.
+    @Getter
+    @Setter
+    private String httpClientPoolKey;
+
     HttpClient getSecuredHttpClient(DatasourceConfiguration datasourceConfiguration) {
         final OAuth2 oAuth2 = (OAuth2) datasourceConfiguration.getAuthentication();
         HttpClient httpClient = HttpClient.create();
@@ -25,7 +25,7 @@ public class APIConnectionFactory {
                 }
                 return Mono.from(OAuth2AuthorizationCode.create(datasourceConfiguration));
             } else {
-                return Mono.empty();
+                return Mono.from(NoAuthentication.create());
             }
         } else if (authentication instanceof BasicAuth) {
             return Mono.from(BasicAuthentication.create((BasicAuth) authentication));
@@ -34,7 +34,7 @@ public class APIConnectionFactory {
         } else if (authentication instanceof BearerTokenAuth) {
             return Mono.from(BearerTokenAuthentication.create((BearerTokenAuth) authentication));
         } else {
-            return Mono.empty();
+            return Mono.from(NoAuthentication.create());
         }
     }
 }
\ No newline at end of file
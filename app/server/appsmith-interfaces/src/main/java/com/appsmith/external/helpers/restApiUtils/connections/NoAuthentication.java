@@ -0,0 +1,27 @@
+package com.appsmith.external.helpers.restApiUtils.connections;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * The connection of datasources that don't have any authentication. Requests are sent as they are, but the datasource
+ * still gets a connection to hold on to its HTTP connection pool.
+ */
+@Builder
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class NoAuthentication extends APIConnection {
+
+    public static Mono<NoAuthentication> create() {
+        return Mono.just(NoAuthentication.builder().build());
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request);
+    }
+}
@@ -0,0 +1,230 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps one pooled {@link HttpClient} per REST API datasource, so that connections (and their TLS sessions) are re-used
+ * across executions instead of being set up afresh for every request.
+ * <p>
+ * The plugins don't get to see the datasource id, so a pool is identified by the origin of the datasource URL, its SSL
+ * configuration and the system proxy settings, i.e. everything that decides how connections are made. Datasources that
+ * agree on all of these share a pool, so every datasource retains the pool when it is created and releases it when it
+ * is destroyed, and the pool is only dropped once the last of them releases it. Pools that aren't retained by any
+ * datasource, like those used to test a datasource, are dropped least recently used first when there are more than
+ * {@link #MAX_POOLS} of them.
+ * <p>
+ * When Micrometer is on the classpath, every pool publishes the `reactor.netty.connection.provider.*` gauges (total,
+ * active, idle and pending connections), tagged with the pool's name.
+ */
+@Slf4j
+public class HttpClientPoolUtils {
+
+    private static final String PROVIDER_NAME_PREFIX = "rest-api-provider-";
+
+    static final int MAX_POOLS = 256;
+
+    private static final int MAX_CONNECTIONS_PER_HOST = 100;
+
+    private static final int MAX_PENDING_ACQUIRES_PER_HOST = 1000;
+
+    // Kept below the keep-alive timeout of common servers (60s), so that we close idle connections before they do.
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+
+    private static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(15);
+
+    private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(45);
+
+    // Requests in flight on a pool that is being dropped are given this long to complete.
+    private static final Duration DISPOSE_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final boolean IS_MICROMETER_AVAILABLE =
+            ClassUtils.isPresent("io.micrometer.core.instrument.Metrics", HttpClientPoolUtils.class.getClassLoader());
+
+    // Both maps are guarded by synchronizing on pools. The pools are kept in access order, least recently used first.
+    private static final Map<String, PooledHttpClient> pools = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static final Map<String, Integer> referenceCounts = new HashMap<>();
+
+    @AllArgsConstructor
+    private static class PooledHttpClient {
+        private final ConnectionProvider provider;
+        private final HttpClient httpClient;
+    }
+
+    /**
+     * Returns the pooled HTTP client for this datasource, creating it on first use.
+     */
+    public static HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration) {
+        final String poolKey = getPoolKey(datasourceConfiguration);
+        synchronized (pools) {
+            final PooledHttpClient pooledHttpClient =
+                    pools.computeIfAbsent(poolKey, key -> createPooledHttpClient(datasourceConfiguration));
+            evictUnreferencedPools(poolKey);
+            return pooledHttpClient.httpClient;
+        }
+    }
+
+    /**
+     * Marks the pool with the given key as in use by a datasource, so that it isn't dropped until the datasource
+     * releases it. The pool itself is still created on first use.
+     */
+    public static void retainHttpClient(String poolKey) {
+        synchronized (pools) {
+            referenceCounts.merge(poolKey, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Releases the pool with the given key, and closes it if no other datasource has retained it. Requests that are
+     * still running on the pool are allowed to complete.
+     */
+    public static void releaseHttpClient(String poolKey) {
+        PooledHttpClient pooledHttpClient = null;
+        synchronized (pools) {
+            final Integer referenceCount = referenceCounts.get(poolKey);
+            if (referenceCount == null) {
+                return;
+            }
+
+            if (referenceCount > 1) {
+                referenceCounts.put(poolKey, referenceCount - 1);
+            } else {
+                referenceCounts.remove(poolKey);
+                pooledHttpClient = pools.remove(poolKey);
+            }
+        }
+        if (pooledHttpClient != null) {
+            dispose(pooledHttpClient);
+        }
+    }
+
+    /**
+     * Drops the least recently used pools that no datasource has retained, until there are at most {@link #MAX_POOLS}
+     * of them. Must be called while holding the lock on pools.
+     */
+    private static void evictUnreferencedPools(String currentPoolKey) {
+        final Iterator<Map.Entry<String, PooledHttpClient>> iterator = pools.entrySet().iterator();
+        while (pools.size() > MAX_POOLS && iterator.hasNext()) {
+            final Map.Entry<String, PooledHttpClient> entry = iterator.next();
+            if (entry.getKey().equals(currentPoolKey) || referenceCounts.containsKey(entry.getKey())) {
+                continue;
+            }
+            log.debug("Dropping least recently used HTTP connection pool {}", entry.getValue().provider.name());
+            iterator.remove();
+            dispose(entry.getValue());
+        }
+    }
+
+    static int getPoolCount() {
+        synchronized (pools) {
+            return pools.size();
+        }
+    }
+
+    private static PooledHttpClient createPooledHttpClient(DatasourceConfiguration datasourceConfiguration) {
+        final ConnectionProvider provider = ConnectionProvider
+                .builder(PROVIDER_NAME_PREFIX + getOrigin(datasourceConfiguration))
+                .maxConnections(MAX_CONNECTIONS_PER_HOST)
+                .pendingAcquireMaxCount(MAX_PENDING_ACQUIRES_PER_HOST)
+                .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                .disposeTimeout(DISPOSE_TIMEOUT)
+                .metrics(IS_MICROMETER_AVAILABLE)
+                .build();
+
+        // HTTP/2 is only negotiated over TLS. Plain text URLs, and servers that don't support it, stay on HTTP/1.1.
+        final HttpClient httpClient = HttpClient.create(provider)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2)
+                .secure(SSLHelper.sslCheckForHttp2Client(datasourceConfiguration))
+                .compress(true);
+
+        return new PooledHttpClient(provider, httpClient);
+    }
+
+    private static void dispose(PooledHttpClient pooledHttpClient) {
+        pooledHttpClient.provider
+                .disposeLater()
+                .subscribe(
+                        null,
+                        error -> log.debug("Error closing HTTP connection pool {}", pooledHttpClient.provider.name(), error)
+                );
+    }
+
+    public static String getPoolKey(DatasourceConfiguration datasourceConfiguration) {
+        final StringBuilder key = new StringBuilder(getOrigin(datasourceConfiguration));
+
+        final SSLDetails ssl = datasourceConfiguration.getConnection() == null
+                ? null
+                : datasourceConfiguration.getConnection().getSsl();
+        if (ssl != null && ssl.getAuthType() == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+            final UploadedFile certificateFile = ssl.getCertificateFile();
+            key.append("|ssl:").append(ssl.getAuthType())
+                    .append(':').append(certificateFile == null ? "" : sha256(certificateFile.getBase64Content()));
+        }
+
+        key.append("|proxy:")
+                .append(System.getProperty("java.net.useSystemProxies", "")).append(':')
+                .append(System.getProperty("http.proxyHost", "")).append(':')
+                .append(System.getProperty("http.proxyPort", "")).append(':')
+                .append(System.getProperty("https.proxyHost", "")).append(':')
+                .append(System.getProperty("https.proxyPort", ""));
+
+        return key.toString();
+    }
+
+    private static String getOrigin(DatasourceConfiguration datasourceConfiguration) {
+        final String url = datasourceConfiguration.getUrl();
+        if (url == null) {
+            return "";
+        }
+
+        try {
+            final URI uri = URI.create(url.trim());
+            if (uri.getHost() != null) {
+                return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+            }
+        } catch (IllegalArgumentException e) {
+            // URLs with mustache bindings can't always be parsed at this point, these are keyed on the URL as is.
+        }
+
+        return url;
+    }
+
+    private static String sha256(String content) {
+        if (content == null) {
+            return "";
+        }
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM ships SHA-256, fall back to the content itself so that different certificates never collide.
+            return content;
+        }
+    }
+}
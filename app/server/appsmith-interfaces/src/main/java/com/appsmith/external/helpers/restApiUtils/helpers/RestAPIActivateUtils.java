@@ -2,7 +2,6 @@ package com.appsmith.external.helpers.restApiUtils.helpers;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
 import com.appsmith.external.models.ActionConfiguration;
@@ -31,14 +30,12 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
@@ -287,17 +284,7 @@ public class RestAPIActivateUtils {
     }
 
     protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration) {
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider
-                .builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
-
-        return httpClient;
+        // Connections are pooled per datasource, so that they can be re-used across executions
+        return HttpClientPoolUtils.getHttpClient(datasourceConfiguration);
     }
 }
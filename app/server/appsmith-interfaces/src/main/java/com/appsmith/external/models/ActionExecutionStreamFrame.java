@@ -0,0 +1,83 @@
+package com.appsmith.external.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A single frame of a streamed action execution. A stream always starts with a {@link FrameType#HEADER} frame, followed
+ * by zero or more {@link FrameType#ROWS} frames and ends with exactly one {@link FrameType#RESULT} frame which carries
+ * the execution status. In case of errors, the stream may end with a RESULT frame right after the header, or consist of
+ * the RESULT frame alone if the action failed before the datasource was queried.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ActionExecutionStreamFrame {
+
+    public enum FrameType {
+        HEADER,
+        ROWS,
+        RESULT
+    }
+
+    FrameType type;
+
+    /*
+     * Only set on the HEADER frame.
+     */
+    List<String> columns;
+
+    ActionExecutionRequest request;
+
+    Set<String> messages;
+
+    /*
+     * Only set on ROWS frames.
+     */
+    List<?> rows;
+
+    /*
+     * Only set on the RESULT frame. The body of this result is only set for errors and for results that are not tabular.
+     */
+    ActionExecutionResult result;
+
+    Long rowCount;
+
+    public static ActionExecutionStreamFrame header(List<String> columns, ActionExecutionRequest request, Set<String> messages) {
+        ActionExecutionStreamFrame frame = new ActionExecutionStreamFrame();
+        frame.setType(FrameType.HEADER);
+        frame.setColumns(columns);
+        frame.setRequest(request);
+        frame.setMessages(messages);
+        return frame;
+    }
+
+    public static ActionExecutionStreamFrame rows(List<?> rows) {
+        ActionExecutionStreamFrame frame = new ActionExecutionStreamFrame();
+        frame.setType(FrameType.ROWS);
+        frame.setRows(rows);
+        return frame;
+    }
+
+    public static ActionExecutionStreamFrame result(ActionExecutionResult result, Long rowCount) {
+        ActionExecutionStreamFrame frame = new ActionExecutionStreamFrame();
+        frame.setType(FrameType.RESULT);
+        frame.setResult(result);
+        frame.setRowCount(rowCount);
+        return frame;
+    }
+
+    public static ActionExecutionStreamFrame success(Long rowCount) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        return result(result, rowCount);
+    }
+}
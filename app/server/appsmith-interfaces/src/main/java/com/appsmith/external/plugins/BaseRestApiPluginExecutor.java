@@ -8,6 +8,7 @@ import com.appsmith.external.helpers.restApiUtils.helpers.DataUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.DatasourceUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.HeaderUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.HintMessageUtils;
+import com.appsmith.external.helpers.restApiUtils.helpers.HttpClientPoolUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.InitUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.SmartSubstitutionUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.RestAPIActivateUtils;
@@ -64,12 +65,23 @@ public class BaseRestApiPluginExecutor implements PluginExecutor<APIConnection>,
 
     @Override
     public Mono<APIConnection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
-        return APIConnectionFactory.createConnection(datasourceConfiguration);
+        final String httpClientPoolKey = HttpClientPoolUtils.getPoolKey(datasourceConfiguration);
+        return APIConnectionFactory.createConnection(datasourceConfiguration)
+                .doOnNext(connection -> {
+                    connection.setHttpClientPoolKey(httpClientPoolKey);
+                    HttpClientPoolUtils.retainHttpClient(httpClientPoolKey);
+                });
     }
 
     @Override
     public void datasourceDestroy(APIConnection connection) {
-        // REST API plugin doesn't have a datasource.
+        /*
+         * Release the connection pool that was used for this datasource. The pool may be shared with other datasources,
+         * it is only closed once all of them have been destroyed.
+         */
+        if (connection != null && connection.getHttpClientPoolKey() != null) {
+            HttpClientPoolUtils.releaseHttpClient(connection.getHttpClientPoolKey());
+        }
     }
 
     @Override
@@ -2,9 +2,11 @@ package com.appsmith.external.plugins;
 
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.helpers.ExecutionStreamHelper;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionStreamFrame;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
@@ -14,6 +16,7 @@ import com.appsmith.external.models.TriggerRequestDTO;
 import com.appsmith.external.models.TriggerResultDTO;
 import org.pf4j.ExtensionPoint;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
@@ -171,6 +174,30 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
         return this.execute(connection, datasourceConfiguration, actionConfiguration);
     }
 
+    /**
+     * Appsmith Server calls this function to execute an action in streaming mode. Instead of a single result, the
+     * execution is returned as a header frame, followed by chunks of rows and a final result frame, so that the rows
+     * can be sent to the client as they are read instead of being held in memory all at once.
+     * <p>
+     * The default implementation executes the action with {@link #executeParameterized} and splits the complete result
+     * into frames. Plugins that can read their results incrementally should override this function.
+     *
+     * @param connection              : This is the connection that is established to the data source. This connection is according
+     *                                to the parameters in Datasource Configuration
+     * @param executeActionDTO        : This is the data structure sent by the client during execute. This contains the params
+     *                                which would be used for substitution
+     * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
+     * @param actionConfiguration     : These are the configurations which have been used to create an Action from a Datasource.
+     * @return Flux of frames as described in {@link ActionExecutionStreamFrame}
+     */
+    default Flux<ActionExecutionStreamFrame> executeParameterizedStreamed(C connection,
+                                                                          ExecuteActionDTO executeActionDTO,
+                                                                          DatasourceConfiguration datasourceConfiguration,
+                                                                          ActionConfiguration actionConfiguration) {
+        return this.executeParameterized(connection, executeActionDTO, datasourceConfiguration, actionConfiguration)
+                .flatMapMany(result -> ExecutionStreamHelper.toFrames(result, ExecutionStreamHelper.DEFAULT_CHUNK_SIZE));
+    }
+
     /**
      * This function is responsible for preparing the action and datasource configurations to be ready for execution.
      *
@@ -0,0 +1,795 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.resolveValueDataType;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Filters data as per the UQI specifications (where clause, sorting, pagination and projection) without going through
+ * the in memory database. The data is copied once into one typed array per column, using primitive arrays for numeric
+ * and boolean columns, and the where clause is compiled into a predicate over row indices before being evaluated.
+ * <p>
+ * Values are typed and compared the same way as they are when the data is inserted into the in memory database and
+ * queried with SQL, including null handling: empty values are stored as null, comparisons against null never match and
+ * nulls are sorted first in ascending order. Date and timestamp columns are not supported, see
+ * {@link #isSupported(Map)}.
+ * <p>
+ * An instance holds the data of a single filter call and no shared state, so concurrent filter calls do not contend
+ * with each other.
+ */
+public class ColumnarDataFilter {
+
+    private static final Set<DataType> UNSUPPORTED_DATA_TYPES = Set.of(DataType.DATE, DataType.TIMESTAMP);
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT
+    );
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN,
+            ConditionalOperator.NOT_EQ,
+            ConditionalOperator.GTE,
+            ConditionalOperator.GT
+    );
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, DataType> schema;
+
+    private final Map<String, Column> columns;
+
+    private final int rowCount;
+
+    /**
+     * @param items                 - data
+     * @param schema                - the schema generated for the data, see {@link FilterDataServiceCE#generateSchema}
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @param objectMapper          - used to parse the values of `IN` and `NOT IN` conditions
+     */
+    public ColumnarDataFilter(ArrayNode items,
+                              Map<String, DataType> schema,
+                              Map<DataType, DataType> dataTypeConversionMap,
+                              ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.schema = schema;
+        this.rowCount = items.size();
+        this.columns = new LinkedHashMap<>();
+
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+            columns.put(entry.getKey(), createColumn(entry.getValue(), rowCount));
+        }
+
+        int row = 0;
+        for (JsonNode item : items) {
+            for (Map.Entry<String, Column> entry : columns.entrySet()) {
+                String columnName = entry.getKey();
+                JsonNode fieldNode = item.get(columnName);
+                if (fieldNode == null) {
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                            "Error in ingesting the data : value missing for column " + columnName + " in row " + row);
+                }
+
+                String value = fieldNode.asText();
+                DataType dataType = resolveValueDataType(value, schema.get(columnName), dataTypeConversionMap);
+                Object parsedValue = parseValue(value, dataType);
+                if (parsedValue == null) {
+                    entry.getValue().setNull(row);
+                } else {
+                    try {
+                        entry.getValue().set(row, parsedValue);
+                    } catch (IllegalArgumentException | ArithmeticException e) {
+                        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                                "Error in ingesting the data : " + e.getMessage());
+                    }
+                }
+            }
+            row++;
+        }
+    }
+
+    /**
+     * Date and timestamp values are returned by the in memory database in a different representation than the one they
+     * are received in, so data that has such columns is still filtered using the in memory database.
+     *
+     * @param schema - the schema generated for the data
+     * @return true if all the columns of the schema can be filtered by this class
+     */
+    public static boolean isSupported(Map<String, DataType> schema) {
+        return schema.values().stream().noneMatch(UNSUPPORTED_DATA_TYPES::contains);
+    }
+
+    public ArrayNode filter(UQIDataFilterParams uqiDataFilterParams) {
+
+        Condition condition = uqiDataFilterParams.getCondition();
+
+        IntPredicate wherePredicate = null;
+        if (Condition.isValid(condition)) {
+            List<Condition> conditions = (List<Condition>) condition.getValue();
+            wherePredicate = compileLogicalExpression(conditions, condition.getOperator());
+        }
+
+        List<Integer> matchingRows = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            if (wherePredicate == null || wherePredicate.test(row)) {
+                matchingRows.add(row);
+            }
+        }
+
+        Comparator<Integer> sortComparator = getSortComparator(uqiDataFilterParams.getSortBy());
+        if (sortComparator != null) {
+            // List.sort is stable, so rows that compare equal stay in the order they were received in
+            matchingRows.sort(sortComparator);
+        }
+
+        matchingRows = paginate(matchingRows, uqiDataFilterParams.getPaginateBy());
+
+        List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
+        List<String> outputColumnNames = CollectionUtils.isEmpty(projectionColumns)
+                ? new ArrayList<>(columns.keySet())
+                : projectionColumns;
+        List<Column> outputColumns = new ArrayList<>(outputColumnNames.size());
+        for (String columnName : outputColumnNames) {
+            outputColumns.add(getColumn(columnName));
+        }
+
+        ArrayNode result = objectMapper.createArrayNode();
+        for (int row : matchingRows) {
+            ObjectNode rowNode = result.addObject();
+            for (int i = 0; i < outputColumns.size(); i++) {
+                Column column = outputColumns.get(i);
+                if (column.isNull(row)) {
+                    // Set null values to empty strings
+                    rowNode.put(outputColumnNames.get(i), "");
+                } else {
+                    column.write(rowNode, outputColumnNames.get(i), row);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Compiles a list of conditions joined by the logical operator into a single predicate. Conditions without a path
+     * and nested conditions without any children are ignored.
+     *
+     * @return the predicate, or null if there is nothing to filter on
+     */
+    private IntPredicate compileLogicalExpression(List<Condition> conditions, ConditionalOperator logicOp) {
+
+        List<IntPredicate> predicates = new ArrayList<>();
+        for (Condition condition : conditions) {
+            ConditionalOperator operator = condition.getOperator();
+            if (ConditionalOperator.AND.equals(operator) || ConditionalOperator.OR.equals(operator)) {
+                IntPredicate subPredicate = compileLogicalExpression((List<Condition>) condition.getValue(), operator);
+                if (subPredicate != null) {
+                    predicates.add(subPredicate);
+                }
+            } else if (StringUtils.isNotEmpty(condition.getPath())) {
+                predicates.add(compileCondition(condition));
+            }
+        }
+
+        if (predicates.isEmpty()) {
+            return null;
+        }
+
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+
+        final IntPredicate[] predicateArray = predicates.toArray(new IntPredicate[0]);
+        if (ConditionalOperator.OR.equals(logicOp)) {
+            return row -> {
+                for (IntPredicate predicate : predicateArray) {
+                    if (predicate.test(row)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        return row -> {
+            for (IntPredicate predicate : predicateArray) {
+                if (!predicate.test(row)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private IntPredicate compileCondition(Condition condition) {
+
+        String path = condition.getPath();
+        ConditionalOperator operator = condition.getOperator();
+        String value = (String) condition.getValue();
+        Column column = getColumn(path);
+
+        if (value == null || value.equals(StringUtils.EMPTY)) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                return column::isNull;
+            } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                return row -> !column.isNull(row);
+            }
+            throw unsupportedOperator(operator);
+        }
+
+        switch (operator) {
+            case IN:
+            case NOT_IN:
+                return compileArrayCondition(column, path, operator, value);
+            case CONTAINS:
+                // Values that are not strings are matched by their text, the same as `LIKE` matches them in SQL
+                return row -> !column.isNull(row) && column.asString(row).contains(value);
+            case EQ:
+            case NOT_EQ:
+            case LT:
+            case LTE:
+            case GT:
+            case GTE:
+                return compileComparison(column, path, operator, value);
+            default:
+                throw unsupportedOperator(operator);
+        }
+    }
+
+    private IntPredicate compileComparison(Column column, String path, ConditionalOperator operator, String value) {
+
+        Object parameter = parseParameter(value, path);
+        if (parameter == null) {
+            // Comparing with null never matches, same as in SQL
+            return row -> false;
+        }
+
+        final IntUnaryOperator comparator = getComparator(column, parameter, value);
+        switch (operator) {
+            case EQ:
+                return row -> !column.isNull(row) && comparator.applyAsInt(row) == 0;
+            case NOT_EQ:
+                return row -> !column.isNull(row) && comparator.applyAsInt(row) != 0;
+            case LT:
+                return row -> !column.isNull(row) && comparator.applyAsInt(row) < 0;
+            case LTE:
+                return row -> !column.isNull(row) && comparator.applyAsInt(row) <= 0;
+            case GT:
+                return row -> !column.isNull(row) && comparator.applyAsInt(row) > 0;
+            case GTE:
+                return row -> !column.isNull(row) && comparator.applyAsInt(row) >= 0;
+            default:
+                throw unsupportedOperator(operator);
+        }
+    }
+
+    private IntPredicate compileArrayCondition(Column column, String path, ConditionalOperator operator, String value) {
+
+        List<Object> arrayValues;
+        try {
+            arrayValues = objectMapper.readValue(value, List.class);
+        } catch (IOException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    value + " could not be parsed into an array");
+        }
+
+        boolean hasNullValue = false;
+        List<IntUnaryOperator> comparatorList = new ArrayList<>();
+        for (Object arrayValue : arrayValues) {
+            String stringValue = String.valueOf(arrayValue);
+            Object parameter = parseParameter(stringValue, path);
+            if (parameter == null) {
+                hasNullValue = true;
+            } else {
+                comparatorList.add(getComparator(column, parameter, stringValue));
+            }
+        }
+        final IntUnaryOperator[] comparators = comparatorList.toArray(new IntUnaryOperator[0]);
+
+        if (ConditionalOperator.IN.equals(operator)) {
+            return row -> {
+                if (column.isNull(row)) {
+                    return false;
+                }
+                for (IntUnaryOperator comparator : comparators) {
+                    if (comparator.applyAsInt(row) == 0) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        if (hasNullValue) {
+            // `NOT IN` with a null value in the list is never true, same as in SQL
+            return row -> false;
+        }
+
+        return row -> {
+            if (column.isNull(row)) {
+                return false;
+            }
+            for (IntUnaryOperator comparator : comparators) {
+                if (comparator.applyAsInt(row) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private Comparator<Integer> getSortComparator(List<Map<String, String>> sortBy) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return null;
+        }
+
+        Comparator<Integer> sortComparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            Column column = getColumn(columnName);
+            SortType sortType;
+            try {
+                sortType = SortType.valueOf(sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Appsmith server failed " +
+                        "to parse the type of sort condition. Please reach out to Appsmith customer support " +
+                        "to resolve this.");
+            }
+
+            // Nulls are sorted low, i.e. first in ascending order and last in descending order
+            Comparator<Integer> columnComparator = (a, b) -> {
+                boolean isNullA = column.isNull(a);
+                boolean isNullB = column.isNull(b);
+                if (isNullA || isNullB) {
+                    return isNullA == isNullB ? 0 : (isNullA ? -1 : 1);
+                }
+                return column.compareRows(a, b);
+            };
+            if (SortType.DESCENDING.equals(sortType)) {
+                columnComparator = columnComparator.reversed();
+            }
+
+            sortComparator = sortComparator == null ? columnComparator : sortComparator.thenComparing(columnComparator);
+        }
+
+        return sortComparator;
+    }
+
+    private List<Integer> paginate(List<Integer> rows, Map<String, String> paginateBy) {
+        if (CollectionUtils.isEmpty(paginateBy)) {
+            return rows;
+        }
+
+        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
+        if (isBlank(limit)) {
+            limit = "20";
+        }
+
+        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
+        if (isBlank(offset)) {
+            offset = "0";
+        }
+
+        Integer limitValue = (Integer) parseValue(limit, resolveValueDataType(limit, DataType.INTEGER, null));
+        Integer offsetValue = (Integer) parseValue(offset, resolveValueDataType(offset, DataType.INTEGER, null));
+        if ((limitValue != null && limitValue < 0) || (offsetValue != null && offsetValue < 0)) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : limit and offset must not be negative");
+        }
+
+        int fromIndex = offsetValue == null ? 0 : Math.min(offsetValue, rows.size());
+        int toIndex = limitValue == null ? rows.size() : (int) Math.min((long) fromIndex + limitValue, rows.size());
+        return rows.subList(fromIndex, toIndex);
+    }
+
+    private Column getColumn(String columnName) {
+        Column column = columns.get(columnName);
+        if (column == null) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Column \"" + columnName + "\" not found");
+        }
+        return column;
+    }
+
+    /**
+     * Values in conditions are typed as per the schema of the column that they are compared with.
+     */
+    private Object parseParameter(String value, String path) {
+        return parseValue(value, resolveValueDataType(value, schema.get(path), null));
+    }
+
+    private static IntUnaryOperator getComparator(Column column, Object parameter, String value) {
+        try {
+            return column.comparatorFor(parameter);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses the value into an Integer, Long, BigDecimal, Boolean or String depending on the data type, the same way
+     * that values are set in the prepared statements when filtering with the in memory database.
+     *
+     * @return the parsed value, or null if the data type is {@link DataType#NULL}
+     */
+    private static Object parseValue(String value, DataType dataType) {
+        String strNumericValue = value.trim().replace(",", "");
+
+        try {
+            switch (dataType) {
+                case NULL:
+                    return null;
+                case INTEGER:
+                    return Integer.parseInt(strNumericValue);
+                case LONG:
+                    return Long.parseLong(strNumericValue);
+                case FLOAT:
+                case DOUBLE:
+                    return new BigDecimal(strNumericValue);
+                case BOOLEAN:
+                    return Boolean.parseBoolean(value);
+                case STRING:
+                default:
+                    return value;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage() +
+                            ". The data type value was being parsed to was : " + dataType);
+        }
+    }
+
+    private static AppsmithPluginException unsupportedOperator(ConditionalOperator operator) {
+        return new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                operator + " is not supported currently for filtering.");
+    }
+
+    private static Column createColumn(DataType dataType, int size) {
+        switch (dataType) {
+            case INTEGER:
+                return new IntColumn(size);
+            case LONG:
+                return new LongColumn(size);
+            case FLOAT:
+                return new FloatColumn(size);
+            case DOUBLE:
+                return new DoubleColumn(size);
+            case BOOLEAN:
+                return new BooleanColumn(size);
+            default:
+                // the data type recognized does not have a native support in appsmith right now, default to String
+                return new StringColumn(size);
+        }
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof Integer || value instanceof Long) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+        return new BigDecimal(String.valueOf(value).trim());
+    }
+
+    /**
+     * A single column of the data. Values are converted into the type of the column when they are set, and so are the
+     * values that the column is compared with.
+     */
+    private abstract static class Column {
+
+        private final BitSet nulls = new BitSet();
+
+        boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        void setNull(int row) {
+            nulls.set(row);
+        }
+
+        abstract void set(int row, Object value);
+
+        /**
+         * @return a function from row index to the result of comparing the value in that row with the parameter
+         */
+        abstract IntUnaryOperator comparatorFor(Object parameter);
+
+        abstract int compareRows(int rowA, int rowB);
+
+        abstract String asString(int row);
+
+        abstract void write(ObjectNode rowNode, String columnName, int row);
+    }
+
+    private static class IntColumn extends Column {
+
+        private final int[] values;
+
+        IntColumn(int size) {
+            values = new int[size];
+        }
+
+        private static int convert(Object value) {
+            if (value instanceof Integer) {
+                return (Integer) value;
+            }
+            return toBigDecimal(value).setScale(0, RoundingMode.HALF_UP).intValueExact();
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = convert(value);
+        }
+
+        @Override
+        IntUnaryOperator comparatorFor(Object parameter) {
+            final int parameterValue = convert(parameter);
+            return row -> Integer.compare(values[row], parameterValue);
+        }
+
+        @Override
+        int compareRows(int rowA, int rowB) {
+            return Integer.compare(values[rowA], values[rowB]);
+        }
+
+        @Override
+        String asString(int row) {
+            return Integer.toString(values[row]);
+        }
+
+        @Override
+        void write(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+
+    private static class LongColumn extends Column {
+
+        private final long[] values;
+
+        LongColumn(int size) {
+            values = new long[size];
+        }
+
+        private static long convert(Object value) {
+            if (value instanceof Integer || value instanceof Long) {
+                return ((Number) value).longValue();
+            }
+            return toBigDecimal(value).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = convert(value);
+        }
+
+        @Override
+        IntUnaryOperator comparatorFor(Object parameter) {
+            final long parameterValue = convert(parameter);
+            return row -> Long.compare(values[row], parameterValue);
+        }
+
+        @Override
+        int compareRows(int rowA, int rowB) {
+            return Long.compare(values[rowA], values[rowB]);
+        }
+
+        @Override
+        String asString(int row) {
+            return Long.toString(values[row]);
+        }
+
+        @Override
+        void write(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+
+    private static class FloatColumn extends Column {
+
+        private final float[] values;
+
+        FloatColumn(int size) {
+            values = new float[size];
+        }
+
+        private static float convert(Object value) {
+            if (value instanceof Integer) {
+                return (Integer) value;
+            }
+            return toBigDecimal(value).floatValue();
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = convert(value);
+        }
+
+        @Override
+        IntUnaryOperator comparatorFor(Object parameter) {
+            final float parameterValue = convert(parameter);
+            return row -> Float.compare(values[row], parameterValue);
+        }
+
+        @Override
+        int compareRows(int rowA, int rowB) {
+            return Float.compare(values[rowA], values[rowB]);
+        }
+
+        @Override
+        String asString(int row) {
+            return Float.toString(values[row]);
+        }
+
+        @Override
+        void write(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+
+        private final double[] values;
+
+        DoubleColumn(int size) {
+            values = new double[size];
+        }
+
+        private static double convert(Object value) {
+            if (value instanceof Integer) {
+                return (Integer) value;
+            }
+            return toBigDecimal(value).doubleValue();
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = convert(value);
+        }
+
+        @Override
+        IntUnaryOperator comparatorFor(Object parameter) {
+            final double parameterValue = convert(parameter);
+            return row -> Double.compare(values[row], parameterValue);
+        }
+
+        @Override
+        int compareRows(int rowA, int rowB) {
+            return Double.compare(values[rowA], values[rowB]);
+        }
+
+        @Override
+        String asString(int row) {
+            return Double.toString(values[row]);
+        }
+
+        @Override
+        void write(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+
+    private static class BooleanColumn extends Column {
+
+        private final boolean[] values;
+
+        BooleanColumn(int size) {
+            values = new boolean[size];
+        }
+
+        private static boolean convert(Object value) {
+            if (value instanceof Boolean) {
+                return (Boolean) value;
+            } else if (value instanceof Number) {
+                return toBigDecimal(value).signum() != 0;
+            }
+
+            String stringValue = String.valueOf(value).trim();
+            if ("true".equalsIgnoreCase(stringValue) || "false".equalsIgnoreCase(stringValue)) {
+                return Boolean.parseBoolean(stringValue);
+            }
+            throw new IllegalArgumentException("Cannot convert " + stringValue + " to boolean");
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = convert(value);
+        }
+
+        @Override
+        IntUnaryOperator comparatorFor(Object parameter) {
+            final boolean parameterValue = convert(parameter);
+            return row -> Boolean.compare(values[row], parameterValue);
+        }
+
+        @Override
+        int compareRows(int rowA, int rowB) {
+            return Boolean.compare(values[rowA], values[rowB]);
+        }
+
+        @Override
+        String asString(int row) {
+            return Boolean.toString(values[row]);
+        }
+
+        @Override
+        void write(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+
+    private static class StringColumn extends Column {
+
+        private final String[] values;
+
+        StringColumn(int size) {
+            values = new String[size];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = String.valueOf(value);
+        }
+
+        @Override
+        IntUnaryOperator comparatorFor(Object parameter) {
+            final String parameterValue = String.valueOf(parameter);
+            return row -> values[row].compareTo(parameterValue);
+        }
+
+        @Override
+        int compareRows(int rowA, int rowB) {
+            return values[rowA].compareTo(values[rowB]);
+        }
+
+        @Override
+        String asString(int row) {
+            return values[row];
+        }
+
+        @Override
+        void write(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+}
@@ -118,13 +118,50 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             return items;
         }
 
+        addValueDataTypeToCondition(uqiDataFilterParams);
+
+        Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
+
+        // Filter over a columnar copy of the data where possible, instead of loading it into the in memory database.
+        if (ColumnarDataFilter.isSupported(schema)) {
+            return new ColumnarDataFilter(items, schema, dataTypeConversionMap, objectMapper).filter(uqiDataFilterParams);
+        }
+
+        return filterDataWithInMemoryDb(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+    }
+
+    /**
+     * Same as {@link #filterDataNew(ArrayNode, UQIDataFilterParams, Map)}, except that the data is always filtered by
+     * loading it into the in memory database.
+     *
+     * @param items                 - data
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return filtered data
+     */
+    public ArrayNode filterDataUsingInMemoryDb(ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap) {
+        if (items == null || items.size() == 0) {
+            return items;
+        }
+
+        addValueDataTypeToCondition(uqiDataFilterParams);
+
+        Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
+
+        return filterDataWithInMemoryDb(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+    }
+
+    private void addValueDataTypeToCondition(UQIDataFilterParams uqiDataFilterParams) {
         Condition condition = uqiDataFilterParams.getCondition();
         if (Condition.isValid(condition)) {
             Condition updatedCondition = addValueDataType(condition);
             uqiDataFilterParams.setCondition(updatedCondition);
         }
+    }
 
-        Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
+    private ArrayNode filterDataWithInMemoryDb(ArrayNode items, Map<String, DataType> schema,
+                                               UQIDataFilterParams uqiDataFilterParams,
+                                               Map<DataType, DataType> dataTypeConversionMap) {
         String tableName = generateTable(schema);
 
         // insert the data
@@ -646,34 +683,10 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
      */
     private PreparedStatement setValueInStatement(PreparedStatement preparedStatement, int index, String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
 
-        DataType dataType = topRowDataType;
-        if (dataTypeConversionMap != null) {
-            //The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
-            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
-        }
+        DataType dataType = resolveValueDataType(value, topRowDataType, dataTypeConversionMap);
 
         String strNumericValue = value.trim().replaceAll(",", "");
 
-        // Override datatype to null for empty values
-        if (StringUtils.isEmpty(value)) {
-            dataType = DataType.NULL;
-        } else {
-            // value is not empty.
-            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
-            DataType inputDataType = currentRowDataType;
-            if (dataTypeConversionMap != null) {
-                //Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
-                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
-            }
-            if (DataType.NULL.equals(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-            //We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
-            if (dataTypeConversionMap != null && inputDataType != dataType && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-        }
-
         try {
             switch (dataType) {
                 case NULL: {
@@ -720,6 +733,60 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     }
 
 
+    /**
+     * Finds the data type that a value is set with, given the data type of its column.
+     *
+     * @param value                 - the value to be set
+     * @param topRowDataType        - the data type of the column, as found in the first row
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return the data type of the column, or {@link DataType#NULL} for empty and null values, and for values that are
+     * not compatible with the data type of the column when a conversion map is provided
+     */
+    static DataType resolveValueDataType(String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
+
+        DataType dataType = topRowDataType;
+        if (dataTypeConversionMap != null) {
+            //The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
+            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
+        }
+
+        // Override datatype to null for empty values
+        if (StringUtils.isEmpty(value)) {
+            return DataType.NULL;
+        }
+
+        // value is not empty.
+        if (dataTypeConversionMap == null) {
+            // Only a null value can change the data type here, which can be checked for without trying to parse the
+            // value into every known data type.
+            return isNullValue(value) ? DataType.NULL : dataType;
+        }
+
+        DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+        //Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
+        DataType inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+        if (DataType.NULL.equals(inputDataType)) {
+            return DataType.NULL;
+        }
+        //We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
+        if (inputDataType != dataType && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
+            return DataType.NULL;
+        }
+
+        return dataType;
+    }
+
+    /**
+     * Same as checking for `stringToKnownDataTypeConverter(value) == DataType.NULL`, i.e. the value is an empty array
+     * or the text null.
+     */
+    private static boolean isNullValue(String value) {
+        if (value.startsWith("[") && value.endsWith("]")) {
+            return value.substring(1, value.length() - 1).trim().isEmpty();
+        }
+        return "null".equalsIgnoreCase(value.trim());
+    }
+
     public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
 
         conditionList
@@ -17,6 +17,8 @@ public interface IFilterDataServiceCE {
 
     ArrayNode filterDataNew(ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap);
 
+    ArrayNode filterDataUsingInMemoryDb(ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap);
+
     void insertAllData(String tableName, ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap);
 
     String generateTable(Map<String, DataType> schema);
@@ -1,14 +1,29 @@
 package com.appsmith.util;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.EventLoop;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.dns.DnsRecord;
 import io.netty.resolver.AddressResolver;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.resolver.InetNameResolver;
 import io.netty.resolver.InetSocketAddressResolver;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsCache;
+import io.netty.resolver.dns.DnsCacheEntry;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
-import io.netty.util.internal.SocketUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
@@ -16,9 +31,9 @@ import reactor.netty.resources.ConnectionProvider;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class WebClientUtils {
@@ -28,6 +43,17 @@ public class WebClientUtils {
             "metadata.google.internal"
     );
 
+    // Answers are cached for as long as their TTL says, but at most for five minutes, so that changed records are
+    // picked up even when a DNS server hands out very long TTLs.
+    private static final int MIN_DNS_CACHE_TTL_SECONDS = 0;
+
+    private static final int MAX_DNS_CACHE_TTL_SECONDS = 300;
+
+    private static final int NEGATIVE_DNS_CACHE_TTL_SECONDS = 10;
+
+    private static final boolean IS_MICROMETER_AVAILABLE =
+            ClassUtils.isPresent("io.micrometer.core.instrument.Metrics", WebClientUtils.class.getClassLoader());
+
     private WebClientUtils() {
     }
 
@@ -84,7 +110,7 @@ public class WebClientUtils {
 
         @Override
         protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
-            return new InetSocketAddressResolver(executor, new NameResolver(executor));
+            return new InetSocketAddressResolver(executor, new NameResolver(executor, DnsResolverHolder.RESOLVER));
         }
     }
 
@@ -92,17 +118,29 @@ public class WebClientUtils {
         if (DISALLOWED_HOSTS.contains(host)) {
             log.warn("Host {} is disallowed. Failing the request.", host);
             if (promise != null) {
-                promise.setFailure(new UnknownHostException("Host not allowed."));
+                promise.tryFailure(new UnknownHostException("Host not allowed."));
             }
             return true;
         }
         return false;
     }
 
-    private static class NameResolver extends InetNameResolver {
+    /**
+     * Resolves host names without blocking the event loop of the client it is used by. All lookups go through one
+     * shared {@link DnsNameResolver}, which sends its queries from a dedicated event loop and caches the answers for as
+     * long as their TTL allows. Failed lookups are cached for a short while too, so that a failing DNS server isn't
+     * asked again for every request.
+     * <p>
+     * Both the host name and the addresses it resolves to are checked against {@link #DISALLOWED_HOSTS}, since the
+     * cache only ever holds what the DNS server answered.
+     */
+    static class NameResolver extends InetNameResolver {
 
-        public NameResolver(EventExecutor executor) {
+        private final InetNameResolver dnsResolver;
+
+        NameResolver(EventExecutor executor, InetNameResolver dnsResolver) {
             super(executor);
+            this.dnsResolver = dnsResolver;
         }
 
         @Override
@@ -111,19 +149,21 @@ public class WebClientUtils {
                 return;
             }
 
-            final InetAddress address;
-            try {
-                address = SocketUtils.addressByName(inetHost);
-            } catch (UnknownHostException e) {
-                promise.setFailure(e);
-                return;
-            }
+            final long startTime = System.nanoTime();
+            dnsResolver.resolve(inetHost).addListener((Future<InetAddress> future) -> {
+                recordResolution(startTime, future.isSuccess());
+                if (!future.isSuccess()) {
+                    promise.tryFailure(future.cause());
+                    return;
+                }
 
-            if (isDisallowedAndFail(address.getHostAddress(), promise)) {
-                return;
-            }
+                final InetAddress address = future.getNow();
+                if (isDisallowedAndFail(address.getHostAddress(), promise)) {
+                    return;
+                }
 
-            promise.setSuccess(address);
+                promise.trySuccess(address);
+            });
         }
 
         @Override
@@ -132,22 +172,124 @@ public class WebClientUtils {
                 return;
             }
 
-            final List<InetAddress> addresses;
-            try {
-                addresses = Arrays.asList(SocketUtils.allAddressesByName(inetHost));
-            } catch (UnknownHostException e) {
-                promise.setFailure(e);
-                return;
-            }
-
-            // Even if _one_ of the addresses is disallowed, we fail the request.
-            for (InetAddress address : addresses) {
-                if (isDisallowedAndFail(address.getHostAddress(), promise)) {
+            final long startTime = System.nanoTime();
+            dnsResolver.resolveAll(inetHost).addListener((Future<List<InetAddress>> future) -> {
+                recordResolution(startTime, future.isSuccess());
+                if (!future.isSuccess()) {
+                    promise.tryFailure(future.cause());
                     return;
                 }
+
+                final List<InetAddress> addresses = future.getNow();
+
+                // Even if _one_ of the addresses is disallowed, we fail the request.
+                for (InetAddress address : addresses) {
+                    if (isDisallowedAndFail(address.getHostAddress(), promise)) {
+                        return;
+                    }
+                }
+
+                promise.trySuccess(addresses);
+            });
+        }
+
+        private static void recordResolution(long startTime, boolean isSuccess) {
+            if (IS_MICROMETER_AVAILABLE) {
+                DnsMetrics.recordResolution(System.nanoTime() - startTime, isSuccess);
+            }
+        }
+    }
+
+    /**
+     * Holds the resolver shared by all web clients, created when the first host name is resolved. DNS queries are
+     * answered quickly and never block, so a single thread is enough to send them all.
+     */
+    private static class DnsResolverHolder {
+
+        private static final DnsNameResolver RESOLVER = new DnsNameResolverBuilder(
+                new NioEventLoopGroup(1, new DefaultThreadFactory("appsmith-dns", true)).next())
+                .channelType(NioDatagramChannel.class)
+                .socketChannelType(NioSocketChannel.class)
+                .resolveCache(new MeteredDnsCache(
+                        new DefaultDnsCache(MIN_DNS_CACHE_TTL_SECONDS, MAX_DNS_CACHE_TTL_SECONDS,
+                                NEGATIVE_DNS_CACHE_TTL_SECONDS)))
+                .build();
+    }
+
+    /**
+     * Counts the lookups that could be answered from the cache, a failure cached for the host included.
+     */
+    private static class MeteredDnsCache implements DnsCache {
+
+        private final DnsCache delegate;
+
+        MeteredDnsCache(DnsCache delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+
+        @Override
+        public boolean clear(String hostname) {
+            return delegate.clear(hostname);
+        }
+
+        @Override
+        public List<? extends DnsCacheEntry> get(String hostname, DnsRecord[] additionals) {
+            final List<? extends DnsCacheEntry> entries = delegate.get(hostname, additionals);
+            if (IS_MICROMETER_AVAILABLE) {
+                DnsMetrics.recordCacheLookup(entries != null && !entries.isEmpty());
             }
+            return entries;
+        }
+
+        @Override
+        public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, InetAddress address, long originalTtl,
+                                   EventLoop loop) {
+            return delegate.cache(hostname, additionals, address, originalTtl, loop);
+        }
+
+        @Override
+        public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, Throwable cause, EventLoop loop) {
+            return delegate.cache(hostname, additionals, cause, loop);
+        }
+    }
+
+    /**
+     * Only loaded when Micrometer is on the classpath, the meters are published to its global registry.
+     */
+    private static class DnsMetrics {
+
+        private static final Timer RESOLUTION_SUCCESS_TIMER = Timer.builder("appsmith.dns.resolution")
+                .description("Time taken to resolve host names of outgoing requests")
+                .tag("outcome", "success")
+                .register(Metrics.globalRegistry);
+
+        private static final Timer RESOLUTION_FAILURE_TIMER = Timer.builder("appsmith.dns.resolution")
+                .description("Time taken to resolve host names of outgoing requests")
+                .tag("outcome", "failure")
+                .register(Metrics.globalRegistry);
+
+        private static final Counter CACHE_HIT_COUNTER = Counter.builder("appsmith.dns.cache.lookups")
+                .description("Host name lookups of outgoing requests, by whether the DNS cache could answer them")
+                .tag("result", "hit")
+                .register(Metrics.globalRegistry);
+
+        private static final Counter CACHE_MISS_COUNTER = Counter.builder("appsmith.dns.cache.lookups")
+                .description("Host name lookups of outgoing requests, by whether the DNS cache could answer them")
+                .tag("result", "miss")
+                .register(Metrics.globalRegistry);
+
+        static void recordResolution(long durationInNanos, boolean isSuccess) {
+            (isSuccess ? RESOLUTION_SUCCESS_TIMER : RESOLUTION_FAILURE_TIMER)
+                    .record(durationInNanos, TimeUnit.NANOSECONDS);
+        }
 
-            promise.setSuccess(addresses);
+        static void recordCacheLookup(boolean isHit) {
+            (isHit ? CACHE_HIT_COUNTER : CACHE_MISS_COUNTER).increment();
         }
     }
 
@@ -0,0 +1,159 @@
+package com.appsmith.external.annotations.encryption;
+
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSHConnection;
+import com.appsmith.external.models.SSHPrivateKey;
+import com.appsmith.external.services.EncryptionService;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeferredSecretsTest {
+
+    /**
+     * Wraps values in enc(...) instead of actually encrypting them, and counts the calls.
+     */
+    private static class CountingEncryptionService implements EncryptionService {
+
+        final AtomicInteger encryptCount = new AtomicInteger();
+
+        final AtomicInteger decryptCount = new AtomicInteger();
+
+        @Override
+        public String encryptString(String plaintext) {
+            encryptCount.incrementAndGet();
+            return "enc(" + plaintext + ")";
+        }
+
+        @Override
+        public String decryptString(String encryptedText) {
+            decryptCount.incrementAndGet();
+            assertTrue(encryptedText.startsWith("enc(") && encryptedText.endsWith(")"),
+                    "Not a ciphertext: " + encryptedText);
+            return encryptedText.substring("enc(".length(), encryptedText.length() - 1);
+        }
+    }
+
+    private CountingEncryptionService encryptionService;
+
+    private EncryptionMongoEventListener<Object> encryptionMongoEventListener;
+
+    private DeferredSecrets deferredSecrets;
+
+    @BeforeEach
+    public void setUp() {
+        encryptionService = new CountingEncryptionService();
+        encryptionMongoEventListener = new EncryptionMongoEventListener<>(encryptionService);
+        deferredSecrets = new DeferredSecrets(encryptionService);
+    }
+
+    /**
+     * Builds a datasource as it is read from the database, with its secrets still encrypted.
+     */
+    private Datasource readDatasource() {
+        DBAuth dbAuth = new DBAuth();
+        dbAuth.setUsername("username");
+        dbAuth.setPassword("enc(password)");
+
+        SSHConnection sshConnection = new SSHConnection();
+        sshConnection.setPrivateKey(new SSHPrivateKey(null, "enc(passphrase)"));
+
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setAuthentication(dbAuth);
+        datasourceConfiguration.setSshProxy(sshConnection);
+
+        Datasource datasource = new Datasource();
+        datasource.setName("datasource");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+
+        encryptionMongoEventListener.onAfterConvert(new AfterConvertEvent<>(new Document(), datasource, "datasource"));
+        return datasource;
+    }
+
+    private void save(Datasource datasource) {
+        encryptionMongoEventListener.onBeforeConvert(new BeforeConvertEvent<>(datasource, "datasource"));
+    }
+
+    private static String getPassword(Datasource datasource) {
+        return ((DBAuth) datasource.getDatasourceConfiguration().getAuthentication()).getPassword();
+    }
+
+    private static String getPassphrase(Datasource datasource) {
+        return datasource.getDatasourceConfiguration().getSshProxy().getPrivateKey().getPassword();
+    }
+
+    @Test
+    public void testReadAndSave_WithoutDecrypt_SavesSameCiphertext() {
+        Datasource datasource = readDatasource();
+        assertTrue(DeferredSecrets.isDeferred(getPassword(datasource)));
+
+        save(datasource);
+
+        assertEquals("enc(password)", getPassword(datasource));
+        assertEquals(0, encryptionService.encryptCount.get());
+        assertEquals(0, encryptionService.decryptCount.get());
+    }
+
+    @Test
+    public void testReadDecryptAndSave_EncryptsPlaintextOnce() {
+        Datasource datasource = readDatasource();
+
+        deferredSecrets.decrypt(datasource);
+        assertEquals("password", getPassword(datasource));
+
+        save(datasource);
+
+        assertEquals("enc(password)", getPassword(datasource));
+        assertEquals("enc(passphrase)", getPassphrase(datasource));
+        assertEquals(2, encryptionService.encryptCount.get());
+    }
+
+    @Test
+    public void testDecrypt_CalledTwice_DecryptsEachSecretOnce() {
+        Datasource datasource = readDatasource();
+
+        deferredSecrets.decrypt(datasource);
+        deferredSecrets.decrypt(datasource);
+
+        assertEquals("password", getPassword(datasource));
+        assertEquals("passphrase", getPassphrase(datasource));
+        assertEquals(2, encryptionService.decryptCount.get());
+    }
+
+    @Test
+    public void testSave_WithUntouchedSecretsAndUpdatedFields_WritesSecretsBackUnchanged() {
+        Datasource datasource = readDatasource();
+
+        // Only fields that are not secret are updated, as is done when renaming a datasource
+        datasource.setName("renamed datasource");
+        ((DBAuth) datasource.getDatasourceConfiguration().getAuthentication()).setUsername("new username");
+        save(datasource);
+
+        assertEquals("enc(password)", getPassword(datasource));
+        assertEquals("enc(passphrase)", getPassphrase(datasource));
+        assertEquals(0, encryptionService.encryptCount.get());
+        assertEquals(0, encryptionService.decryptCount.get());
+    }
+
+    @Test
+    public void testSave_WithOneSecretReplaced_EncryptsOnlyTheNewSecret() {
+        Datasource datasource = readDatasource();
+
+        ((DBAuth) datasource.getDatasourceConfiguration().getAuthentication()).setPassword("new password");
+        save(datasource);
+
+        assertEquals("enc(new password)", getPassword(datasource));
+        assertEquals("enc(passphrase)", getPassphrase(datasource));
+        assertEquals(1, encryptionService.encryptCount.get());
+        assertEquals(0, encryptionService.decryptCount.get());
+    }
+}
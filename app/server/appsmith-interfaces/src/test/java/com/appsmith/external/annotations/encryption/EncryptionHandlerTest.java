@@ -5,11 +5,15 @@ import lombok.Getter;
 import lombok.Setter;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -207,6 +211,57 @@ public class EncryptionHandlerTest {
         assertFalse(b);
     }
 
+    @Test
+    public void testConvertEncryption_ConcurrentlyWithPrunedCandidates_AllEncryptedFieldsConverted() {
+        EncryptionHandler encryptionHandler = new EncryptionHandler();
+
+        // Each of the objects has a list without encrypted fields, which is dropped from the candidates while the
+        // other objects are being converted
+        final List<TestDomain> testDomains = IntStream.range(0, 1000)
+                .mapToObj(i -> {
+                    final TestDomain testDomain = new TestDomain();
+                    testDomain.setEncryptedInDomain("String" + i);
+                    final TestSubDomainWithoutEncryption testSubDomainWithoutEncryption = new TestSubDomainWithoutEncryption();
+                    testSubDomainWithoutEncryption.setNotEncryptedInSubDomain("String" + i);
+                    testDomain.setTestSubDomainWithoutEncryptionList(List.of(testSubDomainWithoutEncryption));
+                    return testDomain;
+                })
+                .toList();
+
+        testDomains.parallelStream()
+                .forEach(testDomain -> encryptionHandler.convertEncryption(testDomain, "Encrypted-"::concat));
+
+        for (int i = 0; i < testDomains.size(); i++) {
+            assertEquals("Encrypted-String" + i, testDomains.get(i).getEncryptedInDomain());
+            assertEquals("String" + i, testDomains.get(i).getTestSubDomainWithoutEncryptionList().get(0).getNotEncryptedInSubDomain());
+        }
+    }
+
+    @Test
+    public void testFindCandidateFieldsForType_Concurrently_ScansTypeOnce() {
+        EncryptionHandler encryptionHandler = new EncryptionHandler();
+
+        // Every thread gets the candidates of the one scan, whether it found them in the cache or waited for the scan
+        final Set<List<CandidateField>> candidateFieldLists = IntStream.range(0, 100)
+                .parallel()
+                .mapToObj(i -> encryptionHandler.findCandidateFieldsForType(new TestDomain()))
+                .collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+
+        assertEquals(1, candidateFieldLists.size());
+    }
+
+    @Test
+    public void testConvertEncryption_TypeWithoutCandidateFields_NotConverted() {
+        EncryptionHandler encryptionHandler = new EncryptionHandler();
+
+        final TestSubDomainWithoutEncryption testSubDomainWithoutEncryption = new TestSubDomainWithoutEncryption();
+        testSubDomainWithoutEncryption.setNotEncryptedInSubDomain("String");
+
+        assertFalse(encryptionHandler.convertEncryption(testSubDomainWithoutEncryption, "Encrypted-"::concat));
+        assertTrue(encryptionHandler.findCandidateFieldsForType(testSubDomainWithoutEncryption).isEmpty());
+        assertEquals("String", testSubDomainWithoutEncryption.getNotEncryptedInSubDomain());
+    }
+
     @Getter
     @Setter
     static class TestDomain implements AppsmithDomain {
@@ -0,0 +1,85 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionStreamFrame.FrameType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExecutionStreamHelperTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testToFrames_withTabularResult_splitsRowsIntoChunks() {
+        ArrayNode body = objectMapper.createArrayNode();
+        for (int i = 0; i < 5; i++) {
+            body.addObject().put("id", i);
+        }
+        ActionExecutionRequest request = new ActionExecutionRequest();
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        result.setBody(body);
+        result.setRequest(request);
+
+        StepVerifier.create(ExecutionStreamHelper.toFrames(result, 2))
+                .assertNext(frame -> {
+                    assertEquals(FrameType.HEADER, frame.getType());
+                    assertEquals(request, frame.getRequest());
+                })
+                .assertNext(frame -> assertEquals(2, frame.getRows().size()))
+                .assertNext(frame -> assertEquals(2, frame.getRows().size()))
+                .assertNext(frame -> assertEquals(1, frame.getRows().size()))
+                .assertNext(frame -> {
+                    assertEquals(FrameType.RESULT, frame.getType());
+                    assertEquals(5L, frame.getRowCount());
+                    assertTrue(frame.getResult().getIsExecutionSuccess());
+                    assertNull(frame.getResult().getBody());
+                    assertNull(frame.getResult().getRequest());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testToFrames_withNonTabularResult_keepsBodyInResultFrame() {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        result.setBody(Map.of("key", "value"));
+
+        StepVerifier.create(ExecutionStreamHelper.toFrames(result, 2))
+                .assertNext(frame -> assertEquals(FrameType.HEADER, frame.getType()))
+                .assertNext(frame -> {
+                    assertEquals(FrameType.RESULT, frame.getType());
+                    assertEquals(Map.of("key", "value"), frame.getResult().getBody());
+                    assertNull(frame.getRowCount());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testToFrames_withErrorWhileReadingRows_passesErrorOn() {
+        Flux<Map<String, Object>> rows = Flux.concat(
+                Flux.just(Map.of("id", 1)),
+                Flux.error(new IllegalStateException("connection reset")));
+
+        StepVerifier.create(ExecutionStreamHelper.toFrames(List.of("id"), new ActionExecutionRequest(), Set.of(), rows, 10))
+                .assertNext(frame -> {
+                    assertEquals(FrameType.HEADER, frame.getType());
+                    assertEquals(List.of("id"), frame.getColumns());
+                })
+                .expectErrorMatches(error -> error instanceof IllegalStateException
+                        && "connection reset".equals(error.getMessage()))
+                .verify();
+    }
+}
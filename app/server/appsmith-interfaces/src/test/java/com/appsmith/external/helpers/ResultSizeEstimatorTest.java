@@ -0,0 +1,77 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultSizeEstimatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Map<String, Object> getRow(int id) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("name", "name" + id);
+        row.put("price", new BigDecimal("123.45"));
+        row.put("created", LocalDate.of(2022, 1, 1));
+        row.put("deleted", null);
+        return row;
+    }
+
+    @Test
+    public void testSizeOf_withScalarValues_returnsTypeWidths() {
+        assertEquals(4, ResultSizeEstimator.sizeOf(null));
+        assertEquals(5, ResultSizeEstimator.sizeOf("hello"));
+        assertEquals(1, ResultSizeEstimator.sizeOf(true));
+        assertEquals(4, ResultSizeEstimator.sizeOf(1));
+        assertEquals(8, ResultSizeEstimator.sizeOf(1L));
+        assertEquals(7, ResultSizeEstimator.sizeOf(new BigDecimal("123.45")));
+        assertEquals(3, ResultSizeEstimator.sizeOf(new byte[3]));
+    }
+
+    @Test
+    public void testSizeOf_withNestedValues_addsUpChildren() {
+        assertEquals(2 + 3, ResultSizeEstimator.sizeOf(List.of("ab", "cde")));
+        assertEquals(1 + 4 + 1 + 2, ResultSizeEstimator.sizeOf(Map.of("a", 1, "b", "cd")));
+        assertEquals(2 * 3, ResultSizeEstimator.sizeOf(new String[]{"ab", "cd", "ef"}));
+    }
+
+    @Test
+    public void testSizeOf_withJsonNode_countsKeysAndText() throws Exception {
+        long size = ResultSizeEstimator.sizeOf(objectMapper.readTree("{\"key\": \"value\", \"list\": [1, \"ab\"]}"));
+
+        assertEquals(3 + 5 + 4 + 8 + 2, size);
+    }
+
+    @Test
+    public void testAddRow_accumulatesSizeAcrossRows() {
+        ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        long firstRowSize = resultSizeEstimator.addRow(getRow(1));
+        long totalSize = resultSizeEstimator.addRow(getRow(2));
+
+        assertTrue(firstRowSize > 0);
+        assertEquals(2 * firstRowSize, totalSize);
+        assertEquals(totalSize, resultSizeEstimator.getCurrentSize());
+    }
+
+    @Test
+    public void testIsLimitExceeded_whenSizeGoesBeyondMaxSize_returnsTrue() {
+        long rowSize = ResultSizeEstimator.sizeOf(getRow(1));
+        ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(rowSize);
+
+        resultSizeEstimator.addRow(getRow(1));
+        assertFalse(resultSizeEstimator.isLimitExceeded());
+
+        resultSizeEstimator.addRow(getRow(2));
+        assertTrue(resultSizeEstimator.isLimitExceeded());
+    }
+}
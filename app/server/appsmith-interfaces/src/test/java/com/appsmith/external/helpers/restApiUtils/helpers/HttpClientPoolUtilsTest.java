@@ -0,0 +1,97 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.client.HttpClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HttpClientPoolUtilsTest {
+
+    private DatasourceConfiguration getDatasourceConfiguration(String url) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl(url);
+        return datasourceConfiguration;
+    }
+
+    private DatasourceConfiguration getSelfSignedDatasourceConfiguration(String url, String certificate) {
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+        sslDetails.setCertificateFile(new UploadedFile("ca.crt", certificate));
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+
+        DatasourceConfiguration datasourceConfiguration = getDatasourceConfiguration(url);
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testGetHttpClient_withSameOrigin_reusesPool() {
+        final HttpClient httpClient =
+                HttpClientPoolUtils.getHttpClient(getDatasourceConfiguration("https://reuse.example.com/api/v1"));
+        final HttpClient otherHttpClient =
+                HttpClientPoolUtils.getHttpClient(getDatasourceConfiguration("https://reuse.example.com/api/v2?page=2"));
+        final HttpClient differentHostHttpClient =
+                HttpClientPoolUtils.getHttpClient(getDatasourceConfiguration("https://other.example.com/api/v1"));
+
+        assertSame(httpClient, otherHttpClient);
+        assertNotSame(httpClient, differentHostHttpClient);
+    }
+
+    @Test
+    public void testGetPoolKey_withDifferentSslConfiguration_usesDifferentPools() {
+        final String url = "https://internal.example.com";
+        final String plainKey = HttpClientPoolUtils.getPoolKey(getDatasourceConfiguration(url));
+        final String certificateKey =
+                HttpClientPoolUtils.getPoolKey(getSelfSignedDatasourceConfiguration(url, "certificate-one"));
+        final String otherCertificateKey =
+                HttpClientPoolUtils.getPoolKey(getSelfSignedDatasourceConfiguration(url, "certificate-two"));
+
+        assertNotEquals(plainKey, certificateKey);
+        assertNotEquals(certificateKey, otherCertificateKey);
+        assertEquals(certificateKey,
+                HttpClientPoolUtils.getPoolKey(getSelfSignedDatasourceConfiguration(url + "/path", "certificate-one")));
+    }
+
+    @Test
+    public void testReleaseHttpClient_byLastDatasource_createsNewPoolOnNextUse() {
+        final DatasourceConfiguration datasourceConfiguration = getDatasourceConfiguration("https://release.example.com");
+        final String poolKey = HttpClientPoolUtils.getPoolKey(datasourceConfiguration);
+        HttpClientPoolUtils.retainHttpClient(poolKey);
+        HttpClientPoolUtils.retainHttpClient(poolKey);
+        final HttpClient httpClient = HttpClientPoolUtils.getHttpClient(datasourceConfiguration);
+
+        // The pool is still retained by the other datasource
+        HttpClientPoolUtils.releaseHttpClient(poolKey);
+        assertSame(httpClient, HttpClientPoolUtils.getHttpClient(datasourceConfiguration));
+
+        HttpClientPoolUtils.releaseHttpClient(poolKey);
+        assertNotSame(httpClient, HttpClientPoolUtils.getHttpClient(datasourceConfiguration));
+    }
+
+    @Test
+    public void testGetHttpClient_withManyDatasources_keepsPoolCountBounded() {
+        final DatasourceConfiguration retainedDatasourceConfiguration =
+                getDatasourceConfiguration("https://retained.example.com");
+        final String retainedPoolKey = HttpClientPoolUtils.getPoolKey(retainedDatasourceConfiguration);
+        HttpClientPoolUtils.retainHttpClient(retainedPoolKey);
+        final HttpClient retainedHttpClient = HttpClientPoolUtils.getHttpClient(retainedDatasourceConfiguration);
+
+        for (int i = 0; i <= HttpClientPoolUtils.MAX_POOLS; i++) {
+            HttpClientPoolUtils.getHttpClient(getDatasourceConfiguration("https://host-" + i + ".example.com"));
+        }
+
+        assertEquals(HttpClientPoolUtils.MAX_POOLS, HttpClientPoolUtils.getPoolCount());
+        // The least recently used pool is kept while a datasource has retained it
+        assertSame(retainedHttpClient, HttpClientPoolUtils.getHttpClient(retainedDatasourceConfiguration));
+
+        HttpClientPoolUtils.releaseHttpClient(retainedPoolKey);
+    }
+}
@@ -5,8 +5,12 @@ import com.appsmith.external.constants.DataType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -1384,4 +1388,194 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testFilterDataNew_withNumericAndStringColumns_matchesInMemoryDbResult() throws IOException {
+        String data = "[\n" +
+                "  {\n" +
+                "    \"id\": 2381224,\n" +
+                "    \"email\": \"michael.lawson@reqres.in\",\n" +
+                "    \"orderAmount\": 4.99,\n" +
+                "    \"quantity\": 3,\n" +
+                "    \"orderStatus\": \"READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 2736212,\n" +
+                "    \"email\": \"lindsay.ferguson@reqres.in\",\n" +
+                "    \"orderAmount\": 9.99,\n" +
+                "    \"quantity\": \"\",\n" +
+                "    \"orderStatus\": \"NOT READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 6788734,\n" +
+                "    \"email\": \"tobias.funke@reqres.in\",\n" +
+                "    \"orderAmount\": 19.99,\n" +
+                "    \"quantity\": 1,\n" +
+                "    \"orderStatus\": \"READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 7788734,\n" +
+                "    \"email\": \"george.bluth@reqres.in\",\n" +
+                "    \"orderAmount\": 1.5,\n" +
+                "    \"quantity\": 10,\n" +
+                "    \"orderStatus\": \"\"\n" +
+                "  }\n" +
+                "]";
+
+        String whereJson = "{\n" +
+                "  \"where\": {\n" +
+                "    \"children\": [\n" +
+                "      {\n" +
+                "        \"key\": \"orderAmount\",\n" +
+                "        \"condition\": \"LT\",\n" +
+                "        \"value\": \"15\"\n" +
+                "      },\n" +
+                "      {\n" +
+                "        \"condition\": \"OR\",\n" +
+                "        \"children\": [\n" +
+                "          {\n" +
+                "            \"key\": \"email\",\n" +
+                "            \"condition\": \"CONTAINS\",\n" +
+                "            \"value\": \"son@\"\n" +
+                "          },\n" +
+                "          {\n" +
+                "            \"key\": \"quantity\",\n" +
+                "            \"condition\": \"NOT_IN\",\n" +
+                "            \"value\": \"[1, 3]\"\n" +
+                "          }\n" +
+                "        ]\n" +
+                "      }\n" +
+                "    ],\n" +
+                "    \"condition\": \"AND\"\n" +
+                "  }\n" +
+                "}";
+
+        ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+        Map<String, Object> whereClause = objectMapper.readValue(whereJson, HashMap.class);
+        Map<String, Object> unparsedWhereClause = (Map<String, Object>) whereClause.get("where");
+
+        List<Map<String, String>> sortBy = List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "quantity", SORT_BY_TYPE_KEY, "Ascending"));
+
+        ArrayNode filteredData = filterDataService.filterDataNew(items, new UQIDataFilterParams(
+                parseWhereClause(unparsedWhereClause), null, sortBy, Map.of(PAGINATE_LIMIT_KEY, "10")));
+        ArrayNode inMemoryDbFilteredData = filterDataService.filterDataUsingInMemoryDb(items, new UQIDataFilterParams(
+                parseWhereClause(unparsedWhereClause), null, sortBy, Map.of(PAGINATE_LIMIT_KEY, "10")), null);
+
+        assertEquals(3, filteredData.size());
+        // Null values are sorted first and returned as empty strings
+        assertEquals("", filteredData.get(0).get("quantity").asText());
+        assertEquals(normaliseNumericNodes(inMemoryDbFilteredData), normaliseNumericNodes(filteredData));
+    }
+
+    @Test
+    public void testFilterDataNew_withDataTypeConversionMap_matchesInMemoryDbResult() throws IOException {
+        String data = "[\n" +
+                "  {\n" +
+                "    \"rowIndex\": \"0\",\n" +
+                "    \"price\": \"1\",\n" +
+                "    \"name\": \"apple\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"rowIndex\": \"1\",\n" +
+                "    \"price\": \"2.5\",\n" +
+                "    \"name\": \"banana\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"rowIndex\": \"2\",\n" +
+                "    \"price\": \"not available\",\n" +
+                "    \"name\": \"cherry\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"rowIndex\": \"3\",\n" +
+                "    \"price\": \"1,000\",\n" +
+                "    \"name\": \"durian\"\n" +
+                "  }\n" +
+                "]";
+
+        Map<DataType, DataType> dataTypeConversionMap = Map.of(
+                DataType.INTEGER, DataType.DOUBLE,
+                DataType.LONG, DataType.DOUBLE,
+                DataType.FLOAT, DataType.DOUBLE);
+
+        ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+        Condition condition = new Condition(null, ConditionalOperator.AND,
+                List.of(new Condition("price", ConditionalOperator.GTE.name(), "1.5")), null);
+
+        ArrayNode filteredData = filterDataService.filterDataNew(items,
+                new UQIDataFilterParams(condition, List.of("name", "price"), null, null), dataTypeConversionMap);
+        ArrayNode inMemoryDbFilteredData = filterDataService.filterDataUsingInMemoryDb(items,
+                new UQIDataFilterParams(condition, List.of("name", "price"), null, null), dataTypeConversionMap);
+
+        // The price that is not a number is treated as null and hence is filtered out
+        assertEquals(2, filteredData.size());
+        assertEquals(1000.0, filteredData.get(1).get("price").asDouble());
+        assertEquals(normaliseNumericNodes(inMemoryDbFilteredData), normaliseNumericNodes(filteredData));
+    }
+
+    @Test
+    public void testFilterDataNew_withContainsOnNumericColumn_matchesValueText() throws IOException {
+        String data = "[\n" +
+                "  {\n" +
+                "    \"id\": 1,\n" +
+                "    \"orderAmount\": 4.99\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 2,\n" +
+                "    \"orderAmount\": 19.99\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 10,\n" +
+                "    \"orderAmount\": 1.5\n" +
+                "  }\n" +
+                "]";
+
+        ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+        Condition idCondition = new Condition(null, ConditionalOperator.AND,
+                List.of(new Condition("id", ConditionalOperator.CONTAINS.name(), "1")), null);
+        ArrayNode filteredById = filterDataService.filterDataNew(items,
+                new UQIDataFilterParams(idCondition, List.of("id"), null, null));
+
+        assertEquals(2, filteredById.size());
+        assertEquals(1, filteredById.get(0).get("id").asInt());
+        assertEquals(10, filteredById.get(1).get("id").asInt());
+
+        Condition amountCondition = new Condition(null, ConditionalOperator.AND,
+                List.of(new Condition("orderAmount", ConditionalOperator.CONTAINS.name(), ".99")), null);
+        ArrayNode filteredByAmount = filterDataService.filterDataNew(items,
+                new UQIDataFilterParams(amountCondition, List.of("id"), null, null));
+
+        assertEquals(2, filteredByAmount.size());
+        assertEquals(1, filteredByAmount.get(0).get("id").asInt());
+        assertEquals(2, filteredByAmount.get(1).get("id").asInt());
+    }
+
+    /**
+     * The in memory database returns `REAL` values as floats, and the Jackson node that a float is converted into
+     * depends on the conversion, so numbers are compared by value rather than by node type.
+     */
+    private JsonNode normaliseNumericNodes(JsonNode node) {
+        if (node.isIntegralNumber()) {
+            return LongNode.valueOf(node.longValue());
+        }
+
+        if (node.isFloatingPointNumber()) {
+            return DoubleNode.valueOf(node.doubleValue());
+        }
+
+        if (node.isArray()) {
+            ArrayNode normalisedArray = objectMapper.createArrayNode();
+            node.forEach(element -> normalisedArray.add(normaliseNumericNodes(element)));
+            return normalisedArray;
+        }
+
+        if (node.isObject()) {
+            ObjectNode normalisedObject = objectMapper.createObjectNode();
+            node.fields().forEachRemaining(field -> normalisedObject.set(field.getKey(), normaliseNumericNodes(field.getValue())));
+            return normalisedObject;
+        }
+
+        return node;
+    }
 }
@@ -0,0 +1,117 @@
+package com.appsmith.util;
+
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WebClientUtilsTest {
+
+    private static InetAddress address(String host, int... octets) throws UnknownHostException {
+        final byte[] bytes = new byte[octets.length];
+        for (int i = 0; i < octets.length; i++) {
+            bytes[i] = (byte) octets[i];
+        }
+        return InetAddress.getByAddress(host, bytes);
+    }
+
+    /**
+     * Answers lookups from a fixed map instead of asking a DNS server.
+     */
+    private static class StubDnsResolver extends InetNameResolver {
+
+        private final Map<String, List<InetAddress>> answers;
+
+        StubDnsResolver(Map<String, List<InetAddress>> answers) {
+            super(GlobalEventExecutor.INSTANCE);
+            this.answers = answers;
+        }
+
+        @Override
+        protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+            final List<InetAddress> addresses = answers.get(inetHost);
+            if (addresses == null) {
+                promise.setFailure(new UnknownHostException(inetHost));
+                return;
+            }
+            promise.setSuccess(addresses.get(0));
+        }
+
+        @Override
+        protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+            final List<InetAddress> addresses = answers.get(inetHost);
+            if (addresses == null) {
+                promise.setFailure(new UnknownHostException(inetHost));
+                return;
+            }
+            promise.setSuccess(addresses);
+        }
+    }
+
+    private static WebClientUtils.NameResolver nameResolver(Map<String, List<InetAddress>> answers) {
+        return new WebClientUtils.NameResolver(GlobalEventExecutor.INSTANCE, new StubDnsResolver(answers));
+    }
+
+    private static void assertNotAllowed(Future<?> future) {
+        future.awaitUninterruptibly();
+        assertThat(future.isSuccess()).isFalse();
+        assertThat(future.cause())
+                .isInstanceOf(UnknownHostException.class)
+                .hasMessage("Host not allowed.");
+    }
+
+    @Test
+    public void resolve_WhenHostNameIsDisallowed_FailsWithoutLookup() throws UnknownHostException {
+        // The stub would answer with an allowed address, so only the host name check can fail the lookup
+        final WebClientUtils.NameResolver resolver = nameResolver(Map.of(
+                "metadata.google.internal", List.of(address("metadata.google.internal", 10, 0, 0, 1))));
+
+        assertNotAllowed(resolver.resolve("metadata.google.internal"));
+        assertNotAllowed(resolver.resolveAll("metadata.google.internal"));
+    }
+
+    @Test
+    public void resolve_WhenHostResolvesToDisallowedAddress_Fails() throws UnknownHostException {
+        final WebClientUtils.NameResolver resolver = nameResolver(Map.of(
+                "metadata.example.com", List.of(address("metadata.example.com", 169, 254, 169, 254)),
+                "mixed.example.com", List.of(
+                        address("mixed.example.com", 93, 184, 216, 34),
+                        address("mixed.example.com", 169, 254, 169, 254))));
+
+        assertNotAllowed(resolver.resolve("metadata.example.com"));
+        assertNotAllowed(resolver.resolveAll("metadata.example.com"));
+        // Even if only one of the addresses is disallowed, the lookup fails
+        assertNotAllowed(resolver.resolveAll("mixed.example.com"));
+    }
+
+    @Test
+    public void resolve_WhenHostIsAllowed_ReturnsResolvedAddresses() throws UnknownHostException {
+        final InetAddress allowedAddress = address("example.com", 93, 184, 216, 34);
+        final WebClientUtils.NameResolver resolver = nameResolver(Map.of("example.com", List.of(allowedAddress)));
+
+        final Future<InetAddress> resolved = resolver.resolve("example.com").awaitUninterruptibly();
+        assertThat(resolved.isSuccess()).isTrue();
+        assertThat(resolved.getNow()).isEqualTo(allowedAddress);
+
+        final Future<List<InetAddress>> resolvedAll = resolver.resolveAll("example.com").awaitUninterruptibly();
+        assertThat(resolvedAll.isSuccess()).isTrue();
+        assertThat(resolvedAll.getNow()).containsExactly(allowedAddress);
+    }
+
+    @Test
+    public void isDisallowedAndFail_WhenPromiseIsAlreadyComplete_DoesNotThrow() {
+        final Promise<Void> promise = GlobalEventExecutor.INSTANCE.newPromise();
+        promise.setSuccess(null);
+
+        assertThat(WebClientUtils.isDisallowedAndFail("169.254.169.254", promise)).isTrue();
+        assertThat(promise.isSuccess()).isTrue();
+    }
+}
@@ -15,7 +15,6 @@ import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -40,6 +39,7 @@ import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.external.services.FilterDataService;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.AmazonS3Action;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.external.utils.AmazonS3ErrorUtils;
@@ -53,10 +53,12 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -94,8 +96,14 @@ import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
+import static com.external.utils.PayloadUtils.getBase64DecodedLength;
+import static com.external.utils.PayloadUtils.getBase64DecodingStream;
+import static com.external.utils.PayloadUtils.getUtf8EncodingStream;
+import static com.external.utils.PayloadUtils.getUtf8Length;
 import static com.external.utils.TemplateUtils.getTemplates;
 import static java.lang.Boolean.TRUE;
 
@@ -123,6 +131,8 @@ public class AmazonS3Plugin extends BasePlugin {
         private final Scheduler scheduler = Schedulers.boundedElastic();
         private final FilterDataService filterDataService;
         private static final AmazonS3ErrorUtils amazonS3ErrorUtils;
+        private static final int READ_BUFFER_SIZE = 8192;
+        private static int MAX_SIZE_SUPPORTED;
 
         static {
             try {
@@ -132,8 +142,9 @@ public class AmazonS3Plugin extends BasePlugin {
             }
         }
 
-        public S3PluginExecutor() {
+        public S3PluginExecutor(SharedConfig sharedConfig) {
             this.filterDataService = FilterDataService.getInstance();
+            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
         }
 
         /*
@@ -237,7 +248,6 @@ public class AmazonS3Plugin extends BasePlugin {
                                   Date expiryDateTime)
                 throws InterruptedException, AppsmithPluginException {
 
-            byte[] payload;
             MultipartFormDataDTO multipartFormDataDTO;
             try {
                 multipartFormDataDTO = objectMapper.readValue(
@@ -255,34 +265,7 @@ public class AmazonS3Plugin extends BasePlugin {
                         "Could not find any data. Expected to receive an object with `data` and `type`"
                 );
             }
-            if (Boolean.TRUE.equals(usingFilePicker)) {
-
-                String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-
-                /*
-                 * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                 *   base64-encoded-payload>".
-                 * - Strip off the redundant part in the beginning to get actual payload.
-                 */
-                if (encodedPayload.contains(BASE64_DELIMITER)) {
-                    List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                    encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                }
-
-                try {
-                    payload = Base64.getDecoder().decode(encodedPayload);
-                } catch (IllegalArgumentException e) {
-                    throw new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            "File content is not base64 encoded. File content needs to be base64 encoded when the " +
-                                    "'File Data Type: Base64/Text' field is selected 'Yes'."
-                    );
-                }
-            } else {
-                payload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
-            }
-
-            uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, path);
+            uploadFileInS3(multipartFormDataDTO, usingFilePicker, connection, bucketName, path);
             ArrayList<String> listOfFiles = new ArrayList<>();
             listOfFiles.add(path);
             ArrayList<String> listOfUrls = getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
@@ -326,35 +309,8 @@ public class AmazonS3Plugin extends BasePlugin {
             ArrayList<String> listOfFiles = new ArrayList<>();
             multipartFormDataDTOs.forEach(multipartFormDataDTO -> {
                 final String filePath = path + multipartFormDataDTO.getName();
-                byte[] payload;
-                if (Boolean.TRUE.equals(usingFilePicker)) {
-
-                    String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-                    /*
-                     * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                     *   base64-encoded-payload>".
-                     * - Strip off the redundant part in the beginning to get actual payload.
-                     */
-                    if (encodedPayload.contains(BASE64_DELIMITER)) {
-                        List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                        encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                    }
-
-                    try {
-                        payload = Base64.getDecoder().decode(encodedPayload);
-                    } catch (IllegalArgumentException e) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                "File content is not base64 encoded. File content needs to be base64 encoded when the " +
-                                        "'File Data Type: Base64/Text' field is selected 'Yes'."
-                        );
-                    }
-                } else {
-                    payload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
-                }
-
                 try {
-                    uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, filePath);
+                    uploadFileInS3(multipartFormDataDTO, usingFilePicker, connection, bucketName, filePath);
                 } catch (InterruptedException e) {
                     throw new AppsmithPluginException(
                             AppsmithPluginError.PLUGIN_ERROR,
@@ -370,20 +326,72 @@ public class AmazonS3Plugin extends BasePlugin {
 
         /*
          * - Exception thrown here needs to be handled by the caller.
+         * - The content is encoded while it is being read, so only the result is held in memory, and reading stops as
+         *   soon as the result grows past the maximum response size. Files larger than that can be read with a
+         *   signed URL instead.
          */
         String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
             S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
+            final boolean isBase64 = Boolean.TRUE.equals(encodeContent);
+
+            try (S3ObjectInputStream content = fullObject.getObjectContent()) {
+                final ObjectMetadata objectMetadata = fullObject.getObjectMetadata();
+                final long contentLength = objectMetadata == null ? 0 : objectMetadata.getContentLength();
+                final long resultLength = isBase64 ? 4 * ((contentLength + 2) / 3) : contentLength;
+                if (resultLength > MAX_SIZE_SUPPORTED) {
+                    content.abort();
+                    throw getFileSizeExceededException();
+                }
 
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
-            } else {
-                result = new String(bytes);
+                final ByteArrayOutputStream result = new ByteArrayOutputStream(
+                        resultLength > 0 ? (int) resultLength : READ_BUFFER_SIZE);
+                final OutputStream output = isBase64 ? Base64.getEncoder().wrap(result) : result;
+                final byte[] buffer = new byte[READ_BUFFER_SIZE];
+                int bytesRead;
+                while ((bytesRead = content.read(buffer)) != -1) {
+                    output.write(buffer, 0, bytesRead);
+                    if (result.size() > MAX_SIZE_SUPPORTED) {
+                        content.abort();
+                        throw getFileSizeExceededException();
+                    }
+                }
+                // Closing the encoder writes out the padding of the last unit
+                output.close();
+
+                return isBase64 ? result.toString(StandardCharsets.US_ASCII) : result.toString();
             }
+        }
 
-            return result;
+        private AppsmithPluginException getFileSizeExceededException() {
+            // Files larger than this can still be read by selecting 'Yes' for the 'Generate Signed URL' field
+            return new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED,
+                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))
+            );
+        }
+
+        /*
+         * - Exception thrown here needs to be handled by the caller.
+         */
+        private int getUrlExpiryDurationInMinutes(Map<String, Object> formData, String expiryField) throws AppsmithPluginException {
+            try {
+                return Integer.parseInt(getDataValueSafelyFromFormData(formData, expiryField, STRING_TYPE,
+                        DEFAULT_URL_EXPIRY_IN_MINUTES));
+            } catch (NumberFormatException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Parameter 'Expiry Duration of Signed URL' is NOT a number. Please ensure that the " +
+                                "input to 'Expiry Duration of Signed URL' field is a valid number - i.e. " +
+                                "any non-negative integer. Please note that the maximum expiry " +
+                                "duration supported by Amazon S3 is 7 days i.e. 10080 minutes."
+                );
+            }
+        }
+
+        private Date getUrlExpiryDateTime(int durationInMinutes) {
+            Calendar calendar = Calendar.getInstance();
+            calendar.add(Calendar.MINUTE, durationInMinutes);
+            return calendar.getTime();
         }
 
         @Override
@@ -560,27 +568,12 @@ public class AmazonS3Plugin extends BasePlugin {
                                     requestParams.add(new RequestParamDTO(LIST_SIGNED_URL, YES, null,
                                             null, null));
 
-                                    int durationInMinutes;
-
-                                    try {
-                                        durationInMinutes = Integer.parseInt(getDataValueSafelyFromFormData(formData,
-                                                LIST_EXPIRY, STRING_TYPE, DEFAULT_URL_EXPIRY_IN_MINUTES));
-                                    } catch (NumberFormatException e) {
-                                        return Mono.error(new AppsmithPluginException(
-                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                                "Parameter 'Expiry Duration of Signed URL' is NOT a number. Please ensure that the " +
-                                                        "input to 'Expiry Duration of Signed URL' field is a valid number - i.e. " +
-                                                        "any non-negative integer. Please note that the maximum expiry " +
-                                                        "duration supported by Amazon S3 is 7 days i.e. 10080 minutes."
-                                        ));
-                                    }
+                                    int durationInMinutes = getUrlExpiryDurationInMinutes(formData, LIST_EXPIRY);
 
                                     requestParams.add(new RequestParamDTO(LIST_EXPIRY,
                                             durationInMinutes, null, null, null));
 
-                                    Calendar calendar = Calendar.getInstance();
-                                    calendar.add(Calendar.MINUTE, durationInMinutes);
-                                    Date expiryDateTime = calendar.getTime();
+                                    Date expiryDateTime = getUrlExpiryDateTime(durationInMinutes);
                                     DateFormat dateTimeFormat = new SimpleDateFormat("dd MMM yyyy HH:mm:ss:SSS z");
                                     String expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
 
@@ -659,26 +652,11 @@ public class AmazonS3Plugin extends BasePlugin {
                             case UPLOAD_FILE_FROM_BODY: {
                                 requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_PATH, path, null, null, null));
 
-                                int durationInMinutes;
-
-                                try {
-                                    durationInMinutes = Integer.parseInt(getDataValueSafelyFromFormData(formData,
-                                            CREATE_EXPIRY, STRING_TYPE, DEFAULT_URL_EXPIRY_IN_MINUTES));
-                                } catch (NumberFormatException e) {
-                                    return Mono.error(new AppsmithPluginException(
-                                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                            "Parameter 'Expiry Duration of Signed URL' is NOT a number. Please ensure that the " +
-                                                    "input to 'Expiry Duration of Signed URL' field is a valid number - i.e. " +
-                                                    "any non-negative integer. Please note that the maximum expiry " +
-                                                    "duration supported by Amazon S3 is 7 days i.e. 10080 minutes."
-                                    ));
-                                }
+                                int durationInMinutes = getUrlExpiryDurationInMinutes(formData, CREATE_EXPIRY);
 
                                 requestProperties.put("expiry duration in minutes", String.valueOf(durationInMinutes));
 
-                                Calendar calendar = Calendar.getInstance();
-                                calendar.add(Calendar.MINUTE, durationInMinutes);
-                                Date expiryDateTime = calendar.getTime();
+                                Date expiryDateTime = getUrlExpiryDateTime(durationInMinutes);
                                 DateFormat dateTimeFormat = new SimpleDateFormat("dd MMM yyyy HH:mm:ss:SSS z");
                                 String expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
 
@@ -707,26 +685,11 @@ public class AmazonS3Plugin extends BasePlugin {
                             case UPLOAD_MULTIPLE_FILES_FROM_BODY: {
                                 requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_PATH, path, null, null, null));
 
-                                int durationInMinutes;
-
-                                try {
-                                    durationInMinutes = Integer.parseInt(getDataValueSafelyFromFormData(formData,
-                                            CREATE_EXPIRY, STRING_TYPE, DEFAULT_URL_EXPIRY_IN_MINUTES));
-                                } catch (NumberFormatException e) {
-                                    return Mono.error(new AppsmithPluginException(
-                                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                            "Parameter 'Expiry Duration of Signed URL' is NOT a number. Please ensure that the " +
-                                                    "input to 'Expiry Duration of Signed URL' field is a valid number - i.e. " +
-                                                    "any non-negative integer. Please note that the maximum expiry " +
-                                                    "duration supported by Amazon S3 is 7 days i.e. 10080 minutes."
-                                    ));
-                                }
+                                int durationInMinutes = getUrlExpiryDurationInMinutes(formData, CREATE_EXPIRY);
 
                                 requestProperties.put("expiry duration in minutes", String.valueOf(durationInMinutes));
 
-                                Calendar calendar = Calendar.getInstance();
-                                calendar.add(Calendar.MINUTE, durationInMinutes);
-                                Date expiryDateTime = calendar.getTime();
+                                Date expiryDateTime = getUrlExpiryDateTime(durationInMinutes);
                                 DateFormat dateTimeFormat = new SimpleDateFormat("dd MMM yyyy HH:mm:ss:SSS z");
                                 String expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
 
@@ -755,6 +718,32 @@ public class AmazonS3Plugin extends BasePlugin {
                             case READ_FILE:
                                 requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_PATH, path, null, null, null));
 
+                                /*
+                                 * - A signed URL lets the client download the file directly from S3, without the
+                                 *   content passing through the Appsmith server, no matter how large the file is.
+                                 */
+                                if (YES.equals(getDataValueSafelyFromFormData(formData, READ_SIGNED_URL, STRING_TYPE))) {
+                                    requestParams.add(new RequestParamDTO(READ_SIGNED_URL, YES, null,
+                                            null, null));
+
+                                    int durationInMinutes = getUrlExpiryDurationInMinutes(formData, READ_EXPIRY);
+
+                                    Date expiryDateTime = getUrlExpiryDateTime(durationInMinutes);
+                                    DateFormat dateTimeFormat = new SimpleDateFormat("dd MMM yyyy HH:mm:ss:SSS z");
+                                    String expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
+
+                                    ArrayList<String> listOfSignedUrls = getSignedUrls(connection, bucketName,
+                                            new ArrayList<>(List.of(path)), expiryDateTime);
+
+                                    requestParams.add(new RequestParamDTO(READ_EXPIRY,
+                                            expiryDateTimeString, null, null, null));
+                                    actionResult = Map.of(
+                                            "signedUrl", listOfSignedUrls.get(0),
+                                            "urlExpiryDate", expiryDateTimeString
+                                    );
+                                    break;
+                                }
+
                                 String result;
 
                                 String isBase64 = getDataValueSafelyFromFormData(formData, READ_DATATYPE, STRING_TYPE);
@@ -1057,16 +1046,54 @@ public class AmazonS3Plugin extends BasePlugin {
             return encodedPayload;
         }
 
-        void uploadFileInS3(byte[] payload, AmazonS3 connection, MultipartFormDataDTO multipartFormDataDTO,
+        /*
+         * - The payload is streamed from the string it was sent in, instead of being decoded into a byte array first.
+         * - Since the length of the content is set, TransferManager splits payloads larger than its multipart
+         *   threshold into parts that are read from the stream one after the other, so the heap used by an upload
+         *   doesn't grow with the size of the file.
+         */
+        void uploadFileInS3(MultipartFormDataDTO multipartFormDataDTO, Boolean usingFilePicker, AmazonS3 connection,
                             String bucketName, String path) throws InterruptedException {
-            InputStream inputStream = new ByteArrayInputStream(payload);
-            TransferManager transferManager = TransferManagerBuilder.standard().withS3Client(connection).build();
+            final String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
             final ObjectMetadata objectMetadata = new ObjectMetadata();
+            final InputStream inputStream;
+
+            if (Boolean.TRUE.equals(usingFilePicker)) {
+                /*
+                 * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
+                 *   base64-encoded-payload>".
+                 * - Skip the redundant part in the beginning to get actual payload.
+                 */
+                final int delimiterIndex = encodedPayload.lastIndexOf(BASE64_DELIMITER);
+                final int payloadStart = delimiterIndex < 0 ? 0 : delimiterIndex + BASE64_DELIMITER.length();
+
+                try {
+                    objectMetadata.setContentLength(getBase64DecodedLength(encodedPayload, payloadStart));
+                } catch (IllegalArgumentException e) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            "File content is not base64 encoded. File content needs to be base64 encoded when the " +
+                                    "'File Data Type: Base64/Text' field is selected 'Yes'."
+                    );
+                }
+                inputStream = getBase64DecodingStream(encodedPayload, payloadStart);
+            } else {
+                objectMetadata.setContentLength(getUtf8Length(encodedPayload));
+                inputStream = getUtf8EncodingStream(encodedPayload);
+            }
+
             // Only add content type if the user has mentioned it in the body
             if (multipartFormDataDTO.getType() != null) {
                 objectMetadata.setContentType(multipartFormDataDTO.getType());
             }
-            transferManager.upload(bucketName, path, inputStream, objectMetadata).waitForUploadResult();
+
+            TransferManager transferManager = TransferManagerBuilder.standard().withS3Client(connection).build();
+            try {
+                transferManager.upload(bucketName, path, inputStream, objectMetadata).waitForUploadResult();
+            } finally {
+                // Shut down the threads of the transfer manager, but keep the client of the datasource open
+                transferManager.shutdownNow(false);
+            }
         }
 
     }
@@ -0,0 +1,94 @@
+package com.external.utils;
+
+import org.apache.commons.io.input.CharSequenceInputStream;
+
+import java.io.InputStream;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Reads the content of a file to be uploaded straight from the string it was sent in, without decoding it into a byte
+ * array first. The length of the content is computed up front from the string, so that the upload can be split into
+ * parts instead of being buffered to find out its length.
+ */
+public class PayloadUtils {
+
+    private static final char BASE64_PADDING = '=';
+
+    /**
+     * Returns the number of bytes that the base64 payload starting at the given index decodes to. The payload is
+     * validated the same way {@link Base64.Decoder#decode(String)} would validate it.
+     *
+     * @throws IllegalArgumentException if the payload is not valid base64.
+     */
+    public static long getBase64DecodedLength(String payload, int start) {
+        final int end = payload.length();
+
+        int dataEnd = end;
+        while (dataEnd > start && payload.charAt(dataEnd - 1) == BASE64_PADDING) {
+            dataEnd--;
+        }
+
+        for (int i = start; i < dataEnd; i++) {
+            if (!isBase64Character(payload.charAt(i))) {
+                throw new IllegalArgumentException("Illegal base64 character at index " + i);
+            }
+        }
+
+        final int dataLength = dataEnd - start;
+        final int padding = end - dataEnd;
+        final int remainder = dataLength % 4;
+        if (remainder == 1 || (padding > 0 && remainder + padding != 4)) {
+            throw new IllegalArgumentException("Base64 payload has a wrong 4-byte ending unit");
+        }
+
+        return (long) (dataLength / 4) * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    /**
+     * Decodes the base64 payload starting at the given index while it is being read.
+     */
+    public static InputStream getBase64DecodingStream(String payload, int start) {
+        return Base64.getDecoder().wrap(
+                new CharSequenceInputStream(CharBuffer.wrap(payload, start, payload.length()), StandardCharsets.US_ASCII)
+        );
+    }
+
+    /**
+     * Returns the number of bytes of the UTF-8 encoding of the text, counting unpaired surrogates as the single
+     * replacement byte they are encoded as.
+     */
+    public static long getUtf8Length(String text) {
+        long length = 0;
+        final int end = text.length();
+        for (int i = 0; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * Encodes the text as UTF-8 while it is being read.
+     */
+    public static InputStream getUtf8EncodingStream(String text) {
+        return new CharSequenceInputStream(text, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isBase64Character(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/';
+    }
+}
@@ -7,6 +7,7 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
@@ -25,7 +26,9 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.AmazonS3Action;
+import com.external.utils.PayloadUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +40,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -68,6 +72,7 @@ import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
 import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.CREATE_FILE_TEMPLATE_NAME;
@@ -85,6 +90,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -92,6 +98,24 @@ import static org.mockito.Mockito.*;
 
 @Slf4j
 public class AmazonS3PluginTest {
+    private static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 5 * 1024 * 1024;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
     private static String accessKey;
     private static String secretKey;
     private static String region;
@@ -136,7 +160,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.setAuthentication(authDTOWithEmptyAccessKey);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -160,7 +184,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.setAuthentication(authDTOWithEmptyAccessKey);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -180,7 +204,7 @@ public class AmazonS3PluginTest {
         datasourceConfiguration.getProperties().get(1).setValue("other");
         datasourceConfiguration.getProperties().get(2).setValue("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -196,7 +220,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.getProperties().get(2).setValue("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -214,7 +238,7 @@ public class AmazonS3PluginTest {
         datasourceConfiguration.getProperties().get(2).setValue("");
         datasourceConfiguration.getEndpoints().get(0).setHost("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -233,7 +257,7 @@ public class AmazonS3PluginTest {
     @Test
     public void testTestDatasourceWithFalseCredentials() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         StepVerifier.create(pluginExecutor.testDatasource(datasourceConfiguration))
                 .assertNext(datasourceTestResult -> {
                     assertNotEquals(0, datasourceTestResult.getInvalids().size());
@@ -251,7 +275,7 @@ public class AmazonS3PluginTest {
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setFormData(new HashMap<>());
-        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(new AmazonS3Plugin.S3PluginExecutor());
+        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig()));
         Mono<ActionExecutionResult> resultMono = pluginExecutorMono
                                                  .flatMap(executor -> {
                                                      return executor.executeParameterized(
@@ -269,7 +293,7 @@ public class AmazonS3PluginTest {
     public void testListFilesInBucketWithNoUrl() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -334,7 +358,7 @@ public class AmazonS3PluginTest {
     public void testCreateFileFromBodyWithFalseCredentialsAndNonNullDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
@@ -377,7 +401,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBodyWithMissingDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -422,7 +446,7 @@ public class AmazonS3PluginTest {
         Param param = new Param("dynamicallyFoundFilePickerObject", "<html>Random\"Unescaped'String</html>");
         param.setClientDataType(ClientDataType.OBJECT);
         executeActionDTO.setParams(List.of(param));
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -458,7 +482,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBody_withMalformedBody_returnsErrorMessage() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -507,7 +531,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBodyWithFilepickerAndNonBase64() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -562,7 +586,7 @@ public class AmazonS3PluginTest {
     public void testCreateMultipleFilesFromBodyWithFalseCredentialsAndNonNullDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -598,7 +622,7 @@ public class AmazonS3PluginTest {
     public void testReadFileFromPathWithoutBase64Encoding() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -639,7 +663,7 @@ public class AmazonS3PluginTest {
     public void testReadFileFromPathWithBase64Encoding() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -690,11 +714,114 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testReadFileWithSignedUrl() throws MalformedURLException {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_SIGNED_URL, YES);
+        setDataValueSafelyInFormData(configMap, READ_EXPIRY, "10");
+
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        URL dummyUrl = new URL("http", "dummy_url", "");
+        when(mockConnection.generatePresignedUrl(any())).thenReturn(dummyUrl);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(dummyUrl.toString(), body.get("signedUrl"));
+                    assertNotNull(body.get("urlExpiryDate"));
+                    assertFalse(body.containsKey("fileData"));
+                })
+                .verifyComplete();
+
+        // The content of the file is never downloaded by the server
+        verify(mockConnection, never()).getObject(anyString(), anyString());
+    }
+
+    @Test
+    public void testReadFileLargerThanMaxResponseSize() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "YES");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(200L * 1024 * 1024);
+        when(mockS3Object.getObjectMetadata()).thenReturn(objectMetadata);
+
+        S3ObjectInputStream mockS3ObjectInputStream = mock(S3ObjectInputStream.class);
+        when(mockS3Object.getObjectContent()).thenReturn(mockS3ObjectInputStream);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED.getAppErrorCode().toString(),
+                            result.getStatusCode());
+                })
+                .verifyComplete();
+
+        // The object is aborted without being read
+        verify(mockS3ObjectInputStream).abort();
+    }
+
+    @Test
+    public void testBase64DecodedLengthOfPayload() throws IOException {
+        for (String content : List.of("", "a", "ab", "abc", "abcd", "Hello World !!!\n")) {
+            String encodedPayload = "data:text/plain;base64," + java.util.Base64.getEncoder().encodeToString(content.getBytes());
+            int start = encodedPayload.indexOf(";base64,") + ";base64,".length();
+
+            assertEquals(content.length(), PayloadUtils.getBase64DecodedLength(encodedPayload, start));
+            try (InputStream inputStream = PayloadUtils.getBase64DecodingStream(encodedPayload, start)) {
+                assertEquals(content, new String(inputStream.readAllBytes()));
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> PayloadUtils.getBase64DecodedLength("dummyBody;", 0));
+        assertThrows(IllegalArgumentException.class, () -> PayloadUtils.getBase64DecodedLength("abcde", 0));
+        assertThrows(IllegalArgumentException.class, () -> PayloadUtils.getBase64DecodedLength("ab=", 0));
+    }
+
     @Test
     public void testDeleteFile() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -740,7 +867,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithPrefix() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -799,7 +926,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithUnsignedUrl() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -875,7 +1002,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithSignedUrl() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -954,7 +1081,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithSignedUrlAndNullDuration() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1050,7 +1177,7 @@ public class AmazonS3PluginTest {
     @Test
     public void testGetStructure() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         Bucket mockS3Bucket1 = mock(Bucket.class);
         when(mockS3Bucket1.getName()).thenReturn("dummy_bucket_1");
@@ -1197,7 +1324,7 @@ public class AmazonS3PluginTest {
     public void testDeleteMultipleFiles() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1250,7 +1377,7 @@ public class AmazonS3PluginTest {
         amazonS3Exception.setErrorCode(errorCode);
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         AmazonS3 mockConnection = Mockito.mock(AmazonS3.class);
         Method executeCommon = AmazonS3Plugin.S3PluginExecutor.class
                 .getDeclaredMethod("executeCommon", AmazonS3.class,
@@ -1274,7 +1401,7 @@ public class AmazonS3PluginTest {
         amazonServiceException.setErrorCode(errorCode);
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         AmazonS3 mockConnection = Mockito.mock(AmazonS3.class);
         Method executeCommon = AmazonS3Plugin.S3PluginExecutor.class
                 .getDeclaredMethod("executeCommon", AmazonS3.class,
@@ -13,27 +13,35 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbRequest;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbResponse;
-import software.amazon.awssdk.services.dynamodb.model.ListTablesResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -49,6 +57,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -69,6 +78,29 @@ public class DynamoPlugin extends BasePlugin {
     private static final String DYNAMO_TYPE_MAP_LABEL = "M";
     private static final String DYNAMO_TYPE_LIST_LABEL = "L";
 
+    private static final String ITEMS = "Items";
+    private static final String COUNT = "Count";
+    private static final String SCANNED_COUNT = "ScannedCount";
+    private static final String LAST_EVALUATED_KEY = "LastEvaluatedKey";
+
+    // Number of items that a Scan or Query may read across its pages
+    private static final int MAX_PAGINATED_ITEMS = 10000;
+
+    /*
+     * - Handles of the client methods that execute each DynamoDB action, by action name, like `GetItem`. They are looked
+     *   up once instead of on every execution. An action is executed by the client method that takes its request
+     *   object, like `getItem(GetItemRequest)`.
+     */
+    private static final Map<String, MethodHandle> OPERATIONS = getOperations();
+
+    // Public methods of the SDK builder classes, which are looked up for every field of a request
+    private static final ClassValue<Method[]> BUILDER_METHODS = new ClassValue<>() {
+        @Override
+        protected Method[] computeValue(Class<?> type) {
+            return type.getMethods();
+        }
+    };
+
     public DynamoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -85,9 +117,13 @@ public class DynamoPlugin extends BasePlugin {
      */
 
     @Extension
-    public static class DynamoPluginExecutor implements PluginExecutor<DynamoDbClient> {
+    public static class DynamoPluginExecutor implements PluginExecutor<DynamoDbAsyncClient> {
 
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final SharedConfig sharedConfig;
+
+        public DynamoPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
 
         public Object extractValue(Object rawItem) {
 
@@ -184,18 +220,16 @@ public class DynamoPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<ActionExecutionResult> execute(DynamoDbClient ddb,
+        public Mono<ActionExecutionResult> execute(DynamoDbAsyncClient ddb,
                                                    DatasourceConfiguration datasourceConfiguration,
                                                    ActionConfiguration actionConfiguration) {
 
             final Map<String, Object> requestData = new HashMap<>();
             final String body = actionConfiguration.getBody();
+            final String action = actionConfiguration.getPath();
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
-            return Mono.fromCallable(() -> {
-                        ActionExecutionResult result = new ActionExecutionResult();
-
-                        final String action = actionConfiguration.getPath();
+            return Mono.defer(() -> {
                         if (StringUtils.isEmpty(action)) {
                             throw new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
@@ -218,34 +252,29 @@ public class DynamoPlugin extends BasePlugin {
                         }
                         requestData.put("parameters", parameters);
 
-                        final Class<?> requestClass;
-                        try {
-                            requestClass = Class.forName("software.amazon.awssdk.services.dynamodb.model." + action + "Request");
-                        } catch (ClassNotFoundException e) {
+                        final MethodHandle operation = OPERATIONS.get(action);
+                        if (operation == null) {
                             throw new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_ERROR,
                                     "Unknown action: `" + action + "`. Note that action names are case-sensitive."
                             );
                         }
 
+                        final DynamoDbRequest request;
                         try {
-                            final Method actionExecuteMethod = DynamoDbClient.class.getMethod(
-                                    // Convert `ListTables` to `listTables`, which is the name of the method to execute this action.
-                                    toLowerCamelCase(action),
-                                    requestClass
-                            );
-                            final Object sdkValue = plainToSdk(parameters, requestClass);
-                            final DynamoDbResponse response = (DynamoDbResponse) actionExecuteMethod.invoke(ddb, sdkValue);
-                            Object rawResponse = sdkToPlain(response);
-                            Object transformedResponse = getTransformedResponse((Map<String, Object>) rawResponse, action);
-                            result.setBody(transformedResponse);
+                            // The first parameter of the operation handle is the client, the second one is the request
+                            request = (DynamoDbRequest) plainToSdk(parameters, operation.type().parameterType(1));
                         } catch (AppsmithPluginException | InvocationTargetException | IllegalAccessException |
                                  NoSuchMethodException | ClassNotFoundException e) {
-                            final String message = "Error executing the DynamoDB Action: " + (e.getCause() == null ? e : e.getCause()).getMessage();
-                            log.warn(message, e);
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
+                            throw getExecutionError(e.getCause() == null ? e : e.getCause());
                         }
 
+                        return executeOperation(ddb, operation, request)
+                                .onErrorMap(error -> !(error instanceof AppsmithPluginException), this::getExecutionError);
+                    })
+                    .map(rawResponse -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        result.setBody(getTransformedResponse(rawResponse, action));
                         result.setIsExecutionSuccess(true);
                         log.debug("In the DynamoPlugin, got action execution result");
                         return result;
@@ -264,42 +293,79 @@ public class DynamoPlugin extends BasePlugin {
                         actionExecutionRequest.setRequestParams(requestParams);
                         actionExecutionResult.setRequest(actionExecutionRequest);
                         return actionExecutionResult;
+                    });
+        }
+
+        private AppsmithPluginException getExecutionError(Throwable error) {
+            final String message = "Error executing the DynamoDB Action: " + error.getMessage();
+            log.warn(message, error);
+            return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
+        }
+
+        /**
+         * Runs the operation and converts its response to plain maps and lists. Scan and Query requests without a
+         * `Limit` are run page after page, following `LastEvaluatedKey`, until the table is read completely, and the
+         * items of all pages are returned together. Once the items read exceed the size budget or the row budget, no
+         * more pages are read, and the items read so far are returned with the `LastEvaluatedKey` of the last page, so
+         * that the user can go on from there with `ExclusiveStartKey`.
+         */
+        private Mono<Map<String, Object>> executeOperation(DynamoDbAsyncClient ddb,
+                                                           MethodHandle operation,
+                                                           DynamoDbRequest request) {
+
+            if (!isAutoPaginated(request)) {
+                return invokeOperation(ddb, operation, request)
+                        .map(response -> (Map<String, Object>) sdkToPlain(response));
+            }
+
+            final PaginationBudget budget = new PaginationBudget(MAX_PAGINATED_ITEMS, sharedConfig.getMaxResponseSize());
+
+            return invokeOperation(ddb, operation, request)
+                    .expand(response -> {
+                        final Map<String, AttributeValue> lastEvaluatedKey = getLastEvaluatedKey(response);
+                        if (!budget.consume(getItems(response)) || CollectionUtils.isEmpty(lastEvaluatedKey)) {
+                            return Mono.empty();
+                        }
+
+                        return invokeOperation(ddb, operation, withExclusiveStartKey(request, lastEvaluatedKey));
                     })
-                    .subscribeOn(scheduler);
+                    .map(response -> (Map<String, Object>) sdkToPlain(response))
+                    .reduce(DynamoPlugin::mergePages);
         }
 
         @Override
-        public Mono<DynamoDbClient> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DynamoDbAsyncClient> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
             return Mono.fromCallable(() -> {
-                        final DynamoDbClientBuilder builder = DynamoDbClient.builder();
+                final DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder()
+                        // The client builds the Netty client from this builder and closes it along with itself
+                        .httpClientBuilder(NettyNioAsyncHttpClient.builder());
 
-                        if (!CollectionUtils.isEmpty(datasourceConfiguration.getEndpoints())) {
-                            final Endpoint endpoint = datasourceConfiguration.getEndpoints().get(0);
-                            builder.endpointOverride(URI.create("http://" + endpoint.getHost() + ":" + endpoint.getPort()));
-                        }
+                if (!CollectionUtils.isEmpty(datasourceConfiguration.getEndpoints())) {
+                    final Endpoint endpoint = datasourceConfiguration.getEndpoints().get(0);
+                    builder.endpointOverride(URI.create("http://" + endpoint.getHost() + ":" + endpoint.getPort()));
+                }
 
-                        final DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-                        if (authentication == null || StringUtils.isEmpty(authentication.getDatabaseName())) {
-                            throw new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
-                                    "Missing region in datasource."
-                            );
-                        }
+                final DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+                if (authentication == null || StringUtils.isEmpty(authentication.getDatabaseName())) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                            "Missing region in datasource."
+                    );
+                }
 
-                        builder.region(Region.of(authentication.getDatabaseName()));
+                builder.region(Region.of(authentication.getDatabaseName()));
 
-                        builder.credentialsProvider(StaticCredentialsProvider.create(
-                                AwsBasicCredentials.create(authentication.getUsername(), authentication.getPassword())
-                        ));
+                builder.credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(authentication.getUsername(), authentication.getPassword())
+                ));
 
-                        return builder.build();
-                    })
-                    .subscribeOn(scheduler);
+                return builder.build();
+            });
         }
 
         @Override
-        public void datasourceDestroy(DynamoDbClient client) {
+        public void datasourceDestroy(DynamoDbAsyncClient client) {
             if (client != null) {
                 client.close();
             }
@@ -330,22 +396,18 @@ public class DynamoPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(DynamoDbClient connection) {
-            return Mono.fromCallable(() -> {
-                /*
-                 * - Creating a connection with false credentials does not throw an error. Hence,
-                 *   calling listTables() method to check validity.
-                 */
-                connection.listTables();
-                return new DatasourceTestResult();
-            });
+        public Mono<DatasourceTestResult> testDatasource(DynamoDbAsyncClient connection) {
+            /*
+             * - Creating a connection with false credentials does not throw an error. Hence,
+             *   calling listTables() method to check validity.
+             */
+            return Mono.fromFuture(() -> connection.listTables())
+                    .thenReturn(new DatasourceTestResult());
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(DynamoDbClient ddb, DatasourceConfiguration datasourceConfiguration) {
-            return Mono.fromCallable(() -> {
-                final ListTablesResponse listTablesResponse = ddb.listTables();
-
+        public Mono<DatasourceStructure> getStructure(DynamoDbAsyncClient ddb, DatasourceConfiguration datasourceConfiguration) {
+            return Mono.fromFuture(() -> ddb.listTables()).map(listTablesResponse -> {
                 List<DatasourceStructure.Table> tables = new ArrayList<>();
                 for (final String tableName : listTablesResponse.tableNames()) {
                     tables.add(new DatasourceStructure.Table(
@@ -359,8 +421,7 @@ public class DynamoPlugin extends BasePlugin {
                 }
 
                 return new DatasourceStructure(tables);
-
-            }).subscribeOn(scheduler);
+            });
         }
 
     }
@@ -369,6 +430,184 @@ public class DynamoPlugin extends BasePlugin {
         return action.substring(0, 1).toLowerCase() + action.substring(1);
     }
 
+    private static Map<String, MethodHandle> getOperations() {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        final Map<String, MethodHandle> operations = new HashMap<>();
+
+        for (final Method method : DynamoDbAsyncClient.class.getMethods()) {
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            // Skip the overloads that take a consumer of the request builder, and the paginators that take the same
+            // request objects but return publishers
+            if (parameterTypes.length != 1
+                    || !DynamoDbRequest.class.isAssignableFrom(parameterTypes[0])
+                    || !CompletableFuture.class.equals(method.getReturnType())) {
+                continue;
+            }
+
+            final String action = parameterTypes[0].getSimpleName().replaceFirst("Request$", "");
+            try {
+                operations.put(action, lookup.unreflect(method));
+            } catch (IllegalAccessException e) {
+                log.warn("Unable to access the DynamoDB client method for action {}", action, e);
+            }
+        }
+
+        return Collections.unmodifiableMap(operations);
+    }
+
+    private static Mono<DynamoDbResponse> invokeOperation(DynamoDbAsyncClient ddb,
+                                                          MethodHandle operation,
+                                                          DynamoDbRequest request) {
+        return Mono.fromFuture(() -> {
+            try {
+                return (CompletableFuture<DynamoDbResponse>) operation.invoke(ddb, request);
+            } catch (Throwable e) {
+                throw Exceptions.propagate(e);
+            }
+        });
+    }
+
+    /*
+     * - Only Scan and Query are paginated. A request that sets a `Limit` asks for a single page of that size, so it is
+     *   executed as it is.
+     */
+    private static boolean isAutoPaginated(DynamoDbRequest request) {
+        if (request instanceof ScanRequest) {
+            return ((ScanRequest) request).limit() == null;
+        }
+
+        if (request instanceof QueryRequest) {
+            return ((QueryRequest) request).limit() == null;
+        }
+
+        return false;
+    }
+
+    private static List<Map<String, AttributeValue>> getItems(DynamoDbResponse response) {
+        if (response instanceof ScanResponse) {
+            return ((ScanResponse) response).items();
+        }
+
+        if (response instanceof QueryResponse) {
+            return ((QueryResponse) response).items();
+        }
+
+        return Collections.emptyList();
+    }
+
+    private static Map<String, AttributeValue> getLastEvaluatedKey(DynamoDbResponse response) {
+        if (response instanceof ScanResponse) {
+            return ((ScanResponse) response).lastEvaluatedKey();
+        }
+
+        if (response instanceof QueryResponse) {
+            return ((QueryResponse) response).lastEvaluatedKey();
+        }
+
+        return Collections.emptyMap();
+    }
+
+    private static DynamoDbRequest withExclusiveStartKey(DynamoDbRequest request,
+                                                         Map<String, AttributeValue> exclusiveStartKey) {
+        if (request instanceof ScanRequest) {
+            return ((ScanRequest) request).toBuilder().exclusiveStartKey(exclusiveStartKey).build();
+        }
+
+        return ((QueryRequest) request).toBuilder().exclusiveStartKey(exclusiveStartKey).build();
+    }
+
+    /**
+     * Adds the items and counts of a page of a Scan or Query response to the pages before it. The `LastEvaluatedKey`
+     * of the merged response is the one of the last page. Other fields are kept from the first page.
+     */
+    private static Map<String, Object> mergePages(Map<String, Object> merged, Map<String, Object> page) {
+        ((List<Object>) merged.get(ITEMS)).addAll((List<Object>) page.get(ITEMS));
+        merged.put(COUNT, sumCounts(merged.get(COUNT), page.get(COUNT)));
+        merged.put(SCANNED_COUNT, sumCounts(merged.get(SCANNED_COUNT), page.get(SCANNED_COUNT)));
+        merged.put(LAST_EVALUATED_KEY, page.get(LAST_EVALUATED_KEY));
+        return merged;
+    }
+
+    private static Integer sumCounts(Object count, Object pageCount) {
+        if (count == null || pageCount == null) {
+            return count == null ? (Integer) pageCount : (Integer) count;
+        }
+
+        return (Integer) count + (Integer) pageCount;
+    }
+
+    /**
+     * Number of items and estimated bytes that a paginated Scan or Query may read. The size of an item is estimated as
+     * the length of its attribute names and values, which is close to how DynamoDB itself sizes items.
+     */
+    private static class PaginationBudget {
+
+        private final int maxItems;
+
+        private final long maxSize;
+
+        private int itemCount = 0;
+
+        private long size = 0;
+
+        PaginationBudget(int maxItems, long maxSize) {
+            this.maxItems = maxItems;
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Takes the items of a page out of the budget.
+         *
+         * @return false if the budget is used up, and no more pages should be read.
+         */
+        boolean consume(List<Map<String, AttributeValue>> items) {
+            itemCount += items.size();
+            for (final Map<String, AttributeValue> item : items) {
+                size += sizeOf(item);
+            }
+
+            return size < maxSize && itemCount < maxItems;
+        }
+
+        private static long sizeOf(Map<String, AttributeValue> attributes) {
+            long size = 0;
+            for (final Map.Entry<String, AttributeValue> attribute : attributes.entrySet()) {
+                size += attribute.getKey().length() + sizeOf(attribute.getValue());
+            }
+            return size;
+        }
+
+        private static long sizeOf(AttributeValue value) {
+            if (value.s() != null) {
+                return value.s().length();
+            }
+
+            if (value.n() != null) {
+                return value.n().length();
+            }
+
+            if (value.b() != null) {
+                return value.b().asByteBuffer().remaining();
+            }
+
+            // Values of the other types are empty collections when they are not set
+            long size = 1;
+            for (final String item : value.ss()) {
+                size += item.length();
+            }
+            for (final String item : value.ns()) {
+                size += item.length();
+            }
+            for (final SdkBytes item : value.bs()) {
+                size += item.asByteBuffer().remaining();
+            }
+            for (final AttributeValue item : value.l()) {
+                size += sizeOf(item);
+            }
+            return size + sizeOf(value.m());
+        }
+    }
+
     /**
      * Given a map that conforms to what a valid DynamoDB request should look like, this function will convert into
      * a DynamoDBRequest object from AWS SDK. This is done using Java's reflection API.
@@ -513,7 +752,7 @@ public class DynamoPlugin extends BasePlugin {
     }
 
     private static Method findMethod(Class<?> builderType, Predicate<Method> predicate) {
-        return Arrays.stream(builderType.getMethods())
+        return Arrays.stream(BUILDER_METHODS.get(builderType))
                 .filter(predicate)
                 .findFirst()
                 .orElse(null);
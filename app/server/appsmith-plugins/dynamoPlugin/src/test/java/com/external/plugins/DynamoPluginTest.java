@@ -8,6 +8,7 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
+import com.appsmith.external.services.SharedConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -42,14 +43,33 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Slf4j
 @Testcontainers
 public class DynamoPluginTest {
+    private static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 5 * 1024 * 1024;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
 
-    private final static DynamoPlugin.DynamoPluginExecutor pluginExecutor = new DynamoPlugin.DynamoPluginExecutor();
+    private final static DynamoPlugin.DynamoPluginExecutor pluginExecutor = new DynamoPlugin.DynamoPluginExecutor(new MockSharedConfig());
 
     @SuppressWarnings("rawtypes")
     @Container
@@ -58,6 +78,10 @@ public class DynamoPluginTest {
 
     private final static DatasourceConfiguration dsConfig = new DatasourceConfiguration();
 
+    private final static int PAGED_ITEM_COUNT = 30;
+
+    private final static int PAGED_ITEM_SIZE = 50 * 1024;
+
     @BeforeAll
     public static void setUp() {
         final String host = "localhost";
@@ -138,6 +162,34 @@ public class DynamoPluginTest {
                 ))
                 .build());
 
+        /*
+         * - DynamoDB returns at most 1 MB of items in a page of a Scan, so the items of this table are read in more
+         *   than one page.
+         */
+        ddb.createTable(CreateTableRequest.builder()
+                .tableName("pagedItems")
+                .attributeDefinitions(
+                        AttributeDefinition.builder().attributeName("Id").attributeType(ScalarAttributeType.S).build()
+                )
+                .keySchema(
+                        KeySchemaElement.builder().attributeName("Id").keyType(KeyType.HASH).build()
+                )
+                .provisionedThroughput(
+                        ProvisionedThroughput.builder().readCapacityUnits(5L).writeCapacityUnits(5L).build()
+                )
+                .build());
+
+        final String largeValue = "x".repeat(PAGED_ITEM_SIZE);
+        for (int i = 0; i < PAGED_ITEM_COUNT; i++) {
+            ddb.putItem(PutItemRequest.builder()
+                    .tableName("pagedItems")
+                    .item(Map.of(
+                            "Id", AttributeValue.builder().s(String.valueOf(i)).build(),
+                            "Value", AttributeValue.builder().s(largeValue).build()
+                    ))
+                    .build());
+        }
+
         Endpoint endpoint = new Endpoint();
         endpoint.setHost(host);
         endpoint.setPort(port.longValue());
@@ -328,6 +380,85 @@ public class DynamoPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testScan_withLimit_returnsSinglePage() {
+        final String body = "{\n" +
+                "  \"TableName\": \"cities\",\n" +
+                "  \"Limit\": 1\n" +
+                "}\n";
+
+        StepVerifier.create(execute("Scan", body))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    final Map<String, Object> response = (Map<String, Object>) result.getBody();
+                    assertEquals(1, ((List<?>) response.get("Items")).size());
+                    assertFalse(((Map<?, ?>) response.get("LastEvaluatedKey")).isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testScan_withoutLimit_readsAllPages() {
+        final String body = "{\n" +
+                "  \"TableName\": \"pagedItems\"\n" +
+                "}\n";
+
+        StepVerifier.create(execute("Scan", body))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    final Map<String, Object> response = (Map<String, Object>) result.getBody();
+                    assertEquals(PAGED_ITEM_COUNT, ((List<?>) response.get("Items")).size());
+                    assertEquals(PAGED_ITEM_COUNT, response.get("Count"));
+                    final Map<?, ?> lastEvaluatedKey = (Map<?, ?>) response.get("LastEvaluatedKey");
+                    assertTrue(lastEvaluatedKey == null || lastEvaluatedKey.isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testScan_whenItemsExceedMaxResponseSize_returnsPagesReadSoFar() {
+        final DynamoPlugin.DynamoPluginExecutor smallResponseExecutor = new DynamoPlugin.DynamoPluginExecutor(
+                new MockSharedConfig() {
+                    @Override
+                    public int getMaxResponseSize() {
+                        return PAGED_ITEM_SIZE * PAGED_ITEM_COUNT / 2;
+                    }
+                });
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody("{\"TableName\": \"pagedItems\"}");
+
+        Mono<ActionExecutionResult> resultMono = smallResponseExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> smallResponseExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    final Map<String, Object> response = (Map<String, Object>) result.getBody();
+                    final int itemCount = ((List<?>) response.get("Items")).size();
+                    assertTrue(itemCount > 0 && itemCount < PAGED_ITEM_COUNT);
+                    assertEquals(itemCount, response.get("Count"));
+                    assertFalse(((Map<?, ?>) response.get("LastEvaluatedKey")).isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testUnknownAction_returnsError() {
+        StepVerifier.create(execute("GetItems", "{}"))
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals("Unknown action: `GetItems`. Note that action names are case-sensitive.",
+                            result.getBody());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testBatchGetItem() {
         final String body = "{\n" +
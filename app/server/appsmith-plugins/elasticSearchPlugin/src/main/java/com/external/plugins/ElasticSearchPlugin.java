@@ -9,6 +9,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
@@ -24,8 +25,10 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.client.Cancellable;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.pf4j.Extension;
@@ -37,6 +40,7 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -68,6 +72,15 @@ public class ElasticSearchPlugin extends BasePlugin {
 
         private static final String UNAUTHORIZED_ERROR_MESSAGE = "Your username or password is not correct";
 
+        private static final String MAX_CONN_TOTAL = "maxConnTotal";
+
+        private static final String MAX_CONN_PER_ROUTE = "maxConnPerRoute";
+
+        // The same pool sizes that the rest client uses when they aren't configured
+        private static final int DEFAULT_MAX_CONN_TOTAL = RestClientBuilder.DEFAULT_MAX_CONN_TOTAL;
+
+        private static final int DEFAULT_MAX_CONN_PER_ROUTE = RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE;
+
         private static final Pattern patternForUnauthorized = Pattern.compile(
                 ".*unauthorized.*",
                 Pattern.CASE_INSENSITIVE
@@ -88,9 +101,7 @@ public class ElasticSearchPlugin extends BasePlugin {
             String query = actionConfiguration.getBody();
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
-            return Mono.fromCallable(() -> {
-                        final ActionExecutionResult result = new ActionExecutionResult();
-
+            return Mono.defer(() -> {
                         String body = query;
 
                         final String path = actionConfiguration.getPath();
@@ -130,22 +141,30 @@ public class ElasticSearchPlugin extends BasePlugin {
                             request.setEntity(new NStringEntity(body, contentType));
                         }
 
-                        try {
-                            final String responseBody = new String(
-                                    client.performRequest(request).getEntity().getContent().readAllBytes());
-                            result.setBody(objectMapper.readValue(responseBody, HashMap.class));
+                        return performRequest(client, request);
+                    })
+                    // The response arrives on the I/O reactor thread of the client, which mustn't be held up parsing it
+                    .publishOn(scheduler)
+                    .flatMap(response -> {
+                        final ActionExecutionResult result = new ActionExecutionResult();
+
+                        // The response is parsed straight from the content of the entity, which the client has
+                        // already buffered whole, without copying it into a string first
+                        try (InputStream content = response.getEntity().getContent()) {
+                            result.setBody(objectMapper.readValue(content, HashMap.class));
                         } catch (IOException e) {
-                            final String message = "Error performing request: " + e.getMessage();
-                            log.warn(message, e);
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message));
+                            return Mono.error(e);
                         }
 
                         result.setIsExecutionSuccess(true);
                         log.debug("In the Elastic Search Plugin, got action execution result");
                         return Mono.just(result);
                     })
-                    .flatMap(obj -> obj)
-                    .map(obj -> (ActionExecutionResult) obj)
+                    .onErrorMap(IOException.class, e -> {
+                        final String message = "Error performing request: " + e.getMessage();
+                        log.warn(message, e);
+                        return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
+                    })
                     .onErrorResume(error -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(false);
@@ -160,8 +179,28 @@ public class ElasticSearchPlugin extends BasePlugin {
                         request.setRequestParams(requestParams);
                         result.setRequest(request);
                         return result;
-                    })
-                    .subscribeOn(scheduler);
+                    });
+        }
+
+        /**
+         * Sends the request without blocking, with the I/O reactor of the client. The request is aborted if the
+         * subscription is cancelled before the response arrives.
+         */
+        private static Mono<Response> performRequest(RestClient client, Request request) {
+            return Mono.create(sink -> {
+                final Cancellable cancellable = client.performRequestAsync(request, new ResponseListener() {
+                    @Override
+                    public void onSuccess(Response response) {
+                        sink.success(response);
+                    }
+
+                    @Override
+                    public void onFailure(Exception exception) {
+                        sink.error(exception);
+                    }
+                });
+                sink.onCancel(cancellable::cancel);
+            });
         }
 
         private static boolean isBulkQuery(String path) {
@@ -198,25 +237,39 @@ public class ElasticSearchPlugin extends BasePlugin {
                 hosts.add(new HttpHost(url.getHost(), getPort(endpoint).intValue(), scheme));
             }
 
+            final int maxConnTotal = getPoolSize(datasourceConfiguration, MAX_CONN_TOTAL, DEFAULT_MAX_CONN_TOTAL);
+            final int maxConnPerRoute = getPoolSize(datasourceConfiguration, MAX_CONN_PER_ROUTE,
+                    DEFAULT_MAX_CONN_PER_ROUTE);
+
             final RestClientBuilder clientBuilder = RestClient.builder(hosts.toArray(new HttpHost[]{}));
 
+            final CredentialsProvider credentialsProvider;
             final DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
             if (authentication != null
                     && !StringUtils.isEmpty(authentication.getUsername())
                     && !StringUtils.isEmpty(authentication.getPassword())) {
-                final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+                credentialsProvider = new BasicCredentialsProvider();
                 credentialsProvider.setCredentials(
                         AuthScope.ANY,
                         new UsernamePasswordCredentials(authentication.getUsername(), authentication.getPassword())
                 );
-
-                clientBuilder
-                        .setHttpClientConfigCallback(
-                                httpClientBuilder -> httpClientBuilder
-                                        .setDefaultCredentialsProvider(credentialsProvider)
-                        );
+            } else {
+                credentialsProvider = null;
             }
 
+            clientBuilder
+                    .setHttpClientConfigCallback(httpClientBuilder -> {
+                        if (credentialsProvider != null) {
+                            httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+                        }
+
+                        // Requests are sent without blocking, so the pool bounds how many of them can be in flight
+                        // to the cluster at once
+                        return httpClientBuilder
+                                .setMaxConnTotal(maxConnTotal)
+                                .setMaxConnPerRoute(maxConnPerRoute);
+                    });
+
             if (!CollectionUtils.isEmpty(datasourceConfiguration.getHeaders())) {
                 clientBuilder.setDefaultHeaders(
                         (Header[]) datasourceConfiguration.getHeaders()
@@ -262,56 +315,97 @@ public class ElasticSearchPlugin extends BasePlugin {
 
             }
 
+            for (String key : List.of(MAX_CONN_TOTAL, MAX_CONN_PER_ROUTE)) {
+                final Object value = getPropertyValue(datasourceConfiguration, key);
+                if (value != null && parsePoolSize(value) == null) {
+                    invalids.add("Invalid value for " + key + ". It should be a positive number.");
+                }
+            }
+
             return invalids;
         }
 
+        /**
+         * Reads the size of the connection pool of the client from the datasource properties, falling back to the
+         * defaults of the rest client when the property isn't set.
+         */
+        private static int getPoolSize(DatasourceConfiguration datasourceConfiguration, String key, int defaultValue) {
+            final Integer poolSize = parsePoolSize(getPropertyValue(datasourceConfiguration, key));
+            return poolSize == null ? defaultValue : poolSize;
+        }
+
+        private static Object getPropertyValue(DatasourceConfiguration datasourceConfiguration, String key) {
+            if (CollectionUtils.isEmpty(datasourceConfiguration.getProperties())) {
+                return null;
+            }
+
+            return datasourceConfiguration.getProperties()
+                    .stream()
+                    .filter(property -> property != null && key.equals(property.getKey()))
+                    .map(Property::getValue)
+                    .filter(value -> value != null && StringUtils.isNotBlank(String.valueOf(value)))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        private static Integer parsePoolSize(Object value) {
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                final int poolSize = Integer.parseInt(String.valueOf(value).trim());
+                return poolSize > 0 ? poolSize : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
         @Override
         public Mono<DatasourceTestResult> testDatasource(RestClient connection) {
-            return Mono.fromCallable(() -> {
-                if (connection == null) {
-                    return new DatasourceTestResult("Null client object to ElasticSearch.");
-                }
-                // This HEAD request is to check if the base of datasource exists. It responds with 200 if the index exists,
-                // 404 if it doesn't. We just check for either of these two.
-                // Ref: https://www.elastic.co/guide/en/elasticsearch/reference/current/indices-exists.html
-                Request request = new Request("HEAD", "/");
+            if (connection == null) {
+                return Mono.just(new DatasourceTestResult("Null client object to ElasticSearch."));
+            }
 
-                final Response response;
-                try {
-                    response = connection.performRequest(request);
-                } catch (IOException e) {
-                    final String message = e.getMessage();
+            // This HEAD request is to check if the base of datasource exists. It responds with 200 if the index exists,
+            // 404 if it doesn't. We just check for either of these two.
+            // Ref: https://www.elastic.co/guide/en/elasticsearch/reference/current/indices-exists.html
+            Request request = new Request("HEAD", "/");
 
-                    /* since the 401, and 403 are registered as IOException, but for the given connection it
-                     * in the current rest-client. We will figure out with matching patterns with regexes.
-                     */
+            return performRequest(connection, request)
+                    .map(response -> {
+                        final StatusLine statusLine = response.getStatusLine();
 
-                    if (patternForUnauthorized.matcher(message).find()) {
-                        return new DatasourceTestResult(UNAUTHORIZED_ERROR_MESSAGE);
-                    }
+                        // earlier it was 404 and 200, now it has been changed to just expect 200 status code
+                        // here it checks if it is anything else than 200, even 404 is not allowed!
+                        if (statusLine.getStatusCode() == 404) {
+                            return new DatasourceTestResult(NOT_FOUND_ERROR_MESSAGE);
+                        }
 
-                    if (patternForNotFound.matcher(message).find()) {
-                        return new DatasourceTestResult(NOT_FOUND_ERROR_MESSAGE);
-                    }
+                        if (statusLine.getStatusCode() != 200) {
+                            return new DatasourceTestResult(
+                                    "Unexpected response from ElasticSearch: " + statusLine);
+                        }
 
-                    return new DatasourceTestResult("Error running HEAD request: " + message);
-                }
+                        return new DatasourceTestResult();
+                    })
+                    .onErrorResume(IOException.class, e -> {
+                        final String message = e.getMessage();
 
-                final StatusLine statusLine = response.getStatusLine();
+                        /* since the 401, and 403 are registered as IOException, but for the given connection it
+                         * in the current rest-client. We will figure out with matching patterns with regexes.
+                         */
 
-                // earlier it was 404 and 200, now it has been changed to just expect 200 status code
-                // here it checks if it is anything else than 200, even 404 is not allowed!
-                if (statusLine.getStatusCode() == 404) {
-                    return new DatasourceTestResult(NOT_FOUND_ERROR_MESSAGE);
-                }
+                        if (patternForUnauthorized.matcher(message).find()) {
+                            return Mono.just(new DatasourceTestResult(UNAUTHORIZED_ERROR_MESSAGE));
+                        }
 
-                if (statusLine.getStatusCode() != 200) {
-                    return new DatasourceTestResult(
-                            "Unexpected response from ElasticSearch: " + statusLine);
-                }
+                        if (patternForNotFound.matcher(message).find()) {
+                            return Mono.just(new DatasourceTestResult(NOT_FOUND_ERROR_MESSAGE));
+                        }
 
-                return new DatasourceTestResult();
-            });
+                        return Mono.just(new DatasourceTestResult("Error running HEAD request: " + message));
+                    });
         }
     }
 }
@@ -6,6 +6,7 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import lombok.extern.slf4j.Slf4j;
 import mockwebserver3.MockResponse;
@@ -325,6 +326,23 @@ public class ElasticSearchPluginTest {
         );
     }
 
+    @Test
+    public void itShouldValidateDatasourceWithInvalidPoolSize() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setAuthentication(elasticInstanceCredentials);
+        Endpoint endpoint = new Endpoint();
+        endpoint.setHost(host);
+        endpoint.setPort(Long.valueOf(port));
+        datasourceConfiguration.setEndpoints(Collections.singletonList(endpoint));
+        datasourceConfiguration.setProperties(List.of(
+                new Property("maxConnTotal", "50"),
+                new Property("maxConnPerRoute", "-1")
+        ));
+
+        assertEquals(Set.of("Invalid value for maxConnPerRoute. It should be a positive number."),
+                pluginExecutor.validateDatasource(datasourceConfiguration));
+    }
+
     @Test
     public void itShouldTestDatasourceWithInvalidEndpoint() {
         DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
@@ -12,6 +12,7 @@ import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.PluginUtils;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -29,38 +30,26 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
-import com.mongodb.DBRefCodecProvider;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
-import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
-import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
-import org.bson.codecs.BsonTypeClassMap;
-import org.bson.codecs.BsonValueCodecProvider;
-import org.bson.codecs.DocumentCodec;
-import org.bson.codecs.DocumentCodecProvider;
-import org.bson.codecs.IterableCodecProvider;
-import org.bson.codecs.MapCodecProvider;
-import org.bson.codecs.ValueCodecProvider;
-import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -71,14 +60,9 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
-import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -101,6 +85,7 @@ import static com.appsmith.external.helpers.PluginUtils.setValueSafelyInFormData
 import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresentInFormData;
 import static com.external.plugins.constants.FieldName.AGGREGATE_PIPELINES;
 import static com.external.plugins.constants.FieldName.BODY;
+import static com.external.plugins.constants.FieldName.COLLECTION;
 import static com.external.plugins.constants.FieldName.COUNT_QUERY;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
@@ -114,6 +99,8 @@ import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.FieldName.SUCCESS;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
 import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
+import static com.external.plugins.utils.BsonToJsonNodeConverter.toJsonNode;
+import static com.external.plugins.utils.BsonToJsonNodeConverter.toNumberNode;
 import static com.external.plugins.utils.DatasourceUtils.KEY_PASSWORD;
 import static com.external.plugins.utils.DatasourceUtils.KEY_URI_DEFAULT_DBNAME;
 import static com.external.plugins.utils.DatasourceUtils.KEY_USERNAME;
@@ -126,6 +113,7 @@ import static com.external.plugins.utils.DatasourceUtils.isHostStringConnectionU
 import static com.external.plugins.utils.DatasourceUtils.isUsingURI;
 import static com.external.plugins.utils.MongoPluginUtils.convertMongoFormInputToRawCommand;
 import static com.external.plugins.utils.MongoPluginUtils.generateTemplatesAndStructureForACollection;
+import static com.external.plugins.utils.MongoPluginUtils.getCursorLimit;
 import static com.external.plugins.utils.MongoPluginUtils.getDatabaseName;
 import static com.external.plugins.utils.MongoPluginUtils.getRawQuery;
 import static com.external.plugins.utils.MongoPluginUtils.isRawCommand;
@@ -151,6 +139,22 @@ public class MongoPlugin extends BasePlugin {
 
     private static final String VALUES = "values";
 
+    private static final String OK = "ok";
+
+    private static final String N = "n";
+
+    private static final String CURSOR = "cursor";
+
+    private static final String CURSOR_ID = "id";
+
+    private static final String CURSOR_NAMESPACE = "ns";
+
+    private static final String FIRST_BATCH = "firstBatch";
+
+    private static final String NEXT_BATCH = "nextBatch";
+
+    private static int MAX_SIZE_SUPPORTED;
+
     private static final int TEST_DATASOURCE_TIMEOUT_SECONDS = 15;
 
     /*
@@ -204,19 +208,6 @@ public class MongoPlugin extends BasePlugin {
 
     private static final MongoErrorUtils mongoErrorUtils = MongoErrorUtils.getInstance();
 
-    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
-            new ValueCodecProvider(),
-            new IterableCodecProvider(),
-            new BsonValueCodecProvider(),
-            new DocumentCodecProvider(),
-            new MapCodecProvider(),
-            new DBRefCodecProvider(),
-            new GeoJsonCodecProvider(),
-            new GridFSFileCodecProvider()
-    ));
-
-    private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
-
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -227,6 +218,13 @@ public class MongoPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public MongoPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * also update the datasource and action configuration for pagination and some minor cleanup of the configuration before execution
@@ -325,8 +323,14 @@ public class MongoPlugin extends BasePlugin {
             String query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
             Bson command = Document.parse(query);
 
+            final int cursorLimit;
+            try {
+                cursorLimit = getCursorLimit(formData);
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
+            }
+
             Mono<Document> mongoOutputMono = Mono.from(database.runCommand(command));
-            ActionExecutionResult result = new ActionExecutionResult();
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null
                     , null, null));
 
@@ -361,106 +365,17 @@ public class MongoPlugin extends BasePlugin {
                             MongoSocketWriteException.class,
                             error -> new StaleConnectionException()
                     )
-                    .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec = new DocumentCodec(
-                                    DEFAULT_REGISTRY,
-                                    DEFAULT_BSON_TYPE_CLASS_MAP
-                            );
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            //The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)
-                                ));
-
-                                /*
-                                  For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                  we either get the modified new value or the pre-modified old value (depending on the
-                                  `new` field in the command. Let's return that value to the user.
-                                 */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE))).toString()
-                                    ));
-                                }
-
-                                /*
-                                  The json contains key "cursor" when find command was issued and there are 1 or more
-                                  results. In case there are no results for find, this key is not present in the result json.
-                                 */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                }
-
-                                /*
-                                  The json contains key "n" when insert/update command is issued. "n" for update
-                                  signifies the no of documents selected for update. "n" in case of insert signifies the
-                                  number of documents inserted.
-                                 */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
-
-                                /*
-                                  The json key contains key "nModified" in case of update command. This signifies the no of
-                                  documents updated.
-                                 */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body = new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
-
-                                /*
-                                  The json contains key "values" when distinct command is used.
-                                 */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONArray(VALUES));
-
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
-
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    resultNode
-                                            .putArray(VALUES)
-                                            .addAll((ArrayNode) objectMapper.readTree(outputResult.toString()));
-
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
+                    .flatMap(mongoOutput -> readCursor(database, mongoOutput, cursorLimit)
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty())
+                            .flatMap(cursorDocuments -> {
+                                try {
+                                    return Mono.just(getResult(mongoOutput, cursorDocuments.orElse(null)));
+                                } catch (Exception e) {
+                                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
                                 }
-
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
-                            }
-
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                        } catch (Exception e) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
-                        }
-
-                        return Mono.just(result);
-                    })
+                            })
+                    )
                     .onErrorResume(error -> {
                         if (error instanceof StaleConnectionException) {
                             log.debug("The mongo connection seems to have been invalidated or doesn't exist anymore");
@@ -487,6 +402,196 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Reads the documents of the cursor returned by a command, if there is one. Only the first batch is read unless
+         * a cursor limit is configured, in which case the cursor is followed with getMore until that many documents
+         * are read or the cursor is exhausted. The documents are converted straight from BSON to JSON nodes and the
+         * size of the result is checked as every document is read, with or without a cursor limit, so that a large
+         * result fails early instead of being read completely first.
+         *
+         * @return the documents of the cursor, or an empty Mono if the command didn't return a cursor.
+         */
+        private Mono<ArrayNode> readCursor(MongoDatabase database, Document mongoOutput, int cursorLimit) {
+            if (!(mongoOutput.get(CURSOR) instanceof Document)) {
+                return Mono.empty();
+            }
+
+            final Document cursor = mongoOutput.get(CURSOR, Document.class);
+            final ArrayNode documents = objectMapper.createArrayNode();
+            final String collectionName = getCollectionName(cursor.getString(CURSOR_NAMESPACE));
+            final ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(MAX_SIZE_SUPPORTED);
+            return readBatch(database, collectionName, cursor, FIRST_BATCH, cursorLimit, documents, resultSizeEstimator);
+        }
+
+        private Mono<ArrayNode> readBatch(MongoDatabase database,
+                                          String collectionName,
+                                          Document cursor,
+                                          String batchKey,
+                                          int cursorLimit,
+                                          ArrayNode documents,
+                                          ResultSizeEstimator resultSizeEstimator) {
+
+            final long cursorId = cursor.get(CURSOR_ID, Number.class).longValue();
+
+            for (Object document : cursor.getList(batchKey, Object.class, List.of())) {
+                if (cursorLimit > 0 && documents.size() >= cursorLimit) {
+                    break;
+                }
+
+                final JsonNode documentNode = toJsonNode(document);
+                if (resultSizeEstimator.addValue(documentNode) > MAX_SIZE_SUPPORTED) {
+                    log.debug("Result size of the mongo cursor exceeded the maximum supported size of {} bytes",
+                            MAX_SIZE_SUPPORTED);
+                    return killCursor(database, collectionName, cursorId)
+                            .then(Mono.error(new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED,
+                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))
+                            )));
+                }
+                documents.add(documentNode);
+            }
+
+            if (cursorId == 0) {
+                // The server has closed the cursor, all documents have been read
+                return Mono.just(documents);
+            }
+
+            if (cursorLimit == 0) {
+                // Without a cursor limit, only the first batch is returned, as before
+                return Mono.just(documents);
+            }
+
+            if (documents.size() >= cursorLimit) {
+                return killCursor(database, collectionName, cursorId).thenReturn(documents);
+            }
+
+            final Document getMoreCommand = new Document("getMore", cursorId)
+                    .append(COLLECTION, collectionName)
+                    .append("batchSize", cursorLimit - documents.size());
+
+            return Mono.from(database.runCommand(getMoreCommand))
+                    // The cursor stays open on the server if getMore fails, until it times out
+                    .onErrorResume(error -> killCursor(database, collectionName, cursorId).then(Mono.error(error)))
+                    .flatMap(getMoreOutput -> readBatch(
+                            database,
+                            collectionName,
+                            getMoreOutput.get(CURSOR, Document.class),
+                            NEXT_BATCH,
+                            cursorLimit,
+                            documents,
+                            resultSizeEstimator
+                    ));
+        }
+
+        /**
+         * Closes a cursor that won't be read any further, instead of leaving it open on the server until it times out.
+         */
+        private Mono<Void> killCursor(MongoDatabase database, String collectionName, long cursorId) {
+            if (cursorId == 0) {
+                return Mono.empty();
+            }
+
+            final Document killCursorsCommand = new Document("killCursors", collectionName)
+                    .append("cursors", List.of(cursorId));
+
+            return Mono.from(database.runCommand(killCursorsCommand))
+                    .onErrorResume(error -> {
+                        log.debug("Error closing mongo cursor {}", cursorId, error);
+                        return Mono.empty();
+                    })
+                    .then();
+        }
+
+        /**
+         * The namespace of a cursor is the database name and the collection name separated by the first dot.
+         */
+        private String getCollectionName(String namespace) {
+            return namespace.substring(namespace.indexOf('.') + 1);
+        }
+
+        private ActionExecutionResult getResult(Document mongoOutput, ArrayNode cursorDocuments) {
+            final ActionExecutionResult result = new ActionExecutionResult();
+
+            //The output contains the key "ok". This is the status of the command
+            final BigInteger status = BigInteger.valueOf(((Number) mongoOutput.get(OK)).longValue());
+            final ArrayNode headerArray = objectMapper.createArrayNode();
+
+            if (BigInteger.ONE.equals(status)) {
+                result.setIsExecutionSuccess(true);
+                result.setDataTypes(List.of(
+                        new ParsedDataType(DisplayDataType.JSON),
+                        new ParsedDataType(DisplayDataType.RAW)
+                ));
+
+                /*
+                  For the `findAndModify` command, we don't get the count of modifications made. Instead,
+                  we either get the modified new value or the pre-modified old value (depending on the
+                  `new` field in the command. Let's return that value to the user.
+                 */
+                if (mongoOutput.containsKey(VALUE)) {
+                    ObjectNode body = objectMapper.createObjectNode();
+                    body.set(VALUE, toJsonNode(mongoOutput.get(VALUE)));
+                    result.setBody(body);
+                }
+
+                /*
+                  The output contains key "cursor" when find command was issued and there are 1 or more
+                  results. In case there are no results for find, this key is not present in the output.
+                 */
+                if (cursorDocuments != null) {
+                    result.setBody(cursorDocuments);
+                }
+
+                /*
+                  The output contains key "n" when insert/update command is issued. "n" for update
+                  signifies the no of documents selected for update. "n" in case of insert signifies the
+                  number of documents inserted.
+                 */
+                if (mongoOutput.containsKey(N)) {
+                    ObjectNode body = objectMapper.createObjectNode();
+                    body.set(N, toNumberNode(((Number) mongoOutput.get(N)).longValue()));
+                    result.setBody(body);
+                    headerArray.add(body);
+                }
+
+                /*
+                  The output contains key "nModified" in case of update command. This signifies the no of
+                  documents updated.
+                 */
+                if (mongoOutput.containsKey(N_MODIFIED)) {
+                    ObjectNode body = objectMapper.createObjectNode();
+                    body.set(N_MODIFIED, toNumberNode(((Number) mongoOutput.get(N_MODIFIED)).longValue()));
+                    result.setBody(body);
+                    headerArray.add(body);
+                }
+
+                /*
+                  The output contains key "values" when distinct command is used.
+                 */
+                if (mongoOutput.containsKey(VALUES)) {
+                    ObjectNode resultNode = objectMapper.createObjectNode();
+
+                    // Create a JSON structure with the results stored with a key to abide by the
+                    // Server-Client contract of only sending array of objects in result.
+                    resultNode.set(VALUES, toJsonNode(mongoOutput.get(VALUES)));
+
+                    result.setBody(resultNode);
+                }
+
+                /*
+                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+                 that are important to the headerArray.
+                 */
+            }
+
+            ObjectNode statusJson = objectMapper.createObjectNode();
+            statusJson.set(OK, toNumberNode(status.longValue()));
+            headerArray.add(statusJson);
+            result.setHeaders(headerArray);
+
+            return result;
+        }
+
         /**
          * This method is part of the pre-processing of the replacement value before the final substitution that
          * happens as part of smart substitution process.
@@ -1015,58 +1120,4 @@ public class MongoPlugin extends BasePlugin {
         }
     }
 
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null && dateJSON.keySet().size() == 1 &&
-                        "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(
-                            Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(
-                        Instant.parse(jsonObject.getString("$date"))
-                );
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-
-        }
-
-        return object;
-    }
-
 }
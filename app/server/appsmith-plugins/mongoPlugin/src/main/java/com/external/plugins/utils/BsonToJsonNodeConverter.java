@@ -0,0 +1,202 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mongodb.DBRef;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonUndefined;
+import org.bson.types.BSONTimestamp;
+import org.bson.types.Binary;
+import org.bson.types.Code;
+import org.bson.types.Decimal128;
+import org.bson.types.MaxKey;
+import org.bson.types.MinKey;
+import org.bson.types.ObjectId;
+import org.bson.types.Symbol;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Converts the values of a decoded BSON document straight into Jackson nodes, without writing the document out as
+ * extended JSON and parsing it back.
+ * <p>
+ * The values are converted the same way the relaxed extended JSON of the document used to be cleaned up before being
+ * sent to the client: object ids become their hex string, dates become ISO instants, and 64-bit integers and decimals
+ * become plain numbers. Types that have no plain JSON counterpart, like timestamps or binary data, keep the shape of
+ * their relaxed extended JSON representation.
+ */
+public class BsonToJsonNodeConverter {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    private static final String UUID_SUBTYPE = "04";
+
+    public static JsonNode toJsonNode(Object value) {
+        if (value == null) {
+            return nodeFactory.nullNode();
+        }
+
+        if (value instanceof Map) {
+            final ObjectNode objectNode = nodeFactory.objectNode();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                objectNode.set(String.valueOf(entry.getKey()), toJsonNode(entry.getValue()));
+            }
+            return objectNode;
+        }
+
+        if (value instanceof Iterable) {
+            final ArrayNode arrayNode = nodeFactory.arrayNode();
+            for (Object item : (Iterable<?>) value) {
+                arrayNode.add(toJsonNode(item));
+            }
+            return arrayNode;
+        }
+
+        if (value instanceof String) {
+            return nodeFactory.textNode((String) value);
+        }
+
+        if (value instanceof Boolean) {
+            return nodeFactory.booleanNode((Boolean) value);
+        }
+
+        if (value instanceof Integer) {
+            return nodeFactory.numberNode((Integer) value);
+        }
+
+        if (value instanceof Long) {
+            return toNumberNode((Long) value);
+        }
+
+        if (value instanceof Double) {
+            final double doubleValue = (Double) value;
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                return wrap("$numberDouble", nodeFactory.textNode(String.valueOf(doubleValue)));
+            }
+            return nodeFactory.numberNode(doubleValue);
+        }
+
+        if (value instanceof ObjectId) {
+            return nodeFactory.textNode(((ObjectId) value).toHexString());
+        }
+
+        if (value instanceof Date) {
+            return nodeFactory.textNode(DateTimeFormatter.ISO_INSTANT.format(((Date) value).toInstant()));
+        }
+
+        if (value instanceof Decimal128) {
+            final Decimal128 decimal = (Decimal128) value;
+            if (decimal.isNaN() || decimal.isInfinite()) {
+                return wrap("$numberDecimal", nodeFactory.textNode(decimal.toString()));
+            }
+            return nodeFactory.numberNode(decimal.bigDecimalValue());
+        }
+
+        if (value instanceof BigDecimal) {
+            return nodeFactory.numberNode((BigDecimal) value);
+        }
+
+        if (value instanceof BigInteger) {
+            return nodeFactory.numberNode((BigInteger) value);
+        }
+
+        if (value instanceof DBRef) {
+            final DBRef dbRef = (DBRef) value;
+            final ObjectNode objectNode = nodeFactory.objectNode();
+            objectNode.put("$ref", dbRef.getCollectionName());
+            objectNode.set("$id", toJsonNode(dbRef.getId()));
+            if (dbRef.getDatabaseName() != null) {
+                objectNode.put("$db", dbRef.getDatabaseName());
+            }
+            return objectNode;
+        }
+
+        if (value instanceof BSONTimestamp) {
+            final BSONTimestamp timestamp = (BSONTimestamp) value;
+            final ObjectNode objectNode = nodeFactory.objectNode();
+            objectNode.put("t", timestamp.getTime());
+            objectNode.put("i", timestamp.getInc());
+            return wrap("$timestamp", objectNode);
+        }
+
+        if (value instanceof Binary) {
+            final Binary binary = (Binary) value;
+            return binary(binary.getData(), String.format("%02x", binary.getType()));
+        }
+
+        if (value instanceof UUID) {
+            final UUID uuid = (UUID) value;
+            final byte[] data = ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+            return binary(data, UUID_SUBTYPE);
+        }
+
+        if (value instanceof BsonRegularExpression) {
+            final BsonRegularExpression regularExpression = (BsonRegularExpression) value;
+            final ObjectNode objectNode = nodeFactory.objectNode();
+            objectNode.put("pattern", regularExpression.getPattern());
+            objectNode.put("options", regularExpression.getOptions());
+            return wrap("$regularExpression", objectNode);
+        }
+
+        if (value instanceof Symbol) {
+            return wrap("$symbol", nodeFactory.textNode(((Symbol) value).getSymbol()));
+        }
+
+        if (value instanceof Code) {
+            return wrap("$code", nodeFactory.textNode(((Code) value).getCode()));
+        }
+
+        if (value instanceof MinKey) {
+            return wrap("$minKey", nodeFactory.numberNode(1));
+        }
+
+        if (value instanceof MaxKey) {
+            return wrap("$maxKey", nodeFactory.numberNode(1));
+        }
+
+        if (value instanceof BsonUndefined) {
+            return wrap("$undefined", nodeFactory.booleanNode(true));
+        }
+
+        if (value instanceof Number) {
+            return nodeFactory.numberNode(new BigDecimal(value.toString()));
+        }
+
+        return nodeFactory.textNode(String.valueOf(value));
+    }
+
+    /**
+     * Uses the narrowest node for an integral value, the same node that parsing the value from JSON text would give.
+     */
+    public static JsonNode toNumberNode(long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return nodeFactory.numberNode((int) value);
+        }
+        return nodeFactory.numberNode(value);
+    }
+
+    private static ObjectNode binary(byte[] data, String subType) {
+        final ObjectNode objectNode = nodeFactory.objectNode();
+        objectNode.put("base64", Base64.getEncoder().encodeToString(data));
+        objectNode.put("subType", subType);
+        return wrap("$binary", objectNode);
+    }
+
+    private static ObjectNode wrap(String key, JsonNode value) {
+        final ObjectNode objectNode = nodeFactory.objectNode();
+        objectNode.set(key, value);
+        return objectNode;
+    }
+}
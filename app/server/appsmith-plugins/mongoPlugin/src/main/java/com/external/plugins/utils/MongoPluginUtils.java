@@ -37,10 +37,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static com.appsmith.external.helpers.PluginUtils.OBJECT_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFormData;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.COMMAND;
+import static com.external.plugins.constants.FieldName.CURSOR_LIMIT;
 import static com.external.plugins.constants.FieldName.RAW;
 
 public class MongoPluginUtils {
@@ -76,6 +78,34 @@ public class MongoPluginUtils {
         return RAW.equals(command);
     }
 
+    /**
+     * Returns the number of documents to read by following the cursor of a raw command with getMore, or zero if only
+     * the first batch of the cursor should be read. The limit is only configurable for raw commands.
+     */
+    public static int getCursorLimit(Map<String, Object> formData) {
+        if (formData == null || !isRawCommand(formData)) {
+            return 0;
+        }
+
+        final Object cursorLimit = getDataValueSafelyFromFormData(formData, CURSOR_LIMIT, OBJECT_TYPE);
+        if (cursorLimit == null || !StringUtils.hasText(String.valueOf(cursorLimit))) {
+            return 0;
+        }
+
+        try {
+            final int limit = cursorLimit instanceof Number
+                    ? ((Number) cursorLimit).intValue()
+                    : Integer.parseInt(String.valueOf(cursorLimit).trim());
+            if (limit < 0) {
+                throw new NumberFormatException();
+            }
+            return limit;
+        } catch (NumberFormatException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Document limit must be a non-negative number, found: " + cursorLimit);
+        }
+    }
+
     public static String convertMongoFormInputToRawCommand(ActionConfiguration actionConfiguration) {
         Map<String, Object> formData = actionConfiguration.getFormData();
         if (formData != null && !formData.isEmpty()) {
@@ -0,0 +1,44 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.bson.types.BSONTimestamp;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BsonToJsonNodeConverterTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testToJsonNode_withSpecialTypes_matchesCleanedUpJson() throws Exception {
+        final Document document = new Document("_id", new ObjectId("5f5a4a6e1c9d440000a1b2c3"))
+                .append("dob", new Date(-493033770000L))
+                .append("luckyNumber", 987654321L)
+                .append("aLong", 9_000_000_000_000_000_000L)
+                .append("netWorth", Decimal128.parse("123456.789012"))
+                .append("ts", new BSONTimestamp(1421006159, 4))
+                .append("tags", List.of("a", new Document("b", Double.NaN)));
+
+        final JsonNode expected = objectMapper.readTree("{" +
+                "\"_id\": \"5f5a4a6e1c9d440000a1b2c3\"," +
+                "\"dob\": \"1954-05-18T14:10:30Z\"," +
+                "\"luckyNumber\": 987654321," +
+                "\"aLong\": 9000000000000000000," +
+                "\"netWorth\": 123456.789012," +
+                "\"ts\": {\"$timestamp\": {\"t\": 1421006159, \"i\": 4}}," +
+                "\"tags\": [\"a\", {\"b\": {\"$numberDouble\": \"NaN\"}}]" +
+                "}");
+
+        final JsonNode actual = BsonToJsonNodeConverter.toJsonNode(document);
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+}
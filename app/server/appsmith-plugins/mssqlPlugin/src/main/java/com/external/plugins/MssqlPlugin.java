@@ -8,6 +8,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -22,6 +23,7 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
@@ -89,6 +91,8 @@ public class MssqlPlugin extends BasePlugin {
 
     private static final long MS_SQL_DEFAULT_PORT = 1433L;
 
+    private static int MAX_SIZE_SUPPORTED;
+
     public MssqlPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -103,6 +107,13 @@ public class MssqlPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private final SharedConfig sharedConfig;
+
+        public MssqlPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -262,6 +273,7 @@ public class MssqlPlugin extends BasePlugin {
                                 int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                                ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(MAX_SIZE_SUPPORTED);
                                 while (resultSet.next()) {
                                     // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
                                     Map<String, Object> row = new LinkedHashMap<>(colCount);
@@ -304,6 +316,12 @@ public class MssqlPlugin extends BasePlugin {
                                     }
 
                                     rowsList.add(row);
+
+                                    if (resultSizeEstimator.addRow(row) > MAX_SIZE_SUPPORTED) {
+                                        log.debug("[MssqlPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                MAX_SIZE_SUPPORTED, resultSizeEstimator.getCurrentSize());
+                                        return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
+                                    }
                                 }
 
                             }
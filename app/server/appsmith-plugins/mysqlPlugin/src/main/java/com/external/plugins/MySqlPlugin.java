@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -21,18 +22,21 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.datatypes.MySQLSpecificDataTypes;
 import com.external.utils.MySqlDatasourceUtils;
 import com.external.utils.QueryUtils;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.R2dbcException;
 import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 import io.r2dbc.spi.Statement;
 import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
@@ -45,6 +49,7 @@ import reactor.core.scheduler.Schedulers;
 import reactor.pool.PoolShutdownException;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -52,6 +57,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -60,6 +66,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.IntStream;
 
@@ -79,7 +86,13 @@ import static java.lang.Boolean.TRUE;
 public class MySqlPlugin extends BasePlugin {
 
     private static final int VALIDATION_CHECK_TIMEOUT = 4; // seconds
+
+    private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+
+    // Connections that haven't been used for this long are validated before running a query on them.
+    private static final Duration IDLE_VALIDATION_THRESHOLD = Duration.ofSeconds(30);
     private static final String IS_KEY = "is";
+    private static int MAX_SIZE_SUPPORTED;
 
     /**
      * Example output for COLUMNS_QUERY:
@@ -143,6 +156,17 @@ public class MySqlPlugin extends BasePlugin {
         private static final int PREPARED_STATEMENT_INDEX = 0;
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        // Underlying connection mapped to the time it was last handed out by the pool. Weak keys let connections that
+        // are closed by the pool be garbage collected.
+        private final Map<Object, Instant> connectionLastUsedTimeMap = Collections.synchronizedMap(new WeakHashMap<>());
+
+        public MySqlPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -252,6 +276,7 @@ public class MySqlPlugin extends BasePlugin {
 
             final List<Map<String, Object>> rowsList = new ArrayList<>(50);
             final List<String> columnsList = new ArrayList<>();
+            final ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(MAX_SIZE_SUPPORTED);
             Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(finalQuery) : finalQuery;
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
@@ -261,28 +286,28 @@ public class MySqlPlugin extends BasePlugin {
                     connectionPool.create(),
                     connection -> {
                         // TODO: add JUnit TC for the `connection.validate` check. Not sure how to do it at the moment.
-                        Flux<Result> resultFlux = Mono.from(connection.validate(ValidationDepth.REMOTE))
-                                .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
-                                .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
-                                .flatMapMany(isValid -> {
-                                    if (isValid) {
-                                        return createAndExecuteQueryFromConnection(finalQuery,
-                                                connection,
-                                                preparedStatement,
-                                                mustacheValuesInOrder,
-                                                executeActionDTO,
-                                                requestData,
-                                                psParams);
-                                    }
-                                    return Flux.error(new StaleConnectionException());
-                                });
+                        Flux<Result> resultFlux = validateConnectionIfIdle(connection)
+                                .thenMany(Flux.defer(() -> createAndExecuteQueryFromConnection(finalQuery,
+                                        connection,
+                                        preparedStatement,
+                                        mustacheValuesInOrder,
+                                        executeActionDTO,
+                                        requestData,
+                                        psParams)));
 
                         Mono<List<Map<String, Object>>> resultMono;
                         if (isSelectOrShowOrDescQuery) {
                             resultMono = resultFlux
                                     .flatMap(result ->
                                             result.map((row, meta) -> {
-                                                        rowsList.add(getRow(row, meta));
+                                                        Map<String, Object> processedRow = getRow(row, meta);
+                                                        rowsList.add(processedRow);
+
+                                                        if (resultSizeEstimator.addRow(processedRow) > MAX_SIZE_SUPPORTED) {
+                                                            log.debug("[MySqlPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                                    MAX_SIZE_SUPPORTED, resultSizeEstimator.getCurrentSize());
+                                                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (MAX_SIZE_SUPPORTED / (1024 * 1024)));
+                                                        }
 
                                                         if (columnsList.isEmpty()) {
                                                             meta.getColumnMetadatas().stream().forEach(columnMetadata -> columnsList.add(columnMetadata.getName()));
@@ -323,6 +348,15 @@ public class MySqlPlugin extends BasePlugin {
                                     if (error instanceof StaleConnectionException) {
                                         return Mono.error(error);
                                     }
+                                    /*
+                                     * Read queries that failed because of a broken connection are safe to run again,
+                                     * so the server is asked to retry them with a fresh connection pool. Other
+                                     * queries may have been applied before the connection broke, hence the error is
+                                     * returned to the user instead.
+                                     */
+                                    if (isSelectOrShowOrDescQuery && isConnectionError(error)) {
+                                        return Mono.error(new StaleConnectionException());
+                                    }
                                     ActionExecutionResult result = new ActionExecutionResult();
                                     result.setIsExecutionSuccess(false);
                                     result.setErrorInfo(error);
@@ -349,6 +383,43 @@ public class MySqlPlugin extends BasePlugin {
             .subscribeOn(scheduler);
         }
 
+        /**
+         * Validates the connection with a round trip to the server, but only if it hasn't been used for a while.
+         * Connections that are in regular use are known to be alive, and validating them before every query would
+         * double the number of round trips. Connections that have just been created by the pool are not validated
+         * either.
+         */
+        Mono<Void> validateConnectionIfIdle(Connection connection) {
+            final Object underlyingConnection = connection instanceof Wrapped
+                    ? ((Wrapped<?>) connection).unwrap()
+                    : connection;
+            final Instant now = Instant.now();
+            final Instant lastUsedTime = connectionLastUsedTimeMap.put(underlyingConnection, now);
+
+            if (lastUsedTime == null || lastUsedTime.plus(IDLE_VALIDATION_THRESHOLD).isAfter(now)) {
+                return Mono.empty();
+            }
+
+            return Mono.from(connection.validate(ValidationDepth.REMOTE))
+                    .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
+                    .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
+                    .flatMap(isValid -> isValid ? Mono.<Void>empty() : Mono.error(new StaleConnectionException()));
+        }
+
+        /**
+         * Checks if the error is caused by the connection to the server being broken, as opposed to an error in the
+         * query. SQL states of class 08 are connection exceptions.
+         */
+        static boolean isConnectionError(Throwable error) {
+            if (error instanceof R2dbcNonTransientResourceException) {
+                return true;
+            }
+
+            return error instanceof R2dbcException
+                    && ((R2dbcException) error).getSqlState() != null
+                    && ((R2dbcException) error).getSqlState().startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS);
+        }
+
         boolean isIsOperatorUsed(String query) {
             String queryKeyWordsOnly = query.replaceAll(MATCH_QUOTED_WORDS_REGEX, "");
             return Arrays.stream(queryKeyWordsOnly.split("\\s"))
@@ -558,16 +629,8 @@ public class MySqlPlugin extends BasePlugin {
             return Mono.usingWhen(
                     connectionPool.create(),
                     connection -> {
-                        return Mono.from(connection.validate(ValidationDepth.REMOTE))
-                                .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
-                                .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
-                                .flatMapMany(isValid -> {
-                                    if (isValid) {
-                                        return connection.createStatement(COLUMNS_QUERY).execute();
-                                    } else {
-                                        return Flux.error(new StaleConnectionException());
-                                    }
-                                })
+                        return validateConnectionIfIdle(connection)
+                                .thenMany(Flux.defer(() -> connection.createStatement(COLUMNS_QUERY).execute()))
                                 .flatMap(result -> {
                                     return result.map((row, meta) -> {
                                         getTableInfo(row, meta, tablesByName);
@@ -596,6 +659,10 @@ public class MySqlPlugin extends BasePlugin {
                                     return structure;
                                 })
                                 .onErrorMap(e -> {
+                                    if (isConnectionError(e)) {
+                                        return new StaleConnectionException();
+                                    }
+
                                     if (!(e instanceof AppsmithPluginException) && !(e instanceof StaleConnectionException)) {
                                         return new AppsmithPluginException(
                                                 AppsmithPluginError.PLUGIN_ERROR,
@@ -32,6 +32,8 @@ public class MySqlDatasourceUtils {
 
     private static final Duration MAX_IDLE_TIME = Duration.ofMinutes(10);
 
+    private static final Duration BACKGROUND_EVICTION_INTERVAL = Duration.ofMinutes(1);
+
     public static ConnectionFactoryOptions.Builder getBuilder(DatasourceConfiguration datasourceConfiguration) {
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
 
@@ -177,7 +179,10 @@ public class MySqlDatasourceUtils {
         MariadbConnectionFactory connectionFactory =
                 MariadbConnectionFactory.from(
                         MariadbConnectionConfiguration.fromOptions(ob.build())
-                                .allowPublicKeyRetrieval(true).build()
+                                .allowPublicKeyRetrieval(true)
+                                // Lets the OS detect connections that were dropped while idle in the pool
+                                .tcpKeepAlive(true)
+                                .build()
                 );
 
         /**
@@ -186,6 +191,8 @@ public class MySqlDatasourceUtils {
          */
         ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(connectionFactory)
                 .maxIdleTime(MAX_IDLE_TIME)
+                // Idle connections are evicted in the background instead of being found stale on the next query
+                .backgroundEvictionInterval(BACKGROUND_EVICTION_INTERVAL)
                 .maxSize(MAX_CONNECTION_POOL_SIZE)
                 .build();
         return new ConnectionPool(configuration);
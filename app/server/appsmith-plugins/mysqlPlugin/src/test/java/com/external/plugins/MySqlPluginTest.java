@@ -15,6 +15,7 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -23,6 +24,8 @@ import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -53,6 +56,7 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -64,7 +68,25 @@ import static org.mockito.Mockito.spy;
 @Testcontainers
 public class MySqlPluginTest {
 
-        static MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor();
+        public static class MockSharedConfig implements SharedConfig {
+
+            @Override
+            public int getCodecSize() {
+                return 10 * 1024 * 1024;
+            }
+
+            @Override
+            public int getMaxResponseSize() {
+                return 5 * 1024 * 1024;
+            }
+
+            @Override
+            public String getRemoteExecutionUrl() {
+                return "";
+            }
+        }
+
+        static MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor(new MockSharedConfig());
 
         @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is
         // pseudo-optional.
@@ -428,6 +450,38 @@ public class MySqlPluginTest {
                         .verify();
         }
 
+        @Test
+        public void testIsConnectionError() {
+                assertTrue(MySqlPlugin.MySqlPluginExecutor.isConnectionError(
+                        new R2dbcNonTransientResourceException("Connection closed")));
+                assertTrue(MySqlPlugin.MySqlPluginExecutor.isConnectionError(
+                        new R2dbcNonTransientResourceException("Communication link failure", "08S01", 0)));
+                assertFalse(MySqlPlugin.MySqlPluginExecutor.isConnectionError(
+                        new R2dbcBadGrammarException("You have an error in your SQL syntax", "42000", 1064)));
+                assertFalse(MySqlPlugin.MySqlPluginExecutor.isConnectionError(new IllegalStateException()));
+        }
+
+        @Test
+        public void testRepeatedQueriesOnSameConnectionPool() {
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setBody("SELECT id FROM users WHERE id = 1");
+                ConnectionPool connectionPool = pluginExecutor.datasourceCreate(dsConfig).block();
+
+                Mono<ActionExecutionResult> resultMono = pluginExecutor
+                        .executeParameterized(connectionPool, new ExecuteActionDTO(), dsConfig, actionConfiguration)
+                        .then(pluginExecutor.executeParameterized(connectionPool, new ExecuteActionDTO(), dsConfig,
+                                actionConfiguration));
+
+                StepVerifier.create(resultMono)
+                        .assertNext(result -> {
+                                assertTrue(result.getIsExecutionSuccess());
+                                assertEquals(1, ((ArrayNode) result.getBody()).size());
+                        })
+                        .verifyComplete();
+
+                connectionPool.dispose();
+        }
+
         @Test
         public void testValidateDatasourceNullCredentials() {
                 dsConfig.setConnection(new com.appsmith.external.models.Connection());
@@ -1259,7 +1313,7 @@ public class MySqlPluginTest {
 
         @Test
         public void testNullObjectWithPreparedStatement() {
-                pluginExecutor = spy(new MySqlPlugin.MySqlPluginExecutor());
+                pluginExecutor = spy(new MySqlPlugin.MySqlPluginExecutor(new MockSharedConfig()));
                 doReturn(false).when(pluginExecutor).isIsOperatorUsed(any());
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
                 Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
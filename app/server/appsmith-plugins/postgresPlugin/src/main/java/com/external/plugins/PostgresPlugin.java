@@ -7,10 +7,13 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.ExecutionStreamHelper;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionStreamFrame;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -39,6 +42,7 @@ import org.pf4j.PluginWrapper;
 import org.postgresql.util.PGobject;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -77,7 +81,6 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -118,8 +121,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     private static int MAX_SIZE_SUPPORTED;
 
     public PostgresPlugin(PluginWrapper wrapper) {
@@ -209,24 +210,7 @@ public class PostgresPlugin extends BasePlugin {
                         "parameter: Query."));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                //In case the prepared statement configuration is missing, default to true.
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = getIsPreparedStatement(actionConfiguration);
 
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
@@ -246,6 +230,55 @@ public class PostgresPlugin extends BasePlugin {
                     mustacheKeysInOrder, executeActionDTO, explicitCastDataTypes);
         }
 
+        /**
+         * Streaming counterpart of {@link #executeParameterized}. The rows are read from the result set only as fast as
+         * they are consumed, so only one chunk of rows is held in memory at a time regardless of the size of the result.
+         * Since the result is never held in memory as a whole, the maximum response size limit is not applied here.
+         */
+        @Override
+        public Flux<ActionExecutionStreamFrame> executeParameterizedStreamed(HikariDataSource connection,
+                                                                             ExecuteActionDTO executeActionDTO,
+                                                                             DatasourceConfiguration datasourceConfiguration,
+                                                                             ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            // Check for query parameter before performing the probably expensive fetch connection from the pool op.
+            if (query == null) {
+                return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Missing required " +
+                        "parameter: Query."));
+            }
+
+            // In case of non prepared statement, simply do binding replacement and execute
+            if (FALSE.equals(getIsPreparedStatement(actionConfiguration))) {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                return executeCommonStreamed(connection, datasourceConfiguration, actionConfiguration, FALSE, null, null, null);
+            }
+
+            List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+            List<DataType> explicitCastDataTypes = extractExplicitCasting(updatedQuery);
+            actionConfiguration.setBody(updatedQuery);
+            return executeCommonStreamed(connection, datasourceConfiguration, actionConfiguration, TRUE,
+                    mustacheKeysInOrder, executeActionDTO, explicitCastDataTypes);
+        }
+
+        private Boolean getIsPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                //In case the prepared statement configuration is missing, default to true.
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+
+            return true;
+        }
+
         private Mono<ActionExecutionResult> executeCommon(HikariDataSource connection,
                                                           DatasourceConfiguration datasourceConfiguration,
                                                           ActionConfiguration actionConfiguration,
@@ -282,8 +315,6 @@ public class PostgresPlugin extends BasePlugin {
 
                         Statement statement = null;
                         ResultSet resultSet = null;
-                        PreparedStatement preparedQuery = null;
-                        boolean isResultSet;
 
                         HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
 
@@ -294,37 +325,13 @@ public class PostgresPlugin extends BasePlugin {
                         log.debug("Before executing postgres query [{}] Hikari Pool stats : active - {} , idle - {} , awaiting - {} , total - {}",
                                 query, activeConnections, idleConnections, threadsAwaitingConnection, totalConnections);
                         try {
-                            if (FALSE.equals(preparedStatement)) {
-                                statement = connectionFromPool.createStatement();
-                                isResultSet = statement.execute(query);
-                                resultSet = statement.getResultSet();
-                            } else {
-                                preparedQuery = connectionFromPool.prepareStatement(query);
-
-                                List<Map.Entry<String, String>> parameters = new ArrayList<>();
-                                preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(preparedQuery,
-                                        mustacheValuesInOrder,
-                                        executeActionDTO.getParams(),
-                                        parameters,
-                                        connectionFromPool,
-                                        explicitCastDataTypes);
-
-                                IntStream.range(0, parameters.size())
-                                        .forEachOrdered(i ->
-                                                psParams.put(
-                                                        getPSParamLabel(i + 1),
-                                                        new PsParameterDTO(parameters.get(i).getKey(), parameters.get(i).getValue())));
-
-                                requestData.put("ps-parameters", parameters);
-                                isResultSet = preparedQuery.execute();
-                                resultSet = preparedQuery.getResultSet();
-                            }
+                            statement = executeStatement(connectionFromPool, query, preparedStatement,
+                                    mustacheValuesInOrder, executeActionDTO, explicitCastDataTypes, psParams, requestData, 0);
+                            resultSet = statement.getResultSet();
 
-                            if (!isResultSet) {
+                            if (resultSet == null) {
 
-                                Object updateCount = FALSE.equals(preparedStatement) ?
-                                        ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0) :
-                                        ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
+                                Object updateCount = ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0);
 
                                 rowsList.add(Map.of("affectedRows", updateCount));
 
@@ -334,80 +341,19 @@ public class PostgresPlugin extends BasePlugin {
                                 int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                                int iterator = 0;
+                                ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(MAX_SIZE_SUPPORTED);
                                 while (resultSet.next()) {
 
-                                    // Only check the data size at low frequency to ensure the performance is not impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug("[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                                    MAX_SIZE_SUPPORTED, objectSize);
-                                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()
-                                                    )
-                                            ) + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class)
-                                            );
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference: https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
-
-                                        row.put(metaData.getColumnName(i), value);
-                                    }
+                                    Map<String, Object> row = getRow(resultSet, metaData, colCount);
 
                                     rowsList.add(row);
 
-                                    iterator++;
+                                    // The size of each row is only computed once, so this check stays cheap for large results
+                                    if (resultSizeEstimator.addRow(row) > MAX_SIZE_SUPPORTED) {
+                                        log.debug("[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                MAX_SIZE_SUPPORTED, resultSizeEstimator.getCurrentSize());
+                                        return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
+                                    }
                                 }
                             }
 
@@ -442,14 +388,6 @@ public class PostgresPlugin extends BasePlugin {
                                 }
                             }
 
-                            if (preparedQuery != null) {
-                                try {
-                                    preparedQuery.close();
-                                } catch (SQLException e) {
-                                    log.debug("Execute Error closing Postgres Statement", e);
-                                }
-                            }
-
                             if (connectionFromPool != null) {
                                 try {
                                     // Return the connection back to the pool
@@ -494,6 +432,234 @@ public class PostgresPlugin extends BasePlugin {
 
         }
 
+        private Map<String, Object> getRow(ResultSet resultSet, ResultSetMetaData metaData, int colCount)
+                throws SQLException, IOException {
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+
+                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
+
+                } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(
+                            LocalDateTime.of(
+                                    resultSet.getDate(i).toLocalDate(),
+                                    resultSet.getTime(i).toLocalTime()
+                            )
+                    ) + "Z";
+
+                } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(
+                            resultSet.getObject(i, OffsetDateTime.class)
+                    );
+
+                } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getString(i);
+
+                } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+
+                } else if (typeName.startsWith("_")) {
+                    value = resultSet.getArray(i).getArray();
+
+                } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
+                        || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = objectMapper.readTree(resultSet.getString(i));
+                } else {
+                    value = resultSet.getObject(i);
+
+                    /**
+                     * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                     * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                     * converted into a JSON like {"type":"citext", "value":"someText"}. Since we are
+                     * only interested in the value and not the type, it makes sense to extract out
+                     * the value as a string.
+                     * Reference: https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                     */
+                    if (value instanceof PGobject) {
+                        value = ((PGobject) value).getValue();
+                    }
+                }
+
+                row.put(metaData.getColumnName(i), value);
+            }
+
+            return row;
+        }
+
+        /**
+         * Creates and executes either a plain statement or a prepared statement with the bindings substituted, depending
+         * on the prepared statement setting of the action. The caller is responsible for closing the returned statement.
+         * A fetch size of 0 leaves it to the driver, which reads the complete result into memory.
+         */
+        private Statement executeStatement(Connection connectionFromPool,
+                                           String query,
+                                           Boolean preparedStatement,
+                                           List<MustacheBindingToken> mustacheValuesInOrder,
+                                           ExecuteActionDTO executeActionDTO,
+                                           List<DataType> explicitCastDataTypes,
+                                           Map<String, Object> psParams,
+                                           Map<String, Object> requestData,
+                                           int fetchSize) throws SQLException {
+
+            if (FALSE.equals(preparedStatement)) {
+                Statement statement = connectionFromPool.createStatement();
+                try {
+                    statement.setFetchSize(fetchSize);
+                    statement.execute(query);
+                } catch (SQLException e) {
+                    statement.close();
+                    throw e;
+                }
+                return statement;
+            }
+
+            PreparedStatement preparedQuery = connectionFromPool.prepareStatement(query);
+            try {
+                preparedQuery.setFetchSize(fetchSize);
+                List<Map.Entry<String, String>> parameters = new ArrayList<>();
+                preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(preparedQuery,
+                        mustacheValuesInOrder,
+                        executeActionDTO.getParams(),
+                        parameters,
+                        connectionFromPool,
+                        explicitCastDataTypes);
+
+                IntStream.range(0, parameters.size())
+                        .forEachOrdered(i ->
+                                psParams.put(
+                                        getPSParamLabel(i + 1),
+                                        new PsParameterDTO(parameters.get(i).getKey(), parameters.get(i).getValue())));
+
+                requestData.put("ps-parameters", parameters);
+                preparedQuery.execute();
+            } catch (SQLException | AppsmithPluginException e) {
+                preparedQuery.close();
+                throw e;
+            }
+            return preparedQuery;
+        }
+
+        private Flux<ActionExecutionStreamFrame> executeCommonStreamed(HikariDataSource connection,
+                                                                       DatasourceConfiguration datasourceConfiguration,
+                                                                       ActionConfiguration actionConfiguration,
+                                                                       Boolean preparedStatement,
+                                                                       List<MustacheBindingToken> mustacheValuesInOrder,
+                                                                       ExecuteActionDTO executeActionDTO,
+                                                                       List<DataType> explicitCastDataTypes) {
+
+            final Map<String, Object> requestData = new HashMap<>();
+            requestData.put("preparedStatement", TRUE.equals(preparedStatement));
+
+            String query = actionConfiguration.getBody();
+            Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
+            String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(query) : query;
+            ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setQuery(query);
+            request.setProperties(requestData);
+            request.setRequestParams(List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
+                    transformedQuery, null, null, psParams)));
+
+            return Flux.usingWhen(
+                            Mono.fromCallable(() -> {
+                                try {
+                                    Connection connectionFromPool = getConnectionFromConnectionPool(connection, datasourceConfiguration);
+                                    // The driver only reads the result set in batches of the fetch size within a transaction.
+                                    connectionFromPool.setAutoCommit(false);
+                                    return connectionFromPool;
+                                } catch (SQLException e) {
+                                    // Same as in executeCommon, an unusable pool should trigger the recreation of the pool.
+                                    throw new StaleConnectionException();
+                                }
+                            }),
+                            connectionFromPool -> Flux.using(
+                                    () -> executeStatement(connectionFromPool, query, preparedStatement,
+                                            mustacheValuesInOrder, executeActionDTO, explicitCastDataTypes, psParams, requestData,
+                                            ExecutionStreamHelper.DEFAULT_CHUNK_SIZE),
+                                    statement -> streamStatementResult(statement, request),
+                                    statement -> {
+                                        try {
+                                            statement.close();
+                                        } catch (SQLException e) {
+                                            log.debug("Execute Error closing Postgres Statement", e);
+                                        }
+                                    }),
+                            // The work of the query is only committed if all of its rows could be read
+                            connectionFromPool -> Mono.fromRunnable(() -> endTransaction(connectionFromPool, true)),
+                            (connectionFromPool, error) -> Mono.fromRunnable(() -> endTransaction(connectionFromPool, false)),
+                            // Cancelled when the client goes away or the execution times out
+                            connectionFromPool -> Mono.fromRunnable(() -> endTransaction(connectionFromPool, false))
+                                    .subscribeOn(scheduler))
+                    .onErrorMap(SQLException.class,
+                            e -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage()))
+                    .timeout(Duration.ofMillis(actionConfiguration.getTimeoutInMillisecond()))
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * Commits or rolls back the transaction of a streamed execution and returns the connection back to the pool.
+         */
+        private void endTransaction(Connection connectionFromPool, boolean commit) {
+            try {
+                if (commit) {
+                    connectionFromPool.commit();
+                } else {
+                    connectionFromPool.rollback();
+                }
+            } catch (SQLException e) {
+                log.debug("Execute Error ending Postgres transaction", e);
+            }
+            try {
+                // Return the connection back to the pool, which also resets the auto commit mode
+                connectionFromPool.close();
+            } catch (SQLException e) {
+                log.debug("Execute Error returning Postgres connection to pool", e);
+            }
+        }
+
+        private Flux<ActionExecutionStreamFrame> streamStatementResult(Statement statement, ActionExecutionRequest request) {
+            final ResultSet resultSet;
+            final ResultSetMetaData metaData;
+            final List<String> columnsList;
+            try {
+                resultSet = statement.getResultSet();
+                if (resultSet == null) {
+                    Object updateCount = ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0);
+                    return ExecutionStreamHelper.toFrames(List.of(), request, Set.of(),
+                            Flux.just(Map.of("affectedRows", updateCount)), ExecutionStreamHelper.DEFAULT_CHUNK_SIZE);
+                }
+                metaData = resultSet.getMetaData();
+                columnsList = getColumnsListForJdbcPlugin(metaData);
+            } catch (SQLException e) {
+                return Flux.error(e);
+            }
+
+            // Rows are pulled from the result set on demand, closing the statement also closes the result set.
+            Flux<Map<String, Object>> rows = Flux.generate(sink -> {
+                try {
+                    if (resultSet.next()) {
+                        sink.next(getRow(resultSet, metaData, columnsList.size()));
+                    } else {
+                        sink.complete();
+                    }
+                } catch (SQLException e) {
+                    sink.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage()));
+                } catch (IOException e) {
+                    sink.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
+                }
+            });
+
+            return ExecutionStreamHelper.toFrames(columnsList, request, populateHintMessages(columnsList), rows,
+                    ExecutionStreamHelper.DEFAULT_CHUNK_SIZE);
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -2,10 +2,13 @@ package com.external.plugins;
 
 import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionStreamFrame;
+import com.appsmith.external.models.ActionExecutionStreamFrame.FrameType;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -28,11 +31,13 @@ import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -1533,4 +1538,129 @@ public class PostgresPluginTest {
                 })
                 .verifyComplete();
     }
+
+    private ActionConfiguration createStreamedActionConfiguration(String query) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+
+        List<Property> pluginSpecifiedTemplates = new ArrayList<>();
+        pluginSpecifiedTemplates.add(new Property("preparedStatement", "false"));
+        actionConfiguration.setPluginSpecifiedTemplates(pluginSpecifiedTemplates);
+        return actionConfiguration;
+    }
+
+    @Test
+    public void testExecuteStreamed_withMoreRowsThanOneChunk_sendsRowsInChunks() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        ActionConfiguration actionConfiguration =
+                createStreamedActionConfiguration("SELECT i AS id FROM generate_series(1, 1200) AS s(i)");
+
+        Flux<ActionExecutionStreamFrame> framesFlux = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMapMany(pool -> pluginExecutor.executeParameterizedStreamed(pool, new ExecuteActionDTO(), dsConfig,
+                        actionConfiguration));
+
+        StepVerifier.create(framesFlux)
+                .assertNext(frame -> {
+                    assertEquals(FrameType.HEADER, frame.getType());
+                    assertEquals(List.of("id"), frame.getColumns());
+                    assertNotNull(frame.getRequest());
+                })
+                .assertNext(frame -> {
+                    assertEquals(FrameType.ROWS, frame.getType());
+                    assertEquals(500, frame.getRows().size());
+                })
+                .assertNext(frame -> assertEquals(500, frame.getRows().size()))
+                .assertNext(frame -> assertEquals(200, frame.getRows().size()))
+                .assertNext(frame -> {
+                    assertEquals(FrameType.RESULT, frame.getType());
+                    assertTrue(frame.getResult().getIsExecutionSuccess());
+                    assertEquals(1200L, frame.getRowCount());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteStreamed_withErrorAfterFirstChunk_passesErrorOn() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        // Fails with a division by zero on the 1000th row, which is only computed once the second chunk is read
+        ActionConfiguration actionConfiguration =
+                createStreamedActionConfiguration("SELECT 1 / (i - 1000) AS id FROM generate_series(1, 1200) AS s(i)");
+
+        Mono<HikariDataSource> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
+        Flux<ActionExecutionStreamFrame> framesFlux = connectionCreateMono
+                .flatMapMany(pool -> pluginExecutor.executeParameterizedStreamed(pool, new ExecuteActionDTO(), dsConfig,
+                        actionConfiguration));
+
+        StepVerifier.create(framesFlux)
+                .assertNext(frame -> assertEquals(FrameType.HEADER, frame.getType()))
+                .assertNext(frame -> {
+                    assertEquals(FrameType.ROWS, frame.getType());
+                    assertEquals(500, frame.getRows().size());
+                })
+                .expectErrorMatches(error -> error instanceof AppsmithPluginException
+                        && error.getMessage().contains("division by zero"))
+                .verify();
+
+        // The connection is returned to the pool in a usable state
+        ActionConfiguration nextActionConfiguration = createStreamedActionConfiguration("SELECT 1 AS id");
+        StepVerifier.create(connectionCreateMono
+                        .flatMapMany(pool -> pluginExecutor.executeParameterizedStreamed(pool, new ExecuteActionDTO(),
+                                dsConfig, nextActionConfiguration))
+                        .last())
+                .assertNext(frame -> {
+                    assertEquals(FrameType.RESULT, frame.getType());
+                    assertTrue(frame.getResult().getIsExecutionSuccess());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteStreamed_whenCancelledMidStream_rollsBackTransaction() throws SQLException {
+        Properties properties = new Properties();
+        properties.putAll(Map.of(
+                "user", username,
+                "password", password
+        ));
+        final String url = "jdbc:postgresql://" + address + ":" + port + "/" + username;
+
+        try (Connection connection = DriverManager.getConnection(url, properties);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS streamed_writes (id serial PRIMARY KEY)");
+        }
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        // The insert is part of the transaction of the streamed query, which is cancelled before all rows are read
+        ActionConfiguration actionConfiguration = createStreamedActionConfiguration(
+                "WITH inserted AS (INSERT INTO streamed_writes DEFAULT VALUES RETURNING id) " +
+                        "SELECT s.i AS id FROM generate_series(1, 1200) AS s(i), inserted");
+
+        HikariDataSource pool = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        StepVerifier.create(pluginExecutor.executeParameterizedStreamed(pool, new ExecuteActionDTO(), dsConfig,
+                        actionConfiguration))
+                .assertNext(frame -> assertEquals(FrameType.HEADER, frame.getType()))
+                .assertNext(frame -> assertEquals(FrameType.ROWS, frame.getType()))
+                .thenCancel()
+                .verify();
+
+        // The transaction is ended asynchronously after the cancellation, before the connection is returned to the pool
+        for (int attempt = 0; attempt < 50 && pool.getHikariPoolMXBean().getActiveConnections() > 0; attempt++) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+
+        try (Connection connection = DriverManager.getConnection(url, properties);
+             Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM streamed_writes")) {
+                resultSet.next();
+                assertEquals(0, resultSet.getInt(1));
+            }
+            statement.execute("DROP TABLE streamed_writes");
+        }
+        pluginExecutor.datasourceDestroy(pool);
+    }
 }
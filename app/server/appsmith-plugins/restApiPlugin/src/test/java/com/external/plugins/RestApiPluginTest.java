@@ -5,6 +5,7 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.helpers.HintMessageUtils;
+import com.appsmith.external.helpers.restApiUtils.helpers.HttpClientPoolUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -39,6 +40,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
 
@@ -65,6 +67,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.util.AssertionErrors.fail;
@@ -895,6 +899,28 @@ public class RestApiPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testDatasourceDestroy_withoutAuthentication_releasesSharedPoolAfterLastDatasource() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl("https://shared-pool.example.com/api");
+        DatasourceConfiguration otherDsConfig = new DatasourceConfiguration();
+        otherDsConfig.setUrl("https://shared-pool.example.com/other-api");
+
+        final APIConnection apiConnection = pluginExecutor.datasourceCreate(dsConfig).block();
+        final APIConnection otherApiConnection = pluginExecutor.datasourceCreate(otherDsConfig).block();
+        assertNotNull(apiConnection);
+        assertNotNull(otherApiConnection);
+
+        final HttpClient httpClient = HttpClientPoolUtils.getHttpClient(dsConfig);
+
+        // The other datasource is still using the pool
+        pluginExecutor.datasourceDestroy(apiConnection);
+        assertSame(httpClient, HttpClientPoolUtils.getHttpClient(otherDsConfig));
+
+        pluginExecutor.datasourceDestroy(otherApiConnection);
+        assertNotSame(httpClient, HttpClientPoolUtils.getHttpClient(otherDsConfig));
+    }
+
     @Test
     public void testSmartSubstitutionEvaluatedValueContainingQuestionMark() {
         DatasourceConfiguration dsConfig = new DatasourceConfiguration();
@@ -0,0 +1,125 @@
+package com.external.plugins;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The connection of an SMTP datasource. Connecting to an SMTP server takes a TLS handshake and an AUTH exchange, so
+ * transports are kept connected after an email is sent and handed out again for the next emails. An idle transport is
+ * checked with a NOOP before it is reused, transports that have been idle for too long are closed, and all of them are
+ * closed when the datasource is destroyed.
+ */
+@Slf4j
+public class SmtpConnection {
+
+    // SMTP servers commonly drop a connection after five minutes without any command, see RFC 5321 section 4.5.3.2
+    static final Duration MAX_IDLE_TIME = Duration.ofMinutes(4);
+
+    static final int MAX_IDLE_TRANSPORTS = 4;
+
+    @Getter
+    private final Session session;
+
+    // The most recently released transport is at the head, so the transports that stay unused age out at the tail
+    private final Deque<IdleTransport> idleTransports = new ArrayDeque<>();
+
+    private boolean closed = false;
+
+    public SmtpConnection(Session session) {
+        this.session = session;
+    }
+
+    /**
+     * Hands out a connected transport, reusing an idle one when it is still alive. The transport has to be given back
+     * with {@link #releaseTransport(Transport)} once the emails are sent, or with {@link #discardTransport(Transport)}
+     * if sending failed because of the connection.
+     */
+    public Transport acquireTransport() throws MessagingException {
+        IdleTransport idleTransport;
+        while ((idleTransport = pollIdleTransport()) != null) {
+            // isConnected sends a NOOP, and closes the transport if the server doesn't answer it
+            if (!idleTransport.isIdleLongerThan(MAX_IDLE_TIME) && idleTransport.transport.isConnected()) {
+                return idleTransport.transport;
+            }
+            closeQuietly(idleTransport.transport);
+        }
+
+        Transport transport = session.getTransport();
+        transport.connect();
+        return transport;
+    }
+
+    public void releaseTransport(Transport transport) {
+        final List<Transport> transportsToClose = new ArrayList<>();
+        synchronized (this) {
+            if (closed || idleTransports.size() >= MAX_IDLE_TRANSPORTS) {
+                transportsToClose.add(transport);
+            } else {
+                idleTransports.push(new IdleTransport(transport));
+            }
+
+            while (!idleTransports.isEmpty() && idleTransports.peekLast().isIdleLongerThan(MAX_IDLE_TIME)) {
+                transportsToClose.add(idleTransports.pollLast().transport);
+            }
+        }
+
+        transportsToClose.forEach(this::closeQuietly);
+    }
+
+    public void discardTransport(Transport transport) {
+        closeQuietly(transport);
+    }
+
+    public void close() {
+        final List<IdleTransport> transportsToClose;
+        synchronized (this) {
+            closed = true;
+            transportsToClose = new ArrayList<>(idleTransports);
+            idleTransports.clear();
+        }
+
+        transportsToClose.forEach(idleTransport -> closeQuietly(idleTransport.transport));
+    }
+
+    synchronized int getIdleTransportCount() {
+        return idleTransports.size();
+    }
+
+    private synchronized IdleTransport pollIdleTransport() {
+        return idleTransports.poll();
+    }
+
+    private void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP transport", e);
+        }
+    }
+
+    private static class IdleTransport {
+
+        private final Transport transport;
+
+        private final Instant idleSince;
+
+        IdleTransport(Transport transport) {
+            this.transport = transport;
+            this.idleSince = Instant.now();
+        }
+
+        boolean isIdleLongerThan(Duration duration) {
+            return idleSince.plus(duration).isBefore(Instant.now());
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.fasterxml.jackson.core.type.TypeReference;
 import jakarta.mail.AuthenticationFailedException;
 import jakarta.mail.Authenticator;
 import jakarta.mail.Message;
@@ -20,6 +21,7 @@ import jakarta.mail.Multipart;
 import jakarta.mail.NoSuchProviderException;
 import jakarta.mail.Part;
 import jakarta.mail.PasswordAuthentication;
+import jakarta.mail.SendFailedException;
 import jakarta.mail.Session;
 import jakarta.mail.Transport;
 import jakarta.mail.internet.InternetAddress;
@@ -38,9 +40,11 @@ import jakarta.activation.DataHandler;
 import jakarta.activation.DataSource;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -54,13 +58,18 @@ public class SmtpPlugin extends BasePlugin {
     }
 
     @Extension
-    public static class SmtpPluginExecutor implements PluginExecutor<Session> {
+    public static class SmtpPluginExecutor implements PluginExecutor<SmtpConnection> {
 
+        private static final String BULK_SEND_COMMAND = "BULK_SEND";
 
         @Override
-        public Mono<ActionExecutionResult> execute(Session connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(SmtpConnection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+
+            Object command = PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "command");
+            if (BULK_SEND_COMMAND.equals(command)) {
+                return executeBulkSend(connection, actionConfiguration);
+            }
 
-            Message message = new MimeMessage(connection);
             ActionExecutionResult result = new ActionExecutionResult();
             try {
                 String fromAddress = (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.from");
@@ -72,40 +81,9 @@ public class SmtpPlugin extends BasePlugin {
                 String replyTo = Boolean.TRUE.equals(isReplyTo) ?
                         (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.replyTo") : null;
 
-                if (!StringUtils.hasText(toAddress)) {
-                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            "Couldn't find a valid recipient address. Please check your action configuration."));
-                }
-                if (!StringUtils.hasText(fromAddress)) {
-                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            "Couldn't find a valid sender address. Please check your action configuration."));
-                }
-                message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toAddress, false));
-                message.setFrom(new InternetAddress(fromAddress));
-
-                if (StringUtils.hasText(ccAddress)) {
-                    message.setRecipients(Message.RecipientType.CC, InternetAddress.parse(ccAddress, false));
-                }
-                if (StringUtils.hasText(bccAddress)) {
-                    message.setRecipients(Message.RecipientType.BCC, InternetAddress.parse(bccAddress, false));
-                }
-                if (StringUtils.hasText(replyTo)) {
-                    message.setReplyTo(InternetAddress.parse(replyTo, false));
-                }
-
-                message.setSubject(subject);
-
-                String msg = StringUtils.hasText(actionConfiguration.getBody()) ? actionConfiguration.getBody() : "";
-
-                MimeBodyPart mimeBodyPart = new MimeBodyPart();
-
-                // By default, all emails sent will be of type HTML. This can be parameterized. For simplification reasons,
-                // use the text/html mime type right now.
-                mimeBodyPart.setContent(msg, "text/html");
-
                 Multipart multipart = new MimeMultipart();
-                multipart.addBodyPart(mimeBodyPart);
-                message.setContent(multipart);
+                Message message = createMessage(connection.getSession(), fromAddress, toAddress, ccAddress, bccAddress,
+                        replyTo, subject, actionConfiguration.getBody(), multipart);
 
                 // Look for any attachments that need to be sent along with this email
                 String attachmentsStr = (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.attachments");
@@ -141,7 +119,23 @@ public class SmtpPlugin extends BasePlugin {
 
                 // Send the email now
                 log.debug("Going to send the email");
-                Transport.send(message);
+                Transport transport = connection.acquireTransport();
+                boolean isTransportReusable = false;
+                try {
+                    sendMessage(transport, message);
+                    isTransportReusable = true;
+                } catch (SendFailedException e) {
+                    // Only the message was refused, the connection can still be used for other emails
+                    isTransportReusable = true;
+                    throw e;
+                } finally {
+                    // Any other error may have left the connection in an unknown state, so it isn't handed out again
+                    if (isTransportReusable) {
+                        connection.releaseTransport(transport);
+                    } else {
+                        connection.discardTransport(transport);
+                    }
+                }
 
                 result.setIsExecutionSuccess(true);
                 Map<String, String> responseBody = new HashMap<>();
@@ -149,6 +143,8 @@ public class SmtpPlugin extends BasePlugin {
                 result.setBody(objectMapper.valueToTree(responseBody));
 
                 log.debug("Sent the email successfully");
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
             } catch (MessagingException e) {
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
                         "Unable to send email because of error: " + e.getMessage()));
@@ -160,8 +156,156 @@ public class SmtpPlugin extends BasePlugin {
             return Mono.just(result);
         }
 
+        /**
+         * Sends a list of emails over the same SMTP connection, one after another. An email that can't be created or
+         * is refused by the server doesn't stop the others from being sent, the emails that failed are listed in the
+         * result instead.
+         */
+        private Mono<ActionExecutionResult> executeBulkSend(SmtpConnection connection, ActionConfiguration actionConfiguration) {
+            String defaultFromAddress = (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "bulk.from");
+            String messagesStr = (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "bulk.messages");
+
+            if (!StringUtils.hasText(messagesStr)) {
+                return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Couldn't find any emails to send. Please check your action configuration."));
+            }
+
+            final List<Map<String, Object>> messages;
+            try {
+                messages = objectMapper.readValue(messagesStr, new TypeReference<>() {});
+            } catch (IOException e) {
+                return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Unable to parse the emails to send because it was not a valid array of objects."));
+            }
+
+            List<Map<String, Object>> failures = new ArrayList<>();
+            Transport transport = null;
+            try {
+                for (int index = 0; index < messages.size(); index++) {
+                    Map<String, Object> messageData = messages.get(index);
+                    Object fromAddress = messageData.getOrDefault("from", defaultFromAddress);
+                    try {
+                        Message message = createMessage(connection.getSession(),
+                                fromAddress == null ? null : String.valueOf(fromAddress),
+                                getString(messageData, "to"),
+                                getString(messageData, "cc"),
+                                getString(messageData, "bcc"),
+                                getString(messageData, "replyTo"),
+                                getString(messageData, "subject"),
+                                getString(messageData, "body"),
+                                new MimeMultipart());
+
+                        if (transport == null) {
+                            transport = connection.acquireTransport();
+                        }
+                        sendMessage(transport, message);
+                    } catch (AppsmithPluginException | SendFailedException e) {
+                        failures.add(getFailure(index, messageData, e.getMessage()));
+                    } catch (MessagingException e) {
+                        // The connection may be broken, the next email is sent over a new one
+                        if (transport != null) {
+                            connection.discardTransport(transport);
+                            transport = null;
+                        }
+                        failures.add(getFailure(index, messageData, e.getMessage()));
+                    }
+                }
+            } catch (RuntimeException e) {
+                // The connection may be in an unknown state, it isn't handed out again
+                if (transport != null) {
+                    connection.discardTransport(transport);
+                    transport = null;
+                }
+                throw e;
+            } finally {
+                if (transport != null) {
+                    connection.releaseTransport(transport);
+                }
+            }
+
+            log.debug("Sent {} of {} emails", messages.size() - failures.size(), messages.size());
+
+            ActionExecutionResult result = new ActionExecutionResult();
+            result.setIsExecutionSuccess(failures.isEmpty());
+            Map<String, Object> responseBody = new HashMap<>();
+            responseBody.put("message", "Sent " + (messages.size() - failures.size()) + " of " + messages.size() + " emails");
+            responseBody.put("sentCount", messages.size() - failures.size());
+            responseBody.put("failures", failures);
+            result.setBody(objectMapper.valueToTree(responseBody));
+            return Mono.just(result);
+        }
+
+        private static String getString(Map<String, Object> messageData, String key) {
+            Object value = messageData.get(key);
+            return value == null ? null : String.valueOf(value);
+        }
+
+        private static Map<String, Object> getFailure(int index, Map<String, Object> messageData, String error) {
+            Map<String, Object> failure = new HashMap<>();
+            failure.put("index", index);
+            failure.put("to", messageData.get("to"));
+            failure.put("error", error);
+            return failure;
+        }
+
+        private Message createMessage(Session session,
+                                      String fromAddress,
+                                      String toAddress,
+                                      String ccAddress,
+                                      String bccAddress,
+                                      String replyTo,
+                                      String subject,
+                                      String body,
+                                      Multipart multipart) throws MessagingException {
+
+            if (!StringUtils.hasText(toAddress)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Couldn't find a valid recipient address. Please check your action configuration.");
+            }
+            if (!StringUtils.hasText(fromAddress)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Couldn't find a valid sender address. Please check your action configuration.");
+            }
+
+            Message message = new MimeMessage(session);
+            message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toAddress, false));
+            message.setFrom(new InternetAddress(fromAddress));
+
+            if (StringUtils.hasText(ccAddress)) {
+                message.setRecipients(Message.RecipientType.CC, InternetAddress.parse(ccAddress, false));
+            }
+            if (StringUtils.hasText(bccAddress)) {
+                message.setRecipients(Message.RecipientType.BCC, InternetAddress.parse(bccAddress, false));
+            }
+            if (StringUtils.hasText(replyTo)) {
+                message.setReplyTo(InternetAddress.parse(replyTo, false));
+            }
+
+            message.setSubject(subject);
+
+            String msg = StringUtils.hasText(body) ? body : "";
+
+            MimeBodyPart mimeBodyPart = new MimeBodyPart();
+
+            // By default, all emails sent will be of type HTML. This can be parameterized. For simplification reasons,
+            // use the text/html mime type right now.
+            mimeBodyPart.setContent(msg, "text/html");
+
+            multipart.addBodyPart(mimeBodyPart);
+            message.setContent(multipart);
+            return message;
+        }
+
+        /**
+         * Sends the message over an already connected transport, unlike Transport.send which connects for every message.
+         */
+        private void sendMessage(Transport transport, Message message) throws MessagingException {
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+        }
+
         @Override
-        public Mono<Session> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<SmtpConnection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
             Endpoint endpoint = datasourceConfiguration.getEndpoints().get(0);
             DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -184,18 +328,14 @@ public class SmtpPlugin extends BasePlugin {
                     return new PasswordAuthentication(username, password);
                 }
             });
-            return Mono.just(session);
+            return Mono.just(new SmtpConnection(session));
         }
 
         @Override
-        public void datasourceDestroy(Session session) {
+        public void datasourceDestroy(SmtpConnection connection) {
             log.debug("Going to destroy email datasource");
-            try {
-                if (session != null && session.getTransport() != null) {
-                    session.getTransport().close();
-                }
-            } catch (MessagingException e) {
-                e.printStackTrace();
+            if (connection != null) {
+                connection.close();
             }
         }
 
@@ -225,15 +365,12 @@ public class SmtpPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(Session connection) {
+        public Mono<DatasourceTestResult> testDatasource(SmtpConnection connection) {
             log.debug("Going to test email datasource");
             return Mono.fromCallable(() -> {
                         Set<String> invalids = new HashSet<>();
                         try {
-                            Transport transport = connection.getTransport();
-                            if (transport != null) {
-                                transport.connect();
-                            }
+                            connection.releaseTransport(connection.acquireTransport());
                             return invalids;
                         } catch (NoSuchProviderException e) {
                             invalids.add("Unable to create underlying SMTP protocol. Please contact support");
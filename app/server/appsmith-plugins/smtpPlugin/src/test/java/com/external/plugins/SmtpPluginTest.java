@@ -9,6 +9,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.GenericContainer;
@@ -18,13 +19,13 @@ import org.testcontainers.utility.DockerImageName;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import jakarta.mail.Session;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -321,7 +322,7 @@ public class SmtpPluginTest {
     public void testSendEmailValidWithAttachment() {
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Session> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<SmtpConnection> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = createActionConfiguration();
         PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "send.attachments", "");
@@ -339,7 +340,7 @@ public class SmtpPluginTest {
     @Test
     public void testSendMultipleEmailsConcurrently() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Session> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<SmtpConnection> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration1 = createActionConfiguration();
         ActionConfiguration actionConfiguration2 = createActionConfiguration();
@@ -358,4 +359,70 @@ public class SmtpPluginTest {
                 .verifyComplete();
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSendMultipleEmailsReusesTransport() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        SmtpConnection connection = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        Mono<ActionExecutionResult> emailsMono = pluginExecutor.execute(connection, dsConfig, createActionConfiguration())
+                .then(pluginExecutor.execute(connection, dsConfig, createActionConfiguration()));
+
+        StepVerifier.create(emailsMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    // The second email is sent over the transport of the first one, which is then kept for the next
+                    assertEquals(1, connection.getIdleTransportCount());
+                })
+                .verifyComplete();
+
+        pluginExecutor.datasourceDestroy(connection);
+        assertEquals(0, connection.getIdleTransportCount());
+    }
+
+    @Test
+    public void testBulkSend_withOneInvalidEmail_sendsTheOthers() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        Map<String, Object> formData = new HashMap<>();
+        PluginUtils.setValueSafelyInFormData(formData, "command", "BULK_SEND");
+        PluginUtils.setValueSafelyInFormData(formData, "bulk.from", "from@test.com");
+        PluginUtils.setValueSafelyInFormData(formData, "bulk.messages", "[" +
+                "{\"to\": \"to1@test.com\", \"subject\": \"Subject 1\", \"body\": \"Body 1\"}," +
+                "{\"subject\": \"Subject 2\", \"body\": \"Body 2\"}," +
+                "{\"to\": \"to3@test.com\", \"from\": \"from3@test.com\", \"subject\": \"Subject 3\"}" +
+                "]");
+        actionConfiguration.setFormData(formData);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.execute(connection, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    JsonNode body = (JsonNode) result.getBody();
+                    assertEquals(2, body.get("sentCount").asInt());
+                    assertEquals(1, body.get("failures").size());
+                    assertEquals(1, body.get("failures").get(0).get("index").asInt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testBulkSend_withInvalidMessages_returnsError() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        Map<String, Object> formData = new HashMap<>();
+        PluginUtils.setValueSafelyInFormData(formData, "command", "BULK_SEND");
+        PluginUtils.setValueSafelyInFormData(formData, "bulk.messages", "not an array");
+        actionConfiguration.setFormData(formData);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.execute(connection, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .expectErrorMatches(e -> e instanceof AppsmithPluginException &&
+                        e.getMessage().equals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getMessage("Unable to parse the emails to send because it was not a valid array of objects.")))
+                .verify();
+    }
+}
@@ -12,7 +12,9 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.utils.SqlUtils;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
@@ -22,7 +24,6 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -32,26 +33,38 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 
 import static com.external.utils.ExecutionUtils.getRowsFromQueryResult;
+import static com.external.utils.SnowflakeDatasourceUtils.JDBC_DRIVER;
+import static com.external.utils.SnowflakeDatasourceUtils.createConnectionPool;
+import static com.external.utils.SnowflakeDatasourceUtils.getConnectionFromConnectionPool;
+import static com.external.utils.SnowflakeDatasourceUtils.printConnectionPoolStatus;
 import static com.external.utils.ValidationUtils.validateWarehouseDatabaseSchema;
 
 @Slf4j
 public class SnowflakePlugin extends BasePlugin {
 
+    private static int MAX_SIZE_SUPPORTED;
+
     public SnowflakePlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
     @Extension
-    public static class SnowflakePluginExecutor implements PluginExecutor<Connection> {
+    public static class SnowflakePluginExecutor implements PluginExecutor<HikariDataSource> {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public SnowflakePluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+        }
+
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(HikariDataSource connectionPool, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
 
             String query = actionConfiguration.getBody();
 
@@ -63,11 +76,18 @@ public class SnowflakePlugin extends BasePlugin {
 
             return Mono
                     .fromCallable(() -> {
+                        Connection connection = getConnection(connectionPool);
+
+                        /**
+                         * Keeping this print statement post call to getConnectionFromConnectionPool because it checks for
+                         * stale connection pool.
+                         */
+                        printConnectionPoolStatus(connectionPool, false);
+
                         try {
-                            // Connection staleness is checked as part of this method call.
-                            return getRowsFromQueryResult(connection, query);
-                        } catch (AppsmithPluginException | StaleConnectionException e) {
-                            throw e;
+                            return getRowsFromQueryResult(connection, query, MAX_SIZE_SUPPORTED);
+                        } finally {
+                            closeConnection(connection);
                         }
                     })
                     .map(rowsList -> {
@@ -82,48 +102,59 @@ public class SnowflakePlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Borrows a connection from the pool. If the pool has been closed or the connection can't be set up, the pool is
+         * reported as stale so that it gets destroyed and recreated.
+         */
+        private Connection getConnection(HikariDataSource connectionPool) {
+            try {
+                return getConnectionFromConnectionPool(connectionPool);
+            } catch (SQLException | StaleConnectionException e) {
+                /**
+                 * When the user configured time limit for the query execution is over, and the query is still
+                 * queued in the connectionPool then InterruptedException is thrown as the execution thread is
+                 * prepared for termination. This exception is wrapped inside SQLException and hence needs to be
+                 * checked via getCause method. This exception does not indicate a Stale connection.
+                 */
+                if (e.getCause() != null && e.getCause().getClass().equals(InterruptedException.class)) {
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage());
+                }
+
+                log.error("Error getting connection from Snowflake connection pool. Cause: ", e);
+                throw new StaleConnectionException();
+            }
+        }
+
+        private void closeConnection(Connection connection) {
+            try {
+                // Returns the connection to the pool
+                connection.close();
+            } catch (SQLException e) {
+                log.error("Error returning Snowflake connection to pool. Cause: ", e);
+            }
+        }
+
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
-                Class.forName("net.snowflake.client.jdbc.SnowflakeDriver");
+                Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException ex) {
                 log.debug("Driver not found");
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, ex.getMessage()));
             }
-            DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-            Properties properties = new Properties();
-            properties.setProperty("user", authentication.getUsername());
-            properties.setProperty("password", authentication.getPassword());
-            properties.setProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
-            properties.setProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
-            properties.setProperty("schema", String.valueOf(datasourceConfiguration.getProperties().get(2).getValue()));
-            properties.setProperty("role", String.valueOf(datasourceConfiguration.getProperties().get(3).getValue()));
 
             return Mono
                     .fromCallable(() -> {
-                        Connection conn;
-                        try {
-                            conn = DriverManager.getConnection("jdbc:snowflake://" + datasourceConfiguration.getUrl() + ".snowflakecomputing.com", properties);
-                        } catch (SQLException e) {
-                            log.error("Exception caught when connecting to Snowflake endpoint: " + datasourceConfiguration.getUrl() + ". Cause: ", e);
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
-                        }
-                        if (conn == null) {
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unable to create connection to Snowflake URL");
-                        }
-                        return conn;
+                        log.debug(Thread.currentThread().getName() + ": Connecting to Snowflake db");
+                        return createConnectionPool(datasourceConfiguration);
                     })
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
-            if (connection != null) {
-                try {
-                    connection.close();
-                } catch (SQLException throwable) {
-                    log.error("Exception caught when closing Snowflake connection. Cause: ", throwable);
-                }
+        public void datasourceDestroy(HikariDataSource connectionPool) {
+            if (connectionPool != null) {
+                connectionPool.close();
             }
         }
 
@@ -176,23 +207,36 @@ public class SnowflakePlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(Connection connection) {
+        public Mono<DatasourceTestResult> testDatasource(HikariDataSource connectionPool) {
             return Mono.fromCallable(() -> {
-                        return validateWarehouseDatabaseSchema(connection);
+                        Connection connection = getConnection(connectionPool);
+                        try {
+                            return validateWarehouseDatabaseSchema(connection);
+                        } finally {
+                            closeConnection(connection);
+                        }
                     })
-                    .map(DatasourceTestResult::new);
+                    .map(DatasourceTestResult::new)
+                    .subscribeOn(scheduler);
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connectionPool, DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
             return Mono
                     .fromSupplier(() -> {
-                        try {
-                            // Connection staleness is checked as part of this method call.
+                        Connection connection = getConnection(connectionPool);
+
+                        /**
+                         * Keeping this print statement post call to getConnectionFromConnectionPool because it checks for
+                         * stale connection pool.
+                         */
+                        printConnectionPoolStatus(connectionPool, true);
+
+                        try (connection) {
                             Set<String> invalids = validateWarehouseDatabaseSchema(connection);
                             if (!invalids.isEmpty()) {
                                 throw new AppsmithPluginException(
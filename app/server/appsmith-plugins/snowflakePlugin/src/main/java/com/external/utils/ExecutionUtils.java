@@ -3,6 +3,7 @@ package com.external.utils;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import lombok.extern.slf4j.Slf4j;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 
@@ -29,17 +30,29 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query) throws
             AppsmithPluginException, StaleConnectionException {
+        return getRowsFromQueryResult(connection, query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Execute query and return the resulting table as a list of rows, failing as soon as the estimated size of the rows
+     * read so far goes beyond the given limit.
+     *
+     * @param connection - Connection object to execute query.
+     * @param query      - Query string
+     * @param maxSize    - Maximum supported size of the result in bytes.
+     * @return List of rows from the response table.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query, int maxSize) throws
+            AppsmithPluginException, StaleConnectionException {
         List<Map<String, Object>> rowsList = new ArrayList<>();
+        ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(maxSize);
         ResultSet resultSet = null;
         Statement statement = null;
         try {
-            // We do not use keep alive threads for our connections since these might become expensive
-            // Instead for every execution, we check for connection validity,
-            // and reset the connection if required
-            if (!connection.isValid(30)) {
-                throw new StaleConnectionException();
-            }
-
+            // Connections are checked for validity by the connection pool when they are handed out, so that isn't
+            // repeated here.
             statement = connection.createStatement();
             resultSet = statement.executeQuery(query);
             ResultSetMetaData metaData = resultSet.getMetaData();
@@ -54,6 +67,12 @@ public class ExecutionUtils {
                     row.put(metaData.getColumnName(i), value);
                 }
                 rowsList.add(row);
+
+                if (resultSizeEstimator.addRow(row) > maxSize) {
+                    log.debug("[SnowflakePlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                            maxSize, resultSizeEstimator.getCurrentSize());
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (maxSize / (1024 * 1024)));
+                }
             }
         } catch (SQLException e) {
             if (e instanceof SnowflakeReauthenticationRequest) {
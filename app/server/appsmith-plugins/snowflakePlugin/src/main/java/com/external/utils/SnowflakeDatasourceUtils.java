@@ -0,0 +1,128 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Property;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.pool.HikariPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+@Slf4j
+public class SnowflakeDatasourceUtils {
+
+    public static final String JDBC_DRIVER = "net.snowflake.client.jdbc.SnowflakeDriver";
+    private static final String JDBC_PROTOCOL = "jdbc:snowflake://";
+    private static final String SNOWFLAKE_DOMAIN = ".snowflakecomputing.com";
+
+    private static final int MINIMUM_POOL_SIZE = 1;
+    public static final int DEFAULT_MAXIMUM_POOL_SIZE = 5;
+    public static final int MAXIMUM_POOL_SIZE_LIMIT = 20;
+    private static final int POOL_SIZE_PROPERTY_INDEX = 4;
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    private static final long CONNECTION_TIMEOUT_MS = 60 * 1000;
+    // Snowflake closes sessions that have been idle for four hours, connections are retired well before that.
+    private static final long MAX_LIFETIME_MS = 30 * 60 * 1000;
+
+    public static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+        HikariConfig config = new HikariConfig();
+
+        config.setDriverClassName(JDBC_DRIVER);
+        config.setMinimumIdle(MINIMUM_POOL_SIZE);
+        config.setMaximumPoolSize(getMaximumPoolSize(datasourceConfiguration));
+
+        // Set authentication properties
+        DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+        if (authentication.getUsername() != null) {
+            config.setUsername(authentication.getUsername());
+        }
+        if (authentication.getPassword() != null) {
+            config.setPassword(authentication.getPassword());
+        }
+
+        // Set up the connection URL and the session parameters
+        config.setJdbcUrl(JDBC_PROTOCOL + datasourceConfiguration.getUrl() + SNOWFLAKE_DOMAIN);
+        final List<Property> properties = datasourceConfiguration.getProperties();
+        config.addDataSourceProperty("warehouse", String.valueOf(properties.get(0).getValue()));
+        config.addDataSourceProperty("db", String.valueOf(properties.get(1).getValue()));
+        config.addDataSourceProperty("schema", String.valueOf(properties.get(2).getValue()));
+        config.addDataSourceProperty("role", String.valueOf(properties.get(3).getValue()));
+
+        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
+        // should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        config.setConnectionTimeout(CONNECTION_TIMEOUT_MS);
+        config.setMaxLifetime(MAX_LIFETIME_MS);
+
+        // Now create the connection pool from the configuration
+        HikariDataSource datasource = null;
+        try {
+            datasource = new HikariDataSource(config);
+        } catch (HikariPool.PoolInitializationException e) {
+            log.error("Exception caught when connecting to Snowflake endpoint: " + datasourceConfiguration.getUrl() + ". Cause: ", e);
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    e.getMessage()
+            );
+        }
+
+        return datasource;
+    }
+
+    /**
+     * Reads the connection pool size configured for this datasource, falling back to the default if it is missing or
+     * invalid, and keeping it within the supported range.
+     */
+    public static int getMaximumPoolSize(DatasourceConfiguration datasourceConfiguration) {
+        final List<Property> properties = datasourceConfiguration.getProperties();
+        if (properties == null || properties.size() <= POOL_SIZE_PROPERTY_INDEX
+                || properties.get(POOL_SIZE_PROPERTY_INDEX) == null
+                || StringUtils.isEmpty(properties.get(POOL_SIZE_PROPERTY_INDEX).getValue())) {
+            return DEFAULT_MAXIMUM_POOL_SIZE;
+        }
+
+        try {
+            final int poolSize = Integer.parseInt(String.valueOf(properties.get(POOL_SIZE_PROPERTY_INDEX).getValue()).trim());
+            return Math.max(MINIMUM_POOL_SIZE, Math.min(poolSize, MAXIMUM_POOL_SIZE_LIMIT));
+        } catch (NumberFormatException e) {
+            return DEFAULT_MAXIMUM_POOL_SIZE;
+        }
+    }
+
+    /**
+     * Hikari checks that a connection is alive before handing it out, so callers don't need to validate it again.
+     */
+    public static Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws SQLException {
+
+        if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+            log.debug(Thread.currentThread().getName() +
+                    ": Encountered stale connection pool in Snowflake plugin. Reporting back.");
+            throw new StaleConnectionException();
+        }
+
+        return connectionPool.getConnection();
+    }
+
+    public static void printConnectionPoolStatus(HikariDataSource connectionPool, boolean isFetchingStructure) {
+        HikariPoolMXBean poolProxy = connectionPool.getHikariPoolMXBean();
+        int idleConnections = poolProxy.getIdleConnections();
+        int activeConnections = poolProxy.getActiveConnections();
+        int totalConnections = poolProxy.getTotalConnections();
+        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
+        log.debug(Thread.currentThread().getName() + (isFetchingStructure ? "Before fetching Snowflake db" +
+                " structure." : "Before executing Snowflake query.") + " Hikari Pool stats : " +
+                " active - " + activeConnections +
+                ", idle - " + idleConnections +
+                ", awaiting - " + threadsAwaitingConnection +
+                ", total - " + totalConnections);
+    }
+}
@@ -6,8 +6,12 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.services.SharedConfig;
 import com.external.utils.ExecutionUtils;
+import com.external.utils.SnowflakeDatasourceUtils;
 import com.external.utils.ValidationUtils;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.extern.slf4j.Slf4j;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,8 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -33,12 +39,31 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
 public class SnowflakePluginTest {
 
-    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor = new SnowflakePlugin.SnowflakePluginExecutor();
+    public class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 5 * 1024 * 1024;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
+    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor = new SnowflakePlugin.SnowflakePluginExecutor(new MockSharedConfig());
 
     @Test
     public void testValidateDatasource_withInvalidCredentials_returnsInvalids() {
@@ -57,12 +82,73 @@ public class SnowflakePluginTest {
         assertTrue(output.contains("Missing schema name."));
     }
 
+    private HikariDataSource getMockConnectionPool(Connection connection) throws SQLException {
+        final HikariDataSource connectionPool = mock(HikariDataSource.class);
+        when(connectionPool.isClosed()).thenReturn(false);
+        when(connectionPool.isRunning()).thenReturn(true);
+        when(connectionPool.getConnection()).thenReturn(connection);
+        when(connectionPool.getHikariPoolMXBean()).thenReturn(mock(HikariPoolMXBean.class));
+        return connectionPool;
+    }
+
+    @Test
+    public void testExecute_withClosedConnectionPool_returnsStaleConnectionException() {
+        final HikariDataSource connectionPool = mock(HikariDataSource.class);
+        when(connectionPool.isClosed()).thenReturn(true);
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("select 1");
+
+        StepVerifier.create(pluginExecutor.execute(connectionPool, new DatasourceConfiguration(), actionConfiguration))
+                .expectErrorMatches(e -> e instanceof StaleConnectionException)
+                .verify();
+    }
+
+    @Test
+    public void testExecute_returnsConnectionToPool() throws SQLException {
+        final String testQuery = "select 1";
+        final Connection connection = mock(Connection.class);
+        final HikariDataSource connectionPool = getMockConnectionPool(connection);
+        final Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(statement.executeQuery(testQuery)).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(mock(ResultSetMetaData.class));
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(testQuery);
+
+        StepVerifier.create(pluginExecutor.execute(connectionPool, new DatasourceConfiguration(), actionConfiguration))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testGetMaximumPoolSize_withMissingOrInvalidValue_returnsDefaultOrClampedValue() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setProperties(List.of(new Property(), new Property(), new Property(), new Property()));
+        assertEquals(SnowflakeDatasourceUtils.DEFAULT_MAXIMUM_POOL_SIZE,
+                SnowflakeDatasourceUtils.getMaximumPoolSize(datasourceConfiguration));
+
+        datasourceConfiguration.setProperties(List.of(new Property(), new Property(), new Property(), new Property(),
+                new Property("Connection pool size", "abc")));
+        assertEquals(SnowflakeDatasourceUtils.DEFAULT_MAXIMUM_POOL_SIZE,
+                SnowflakeDatasourceUtils.getMaximumPoolSize(datasourceConfiguration));
+
+        datasourceConfiguration.setProperties(List.of(new Property(), new Property(), new Property(), new Property(),
+                new Property("Connection pool size", "10")));
+        assertEquals(10, SnowflakeDatasourceUtils.getMaximumPoolSize(datasourceConfiguration));
+
+        datasourceConfiguration.setProperties(List.of(new Property(), new Property(), new Property(), new Property(),
+                new Property("Connection pool size", "500")));
+        assertEquals(SnowflakeDatasourceUtils.MAXIMUM_POOL_SIZE_LIMIT,
+                SnowflakeDatasourceUtils.getMaximumPoolSize(datasourceConfiguration));
+    }
+
     @Test
     public void testExecute_authenticationTimeout_returnsStaleConnectionException() throws SQLException {
         final String testQuery = "testQuery";
         final Connection connection = mock(Connection.class);
-        when(connection.isValid(30))
-                .thenReturn(true);
+        final HikariDataSource connectionPool = getMockConnectionPool(connection);
         final Statement statement = mock(Statement.class);
         when(connection.createStatement())
                 .thenReturn(statement);
@@ -75,7 +161,7 @@ public class SnowflakePluginTest {
         final ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody(testQuery);
         final Mono<ActionExecutionResult> actionExecutionResultMono =
-                pluginExecutor.execute(connection, new DatasourceConfiguration(), actionConfiguration);
+                pluginExecutor.execute(connectionPool, new DatasourceConfiguration(), actionConfiguration);
 
         StepVerifier.create(actionExecutionResultMono)
                 .expectErrorMatches(e -> e instanceof StaleConnectionException)
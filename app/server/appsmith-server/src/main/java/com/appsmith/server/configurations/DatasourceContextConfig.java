@@ -0,0 +1,68 @@
+package com.appsmith.server.configurations;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Limits on the datasource contexts (i.e. connections or connection pools to the datasources) that are kept open on
+ * this server.
+ */
+@Getter
+@Setter
+@Configuration
+@Slf4j
+public class DatasourceContextConfig {
+
+    // Maximum number of datasource contexts that are kept open at a time. The least recently used one is closed first.
+    @Value("${appsmith.datasource.context.max-size:1000}")
+    private int maxSize;
+
+    @Setter(AccessLevel.NONE)
+    private Duration maxIdleTime;
+
+    // Plugin package name mapped to the maximum number of datasource contexts kept open for that plugin.
+    @Setter(AccessLevel.NONE)
+    private Map<String, Integer> maxSizeByPlugin = Collections.emptyMap();
+
+    @Autowired
+    public void setMaxIdleTime(@Value("${appsmith.datasource.context.max-idle-time-seconds:1800}") long value) {
+        maxIdleTime = Duration.ofSeconds(value);
+    }
+
+    /**
+     * Reads the per plugin limits, given as comma separated `packageName:maxSize` pairs. For example,
+     * `postgres-plugin:200,mongo-plugin:100`.
+     */
+    @Autowired
+    public void setMaxSizeByPlugin(@Value("${appsmith.datasource.context.plugin-max-size:}") String value) {
+        if (!StringUtils.hasText(value)) {
+            return;
+        }
+
+        final Map<String, Integer> limits = new HashMap<>();
+        for (String limit : value.trim().split("\\s*,[,\\s]*")) {
+            final String[] parts = limit.split("\\s*:\\s*");
+            try {
+                limits.put(parts[0], Integer.parseInt(parts[1]));
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                log.error("Ignoring invalid datasource context limit `{}`. Expected `packageName:maxSize`.", limit);
+            }
+        }
+        maxSizeByPlugin = Collections.unmodifiableMap(limits);
+    }
+
+    public Integer getMaxSizeForPlugin(String pluginPackageName) {
+        return pluginPackageName == null ? null : maxSizeByPlugin.get(pluginPackageName);
+    }
+}
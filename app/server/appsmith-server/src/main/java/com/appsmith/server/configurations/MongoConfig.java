@@ -1,6 +1,7 @@
 package com.appsmith.server.configurations;
 
 import com.appsmith.external.annotations.documenttype.DocumentTypeMapper;
+import com.appsmith.external.annotations.encryption.DeferredSecrets;
 import com.appsmith.external.annotations.encryption.EncryptionMongoEventListener;
 import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.services.EncryptionService;
@@ -125,4 +126,9 @@ public class MongoConfig {
         return new EncryptionMongoEventListener(encryptionService);
     }
 
+    @Bean
+    public DeferredSecrets deferredSecrets(EncryptionService encryptionService) {
+        return new DeferredSecrets(encryptionService);
+    }
+
 }
@@ -1,12 +1,15 @@
 package com.appsmith.server.controllers.ce;
 
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionStreamFrame;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.constants.Url;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.server.dtos.ActionMoveDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ExecutePageLoadActionsDTO;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.PageLoadActionExecutionResultDTO;
 import com.appsmith.server.dtos.RefactorActionNameDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.services.LayoutActionService;
@@ -80,6 +83,23 @@ public class ActionControllerCE {
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    @PostMapping(value = "/execute/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ActionExecutionStreamFrame> executeActionStreamed(@RequestBody Flux<Part> partFlux,
+                                                                  @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+                                                                  @RequestHeader(name = FieldName.ENVIRONMENT_NAME, required = false) String environmentName) {
+        return newActionService.executeActionStreamed(partFlux, branchName, environmentName);
+    }
+
+    /**
+     * Executes the actions of one page load layer and streams back the result of each action as soon as it completes.
+     */
+    @PostMapping(value = "/execute/page-load", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PageLoadActionExecutionResultDTO> executePageLoadActions(@RequestBody @Valid ExecutePageLoadActionsDTO executePageLoadActionsDTO,
+                                                                         @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+                                                                         @RequestHeader(name = FieldName.ENVIRONMENT_NAME, required = false) String environmentName) {
+        return newActionService.executePageLoadActions(executePageLoadActionsDTO, branchName, environmentName);
+    }
+
     @PutMapping("/move")
     public Mono<ResponseDTO<ActionDTO>> moveAction(@RequestBody @Valid ActionMoveDTO actionMoveDTO,
                                                    @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
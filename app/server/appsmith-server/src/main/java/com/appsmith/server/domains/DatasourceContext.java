@@ -1,10 +1,12 @@
 package com.appsmith.server.domains;
 
+import com.appsmith.external.models.DatasourceConfiguration;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Getter
 @Setter
@@ -14,7 +16,26 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // Used to close the least recently used and idle contexts
+    volatile Instant lastAccessTime;
+
+    String pluginId;
+
+    // A context is not evicted while its connection is being created, or while actions are being executed on it
+    volatile boolean connectionPending;
+
+    @ToString.Exclude
+    final AtomicInteger executionsInFlight = new AtomicInteger();
+
+    // The configuration the connection was created with, with its secrets decrypted. It is handed out again to the
+    // executions on this context while the datasource hasn't been updated since, so they don't decrypt it every time.
+    @ToString.Exclude
+    DatasourceConfiguration decryptedConfiguration;
+
+    Instant decryptedConfigurationUpdatedAt;
+
     public DatasourceContext() {
         creationTime = Instant.now();
+        lastAccessTime = creationTime;
     }
 }
@@ -0,0 +1,29 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import lombok.Getter;
+import lombok.Setter;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * Request to execute the actions of one page load layer, i.e. the actions that don't depend on each other, in one call.
+ * Each entry carries the same fields as the `executeActionDTO` part of a single execution, along with its params. The
+ * params are identified by their pseudo binding names, as in the multipart request, e.g.
+ * `{"actionId": "..", "paramProperties": {"k0": "string"}, "parameterMap": {"Input1.text": "k0"},
+ * "params": [{"pseudoBindingName": "k0", "value": "xyz"}]}`
+ */
+@Getter
+@Setter
+public class ExecutePageLoadActionsDTO {
+
+    @NotNull
+    String pageId;
+
+    Boolean viewMode = false;
+
+    @NotEmpty
+    List<ExecuteActionDTO> actions;
+}
@@ -0,0 +1,24 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Result of one action in a page load batch. Results are sent as soon as the action completes, so the action id tells
+ * the client which action the result belongs to.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PageLoadActionExecutionResultDTO {
+
+    String actionId;
+
+    ActionExecutionResult result;
+}
@@ -0,0 +1,34 @@
+package com.appsmith.server.filters;
+
+import com.appsmith.server.helpers.PermissionGroupsRequestCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * This filter puts a new PermissionGroupsRequestCache in the Reactor context of every request, so that the permission
+ * groups of the current user are resolved once per request instead of once per repository query.
+ */
+@Component
+public class PermissionGroupsRequestCacheFilter implements WebFilter {
+
+    private final Counter reusedCounter;
+
+    public PermissionGroupsRequestCacheFilter(MeterRegistry meterRegistry) {
+        this.reusedCounter = Counter.builder("appsmith.permission.groups.request.cache.reused")
+                .description("Number of times the permission groups of a user were reused within a request instead of being resolved again")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final PermissionGroupsRequestCache permissionGroupsRequestCache = new PermissionGroupsRequestCache();
+        return chain.filter(exchange)
+                .contextWrite(ctx -> ctx.put(PermissionGroupsRequestCache.CONTEXT_KEY, permissionGroupsRequestCache))
+                .doFinally(signalType -> reusedCounter.increment(permissionGroupsRequestCache.getReuseCount()));
+    }
+}
@@ -0,0 +1,151 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.dtos.GitStatusDTO;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationPage;
+import com.appsmith.server.domains.GitApplicationMetadata;
+import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.ThemeRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Keeps the last git status computed for every branch of the applications, along with a watermark of the state of the
+ * branch in the database when it was computed. The watermark changes whenever the application, or one of its pages,
+ * actions, action collections, its theme or a datasource of its workspace is written, so a cached status is only
+ * served while none of them has changed since it was computed. Some updates of the application, like reordering its
+ * pages or changing its default page or its theme, don't touch its updatedAt, so its pages and its theme id are part
+ * of the watermark as well.
+ * <p>
+ * Changes to the repo that don't go through the database, like a push, evict the statuses of the application. Statuses
+ * also expire after a while, which bounds how long a status can be served after a change made through another server.
+ */
+@Component
+@RequiredArgsConstructor
+public class GitStatusCache {
+
+    private static final long MAXIMUM_SIZE = 10000;
+
+    private static final Duration STATUS_TTL = Duration.ofMinutes(5);
+
+    // The remote branch is fetched at most once in this interval when the status of a branch is asked for
+    private static final Duration REMOTE_FETCH_INTERVAL = Duration.ofMinutes(1);
+
+    private final NewPageRepository newPageRepository;
+
+    private final NewActionRepository newActionRepository;
+
+    private final ActionCollectionRepository actionCollectionRepository;
+
+    private final ThemeRepository themeRepository;
+
+    private final DatasourceRepository datasourceRepository;
+
+    private final Cache<String, CachedStatus> statuses = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(STATUS_TTL)
+            .build();
+
+    private final Cache<String, Instant> remoteFetchTimes = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(REMOTE_FETCH_INTERVAL)
+            .build();
+
+    /**
+     * Computes the watermark of the branch of the application, with one query per collection that is aggregated inside
+     * the database.
+     */
+    public Mono<String> getWatermark(Application application) {
+        final List<Criteria> applicationCriteria = List.of(where(FieldName.APPLICATION_ID).is(application.getId()));
+        // The datasources used by the actions are exported along with the application, and are shared by the workspace
+        final List<Criteria> workspaceCriteria = List.of(where(FieldName.WORKSPACE_ID).is(application.getWorkspaceId()));
+        final GitApplicationMetadata gitData = application.getGitApplicationMetadata();
+
+        Mono<String> themeWatermarkMono = application.getEditModeThemeId() == null
+                ? Mono.just("")
+                : themeRepository.findById(application.getEditModeThemeId())
+                        .map(theme -> String.valueOf(theme.getUpdatedAt()))
+                        .defaultIfEmpty("");
+
+        return Mono.zip(
+                        newPageRepository.getLastModifiedWatermark(applicationCriteria),
+                        newActionRepository.getLastModifiedWatermark(applicationCriteria),
+                        actionCollectionRepository.getLastModifiedWatermark(applicationCriteria),
+                        datasourceRepository.getLastModifiedWatermark(workspaceCriteria),
+                        themeWatermarkMono
+                )
+                .map(tuple -> String.join("|",
+                        String.valueOf(application.getUpdatedAt()),
+                        String.valueOf(gitData == null ? null : gitData.getLastCommittedAt()),
+                        getPagesWatermark(application.getPages()),
+                        String.valueOf(application.getEditModeThemeId()),
+                        tuple.getT1(),
+                        tuple.getT2(),
+                        tuple.getT3(),
+                        tuple.getT4(),
+                        tuple.getT5()
+                ));
+    }
+
+    private static String getPagesWatermark(List<ApplicationPage> pages) {
+        if (pages == null) {
+            return "";
+        }
+        // The order of the pages and the default page are exported along with their ids
+        return pages.stream()
+                .map(page -> page.getId() + (Boolean.TRUE.equals(page.getIsDefault()) ? "*" : ""))
+                .collect(Collectors.joining(","));
+    }
+
+    public Optional<GitStatusDTO> get(String defaultApplicationId, String branchName, String watermark) {
+        final CachedStatus cachedStatus = statuses.getIfPresent(getKey(defaultApplicationId, branchName));
+        if (cachedStatus == null || !cachedStatus.watermark().equals(watermark)) {
+            return Optional.empty();
+        }
+        return Optional.of(cachedStatus.status());
+    }
+
+    public void put(String defaultApplicationId, String branchName, String watermark, GitStatusDTO status) {
+        statuses.put(getKey(defaultApplicationId, branchName), new CachedStatus(watermark, status));
+    }
+
+    /**
+     * Evicts the statuses of all the branches of the application.
+     */
+    public void evict(String defaultApplicationId) {
+        final String keyPrefix = getKey(defaultApplicationId, "");
+        statuses.asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    /**
+     * Claims the fetch of the remote branch, unless it has been claimed within the last {@link #REMOTE_FETCH_INTERVAL}.
+     *
+     * @return true if the remote branch should be fetched by the caller
+     */
+    public boolean tryStartRemoteFetch(String defaultApplicationId, String branchName) {
+        return remoteFetchTimes.asMap().putIfAbsent(getKey(defaultApplicationId, branchName), Instant.now()) == null;
+    }
+
+    private static String getKey(String defaultApplicationId, String branchName) {
+        return defaultApplicationId + "/" + branchName;
+    }
+
+    private record CachedStatus(String watermark, GitStatusDTO status) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.appsmith.server.helpers;
+
+import com.google.gson.Gson;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+public class ImportFileUtils {
+
+    private ImportFileUtils() {
+    }
+
+    /**
+     * Parses the JSON document in the uploaded file from the buffers it was received in, without copying the file into
+     * a byte array and a string first. The whole file is still received before parsing starts, so it is held in memory
+     * once, but every buffer is released as soon as the parser has read past it, so the memory taken by the file
+     * shrinks while the parsed object grows.
+     * <p>
+     * Parsing a large file takes a while, so it is done on the bounded elastic scheduler instead of the thread that
+     * received the last buffer.
+     *
+     * @return the parsed object, or an empty Mono if the file has no content.
+     */
+    public static <T> Mono<T> readJson(Flux<DataBuffer> content, Gson gson, Type type) {
+        return content
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                // Buffers that were collected before an error or a cancellation are dropped by collectList
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .flatMap(dataBuffers -> {
+                    try (Reader reader = new InputStreamReader(toInputStream(dataBuffers), StandardCharsets.UTF_8)) {
+                        return Mono.justOrEmpty(gson.<T>fromJson(reader, type));
+                    } catch (IOException e) {
+                        throw Exceptions.propagate(e);
+                    }
+                });
+    }
+
+    /**
+     * Reads the buffers one after the other. Each buffer is released when it has been read to the end, and the ones
+     * that haven't been read yet are released when the stream is closed.
+     */
+    private static InputStream toInputStream(List<DataBuffer> dataBuffers) {
+        final List<InputStream> inputStreams = dataBuffers.stream()
+                .map(dataBuffer -> dataBuffer.asInputStream(true))
+                .toList();
+        return new SequenceInputStream(Collections.enumeration(inputStreams));
+    }
+}
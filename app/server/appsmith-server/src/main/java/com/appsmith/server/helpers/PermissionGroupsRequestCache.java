@@ -0,0 +1,70 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.User;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the permission groups of the users resolved while serving a single request, so that the repositories don't
+ * resolve them again for every query of the request. An instance is put in the Reactor context of every request by
+ * PermissionGroupsRequestCacheFilter. It is cleared whenever the permission groups of a user are evicted from the cache,
+ * so that the rest of the request sees the changed permission groups.
+ */
+public class PermissionGroupsRequestCache {
+
+    public static final String CONTEXT_KEY = "permission-groups-request-cache";
+
+    private final Map<String, Set<String>> permissionGroupsByUser = new ConcurrentHashMap<>();
+
+    // Incremented on every clear, so that permission groups resolved before a clear aren't kept
+    private final AtomicLong clearCount = new AtomicLong(0);
+
+    private final AtomicInteger reuseCount = new AtomicInteger(0);
+
+    public static String getUserKey(User user) {
+        return user.getEmail() + user.getTenantId();
+    }
+
+    /**
+     * Returns a copy of the permission groups of the user if they have been resolved earlier in the request, null
+     * otherwise.
+     */
+    public Set<String> get(String userKey) {
+        final Set<String> permissionGroups = permissionGroupsByUser.get(userKey);
+        if (permissionGroups == null) {
+            return null;
+        }
+        reuseCount.incrementAndGet();
+        return new HashSet<>(permissionGroups);
+    }
+
+    public long getClearCount() {
+        return clearCount.get();
+    }
+
+    /**
+     * Keeps the permission groups of the user, unless the cache was cleared since the given clear count was read.
+     */
+    public void put(String userKey, Set<String> permissionGroups, long clearCountAtResolution) {
+        if (clearCount.get() == clearCountAtResolution) {
+            permissionGroupsByUser.put(userKey, new HashSet<>(permissionGroups));
+        }
+    }
+
+    public void clear() {
+        clearCount.incrementAndGet();
+        permissionGroupsByUser.clear();
+    }
+
+    /**
+     * Returns the number of times the permission groups of a user were reused instead of being resolved again.
+     */
+    public int getReuseCount() {
+        return reuseCount.get();
+    }
+}
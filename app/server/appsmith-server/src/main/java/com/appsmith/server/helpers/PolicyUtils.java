@@ -1,16 +1,18 @@
 package com.appsmith.server.helpers;
 
+import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.BaseDomain;
-import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
+import com.appsmith.external.models.QDatasource;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
-import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.CommentThread;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.PermissionGroup;
+import com.appsmith.server.domains.QActionCollection;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.QNewAction;
+import com.appsmith.server.domains.QNewPage;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.Permission;
@@ -27,6 +29,7 @@ import com.appsmith.server.solutions.PagePermission;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
@@ -44,6 +47,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.READ_THEMES;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Component
 @AllArgsConstructor
@@ -198,104 +203,52 @@ public class PolicyUtils {
                 .collect(Collectors.toMap(Policy::getPermission, Function.identity()));
     }
 
-    public Flux<Datasource> updateWithNewPoliciesToDatasourcesByWorkspaceId(String workspaceId, Map<String, Policy> newPoliciesMap, boolean addPolicyToObject) {
-
+    /**
+     * Adds the given policies to, or removes them from, all the datasources of the workspace. The policies are updated
+     * inside the database, see {@link com.appsmith.server.repositories.AppsmithRepository#updatePolicies}.
+     *
+     * @return the number of datasources whose policies were updated
+     */
+    public Mono<Long> updateWithNewPoliciesToDatasourcesByWorkspaceId(String workspaceId, Map<String, Policy> newPoliciesMap, boolean addPolicyToObject) {
+        Criteria workspaceIdCriteria = where(fieldName(QDatasource.datasource.workspaceId)).is(workspaceId);
+        // update datasources with execute permissions so that app viewers can invite other app viewers
         return datasourceRepository
-                // fetch datasources with execute permissions so that app viewers can invite other app viewers
-                .findAllByWorkspaceId(workspaceId, datasourcePermission.getExecutePermission())
-                // In case we have come across a datasource for this workspace that the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .map(datasource -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newPoliciesMap, datasource);
-                    } else {
-                        return removePoliciesFromExistingObject(newPoliciesMap, datasource);
-                    }
-                })
-                .collectList()
-                .flatMapMany(updatedDatasources -> datasourceRepository.saveAll(updatedDatasources));
+                .updatePolicies(List.of(workspaceIdCriteria), datasourcePermission.getExecutePermission(), newPoliciesMap, addPolicyToObject);
     }
 
-    public Flux<Datasource> updateWithNewPoliciesToDatasourcesByDatasourceIds(Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
-
+    public Mono<Long> updateWithNewPoliciesToDatasourcesByDatasourceIds(Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
+        Criteria idsCriteria = where(fieldName(QDatasource.datasource.id)).in(ids);
+        // In case we have come across a datasource the current user is not allowed to manage, it is not updated.
         return datasourceRepository
-                .findAllByIds(ids, datasourcePermission.getEditPermission())
-                // In case we have come across a datasource the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .flatMap(datasource -> {
-                    Datasource updatedDatasource;
-                    if (addPolicyToObject) {
-                        updatedDatasource = addPoliciesToExistingObject(datasourcePolicyMap, datasource);
-                    } else {
-                        updatedDatasource = removePoliciesFromExistingObject(datasourcePolicyMap, datasource);
-                    }
-
-                    return Mono.just(updatedDatasource);
-                })
-                .collectList()
-                .flatMapMany(datasources -> datasourceRepository.saveAll(datasources));
+                .updatePolicies(List.of(idsCriteria), datasourcePermission.getEditPermission(), datasourcePolicyMap, addPolicyToObject);
     }
 
-    public Flux<Datasource> updateWithNewPoliciesToDatasourcesByDatasourceIdsWithoutPermission(Set<String> ids,
-                                                                                               Map<String, Policy> datasourcePolicyMap,
-                                                                                               boolean addPolicyToObject) {
-
-        // Find all the datasources without permission to update the policies.
+    public Mono<Long> updateWithNewPoliciesToDatasourcesByDatasourceIdsWithoutPermission(Set<String> ids,
+                                                                                          Map<String, Policy> datasourcePolicyMap,
+                                                                                          boolean addPolicyToObject) {
+        Criteria idsCriteria = where(fieldName(QDatasource.datasource.id)).in(ids);
+        // Update all the datasources without permission.
         return datasourceRepository
-                .findByIdIn(List.copyOf(ids))
-                .switchIfEmpty(Mono.empty())
-                .flatMap(datasource -> {
-                    Datasource updatedDatasource;
-                    if (addPolicyToObject) {
-                        updatedDatasource = addPoliciesToExistingObject(datasourcePolicyMap, datasource);
-                    } else {
-                        updatedDatasource = removePoliciesFromExistingObject(datasourcePolicyMap, datasource);
-                    }
-
-                    return Mono.just(updatedDatasource);
-                })
-                .collectList()
-                .flatMapMany(datasources -> datasourceRepository.saveAll(datasources));
+                .updatePolicies(List.of(idsCriteria), null, datasourcePolicyMap, addPolicyToObject);
     }
 
-    public Flux<Application> updateWithNewPoliciesToApplicationsByWorkspaceId(String workspaceId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
-
+    public Mono<Long> updateWithNewPoliciesToApplicationsByWorkspaceId(String workspaceId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
+        Criteria workspaceIdCriteria = where(fieldName(QApplication.application.workspaceId)).is(workspaceId);
+        // update applications with read permissions so that app viewers can invite other app viewers
         return applicationRepository
-                // fetch applications with read permissions so that app viewers can invite other app viewers
-                .findByWorkspaceId(workspaceId, applicationPermission.getReadPermission())
-                // In case we have come across an application for this workspace that the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .map(application -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newAppPoliciesMap, application);
-                    } else {
-                        return removePoliciesFromExistingObject(newAppPoliciesMap, application);
-                    }
-                })
-                .collectList()
-                .flatMapMany(updatedApplications -> applicationRepository.saveAll(updatedApplications));
+                .updatePolicies(List.of(workspaceIdCriteria), applicationPermission.getReadPermission(), newAppPoliciesMap, addPolicyToObject);
     }
 
-    public Flux<NewPage> updateWithApplicationPermissionsToAllItsPages(String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
+    public Mono<Long> updateWithApplicationPermissionsToAllItsPages(String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
 
-        // Instead of fetching pages from the application object, we fetch pages from the page repository. This ensures that all the published
+        // Instead of fetching pages from the application object, we update pages by their application id. This ensures that all the published
         // AND the unpublished pages are updated with the new policy change [This covers the edge cases where a page may exist
         // in published app but has been deleted in the edit mode]. This means that we don't have to do any special treatment
         // during deployment of the application to handle edge cases.
+        Criteria applicationIdCriteria = where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+        // update pages with read permissions so that app viewers can invite other app viewers
         return newPageRepository
-                // fetch pages with read permissions so that app viewers can invite other app viewers
-                .findByApplicationId(applicationId, pagePermission.getReadPermission())
-                .switchIfEmpty(Mono.empty())
-                .map(page -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newPagePoliciesMap, page);
-                    } else {
-                        return removePoliciesFromExistingObject(newPagePoliciesMap, page);
-                    }
-                })
-                .collectList()
-                .flatMapMany(updatedPages -> newPageRepository
-                        .saveAll(updatedPages));
+                .updatePolicies(List.of(applicationIdCriteria), pagePermission.getReadPermission(), newPagePoliciesMap, addPolicyToObject);
     }
 
     public Flux<Theme> updateThemePolicies(Application application, Map<String, Policy> themePolicyMap, boolean addPolicyToObject) {
@@ -348,47 +301,54 @@ public class PolicyUtils {
     }
 
     /**
-     * Instead of fetching actions by pageId, fetch actions by applicationId and then update the action policies
-     * using the new ActionPoliciesMap. This ensures the following :
+     * Instead of updating actions by pageId, update actions by applicationId using the new ActionPoliciesMap. This
+     * ensures the following :
      * 1. Instead of bulk updating actions page wise, we do bulk update of actions in one go for the entire application.
-     * 2. If the action is associated with different pages (in published/unpublished page due to movement of action), fetching
+     * 2. If the action is associated with different pages (in published/unpublished page due to movement of action), updating
      * actions by applicationId ensures that we update ALL the actions and don't have to do special handling for the same.
      *
      * @param applicationId
      * @param newActionPoliciesMap
      * @param addPolicyToObject
-     * @return
+     * @return the number of actions whose policies were updated
      */
-    public Flux<NewAction> updateWithPagePermissionsToAllItsActions(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
-
+    public Mono<Long> updateWithPagePermissionsToAllItsActions(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+        Criteria applicationIdCriteria = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
         return newActionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
-                    }
-                })
-                .collectList()
-                .flatMapMany(newActionRepository::saveAll);
+                .updatePolicies(List.of(applicationIdCriteria), null, newActionPoliciesMap, addPolicyToObject);
     }
 
-    public Flux<ActionCollection> updateWithPagePermissionsToAllItsActionCollections(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
-
+    public Mono<Long> updateWithPagePermissionsToAllItsActionCollections(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+        Criteria applicationIdCriteria = where(fieldName(QActionCollection.actionCollection.applicationId)).is(applicationId);
         return actionCollectionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
+                .updatePolicies(List.of(applicationIdCriteria), null, newActionPoliciesMap, addPolicyToObject);
+    }
+
+    /**
+     * Finds the ids of all the datasources used by the published or unpublished actions of the application, without
+     * loading the rest of the actions.
+     */
+    public Mono<Set<String>> findDatasourceIdsOfAllItsActions(String applicationId) {
+        return newActionRepository.findDatasourceIdsByApplicationId(applicationId)
+                .flatMapIterable(action -> {
+                    Set<String> datasourceIds = new HashSet<>();
+                    ActionDTO unpublishedAction = action.getUnpublishedAction();
+                    ActionDTO publishedAction = action.getPublishedAction();
+
+                    if (unpublishedAction != null &&
+                            unpublishedAction.getDatasource() != null &&
+                            unpublishedAction.getDatasource().getId() != null) {
+                        datasourceIds.add(unpublishedAction.getDatasource().getId());
                     }
+
+                    if (publishedAction != null &&
+                            publishedAction.getDatasource() != null &&
+                            publishedAction.getDatasource().getId() != null) {
+                        datasourceIds.add(publishedAction.getDatasource().getId());
+                    }
+                    return datasourceIds;
                 })
-                .collectList()
-                .flatMapMany(actionCollectionRepository::saveAll);
+                .collect(Collectors.toSet());
     }
 
     public Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(Map<String, Policy> sourcePolicyMap,
@@ -9,6 +9,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -37,4 +38,10 @@ public interface AppsmithRepository<T> {
     Mono<T> findByGitSyncIdAndDefaultApplicationId(String defaultApplicationId, String gitSyncId, Optional<AclPermission> permission);
 
     Mono<Boolean> isPermissionPresentForUser(Set<Policy> policies, String permission, String username);
+
+    Flux<T> bulkInsert(List<T> domainList);
+
+    Mono<String> getLastModifiedWatermark(List<Criteria> criterias);
+
+    Mono<Long> updatePolicies(List<Criteria> criterias, AclPermission permission, Map<String, Policy> policyMap, boolean addPolicies);
 }
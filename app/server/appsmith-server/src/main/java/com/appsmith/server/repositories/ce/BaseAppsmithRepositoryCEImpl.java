@@ -9,20 +9,27 @@ import com.appsmith.server.domains.QUser;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PermissionGroupsRequestCache;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
 import com.mongodb.client.result.UpdateResult;
 import com.querydsl.core.types.Path;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Flux;
@@ -30,6 +37,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -72,6 +80,8 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     protected final static int NO_RECORD_LIMIT = -1;
 
+    protected final static int BULK_INSERT_BATCH_SIZE = 500;
+
     @Autowired
     @SuppressWarnings("unchecked")
     public BaseAppsmithRepositoryCEImpl(ReactiveMongoOperations mongoOperations,
@@ -311,6 +321,148 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         return mongoOperations.updateMulti(query, updateObj, this.genericDomain);
     }
 
+    /**
+     * Updates all the non-deleted documents matching the criteria on which the current user has the given permission.
+     * The update may be an aggregation pipeline, which lets a field be set from another field of the same document
+     * inside the database, without the document being loaded into the server.
+     */
+    protected Mono<UpdateResult> updateAllWithPermission(List<Criteria> criterias, UpdateDefinition update, AclPermission permission) {
+        return getCurrentUserPermissionGroupsIfRequired(Optional.ofNullable(permission))
+                .flatMap(permissionGroups -> {
+                    List<Criteria> allCriterias = new ArrayList<>(criterias);
+                    allCriterias.add(notDeleted());
+                    userAcl(permissionGroups, Optional.ofNullable(permission)).ifPresent(allCriterias::add);
+                    Query query = new Query(new Criteria().andOperator(allCriterias));
+                    return mongoOperations.updateMulti(query, update, this.genericDomain);
+                });
+    }
+
+    /**
+     * Inserts the given new documents with one round trip per batch of {@link #BULK_INSERT_BATCH_SIZE} documents instead
+     * of one per document. The ids of the documents are generated before they are inserted, if they aren't set already,
+     * so callers can also generate them up front to link documents that refer to each other in memory.
+     * <p>
+     * The batches are inserted concurrently, so the inserted documents are emitted in no particular order.
+     */
+    public Flux<T> bulkInsert(List<T> domainList) {
+        if (isEmpty(domainList)) {
+            return Flux.empty();
+        }
+
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .map(auth -> Optional.of(((User) auth.getPrincipal()).getUsername()))
+                .defaultIfEmpty(Optional.empty())
+                .flatMapMany(username -> {
+                    final Instant now = Instant.now();
+                    domainList.forEach(domain -> {
+                        if (domain.getId() == null) {
+                            domain.setId(new ObjectId().toString());
+                        }
+                        // Auditing only sets the creation fields of documents that don't have an id yet, so they are
+                        // set here for the documents inserted with a preset id
+                        if (domain.getCreatedAt() == null) {
+                            domain.setCreatedAt(now);
+                        }
+                        if (domain.getCreatedBy() == null) {
+                            username.ifPresent(domain::setCreatedBy);
+                        }
+                    });
+
+                    return Flux.fromIterable(domainList)
+                            .buffer(BULK_INSERT_BATCH_SIZE)
+                            .flatMap(batch -> mongoOperations.insert(batch, this.genericDomain));
+                });
+    }
+
+    /**
+     * Returns a value that changes whenever a non-deleted document matching the criteria is created, deleted or saved,
+     * made of the number of such documents and the time the latest one of them was updated. This is computed inside
+     * the database, so that the documents are not loaded into the server.
+     */
+    public Mono<String> getLastModifiedWatermark(List<Criteria> criterias) {
+        List<Criteria> allCriterias = new ArrayList<>(criterias);
+        allCriterias.add(notDeleted());
+
+        final String updatedAtFieldName = fieldName(QBaseDomain.baseDomain.updatedAt);
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(new Criteria().andOperator(allCriterias)),
+                Aggregation.group().count().as("count").max(updatedAtFieldName).as(updatedAtFieldName)
+        );
+
+        return mongoOperations.aggregate(aggregation, this.genericDomain, Document.class)
+                .next()
+                .map(document -> {
+                    final Date lastUpdatedAt = document.getDate(updatedAtFieldName);
+                    return document.get("count") + ":" + (lastUpdatedAt == null ? "" : lastUpdatedAt.getTime());
+                })
+                .defaultIfEmpty("0:");
+    }
+
+    /**
+     * Adds the permission groups of the given policies to, or removes them from, the policies of all the non-deleted
+     * documents matching the criteria on which the current user has the given permission. This behaves the same as
+     * updating each document with {@link com.appsmith.server.helpers.PolicyUtils#addPoliciesToExistingObject} or
+     * {@link com.appsmith.server.helpers.PolicyUtils#removePoliciesFromExistingObject} and saving it, but is done with
+     * updates inside the database so that the documents are neither loaded into the server nor written back whole.
+     *
+     * @return the number of documents whose policies were updated
+     */
+    public Mono<Long> updatePolicies(List<Criteria> criterias, AclPermission permission, Map<String, Policy> policyMap,
+                                     boolean addPolicies) {
+        if (policyMap.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        final String policiesFieldName = fieldName(QBaseDomain.baseDomain.policies);
+        final List<Policy> policies = new ArrayList<>(policyMap.values());
+
+        // Each policy's permission groups are updated through an array filter which picks the policy with its permission
+        Update permissionGroupsUpdate = new Update();
+        for (int i = 0; i < policies.size(); i++) {
+            final Policy policy = policies.get(i);
+            final String identifier = "policy" + i;
+            final String permissionGroupsPath = policiesFieldName + ".$[" + identifier + "].permissionGroups";
+            final Object[] permissionGroups = policy.getPermissionGroups() == null
+                    ? new Object[0]
+                    : policy.getPermissionGroups().toArray();
+
+            if (addPolicies) {
+                permissionGroupsUpdate.addToSet(permissionGroupsPath).each(permissionGroups);
+            } else {
+                permissionGroupsUpdate.pullAll(permissionGroupsPath, permissionGroups);
+            }
+            permissionGroupsUpdate.filterArray(where(identifier + ".permission").is(policy.getPermission()));
+        }
+        permissionGroupsUpdate.set(fieldName(QBaseDomain.baseDomain.updatedAt), Instant.now());
+
+        if (!addPolicies) {
+            return updateAllWithPermission(criterias, permissionGroupsUpdate, permission)
+                    .map(UpdateResult::getMatchedCount);
+        }
+
+        // Documents which don't have a policy for a permission yet get the whole policy added first, after which adding
+        // the permission groups to it again makes no difference
+        return Flux.fromIterable(policies)
+                .concatMap(policy -> {
+                    List<Criteria> missingPolicyCriterias = new ArrayList<>(criterias);
+                    missingPolicyCriterias.add(where(policiesFieldName + ".permission").ne(policy.getPermission()));
+                    Update addPolicyUpdate = new Update().push(policiesFieldName, policy);
+                    return updateAllWithPermission(missingPolicyCriterias, addPolicyUpdate, permission);
+                })
+                .then(updateAllWithPermission(criterias, permissionGroupsUpdate, permission))
+                .map(UpdateResult::getMatchedCount);
+    }
+
+    /**
+     * Builds the update which publishes a document by copying its unpublished field into its published field.
+     */
+    protected static AggregationUpdate getPublishUpdate(String unpublishedFieldName, String publishedFieldName) {
+        return AggregationUpdate.update()
+                .set(publishedFieldName).toValueOf(Fields.field(unpublishedFieldName))
+                .set(fieldName(QBaseDomain.baseDomain.updatedAt)).toValue(Instant.now());
+    }
+
     @Deprecated
     protected Mono<T> queryOne(List<Criteria> criterias, AclPermission aclPermission) {
         return queryOne(criterias, null, Optional.ofNullable(aclPermission));
@@ -553,6 +705,28 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
      */
 
     protected Mono<Set<String>> getAllPermissionGroupsForUser(User user) {
+        // The key is taken before resolving, as the tenant is set on the user while resolving
+        final String userKey = PermissionGroupsRequestCache.getUserKey(user);
+        return Mono.deferContextual(contextView -> {
+            final Optional<PermissionGroupsRequestCache> requestCache =
+                    contextView.getOrEmpty(PermissionGroupsRequestCache.CONTEXT_KEY);
+            if (requestCache.isEmpty()) {
+                return resolveAllPermissionGroupsForUser(user);
+            }
+
+            final Set<String> permissionGroups = requestCache.get().get(userKey);
+            if (permissionGroups != null) {
+                return Mono.just(permissionGroups);
+            }
+
+            final long clearCount = requestCache.get().getClearCount();
+            return resolveAllPermissionGroupsForUser(user)
+                    .doOnNext(resolvedPermissionGroups ->
+                            requestCache.get().put(userKey, resolvedPermissionGroups, clearCount));
+        });
+    }
+
+    private Mono<Set<String>> resolveAllPermissionGroupsForUser(User user) {
 
         Mono<User> userMono = Mono.just(user);
         if (user.getTenantId() == null) {
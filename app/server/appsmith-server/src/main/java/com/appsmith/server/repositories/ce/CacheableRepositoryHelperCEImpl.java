@@ -11,6 +11,7 @@ import com.appsmith.server.domains.QTenant;
 import com.appsmith.server.domains.QUser;
 import com.appsmith.server.domains.Tenant;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.helpers.PermissionGroupsRequestCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -77,7 +78,12 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
     @CacheEvict(cacheName = "permissionGroupsForUser", key = "{#email + #tenantId}")
     @Override
     public Mono<Void> evictPermissionGroupsUser(String email, String tenantId) {
-        return Mono.empty();
+        // Also drop the permission groups resolved earlier in the current request, so that the rest of it sees the change
+        return Mono.deferContextual(contextView -> {
+            contextView.<PermissionGroupsRequestCache>getOrEmpty(PermissionGroupsRequestCache.CONTEXT_KEY)
+                    .ifPresent(PermissionGroupsRequestCache::clear);
+            return Mono.empty();
+        });
     }
 
     @Override
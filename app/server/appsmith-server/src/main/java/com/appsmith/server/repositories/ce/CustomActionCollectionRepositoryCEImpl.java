@@ -6,6 +6,7 @@ import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.QActionCollection;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import com.mongodb.client.result.UpdateResult;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
@@ -136,4 +137,25 @@ public class CustomActionCollectionRepositoryCEImpl extends BaseAppsmithReposito
         Criteria branchCriteria = where(defaultResources + "." + FieldName.BRANCH_NAME).is(branchName);
         return queryOne(List.of(defaultCollectionIdCriteria, branchCriteria), permission);
     }
+
+    @Override
+    public Flux<ActionCollection> findDeletedUnpublishedActionCollections(String applicationId, AclPermission permission) {
+        Criteria applicationCriteria = where(fieldName(QActionCollection.actionCollection.applicationId)).is(applicationId);
+        Criteria deletedCriteria = where(fieldName(QActionCollection.actionCollection.unpublishedCollection) + "." + fieldName(QActionCollection.actionCollection.unpublishedCollection.deletedAt)).ne(null);
+
+        return queryAll(List.of(applicationCriteria, deletedCriteria), permission);
+    }
+
+    @Override
+    public Mono<UpdateResult> publishActionCollections(String applicationId, AclPermission permission) {
+        Criteria applicationCriteria = where(fieldName(QActionCollection.actionCollection.applicationId)).is(applicationId);
+        // Collections deleted in edit mode are archived instead of being published
+        Criteria deletedCriteria = where(fieldName(QActionCollection.actionCollection.unpublishedCollection) + "." + fieldName(QActionCollection.actionCollection.unpublishedCollection.deletedAt)).is(null);
+
+        return updateAllWithPermission(
+                List.of(applicationCriteria, deletedCriteria),
+                getPublishUpdate(fieldName(QActionCollection.actionCollection.unpublishedCollection), fieldName(QActionCollection.actionCollection.publishedCollection)),
+                permission
+        );
+    }
 }
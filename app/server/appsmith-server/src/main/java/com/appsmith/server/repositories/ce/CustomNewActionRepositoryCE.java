@@ -3,6 +3,7 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.repositories.AppsmithRepository;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -49,4 +50,12 @@ public interface CustomNewActionRepositoryCE extends AppsmithRepository<NewActio
 
     Mono<NewAction> findByBranchNameAndDefaultActionId(String branchName, String defaultActionId, AclPermission permission);
 
+    Flux<NewAction> findDatasourceIdsByApplicationId(String applicationId);
+
+    Mono<UpdateResult> publishActions(String applicationId, AclPermission permission);
+
+    Mono<UpdateResult> archiveDeletedUnpublishedActions(String applicationId, AclPermission permission);
+
+    Mono<UpdateResult> updateUnpublishedCollectionId(List<String> actionIds, String collectionId, AclPermission permission);
+
 }
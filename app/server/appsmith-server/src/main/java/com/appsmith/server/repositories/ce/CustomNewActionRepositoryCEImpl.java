@@ -7,6 +7,7 @@ import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.QNewAction;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
@@ -14,9 +15,11 @@ import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -305,4 +308,55 @@ public class CustomNewActionRepositoryCEImpl extends BaseAppsmithRepositoryImpl<
         Criteria branchCriteria = where(defaultResources + "." + FieldName.BRANCH_NAME).is(branchName);
         return queryOne(List.of(defaultActionIdCriteria, branchCriteria), permission);
     }
+
+    @Override
+    public Flux<NewAction> findDatasourceIdsByApplicationId(String applicationId) {
+        Criteria applicationIdCriteria = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        String unpublishedDatasourceIdFieldPath = fieldName(QNewAction.newAction.unpublishedAction) + ".datasource._id";
+        String publishedDatasourceIdFieldPath = fieldName(QNewAction.newAction.publishedAction) + ".datasource._id";
+
+        return queryAll(
+                List.of(applicationIdCriteria),
+                Optional.of(List.of(unpublishedDatasourceIdFieldPath, publishedDatasourceIdFieldPath)),
+                Optional.empty(),
+                Optional.empty()
+        );
+    }
+
+    @Override
+    public Mono<UpdateResult> publishActions(String applicationId, AclPermission permission) {
+        Criteria applicationIdCriteria = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        // Actions deleted in edit mode are archived instead of being published
+        Criteria deletedCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
+
+        return updateAllWithPermission(
+                List.of(applicationIdCriteria, deletedCriteria),
+                getPublishUpdate(fieldName(QNewAction.newAction.unpublishedAction), fieldName(QNewAction.newAction.publishedAction)),
+                permission
+        );
+    }
+
+    @Override
+    public Mono<UpdateResult> archiveDeletedUnpublishedActions(String applicationId, AclPermission permission) {
+        Criteria applicationIdCriteria = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        Criteria deletedCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).ne(null);
+
+        Update update = new Update();
+        update.set(FieldName.DELETED, true);
+        update.set(FieldName.DELETED_AT, Instant.now());
+        return updateAllWithPermission(List.of(applicationIdCriteria, deletedCriteria), update, permission);
+    }
+
+    @Override
+    public Mono<UpdateResult> updateUnpublishedCollectionId(List<String> actionIds, String collectionId, AclPermission permission) {
+        final String unpublishedAction = fieldName(QNewAction.newAction.unpublishedAction);
+        Criteria idCriteria = where(fieldName(QNewAction.newAction.id)).in(actionIds);
+
+        Update update = new Update();
+        update.set(unpublishedAction + "." + FieldName.COLLECTION_ID, collectionId);
+        update.set(unpublishedAction + "." + fieldName(QNewAction.newAction.unpublishedAction.defaultResources) + "." + FieldName.COLLECTION_ID, collectionId);
+        // Bypassing the save, the last modified date has to be set here for the git status of the application to change
+        update.set(fieldName(QNewAction.newAction.updatedAt), Instant.now());
+        return updateAllWithPermission(List.of(idCriteria), update, permission);
+    }
 }
@@ -8,6 +8,7 @@ import com.appsmith.server.domains.QNewPage;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -17,6 +18,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -196,4 +198,14 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
                 null
         );
     }
+
+    @Override
+    public Mono<UpdateResult> publishPages(Collection<String> pageIds, AclPermission permission) {
+        Criteria pageIdsCriteria = where(FieldName.ID).in(pageIds);
+        return updateAllWithPermission(
+                List.of(pageIdsCriteria),
+                getPublishUpdate(fieldName(QNewPage.newPage.unpublishedPage), fieldName(QNewPage.newPage.publishedPage)),
+                permission
+        );
+    }
 }
@@ -9,7 +9,9 @@ import org.springframework.stereotype.Service;
 @Service
 public class AuthenticationValidatorImpl extends AuthenticationValidatorCEImpl implements AuthenticationValidator {
 
-    public AuthenticationValidatorImpl(AuthenticationService authenticationService) {
-        super(authenticationService);
+    public AuthenticationValidatorImpl(AuthenticationService authenticationService,
+                                       DatasourceService datasourceService,
+                                       DatasourceContextService datasourceContextService) {
+        super(authenticationService, datasourceService, datasourceContextService);
     }
 }
@@ -1,8 +1,10 @@
 package com.appsmith.server.services;
 
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.services.ce.DatasourceContextServiceCEImpl;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
@@ -15,8 +17,11 @@ public class DatasourceContextServiceImpl extends DatasourceContextServiceCEImpl
                                         PluginService pluginService,
                                         PluginExecutorHelper pluginExecutorHelper,
                                         ConfigService configService,
-                                        DatasourcePermission datasourcePermission) {
+                                        DatasourcePermission datasourcePermission,
+                                        DatasourceContextConfig datasourceContextConfig,
+                                        MeterRegistry meterRegistry) {
 
-        super(datasourceService, pluginService, pluginExecutorHelper, configService, datasourcePermission);
+        super(datasourceService, pluginService, pluginExecutorHelper, configService, datasourcePermission,
+                datasourceContextConfig, meterRegistry);
     }
 }
@@ -1,5 +1,6 @@
 package com.appsmith.server.services;
 
+import com.appsmith.external.annotations.encryption.DeferredSecrets;
 import com.appsmith.server.acl.PolicyGenerator;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.DatasourceRepository;
@@ -34,12 +35,13 @@ public class DatasourceServiceImpl extends DatasourceServiceCEImpl implements Da
                                  NewActionRepository newActionRepository,
                                  DatasourceContextService datasourceContextService,
                                  DatasourcePermission datasourcePermission,
-                                 WorkspacePermission workspacePermission) {
+                                 WorkspacePermission workspacePermission,
+                                 DeferredSecrets deferredSecrets) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, workspaceService,
                 analyticsService, sessionUserService, pluginService, pluginExecutorHelper, policyGenerator,
                 sequenceService, newActionRepository, datasourceContextService, datasourcePermission,
-                workspacePermission);
+                workspacePermission, deferredSecrets);
 
     }
 }
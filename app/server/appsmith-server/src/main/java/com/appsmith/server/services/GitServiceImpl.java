@@ -6,6 +6,7 @@ import com.appsmith.git.service.GitExecutorImpl;
 import com.appsmith.server.configurations.EmailConfig;
 import com.appsmith.server.helpers.GitCloudServicesUtils;
 import com.appsmith.server.helpers.GitFileUtils;
+import com.appsmith.server.helpers.GitStatusCache;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.repositories.GitDeployKeysRepository;
 import com.appsmith.server.services.ce.GitServiceCEImpl;
@@ -47,13 +48,14 @@ public class GitServiceImpl extends GitServiceCEImpl implements GitService {
                           ApplicationPermission applicationPermission,
                           PagePermission pagePermission,
                           ActionPermission actionPermission,
-                          WorkspaceService workspaceService) {
+                          WorkspaceService workspaceService,
+                          GitStatusCache gitStatusCache) {
 
         super(userService, userDataService, sessionUserService, applicationService, applicationPageService,
                 newPageService, newActionService, actionCollectionService, fileUtils, importExportApplicationService,
                 gitExecutor, responseUtils, emailConfig, analyticsService, gitCloudServicesUtils, gitDeployKeysRepository,
                 datasourceService, pluginService, datasourcePermission, applicationPermission, pagePermission,
-                actionPermission, workspaceService);
+                actionPermission, workspaceService, gitStatusCache);
     }
 
 }
@@ -24,6 +24,8 @@ public interface ActionCollectionServiceCE extends CrudService<ActionCollection,
 
     Flux<ActionCollection> saveAll(List<ActionCollection> collections);
 
+    Flux<ActionCollection> bulkInsert(List<ActionCollection> collections);
+
     Flux<ActionCollectionDTO> getPopulatedActionCollectionsByViewMode(MultiValueMap<String, String> params, Boolean viewMode);
 
     Flux<ActionCollectionDTO> getPopulatedActionCollectionsByViewMode(MultiValueMap<String, String> params, Boolean viewMode, String branchName);
@@ -56,4 +58,6 @@ public interface ActionCollectionServiceCE extends CrudService<ActionCollection,
 
     Mono<List<ActionCollection>> archiveActionCollectionByApplicationId(String applicationId, AclPermission permission);
 
+    Mono<Long> publishActionCollections(String applicationId, AclPermission permission);
+
 }
@@ -23,6 +23,7 @@ import com.appsmith.server.services.BaseService;
 import com.appsmith.server.services.NewActionService;
 import com.appsmith.server.solutions.ActionPermission;
 import com.appsmith.server.solutions.ApplicationPermission;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -128,6 +129,20 @@ public class ActionCollectionServiceCEImpl extends BaseService<ActionCollectionR
         return repository.saveAll(collections);
     }
 
+    /**
+     * Inserts new action collections in batches. Unlike {@link #saveAll(List)}, the collections may already have their
+     * ids set, which lets the references to them be resolved before they are inserted.
+     */
+    @Override
+    public Flux<ActionCollection> bulkInsert(List<ActionCollection> collections) {
+        collections.forEach(collection -> {
+            if(collection.getGitSyncId() == null) {
+                collection.setGitSyncId(collection.getApplicationId() + "_" + new ObjectId());
+            }
+        });
+        return repository.bulkInsert(collections);
+    }
+
     @Override
     public Mono<ActionCollection> findByIdAndBranchName(String id, String branchName) {
         // TODO sanitise resonse for default IDs
@@ -431,6 +446,21 @@ public class ActionCollectionServiceCEImpl extends BaseService<ActionCollectionR
                 .collectList();
     }
 
+    /**
+     * Publishes the action collections of an application by copying their unpublished collection into their published
+     * collection inside the database. Collections that were deleted in edit mode are archived one at a time instead,
+     * as their actions have to be archived along with them.
+     *
+     * @return the number of action collections published
+     */
+    @Override
+    public Mono<Long> publishActionCollections(String applicationId, AclPermission permission) {
+        return repository.findDeletedUnpublishedActionCollections(applicationId, permission)
+                .flatMap(collection -> this.archiveById(collection.getId()))
+                .then(repository.publishActionCollections(applicationId, permission))
+                .map(UpdateResult::getMatchedCount);
+    }
+
     @Override
     public Flux<ActionCollection> findByPageId(String pageId) {
         return repository.findByPageId(pageId);
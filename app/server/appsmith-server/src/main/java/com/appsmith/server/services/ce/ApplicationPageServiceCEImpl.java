@@ -68,6 +68,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.helpers.AppsmithBeanUtils.copyNestedNonNullProperties;
@@ -961,8 +962,10 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 application -> themeService.publishTheme(application.getId())
         );
 
+        // Time taken by each phase of the publish in milliseconds, which is sent along with the publish event
+        Map<String, Long> phaseExecutionTimes = new ConcurrentHashMap<>();
         Set<CustomJSLibApplicationDTO> updatedPublishedJSLibDTOs = new HashSet<>();
-        Mono<List<NewPage>> publishApplicationAndPages = applicationMono
+        Mono<List<ApplicationPage>> publishApplicationMono = applicationMono
                 //Return all the pages in the Application
                 .flatMap(application -> {
                     // Update published custom JS lib objects.
@@ -1019,87 +1022,78 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     // the pages can also be published
                     return Mono.zip(archivePageListMono, applicationService.save(application))
                             .thenReturn(pages);
+                });
+
+        Mono<Long> publishApplicationAndPages = recordPhaseExecutionTime(publishApplicationMono, "application", phaseExecutionTimes)
+                // In each page, copy the unpublished page with its layouts to the published page inside the database
+                .flatMap(pages -> {
+                    // For a git connected app if the user does not have permission to edit few pages in master branch
+                    // They don't get access to the same resources in feature branch. When they do operations like commit and push we publish the changes automatically
+                    // and this will fail due to permission issue. Hence only the pages which the user possesses permission for are published
+                    Set<String> pageIds = pages.stream().map(ApplicationPage::getId).collect(Collectors.toSet());
+                    return recordPhaseExecutionTime(
+                            newPageService.publishPages(pageIds, pagePermission.getEditPermission()), "pages", phaseExecutionTimes);
                 })
-                .flatMapMany(Flux::fromIterable)
-                //In each page, copy each layout's dsl to publishedDsl field
-                .flatMap(applicationPage -> newPageService
-                        .findById(applicationPage.getId(), pagePermission.getEditPermission())
-                        // For a git connected app if the user does not have permission to edit few pages in master branch
-                        // They don't get access to the same resources in feature branch. When they do operations like commit and push we publish the changes automatically
-                        // and this will fail due to permission issue. Hence removing the throwing error part and handling it gracefully
-                        // Only the pages which the user pocesses permission will be published
-                        .map(page -> {
-                            page.setPublishedPage(page.getUnpublishedPage());
-                            return page;
-                        }))
-                .flatMap(newPageService::save)
-                .collectList()
                 .cache(); // caching as we'll need this to send analytics attributes after publishing the app
 
-        Mono<List<NewAction>> publishedActionsListMono = newActionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, actionPermission.getEditPermission(), null)
-                .flatMap(newAction -> {
-                    // If the action was deleted in edit mode, now this document can be safely archived
-                    if (newAction.getUnpublishedAction().getDeletedAt() != null) {
-                        return newActionService.archive(newAction)
-                                .then(Mono.empty());
-                    }
-                    // Publish the action by copying the unpublished actionDTO to published actionDTO
-                    newAction.setPublishedAction(newAction.getUnpublishedAction());
-                    return Mono.just(newAction);
-                })
-                .flatMap(newActionService::save)
-                .collectList()
+        // Actions deleted in edit mode are archived, the rest are published by copying the unpublished action to the
+        // published action inside the database
+        Mono<Long> publishedActionsCountMono = recordPhaseExecutionTime(
+                newActionService.publishActions(applicationId, actionPermission.getEditPermission()), "actions", phaseExecutionTimes)
                 .cache(); // caching as we'll need this to send analytics attributes after publishing the app
 
-        Mono<List<ActionCollection>> publishedActionCollectionsListMono = actionCollectionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, actionPermission.getEditPermission(), null)
-                .flatMap(collection -> {
-                    // If the collection was deleted in edit mode, now this can be safely deleted from the repository
-                    if (collection.getUnpublishedCollection().getDeletedAt() != null) {
-                        return actionCollectionService.archiveById(collection.getId())
-                                .then(Mono.empty());
-                    }
-                    // Publish the collection by copying the unpublished collectionDTO to published collectionDTO
-                    collection.setPublishedCollection(collection.getUnpublishedCollection());
-                    return Mono.just(collection);
-                })
-                .flatMap(actionCollectionService::save)
-                .collectList();
+        Mono<Long> publishedActionCollectionsCountMono = recordPhaseExecutionTime(
+                actionCollectionService.publishActionCollections(applicationId, actionPermission.getEditPermission()), "actionCollections", phaseExecutionTimes)
+                .cache();
 
         return publishApplicationAndPages
-                .flatMap(newPages -> Mono.zip(publishedActionsListMono, publishedActionCollectionsListMono,
-                        publishThemeMono))
-                .then(sendApplicationPublishedEvent(publishApplicationAndPages, publishedActionsListMono,
-                        publishedActionCollectionsListMono, Mono.just(updatedPublishedJSLibDTOs), applicationId,
-                        isPublishedManually));
+                .flatMap(publishedPagesCount -> Mono.zip(publishedActionsCountMono, publishedActionCollectionsCountMono,
+                        recordPhaseExecutionTime(publishThemeMono, "theme", phaseExecutionTimes)))
+                .then(sendApplicationPublishedEvent(publishApplicationAndPages, publishedActionsCountMono,
+                        publishedActionCollectionsCountMono, Mono.just(updatedPublishedJSLibDTOs), phaseExecutionTimes,
+                        applicationId, isPublishedManually));
+    }
+
+    /**
+     * Records the time taken by a phase of the publish, from the subscription to the phase until it emits its result.
+     */
+    private <T> Mono<T> recordPhaseExecutionTime(Mono<T> phaseMono, String phase, Map<String, Long> phaseExecutionTimes) {
+        return phaseMono
+                .elapsed()
+                .map(tuple -> {
+                    phaseExecutionTimes.put(phase, tuple.getT1());
+                    return tuple.getT2();
+                });
     }
 
-    private Mono<Application> sendApplicationPublishedEvent(Mono<List<NewPage>> publishApplicationAndPages,
-                                                            Mono<List<NewAction>> publishedActionsFlux,
-                                                            Mono<List<ActionCollection>> publishedActionsCollectionFlux,
+    private Mono<Application> sendApplicationPublishedEvent(Mono<Long> publishedPagesCountMono,
+                                                            Mono<Long> publishedActionsCountMono,
+                                                            Mono<Long> publishedActionCollectionsCountMono,
                                                             Mono<Set<CustomJSLibApplicationDTO>> publishedJSLibDTOsMono,
+                                                            Map<String, Long> phaseExecutionTimes,
                                                             String applicationId, boolean isPublishedManually) {
         return Mono.zip(
-                        publishApplicationAndPages,
-                        publishedActionsFlux,
-                        publishedActionsCollectionFlux,
+                        publishedPagesCountMono,
+                        publishedActionsCountMono,
+                        publishedActionCollectionsCountMono,
                         // not using existing applicationMono because we need the latest Application after published
                         applicationService.findById(applicationId, applicationPermission.getEditPermission()),
                         publishedJSLibDTOsMono
                 )
                 .flatMap(objects -> {
                     Application application = objects.getT4();
+                    log.debug("Published application {} with phase execution times in ms: {}", applicationId, phaseExecutionTimes);
                     Map<String, Object> extraProperties = new HashMap<>();
-                    extraProperties.put("pageCount", objects.getT1().size());
-                    extraProperties.put("queryCount", objects.getT2().size());
-                    extraProperties.put("actionCollectionCount", objects.getT3().size());
+                    extraProperties.put("pageCount", objects.getT1());
+                    extraProperties.put("queryCount", objects.getT2());
+                    extraProperties.put("actionCollectionCount", objects.getT3());
                     extraProperties.put("jsLibsCount", objects.getT5().size());
                     extraProperties.put("appId", defaultIfNull(application.getId(), ""));
                     extraProperties.put("appName", defaultIfNull(application.getName(), ""));
                     extraProperties.put("orgId", defaultIfNull(application.getWorkspaceId(), ""));
                     extraProperties.put("isManual", defaultIfNull(isPublishedManually, ""));
                     extraProperties.put("publishedAt", defaultIfNull(application.getLastDeployedAt(), ""));
+                    extraProperties.put("phaseExecutionTimes", Map.copyOf(phaseExecutionTimes));
 
                     final Map<String, Object> eventData = Map.of(
                             FieldName.APPLICATION, application,
@@ -1,21 +1,16 @@
 package com.appsmith.server.services.ce;
 
 import com.appsmith.external.constants.AnalyticsEvents;
-import com.appsmith.external.models.ActionDTO;
-import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.ApplicationConstants;
 import com.appsmith.server.constants.Assets;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
-import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
 import com.appsmith.server.domains.GitApplicationMetadata;
 import com.appsmith.server.domains.GitAuth;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.QApplication;
 import com.appsmith.server.domains.Theme;
@@ -55,7 +50,6 @@ import reactor.core.scheduler.Scheduler;
 
 import jakarta.validation.Validator;
 import java.time.Instant;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -409,50 +403,25 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
                 applicationPolicyMap, Application.class, Theme.class
         );
 
-        final Flux<NewPage> updatedPagesFlux = policyUtils
+        final Mono<Long> updatedPagesCountMono = policyUtils
                 .updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, addViewAccess);
         // Use the same policy map as actions for action collections since action collections have the same kind of permissions
-        final Flux<ActionCollection> updatedActionCollectionsFlux = policyUtils
+        final Mono<Long> updatedActionCollectionsCountMono = policyUtils
                 .updateWithPagePermissionsToAllItsActionCollections(application.getId(), actionPolicyMap, addViewAccess);
         Flux<Theme> updatedThemesFlux = policyUtils.updateThemePolicies(application, themePolicyMap, addViewAccess);
-        final Flux<NewAction> updatedActionsFlux = updatedPagesFlux
-                .collectList()
-                .thenMany(updatedActionCollectionsFlux)
-                .collectList()
-                .then(Mono.justOrEmpty(application.getId()))
+        final Mono<Long> updatedActionsCountMono = updatedPagesCountMono
+                .then(updatedActionCollectionsCountMono)
                 .thenMany(updatedThemesFlux)
-                .collectList()
-                .flatMapMany(applicationId -> policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, addViewAccess));
-
-        return updatedActionsFlux
-                .collectList()
-                .flatMap(actions -> {
-                    Set<String> datasourceIds = new HashSet<>();
-                    for (NewAction action : actions) {
-                        ActionDTO unpublishedAction = action.getUnpublishedAction();
-                        ActionDTO publishedAction = action.getPublishedAction();
-
-                        if (unpublishedAction.getDatasource() != null &&
-                                unpublishedAction.getDatasource().getId() != null) {
-                            datasourceIds.add(unpublishedAction.getDatasource().getId());
-                        }
-
-                        if (publishedAction != null &&
-                                publishedAction.getDatasource() != null &&
-                                publishedAction.getDatasource().getId() != null) {
-                            datasourceIds.add(publishedAction.getDatasource().getId());
-                        }
-                    }
+                .then(policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, addViewAccess));
 
+        return updatedActionsCountMono
+                .then(policyUtils.findDatasourceIdsOfAllItsActions(application.getId()))
+                .flatMap(datasourceIds -> {
                     // Update the datasource policies without permission since the applications and datasources are at
                     // the same level in the hierarchy. A user may have permission to change view on application, but may
                     // not have explicit permissions on the datasource.
-                    Mono<List<Datasource>> updatedDatasourcesMono =
-                            policyUtils.updateWithNewPoliciesToDatasourcesByDatasourceIdsWithoutPermission(datasourceIds,
-                                            datasourcePolicyMap, addViewAccess)
-                                    .collectList();
-
-                    return updatedDatasourcesMono;
+                    return policyUtils.updateWithNewPoliciesToDatasourcesByDatasourceIdsWithoutPermission(datasourceIds,
+                            datasourcePolicyMap, addViewAccess);
                 })
                 .thenReturn(application)
                 .flatMap(app -> {
@@ -2,19 +2,55 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.OAuth2;
+import com.appsmith.server.services.DatasourceContextService;
+import com.appsmith.server.services.DatasourceService;
 import com.appsmith.server.solutions.AuthenticationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 @Slf4j
 @RequiredArgsConstructor
 public class AuthenticationValidatorCEImpl implements AuthenticationValidatorCE {
 
     private final AuthenticationService authenticationService;
+    private final DatasourceService datasourceService;
+    private final DatasourceContextService datasourceContextService;
 
     public Mono<Datasource> validateAuthentication(Datasource datasource) {
+        // The datasource is about to be used with a plugin, which needs the plaintext of its secrets. If its context is
+        // cached, the configuration that was decrypted when the context was created is used again.
+        final Optional<DatasourceConfiguration> decryptedConfiguration =
+                datasourceContextService.getDecryptedConfiguration(datasource);
+        if (decryptedConfiguration.isEmpty()) {
+            return decryptAndValidateAuthentication(datasource);
+        }
+
+        final AuthenticationDTO authentication = decryptedConfiguration.get().getAuthentication();
+        if (authentication == null) {
+            datasource.setDatasourceConfiguration(decryptedConfiguration.get());
+            return Mono.just(datasource);
+        }
+
+        // Refreshing an expired authentication modifies and saves the configuration, which is shared by the context
+        return authentication.hasExpired()
+                .defaultIfEmpty(Boolean.FALSE)
+                .flatMap(expired -> {
+                    if (Boolean.TRUE.equals(expired)) {
+                        return decryptAndValidateAuthentication(datasource);
+                    }
+                    datasource.setDatasourceConfiguration(decryptedConfiguration.get());
+                    return Mono.just(datasource);
+                });
+    }
+
+    private Mono<Datasource> decryptAndValidateAuthentication(Datasource datasource) {
+        datasourceService.decryptSecrets(datasource);
+
         if (datasource.getDatasourceConfiguration() == null || datasource.getDatasourceConfiguration().getAuthentication() == null) {
             return Mono.just(datasource);
         }
@@ -1,10 +1,12 @@
 package com.appsmith.server.services.ce;
 
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.Plugin;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 public interface DatasourceContextServiceCE {
@@ -24,4 +26,24 @@ public interface DatasourceContextServiceCE {
     <T> Mono<T> retryOnce(Datasource datasource, Function<DatasourceContext<?>, Mono<T>> task);
 
     Mono<DatasourceContext<?>> deleteDatasourceContext(String datasourceId);
+
+    /**
+     * Runs the task on the datasource context, which keeps the context from being evicted until the task is over.
+     *
+     * @param datasourceContext context to run the task on
+     * @param task              task that uses the connection of the context
+     * @return the result of the task
+     */
+    <T> Mono<T> executeInDatasourceContext(DatasourceContext<?> datasourceContext,
+                                           Function<DatasourceContext<?>, Mono<T>> task);
+
+    /**
+     * Returns the decrypted configuration that the cached context of this datasource was created with, if the
+     * datasource hasn't been updated since. The configuration is shared by all the executions on the context, and must
+     * not be modified or saved.
+     *
+     * @param datasource datasource with its secrets still encrypted
+     * @return the decrypted configuration, or empty if the secrets of the datasource have to be decrypted
+     */
+    Optional<DatasourceConfiguration> getDecryptedConfiguration(Datasource datasource);
 }
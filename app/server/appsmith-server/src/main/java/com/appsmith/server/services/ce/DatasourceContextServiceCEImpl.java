@@ -4,8 +4,10 @@ import com.appsmith.external.dtos.DatasourceDTO;
 import com.appsmith.external.dtos.ExecutePluginDTO;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.helpers.PluginExecutorHelper;
@@ -13,15 +15,25 @@ import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.DatasourceService;
 import com.appsmith.server.services.PluginService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static com.appsmith.server.acl.AclPermission.EXECUTE_DATASOURCES;
 
@@ -32,26 +44,52 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     private final Map<String, Mono<? extends DatasourceContext<?>>> datasourceContextMonoMap;
     private final Map<String, Object> datasourceContextSynchronizationMonitorMap;
     private final Map<String, DatasourceContext<?>> datasourceContextMap;
+    // Plugin id mapped to its plugin executor, used to destroy the connections of evicted datasource contexts
+    private final Map<String, PluginExecutor<Object>> pluginExecutorMap;
     private final DatasourceService datasourceService;
     private final PluginService pluginService;
     private final PluginExecutorHelper pluginExecutorHelper;
     private final ConfigService configService;
     private final DatasourcePermission datasourcePermission;
+    private final DatasourceContextConfig datasourceContextConfig;
+    private final MeterRegistry meterRegistry;
+    private final Counter datasourceContextCreationCounter;
+    private final Timer datasourceContextCreationTimer;
+
+    private static final String METRIC_PREFIX = "appsmith.datasource.context";
+    private static final String EVICTION_REASON_IDLE = "idle";
+    private static final String EVICTION_REASON_MAX_SIZE = "max_size";
+    private static final String EVICTION_REASON_PLUGIN_MAX_SIZE = "plugin_max_size";
 
     @Autowired
     public DatasourceContextServiceCEImpl(@Lazy DatasourceService datasourceService,
                                           PluginService pluginService,
                                           PluginExecutorHelper pluginExecutorHelper,
                                           ConfigService configService,
-                                          DatasourcePermission datasourcePermission) {
+                                          DatasourcePermission datasourcePermission,
+                                          DatasourceContextConfig datasourceContextConfig,
+                                          MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.datasourceContextMap = new ConcurrentHashMap<>();
         this.datasourceContextMonoMap = new ConcurrentHashMap<>();
         this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
+        this.pluginExecutorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.datasourceContextConfig = datasourceContextConfig;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(METRIC_PREFIX + ".live", datasourceContextMap, Map::size)
+                .description("Number of datasource contexts that are currently open")
+                .register(meterRegistry);
+        this.datasourceContextCreationCounter = Counter.builder(METRIC_PREFIX + ".created")
+                .description("Number of datasource contexts created")
+                .register(meterRegistry);
+        this.datasourceContextCreationTimer = Timer.builder(METRIC_PREFIX + ".creation.time")
+                .description("Time taken to create the connection of a datasource context")
+                .register(meterRegistry);
     }
 
     /**
@@ -98,18 +136,28 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
              */
             if (datasourceId != null && datasourceContextMonoMap.get(datasourceId) != null) {
                 log.debug("Cached resource context mono exists. Returning the same.");
+                markAccessed(datasourceId);
                 return datasourceContextMonoMap.get(datasourceId);
             }
 
             /* Create a fresh datasource context */
             DatasourceContext<Object> datasourceContext = new DatasourceContext<Object>();
+            datasourceContext.setPluginId(datasource.getPluginId());
+            datasourceContext.setConnectionPending(true);
+            if (datasource.getPluginId() != null) {
+                pluginExecutorMap.put(datasource.getPluginId(), pluginExecutor);
+            }
             if (datasourceId != null) {
             /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
             the new connection in the context map. */
                 datasourceContextMap.put(datasourceId, datasourceContext);
             }
 
-            Mono<Object> connectionMono = pluginExecutor.datasourceCreate(datasource.getDatasourceConfiguration()).cache();
+            /* The secrets of the datasource are kept encrypted until they are needed to create the connection */
+            datasourceService.decryptSecrets(datasource);
+            Mono<Object> connectionMono = pluginExecutor.datasourceCreate(datasource.getDatasourceConfiguration())
+                    .transform(this::recordDatasourceContextCreation)
+                    .cache();
 
             Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMono
                     .flatMap(connection -> {
@@ -129,6 +177,11 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                         /* When a connection object exists and makes sense for the plugin, we put it in the
                          context. Example, DB plugins. */
                         datasourceContext.setConnection(connection);
+                        /* The authentication of an updatable connection has just been saved, and is encrypted again */
+                        if (!(connection instanceof UpdatableConnection) && datasource.getUpdatedAt() != null) {
+                            datasourceContext.setDecryptedConfiguration(datasource.getDatasourceConfiguration());
+                            datasourceContext.setDecryptedConfigurationUpdatedAt(datasource.getUpdatedAt());
+                        }
                         return datasourceContext;
                     })
                     .defaultIfEmpty(
@@ -136,6 +189,10 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                         just return the context object as is. */
                             datasourceContext
                     )
+                    .doOnTerminate(() -> datasourceContext.setConnectionPending(false))
+                    /* Make room for the new context, if this server has too many of them open */
+                    .flatMap(datasourceContext1 -> evictDatasourceContextsOverMaxSize(datasourceContext1.getPluginId())
+                            .thenReturn(datasourceContext1))
                     .cache(); /* Cache the value so that further evaluations don't result in new connections */
             if (datasourceId != null) {
                 datasourceContextMonoMap.put(datasourceId, datasourceContextMonoCache);
@@ -218,6 +275,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     "scenario");
         } else if (isValidDatasourceContextAvailable(datasource)) {
             log.debug("Resource context exists. Returning the same.");
+            markAccessed(datasourceId);
             return Mono.just(datasourceContextMap.get(datasourceId));
         }
 
@@ -229,7 +287,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasource)
                 .flatMap(this::getDatasourceContext)
                 // Now that we have the context (connection details), call the task.
-                .flatMap(task);
+                .flatMap(datasourceContext -> executeInDatasourceContext(datasourceContext, task));
 
         return taskRunnerMono
                 .onErrorResume(StaleConnectionException.class, error -> {
@@ -266,6 +324,39 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                 });
     }
 
+    @Override
+    public <T> Mono<T> executeInDatasourceContext(DatasourceContext<?> datasourceContext,
+                                                  Function<DatasourceContext<?>, Mono<T>> task) {
+        return Mono.using(
+                () -> {
+                    datasourceContext.getExecutionsInFlight().incrementAndGet();
+                    return datasourceContext;
+                },
+                task,
+                datasourceContext1 -> {
+                    // The context was in use until now, and so shouldn't be counted as idle from when the task started
+                    datasourceContext1.setLastAccessTime(Instant.now());
+                    datasourceContext1.getExecutionsInFlight().decrementAndGet();
+                });
+    }
+
+    @Override
+    public Optional<DatasourceConfiguration> getDecryptedConfiguration(Datasource datasource) {
+        final String datasourceId = datasource.getId();
+        if (datasourceId == null || datasource.getUpdatedAt() == null) {
+            return Optional.empty();
+        }
+
+        final DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceId);
+        if (datasourceContext == null
+                || datasourceContext.getDecryptedConfiguration() == null
+                || !datasource.getUpdatedAt().equals(datasourceContext.getDecryptedConfigurationUpdatedAt())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(datasourceContext.getDecryptedConfiguration());
+    }
+
     // We can afford to make this call all the time since we already have all the info we need in context
     @Override
     public Mono<DatasourceContext<?>> getRemoteDatasourceContext(Plugin plugin, Datasource datasource) {
@@ -277,10 +368,127 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     executePluginDTO.setInstallationKey(instanceId);
                     executePluginDTO.setPluginName(plugin.getPluginName());
                     executePluginDTO.setPluginVersion(plugin.getVersion());
+                    datasourceService.decryptSecrets(datasource);
                     executePluginDTO.setDatasource(new DatasourceDTO(datasource.getId(), datasource.getDatasourceConfiguration()));
                     datasourceContext.setConnection(executePluginDTO);
 
                     return datasourceContext;
                 });
     }
+
+    private void markAccessed(String datasourceId) {
+        final DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceId);
+        if (datasourceContext != null) {
+            datasourceContext.setLastAccessTime(Instant.now());
+        }
+    }
+
+    private <T> Mono<T> recordDatasourceContextCreation(Mono<T> connectionMono) {
+        return Mono.defer(() -> {
+            datasourceContextCreationCounter.increment();
+            final Timer.Sample sample = Timer.start(meterRegistry);
+            return connectionMono.doFinally(signalType -> sample.stop(datasourceContextCreationTimer));
+        });
+    }
+
+    /**
+     * Closes the datasource contexts that haven't been used for longer than the configured idle time, so that the
+     * connections to datasources that are no longer being used are given back.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedRate = 60 * 1000 /* one minute */)
+    public void evictIdleDatasourceContexts() {
+        final Instant idleSince = Instant.now().minus(datasourceContextConfig.getMaxIdleTime());
+        datasourceContextMap.forEach((datasourceId, datasourceContext) -> {
+            if (isEvictable(datasourceContext) && datasourceContext.getLastAccessTime().isBefore(idleSince)) {
+                evictDatasourceContext(datasourceId, datasourceContext, EVICTION_REASON_IDLE);
+            }
+        });
+    }
+
+    /**
+     * Closes the least recently used datasource contexts, until both the total number of contexts and the number of
+     * contexts of the given plugin are within their configured limits.
+     */
+    Mono<Void> evictDatasourceContextsOverMaxSize(String pluginId) {
+        evictLeastRecentlyUsedDatasourceContexts(datasourceContext -> true, datasourceContextConfig.getMaxSize(),
+                EVICTION_REASON_MAX_SIZE);
+
+        if (pluginId == null || datasourceContextConfig.getMaxSizeByPlugin().isEmpty()) {
+            return Mono.empty();
+        }
+
+        return pluginService.findById(pluginId)
+                .flatMap(plugin -> Mono.justOrEmpty(datasourceContextConfig.getMaxSizeForPlugin(plugin.getPackageName())))
+                .doOnNext(maxSize -> evictLeastRecentlyUsedDatasourceContexts(
+                        datasourceContext -> pluginId.equals(datasourceContext.getPluginId()),
+                        maxSize,
+                        EVICTION_REASON_PLUGIN_MAX_SIZE))
+                .onErrorResume(error -> {
+                    log.error("Error while enforcing the datasource context limit for plugin {}", pluginId, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void evictLeastRecentlyUsedDatasourceContexts(Predicate<DatasourceContext<?>> filter,
+                                                          int maxSize,
+                                                          String reason) {
+        if (datasourceContextMap.size() <= maxSize) {
+            return;
+        }
+
+        final List<Map.Entry<String, DatasourceContext<?>>> datasourceContexts = datasourceContextMap.entrySet()
+                .stream()
+                .filter(entry -> isEvictable(entry.getValue()) && filter.test(entry.getValue()))
+                .sorted(Comparator.comparing(entry -> entry.getValue().getLastAccessTime()))
+                .toList();
+
+        for (int i = 0; i < datasourceContexts.size() - maxSize; i++) {
+            final Map.Entry<String, DatasourceContext<?>> entry = datasourceContexts.get(i);
+            evictDatasourceContext(entry.getKey(), entry.getValue(), reason);
+        }
+    }
+
+    /**
+     * A context whose connection is still being created can't be evicted, because the connection would only be set
+     * on it after it has left the cache, and would never be destroyed. A context that actions are being executed on
+     * can't be evicted either, as destroying its connection would fail them.
+     */
+    private static boolean isEvictable(DatasourceContext<?> datasourceContext) {
+        return !datasourceContext.isConnectionPending() && datasourceContext.getExecutionsInFlight().get() == 0;
+    }
+
+    /**
+     * Removes the datasource context from the cache, unless it has already been replaced or it is in use, and destroys
+     * its connection.
+     * Actions that run on this datasource later on will create a fresh context.
+     */
+    void evictDatasourceContext(String datasourceId, DatasourceContext<?> datasourceContext, String reason) {
+        final Object monitor = datasourceContextSynchronizationMonitorMap.getOrDefault(datasourceId, datasourceContext);
+        synchronized (monitor) {
+            if (!isEvictable(datasourceContext) || !datasourceContextMap.remove(datasourceId, datasourceContext)) {
+                return;
+            }
+            datasourceContextMonoMap.remove(datasourceId);
+        }
+
+        log.debug("Evicting datasource context for datasource ID {}, reason: {}", datasourceId, reason);
+        meterRegistry.counter(METRIC_PREFIX + ".evicted", "reason", reason).increment();
+
+        final Object connection = datasourceContext.getConnection();
+        final PluginExecutor<Object> pluginExecutor = datasourceContext.getPluginId() == null
+                ? null
+                : pluginExecutorMap.get(datasourceContext.getPluginId());
+        if (connection == null || pluginExecutor == null) {
+            return;
+        }
+
+        // Closing connection pools can block, so this is kept off the thread that is executing the action
+        Mono.fromRunnable(() -> pluginExecutor.datasourceDestroy(connection))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(
+                        null,
+                        error -> log.info("Error destroying evicted datasource connection", error)
+                );
+    }
 }
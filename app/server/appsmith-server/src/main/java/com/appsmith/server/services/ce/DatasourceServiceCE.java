@@ -45,4 +45,6 @@ public interface DatasourceServiceCE extends CrudService<Datasource, String> {
 
     Mono<Datasource> createWithoutPermissions(Datasource datasource);
 
+    Datasource decryptSecrets(Datasource datasource);
+
 }
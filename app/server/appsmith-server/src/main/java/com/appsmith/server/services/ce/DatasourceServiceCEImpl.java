@@ -1,5 +1,6 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.external.annotations.encryption.DeferredSecrets;
 import com.appsmith.external.helpers.AppsmithBeanUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionDTO;
@@ -74,6 +75,7 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
     private final DatasourceContextService datasourceContextService;
     private final DatasourcePermission datasourcePermission;
     private final WorkspacePermission workspacePermission;
+    private final DeferredSecrets deferredSecrets;
 
     @Autowired
     public DatasourceServiceCEImpl(Scheduler scheduler,
@@ -91,7 +93,8 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                                    NewActionRepository newActionRepository,
                                    DatasourceContextService datasourceContextService,
                                    DatasourcePermission datasourcePermission,
-                                   WorkspacePermission workspacePermission) {
+                                   WorkspacePermission workspacePermission,
+                                   DeferredSecrets deferredSecrets) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.workspaceService = workspaceService;
@@ -104,6 +107,7 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
         this.datasourceContextService = datasourceContextService;
         this.datasourcePermission = datasourcePermission;
         this.workspacePermission = workspacePermission;
+        this.deferredSecrets = deferredSecrets;
     }
 
     @Override
@@ -262,6 +266,9 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
 
     @Override
     public Mono<Datasource> validateDatasource(Datasource datasource) {
+        // The plugins validate the plaintext of the secrets
+        decryptSecrets(datasource);
+
         Set<String> invalids = new HashSet<>();
         datasource.setInvalids(invalids);
 
@@ -500,6 +507,18 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
         return this.archiveById(id);
     }
 
+    /**
+     * Datasources are read from the database with their secrets still encrypted. This decrypts them in place, and has
+     * to be called before the secrets are handed over to a plugin or exported.
+     *
+     * @param datasource datasource with encrypted secrets
+     * @return the same datasource, with the plaintext of its secrets
+     */
+    @Override
+    public Datasource decryptSecrets(Datasource datasource) {
+        return deferredSecrets.decrypt(datasource);
+    }
+
     @Override
     public Map<String, Object> getAnalyticsProperties(Datasource datasource) {
         Map<String, Object> analyticsProperties = new HashMap<>();
@@ -38,6 +38,7 @@ import com.appsmith.server.helpers.CollectionUtils;
 import com.appsmith.server.helpers.GitCloudServicesUtils;
 import com.appsmith.server.helpers.GitDeployKeyGenerator;
 import com.appsmith.server.helpers.GitFileUtils;
+import com.appsmith.server.helpers.GitStatusCache;
 import com.appsmith.server.helpers.GitUtils;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.migrations.JsonSchemaVersions;
@@ -136,6 +137,7 @@ public class GitServiceCEImpl implements GitServiceCE {
     private final PagePermission pagePermission;
     private final ActionPermission actionPermission;
     private final WorkspaceService workspaceService;
+    private final GitStatusCache gitStatusCache;
 
     @Override
     public Mono<Application> updateGitMetadata(String applicationId, GitApplicationMetadata gitApplicationMetadata) {
@@ -562,6 +564,7 @@ public class GitServiceCEImpl implements GitServiceCE {
                 });
 
         return Mono.create(sink -> commitMono
+                .doFinally(signalType -> gitStatusCache.evict(defaultApplicationId))
                 .subscribe(sink::success, sink::error, null, sink.currentContext())
         );
     }
@@ -940,6 +943,7 @@ public class GitServiceCEImpl implements GitServiceCE {
                 .flatMap(tuple -> {
                     String pushResult = tuple.getT1();
                     Application application = tuple.getT2();
+                    gitStatusCache.evict(application.getGitApplicationMetadata().getDefaultApplicationId());
                     if (pushResult.contains("REJECTED_NONFASTFORWARD")) {
 
                         return addAnalyticsForGitOperation(
@@ -1356,7 +1360,7 @@ public class GitServiceCEImpl implements GitServiceCE {
         Mono<GitPullDTO> pullMono = getApplicationById(defaultApplicationId)
                 .flatMap(defaultApplication -> {
                     GitApplicationMetadata defaultGitMetadata = defaultApplication.getGitApplicationMetadata();
-                    return Mono.zip(Mono.just(defaultApplication), getStatus(defaultGitMetadata.getDefaultApplicationId(), branchName));
+                    return Mono.zip(Mono.just(defaultApplication), getStatus(defaultGitMetadata.getDefaultApplicationId(), branchName, false));
                 })
                 .flatMap(tuple -> {
                     Application defaultApplication = tuple.getT1();
@@ -1372,6 +1376,7 @@ public class GitServiceCEImpl implements GitServiceCE {
                 });
 
         return Mono.create(sink -> pullMono
+                .doFinally(signalType -> gitStatusCache.evict(defaultApplicationId))
                 .subscribe(sink::success, sink::error, null, sink.currentContext())
         );
     }
@@ -1488,68 +1493,103 @@ public class GitServiceCEImpl implements GitServiceCE {
     }
 
     /**
-     * Get the status of the mentioned branch
+     * Get the status of the mentioned branch. The status is served from the cache as long as none of the resources of
+     * the branch have changed since it was computed, and the remote branch is fetched at most once in a while, so the
+     * ahead and behind counts may lag behind the remote for a short time.
      *
      * @param defaultApplicationId root/default application
      * @param branchName           for which the status is required
      * @return Map of json file names which are added, modified, conflicting, removed and the working tree if this is clean
      */
     public Mono<GitStatusDTO> getStatus(String defaultApplicationId, String branchName) {
+        return getStatus(defaultApplicationId, branchName, true);
+    }
+
+    /**
+     * Get the status of the mentioned branch
+     *
+     * @param defaultApplicationId root/default application
+     * @param branchName           for which the status is required
+     * @param isCacheAllowed       if false, the remote is fetched and the resources are copied to the local repo before
+     *                             the status is computed, which is needed by the flows that go on to merge the branch
+     * @return Map of json file names which are added, modified, conflicting, removed and the working tree if this is clean
+     */
+    protected Mono<GitStatusDTO> getStatus(String defaultApplicationId, String branchName, boolean isCacheAllowed) {
 
         if (StringUtils.isEmptyOrNull(branchName)) {
             return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.BRANCH_NAME));
         }
         final String finalBranchName = branchName.replaceFirst("origin/", "");
         /*
-            1. Copy resources from DB to local repo
-            2. Fetch the current status from local repo
+            1. Serve the status from the cache if the branch hasn't changed since it was computed
+            2. Copy resources from DB to local repo
+            3. Fetch the current status from local repo
          */
 
-
         Mono<GitStatusDTO> statusMono = Mono.zip(
                         getGitApplicationMetadata(defaultApplicationId),
                         applicationService.findByBranchNameAndDefaultApplicationId(finalBranchName, defaultApplicationId, applicationPermission.getEditPermission())
                                 .onErrorResume(error -> {
                                     //if the branch does not exist in local, checkout remote branch
                                     return checkoutBranch(defaultApplicationId, finalBranchName);
-                                })
-                                .zipWhen(application -> importExportApplicationService.exportApplicationById(application.getId(), SerialiseApplicationObjective.VERSION_CONTROL)))
+                                }))
                 .flatMap(tuple -> {
                     GitApplicationMetadata defaultApplicationMetadata = tuple.getT1();
-                    Application application = tuple.getT2().getT1();
-                    ApplicationJson applicationJson = tuple.getT2().getT2();
+                    Application application = tuple.getT2();
                     GitApplicationMetadata gitData = application.getGitApplicationMetadata();
                     gitData.setGitAuth(defaultApplicationMetadata.getGitAuth());
                     Path repoSuffix =
                             Paths.get(application.getWorkspaceId(), gitData.getDefaultApplicationId(), gitData.getRepoName());
 
+                    // The ahead and behind counts change with the remote, so the status is computed again, in this flow
+                    // and after the fetch, whenever the remote branch is fetched
+                    final boolean isFetchRequired = !isCacheAllowed
+                            || gitStatusCache.tryStartRemoteFetch(defaultApplicationId, finalBranchName);
+
+                    return gitStatusCache.getWatermark(application)
+                            .flatMap(watermark -> {
+                                Optional<GitStatusDTO> cachedStatus = isFetchRequired
+                                        ? Optional.empty()
+                                        : gitStatusCache.get(defaultApplicationId, finalBranchName, watermark);
+                                if (cachedStatus.isPresent()) {
+                                    return Mono.just(cachedStatus.get());
+                                }
+                                return getStatusFromLocalRepo(application, repoSuffix, finalBranchName, isFetchRequired)
+                                        .doOnNext(status -> gitStatusCache.put(defaultApplicationId, finalBranchName, watermark, status));
+                            });
+                });
+
+        return Mono.create(sink -> statusMono
+                .subscribe(sink::success, sink::error, null, sink.currentContext())
+        );
+    }
+
+    private Mono<GitStatusDTO> getStatusFromLocalRepo(Application application, Path repoSuffix, String branchName, boolean isFetchRequired) {
+        GitAuth gitAuth = application.getGitApplicationMetadata().getGitAuth();
+        return importExportApplicationService.exportApplicationById(application.getId(), SerialiseApplicationObjective.VERSION_CONTROL)
+                .flatMap(applicationJson -> {
                     try {
-                        return Mono.zip(
-                                fileUtils.saveApplicationToLocalRepo(repoSuffix, applicationJson, finalBranchName),
-                                Mono.just(gitData.getGitAuth()),
-                                Mono.just(repoSuffix)
-                        );
+                        return fileUtils.saveApplicationToLocalRepo(repoSuffix, applicationJson, branchName);
                     } catch (IOException | GitAPIException e) {
                         return Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
                     }
                 })
-                .flatMap(tuple -> {
-                    Mono<GitStatusDTO> branchedStatusMono = gitExecutor.getStatus(tuple.getT1(), finalBranchName).cache();
+                .flatMap(repoPath -> {
+                    Mono<GitStatusDTO> branchedStatusMono = gitExecutor.getStatus(repoPath, branchName).cache();
                     try {
-                        return gitExecutor.fetchRemote(tuple.getT1(), tuple.getT2().getPublicKey(), tuple.getT2().getPrivateKey(), true, branchName, false)
+                        Mono<String> fetchRemoteMono = isFetchRequired
+                                ? gitExecutor.fetchRemote(repoPath, gitAuth.getPublicKey(), gitAuth.getPrivateKey(), true, branchName, false)
+                                : Mono.just("");
+                        return fetchRemoteMono
                                 .then(branchedStatusMono)
                                 // Remove any files which are copied by hard resetting the repo
-                                .then(gitExecutor.resetToLastCommit(tuple.getT3(), branchName))
+                                .then(gitExecutor.resetToLastCommit(repoSuffix, branchName))
                                 .then(branchedStatusMono)
                                 .onErrorResume(error -> Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", error.getMessage())));
                     } catch (GitAPIException | IOException e) {
                         return Mono.error(new AppsmithException(AppsmithError.GIT_GENERIC_ERROR, e.getMessage()));
                     }
                 });
-
-        return Mono.create(sink -> statusMono
-                .subscribe(sink::success, sink::error, null, sink.currentContext())
-        );
     }
 
     @Override
@@ -1584,14 +1624,14 @@ public class GitServiceCEImpl implements GitServiceCE {
                             gitApplicationMetadata.getRepoName());
 
                     //1. Hydrate from db to file system for both branch Applications
-                    Mono<Path> pathToFile = this.getStatus(defaultApplicationId, sourceBranch)
+                    Mono<Path> pathToFile = this.getStatus(defaultApplicationId, sourceBranch, false)
                             .flatMap(status -> {
                                 if (!Integer.valueOf(0).equals(status.getBehindCount())) {
                                     throw Exceptions.propagate(new AppsmithException(AppsmithError.GIT_MERGE_FAILED_REMOTE_CHANGES, status.getBehindCount(), sourceBranch));
                                 } else if (!CollectionUtils.isNullOrEmpty(status.getModified())) {
                                     throw Exceptions.propagate(new AppsmithException(AppsmithError.GIT_MERGE_FAILED_LOCAL_CHANGES, sourceBranch));
                                 }
-                                return this.getStatus(defaultApplicationId, destinationBranch)
+                                return this.getStatus(defaultApplicationId, destinationBranch, false)
                                         .map(status1 -> {
                                             if (!Integer.valueOf(0).equals(status.getBehindCount())) {
                                                 throw Exceptions.propagate(new AppsmithException(AppsmithError.GIT_MERGE_FAILED_REMOTE_CHANGES, status.getBehindCount(), destinationBranch));
@@ -1688,6 +1728,7 @@ public class GitServiceCEImpl implements GitServiceCE {
                 });
 
         return Mono.create(sink -> mergeMono
+                .doFinally(signalType -> gitStatusCache.evict(defaultApplicationId))
                 .subscribe(sink::success, sink::error, null, sink.currentContext())
         );
     }
@@ -1717,14 +1758,14 @@ public class GitServiceCEImpl implements GitServiceCE {
                             gitApplicationMetadata.getRepoName());
 
                     //1. Hydrate from db to file system for both branch Applications
-                    return this.getStatus(defaultApplicationId, sourceBranch)
+                    return this.getStatus(defaultApplicationId, sourceBranch, false)
                             .flatMap(srcBranchStatus -> {
                                 if (!Integer.valueOf(0).equals(srcBranchStatus.getBehindCount())) {
                                     return Mono.error(Exceptions.propagate(new AppsmithException(AppsmithError.GIT_MERGE_FAILED_REMOTE_CHANGES, srcBranchStatus.getBehindCount(), sourceBranch)));
                                 } else if (!CollectionUtils.isNullOrEmpty(srcBranchStatus.getModified())) {
                                     return Mono.error(Exceptions.propagate(new AppsmithException(AppsmithError.GIT_MERGE_FAILED_LOCAL_CHANGES, sourceBranch)));
                                 }
-                                return this.getStatus(defaultApplicationId, destinationBranch)
+                                return this.getStatus(defaultApplicationId, destinationBranch, false)
                                         .map(destBranchStatus -> {
                                             if (!Integer.valueOf(0).equals(destBranchStatus.getBehindCount())) {
                                                 throw Exceptions.propagate(new AppsmithException(AppsmithError.GIT_MERGE_FAILED_REMOTE_CHANGES, destBranchStatus.getBehindCount(), destinationBranch));
@@ -2149,6 +2190,7 @@ public class GitServiceCEImpl implements GitServiceCE {
         }
 
         return Mono.create(sink -> discardChangeMono
+                .doFinally(signalType -> gitStatusCache.evict(defaultApplicationId))
                 .subscribe(sink::success, sink::error, null, sink.currentContext())
         );
     }
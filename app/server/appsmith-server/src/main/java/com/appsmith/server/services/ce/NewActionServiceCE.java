@@ -2,14 +2,18 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionStreamFrame;
 import com.appsmith.external.models.MustacheBindingToken;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ExecutePageLoadActionsDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
+import com.appsmith.server.dtos.PageLoadActionExecutionResultDTO;
 import com.appsmith.server.services.CrudService;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.codec.multipart.Part;
 import org.springframework.util.MultiValueMap;
@@ -41,6 +45,14 @@ public interface NewActionServiceCE extends CrudService<NewAction, String> {
 
     Mono<ActionExecutionResult> executeAction(Flux<Part> partsFlux, String branchName, String environmentName);
 
+    Flux<ActionExecutionStreamFrame> executeActionStreamed(ExecuteActionDTO executeActionDTO, String environmentName);
+
+    Flux<ActionExecutionStreamFrame> executeActionStreamed(Flux<Part> partsFlux, String branchName, String environmentName);
+
+    Flux<PageLoadActionExecutionResultDTO> executePageLoadActions(ExecutePageLoadActionsDTO executePageLoadActionsDTO,
+                                                                  String branchName,
+                                                                  String environmentName);
+
     Mono<ActionDTO> getValidActionForExecution(ExecuteActionDTO executeActionDTO, String actionId, NewAction newAction);
 
     <T> T variableSubstitution(T configuration, Map<String, String> replaceParamsMap);
@@ -83,6 +95,10 @@ public interface NewActionServiceCE extends CrudService<NewAction, String> {
 
     Flux<NewAction> saveAll(List<NewAction> actions);
 
+    Flux<NewAction> bulkInsert(List<NewAction> actions);
+
+    Mono<UpdateResult> updateUnpublishedCollectionId(List<String> actionIds, String collectionId);
+
     Flux<NewAction> findByPageId(String pageId);
 
     Mono<NewAction> archive(NewAction newAction);
@@ -110,4 +126,6 @@ public interface NewActionServiceCE extends CrudService<NewAction, String> {
     Mono<ActionDTO> fillSelfReferencingDataPaths(ActionDTO actionDTO);
 
     Map<String, Object> getAnalyticsProperties(NewAction savedAction);
+
+    Mono<Long> publishActions(String applicationId, AclPermission permission);
 }
@@ -13,6 +13,7 @@ import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionStreamFrame;
 import com.appsmith.external.models.ActionProvider;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.DatasourceConfiguration;
@@ -38,7 +39,9 @@ import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ExecutePageLoadActionsDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
+import com.appsmith.server.dtos.PageLoadActionExecutionResultDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.DateUtils;
@@ -65,6 +68,7 @@ import com.appsmith.server.solutions.PagePermission;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.result.UpdateResult;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
@@ -125,6 +129,8 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
     public static final String NATIVE_QUERY_PATH_STATUS = NATIVE_QUERY_PATH + "." + STATUS;
     public static final PluginType JS_PLUGIN_TYPE = PluginType.JS;
     public static final String JS_PLUGIN_PACKAGE_NAME = "js-plugin";
+    // Maximum number of actions of a page load batch that are executed at the same time
+    public static final int PAGE_LOAD_EXECUTION_CONCURRENCY = 8;
 
     private final NewActionRepository repository;
     private final DatasourceService datasourceService;
@@ -772,7 +778,7 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                         plugin,
                         environmentName))
                 // Now that we have the context (connection details), execute the action.
-                .flatMap(resourceContext -> validatedDatasourceMono
+                .flatMap(datasourceContext -> datasourceContextService.executeInDatasourceContext(datasourceContext, resourceContext -> validatedDatasourceMono
                         .flatMap(datasource1 -> {
                             final Instant requestedAt = Instant.now();
                             return ((Mono<ActionExecutionResult>) pluginExecutor.
@@ -791,7 +797,7 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                                         actionExecutionResult.setRequest(actionExecutionRequest);
                                         return actionExecutionResult;
                                     });
-                        }));
+                        })));
 
         return executionMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -976,8 +982,6 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         replaceNullWithQuotesForParamValues(executeActionDTO.getParams());
 
         String actionId = executeActionDTO.getActionId();
-        AtomicReference<String> actionName = new AtomicReference<>();
-        actionName.set("");
 
         // 2. Fetch the action from the DB and check if it can be executed
         Mono<NewAction> actionMono = getCachedActionForActionExecution(actionId);
@@ -986,6 +990,41 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         // 3. Instantiate the implementation class based on the query type
         Mono<Datasource> datasourceMono = getCachedDatasourceForActionExecution(actionDTOMono, environmentName);
         Mono<Plugin> pluginMono = getCachedPluginForActionExecution(datasourceMono, actionId);
+
+        return executeAction(executeActionDTO,
+                actionMono,
+                actionDTOMono,
+                datasourceMono,
+                pluginMono,
+                getEditorConfigLabelMap(datasourceMono),
+                environmentName);
+    }
+
+    /**
+     * Executes the action with the given action, datasource and plugin. These may be shared with other actions that
+     * are executed along with this one, see {@link #executePageLoadActions}.
+     *
+     * @param executeActionDTO
+     * @param actionMono
+     * @param actionDTOMono
+     * @param datasourceMono
+     * @param pluginMono
+     * @param editorConfigLabelMapMono
+     * @param environmentName
+     * @return actionExecutionResult if query succeeds, error messages otherwise
+     */
+    protected Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO,
+                                                        Mono<NewAction> actionMono,
+                                                        Mono<ActionDTO> actionDTOMono,
+                                                        Mono<Datasource> datasourceMono,
+                                                        Mono<Plugin> pluginMono,
+                                                        Mono<Map> editorConfigLabelMapMono,
+                                                        String environmentName) {
+
+        String actionId = executeActionDTO.getActionId();
+        AtomicReference<String> actionName = new AtomicReference<>();
+        actionName.set("");
+
         Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
 
         // 4. Execute the query
@@ -999,8 +1038,6 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                 actionId,
                 environmentName);
 
-        Mono<Map> editorConfigLabelMapMono = getEditorConfigLabelMap(datasourceMono);
-
         return actionExecutionResultMono
                 .zipWith(editorConfigLabelMapMono, (result, labelMap) -> {
                     if (TRUE.equals(executeActionDTO.getViewMode())) {
@@ -1084,65 +1121,76 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                         return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ACTION_ID));
                     }
 
-                    final Set<String> visitedBindings = new HashSet<>();
-                    /*
-                        Parts in multipart request can appear in any order. In order to avoid NPE original name of the parameters
-                        along with the client-side data type are set here as it's guaranteed at this point that the part having the parameterMap is already collected.
-                        Ref: https://github.com/appsmithorg/appsmith/issues/16722
-                     */
-                    params.forEach(
-                            param -> {
-                                String pseudoBindingName = param.getPseudoBindingName();
-                                String bindingValue = dto.getInvertParameterMap().get(pseudoBindingName);
-                                param.setKey(bindingValue);
-                                visitedBindings.add(bindingValue);
-                                //if the type is not an array e.g. "k1": "string" or "k1": "boolean"
-                                if (dto.getParamProperties()
-                                        .get(pseudoBindingName) instanceof String) {
-                                    param.setClientDataType(ClientDataType.valueOf(String.valueOf(dto.getParamProperties()
-                                                    .get(pseudoBindingName))
-                                            .toUpperCase()));
-                                } else if (dto.getParamProperties()
-                                        .get(pseudoBindingName) instanceof LinkedHashMap) {
-                                    //if the type is an array e.g. "k1": { "array": [ "string", "number", "string", "boolean"]
-                                    LinkedHashMap<String, ArrayList> stringArrayListLinkedHashMap =
-                                            (LinkedHashMap<String, ArrayList>) dto.getParamProperties()
-                                                    .get(pseudoBindingName);
-                                    Optional<String> firstKeyOpt = stringArrayListLinkedHashMap.keySet()
-                                            .stream()
-                                            .findFirst();
-                                    if (firstKeyOpt.isPresent()) {
-                                        String firstKey = firstKeyOpt.get();
-                                        param.setClientDataType(ClientDataType.valueOf(firstKey.toUpperCase()));
-                                        List<String> individualTypes = stringArrayListLinkedHashMap.get(firstKey);
-                                        List<ClientDataType> dataTypesOfArrayElements =
-                                                individualTypes.stream()
-                                                        .map(it -> ClientDataType.valueOf(String.valueOf(it)
-                                                                .toUpperCase()))
-                                                        .collect(Collectors.toList());
-                                        param.setDataTypesOfArrayElements(dataTypesOfArrayElements);
-                                    }
-                                }
-
-                            }
-                    );
+                    setParamKeysAndDataTypes(dto, params);
+                    return Mono.just(dto);
+                });
+    }
 
-                    // In case there are parameters that did not receive a value in the multipart request,
-                    // initialize these bindings with empty strings
-                    if (dto.getParameterMap() != null) {
-                        dto.getParameterMap()
-                                .keySet()
+    /**
+     * Sets the original binding names and the client side data types on the params, which are identified by their
+     * pseudo binding names in the request, and sets them on the executeActionDTO.
+     *
+     * @param dto
+     * @param params
+     */
+    protected void setParamKeysAndDataTypes(ExecuteActionDTO dto, List<Param> params) {
+        final Set<String> visitedBindings = new HashSet<>();
+        /*
+            Parts in multipart request can appear in any order. In order to avoid NPE original name of the parameters
+            along with the client-side data type are set here as it's guaranteed at this point that the part having the parameterMap is already collected.
+            Ref: https://github.com/appsmithorg/appsmith/issues/16722
+         */
+        params.forEach(
+                param -> {
+                    String pseudoBindingName = param.getPseudoBindingName();
+                    String bindingValue = dto.getInvertParameterMap().get(pseudoBindingName);
+                    param.setKey(bindingValue);
+                    visitedBindings.add(bindingValue);
+                    //if the type is not an array e.g. "k1": "string" or "k1": "boolean"
+                    if (dto.getParamProperties()
+                            .get(pseudoBindingName) instanceof String) {
+                        param.setClientDataType(ClientDataType.valueOf(String.valueOf(dto.getParamProperties()
+                                        .get(pseudoBindingName))
+                                .toUpperCase()));
+                    } else if (dto.getParamProperties()
+                            .get(pseudoBindingName) instanceof LinkedHashMap) {
+                        //if the type is an array e.g. "k1": { "array": [ "string", "number", "string", "boolean"]
+                        LinkedHashMap<String, ArrayList> stringArrayListLinkedHashMap =
+                                (LinkedHashMap<String, ArrayList>) dto.getParamProperties()
+                                        .get(pseudoBindingName);
+                        Optional<String> firstKeyOpt = stringArrayListLinkedHashMap.keySet()
                                 .stream()
-                                .forEach(parameter -> {
-                                    if (!visitedBindings.contains(parameter)) {
-                                        Param newParam = new Param(parameter, "");
-                                        params.add(newParam);
-                                    }
-                                });
+                                .findFirst();
+                        if (firstKeyOpt.isPresent()) {
+                            String firstKey = firstKeyOpt.get();
+                            param.setClientDataType(ClientDataType.valueOf(firstKey.toUpperCase()));
+                            List<String> individualTypes = stringArrayListLinkedHashMap.get(firstKey);
+                            List<ClientDataType> dataTypesOfArrayElements =
+                                    individualTypes.stream()
+                                            .map(it -> ClientDataType.valueOf(String.valueOf(it)
+                                                    .toUpperCase()))
+                                            .collect(Collectors.toList());
+                            param.setDataTypesOfArrayElements(dataTypesOfArrayElements);
+                        }
                     }
-                    dto.setParams(params);
-                    return Mono.just(dto);
-                });
+
+                }
+        );
+
+        // In case there are parameters that did not receive a value in the multipart request,
+        // initialize these bindings with empty strings
+        if (dto.getParameterMap() != null) {
+            dto.getParameterMap()
+                    .keySet()
+                    .stream()
+                    .forEach(parameter -> {
+                        if (!visitedBindings.contains(parameter)) {
+                            Param newParam = new Param(parameter, "");
+                            params.add(newParam);
+                        }
+                    });
+        }
+        dto.setParams(params);
     }
 
     /**
@@ -1166,6 +1214,321 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                 .flatMap(executeActionDTO -> this.executeAction(executeActionDTO, environmentName));
     }
 
+    /**
+     * Streaming counterpart of {@link #verifyDatasourceAndMakeRequest}. The stale connection retry is only triggered
+     * when the plugin reports a stale connection, which happens before any rows are read.
+     *
+     * @param executeActionDTO
+     * @param actionDTO
+     * @param datasource
+     * @param plugin
+     * @param pluginExecutor
+     * @param environmentName
+     * @return actionExecutionStreamFrameFlux
+     */
+    protected Flux<ActionExecutionStreamFrame> verifyDatasourceAndMakeStreamedRequest(ExecuteActionDTO executeActionDTO,
+                                                                                      ActionDTO actionDTO,
+                                                                                      Datasource datasource,
+                                                                                      Plugin plugin,
+                                                                                      PluginExecutor pluginExecutor,
+                                                                                      String environmentName) {
+        Mono<Datasource> validatedDatasourceMono = getValidatedDatasourceForActionExecution(datasource, environmentName);
+
+        Flux<ActionExecutionStreamFrame> executionFlux = validatedDatasourceMono
+                .flatMap(datasource1 -> getDatasourceContextFromValidatedDatasourceForActionExecution(datasource1,
+                        plugin,
+                        environmentName))
+                .flatMapMany(resourceContext -> validatedDatasourceMono
+                        .flatMapMany(datasource1 -> {
+                            final Instant requestedAt = Instant.now();
+                            return ((Flux<ActionExecutionStreamFrame>) pluginExecutor.
+                                    executeParameterizedStreamed(resourceContext.getConnection(),
+                                            executeActionDTO,
+                                            datasource1.getDatasourceConfiguration(),
+                                            actionDTO.getActionConfiguration()))
+                                    .map(frame -> {
+                                        if (ActionExecutionStreamFrame.FrameType.HEADER.equals(frame.getType())) {
+                                            ActionExecutionRequest actionExecutionRequest = frame.getRequest();
+                                            if (actionExecutionRequest == null) {
+                                                actionExecutionRequest = new ActionExecutionRequest();
+                                            }
+                                            actionExecutionRequest.setActionId(executeActionDTO.getActionId());
+                                            actionExecutionRequest.setRequestedAt(requestedAt);
+                                            frame.setRequest(actionExecutionRequest);
+                                        }
+                                        return frame;
+                                    });
+                        }));
+
+        return executionFlux.onErrorResume(StaleConnectionException.class, error -> {
+            log.info("Looks like the connection is stale. Retrying with a fresh context.");
+            return deleteDatasourceContextForRetry(datasource, environmentName)
+                    .thenMany(executionFlux);
+        });
+    }
+
+    /**
+     * Executes the action in streaming mode. Instead of waiting for the complete result, the rows are sent to the client
+     * in chunks as they are read from the datasource. See {@link ActionExecutionStreamFrame} for the layout of the stream.
+     * <p>
+     * The action timeout applies to the time between two consecutive frames, so that large results that keep flowing are
+     * not cut off. Data types and widget suggestions are computed on the first chunk of rows and are sent in the last
+     * frame along with the execution status.
+     *
+     * @param executeActionDTO
+     * @param environmentName
+     * @return Flux of frames, ending with the result frame
+     */
+    @Override
+    public Flux<ActionExecutionStreamFrame> executeActionStreamed(ExecuteActionDTO executeActionDTO, String environmentName) {
+
+        replaceNullWithQuotesForParamValues(executeActionDTO.getParams());
+
+        String actionId = executeActionDTO.getActionId();
+
+        Mono<NewAction> actionMono = getCachedActionForActionExecution(actionId);
+        Mono<ActionDTO> actionDTOMono = getCachedActionDTOForActionExecution(actionMono, executeActionDTO, actionId);
+        Mono<Datasource> datasourceMono = getCachedDatasourceForActionExecution(actionDTOMono, environmentName);
+        Mono<Plugin> pluginMono = getCachedPluginForActionExecution(datasourceMono, actionId);
+        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+        Mono<Map> editorConfigLabelMapMono = getEditorConfigLabelMap(datasourceMono);
+
+        return Mono.zip(actionDTOMono, datasourceMono, pluginExecutorMono, pluginMono, actionMono, editorConfigLabelMapMono)
+                .flatMapMany(tuple -> {
+                    final ActionDTO actionDTO = tuple.getT1();
+                    final Datasource datasource = tuple.getT2();
+                    final PluginExecutor pluginExecutor = tuple.getT3();
+                    final Plugin plugin = tuple.getT4();
+                    final NewAction actionFromDb = tuple.getT5();
+                    final Map<String, String> labelMap = tuple.getT6();
+
+                    log.debug("[{}]Execute Action streamed called in Page {}, for action id : {}  action name : {}",
+                            Thread.currentThread().getName(),
+                            actionDTO.getPageId(), actionId, actionDTO.getName());
+
+                    Integer timeoutDuration = actionDTO.getActionConfiguration().getTimeoutInMillisecond();
+                    final Instant startedAt = Instant.now();
+                    final AtomicReference<ActionExecutionRequest> requestReference = new AtomicReference<>();
+                    final AtomicReference<List<?>> firstRowsReference = new AtomicReference<>();
+
+                    return verifyDatasourceAndMakeStreamedRequest(executeActionDTO, actionDTO, datasource,
+                            plugin, pluginExecutor, environmentName)
+                            .timeout(Duration.ofMillis(timeoutDuration))
+                            // Errors after some frames have been sent, like a lost connection while reading the rows,
+                            // end the stream with a RESULT frame mapped in the same way as the errors of any execution
+                            .onErrorResume(error -> handleExecutionErrors(Mono.error(error), actionDTO, timeoutDuration, actionId)
+                                    .map(result -> ActionExecutionStreamFrame.result(result, null)))
+                            .concatMap(frame -> {
+                                switch (frame.getType()) {
+                                    case HEADER:
+                                        requestReference.set(frame.getRequest());
+                                        if (TRUE.equals(executeActionDTO.getViewMode())) {
+                                            frame.setRequest(null);
+                                        } else if (frame.getRequest() != null && frame.getRequest().getRequestParams() != null) {
+                                            ActionExecutionResult headerResult = new ActionExecutionResult();
+                                            headerResult.setRequest(frame.getRequest());
+                                            transformRequestParams(headerResult, labelMap);
+                                        }
+                                        return Mono.just(frame);
+                                    case ROWS:
+                                        firstRowsReference.compareAndSet(null, frame.getRows());
+                                        return Mono.just(frame);
+                                    default:
+                                        ActionExecutionResult result = frame.getResult();
+                                        if (result.getRequest() == null) {
+                                            result.setRequest(requestReference.get());
+                                        }
+                                        // The body of a failed execution carries the error, which is sent as is
+                                        if (firstRowsReference.get() != null && TRUE.equals(result.getIsExecutionSuccess())) {
+                                            result.setBody(firstRowsReference.get());
+                                            addDataTypesAndSetSuggestedWidget(result, executeActionDTO.getViewMode());
+                                            result.setBody(null);
+                                        }
+
+                                        long timeElapsed = Duration.between(startedAt, Instant.now()).toMillis();
+                                        log.debug("{}: Action {} with id {} streamed execution time : {} ms",
+                                                Thread.currentThread().getName(),
+                                                actionDTO.getName(),
+                                                actionId,
+                                                timeElapsed
+                                        );
+
+                                        return sendExecuteAnalyticsEvent(actionFromDb, actionDTO, datasource,
+                                                executeActionDTO, result, timeElapsed)
+                                                .then(Mono.fromSupplier(() -> {
+                                                    // The request has already been sent in the header frame
+                                                    result.setRequest(null);
+                                                    return frame;
+                                                }));
+                                }
+                            });
+                })
+                .onErrorResume(AppsmithException.class, error -> {
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setIsExecutionSuccess(false);
+                    result.setStatusCode(error.getAppErrorCode().toString());
+                    result.setBody(error.getMessage());
+                    result.setTitle(error.getTitle());
+                    result.setErrorType(error.getErrorType());
+                    return Mono.just(ActionExecutionStreamFrame.result(result, null));
+                });
+    }
+
+    /**
+     * Executes the action(queries) in streaming mode by creating executeActionDTO from the multipart request
+     *
+     * @param partFlux
+     * @param branchName
+     * @param environmentName
+     * @return Flux of frames of the execution, ending with the result frame
+     */
+    @Override
+    public Flux<ActionExecutionStreamFrame> executeActionStreamed(Flux<Part> partFlux, String branchName, String environmentName) {
+        return createExecuteActionDTO(partFlux)
+                .flatMap(executeActionDTO -> findByBranchNameAndDefaultActionId(branchName,
+                        executeActionDTO.getActionId(),
+                        actionPermission.getExecutePermission())
+                        .map(branchedAction -> {
+                            executeActionDTO.setActionId(branchedAction.getId());
+                            return executeActionDTO;
+                        }))
+                .flatMapMany(executeActionDTO -> this.executeActionStreamed(executeActionDTO, environmentName));
+    }
+
+    /**
+     * Executes the actions of one page load layer in a single call and sends each result as soon as it is ready. The
+     * actions in a layer don't depend on each other, so they run concurrently, up to
+     * {@link #PAGE_LOAD_EXECUTION_CONCURRENCY} at a time.
+     * <p>
+     * The actions of the page are loaded with a single query, and actions on the same datasource share the datasource,
+     * plugin and editor config lookups, instead of repeating them for every action as separate executions would.
+     * Actions that are not found on the page, or can't be executed by the user, fail on their own without affecting the
+     * rest of the batch.
+     *
+     * @param executePageLoadActionsDTO
+     * @param branchName
+     * @param environmentName
+     * @return Flux of results, in the order in which the actions complete
+     */
+    @Override
+    public Flux<PageLoadActionExecutionResultDTO> executePageLoadActions(ExecutePageLoadActionsDTO executePageLoadActionsDTO,
+                                                                         String branchName,
+                                                                         String environmentName) {
+        final Boolean viewMode = TRUE.equals(executePageLoadActionsDTO.getViewMode());
+
+        Mono<Map<String, NewAction>> pageActionsMono = newPageService
+                .findByBranchNameAndDefaultPageId(branchName, executePageLoadActionsDTO.getPageId(), pagePermission.getReadPermission())
+                .flatMapMany(page -> repository.findByPageIdAndViewMode(page.getId(), viewMode, actionPermission.getExecutePermission()))
+                .collectMap(action -> action.getDefaultResources() != null && action.getDefaultResources().getActionId() != null
+                        ? action.getDefaultResources().getActionId()
+                        : action.getId());
+
+        return pageActionsMono
+                .flatMapMany(pageActions -> {
+                    // Lookups shared by the actions that run on the same datasource, keyed on the datasource id
+                    final Map<String, Mono<Datasource>> datasourceMonoMap = new HashMap<>();
+                    final Map<String, Mono<Plugin>> pluginMonoMap = new HashMap<>();
+                    final Map<String, Mono<Map>> editorConfigLabelMapMonoMap = new HashMap<>();
+
+                    final List<Mono<PageLoadActionExecutionResultDTO>> executionMonos = new ArrayList<>();
+                    for (ExecuteActionDTO executeActionDTO : executePageLoadActionsDTO.getActions()) {
+                        final String defaultActionId = executeActionDTO.getActionId();
+                        final NewAction newAction = defaultActionId == null ? null : pageActions.get(defaultActionId);
+
+                        Mono<ActionExecutionResult> resultMono;
+                        if (newAction == null) {
+                            resultMono = Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, defaultActionId));
+                        } else {
+                            resultMono = executePageLoadAction(executeActionDTO, newAction, viewMode, environmentName,
+                                    datasourceMonoMap, pluginMonoMap, editorConfigLabelMapMonoMap);
+                        }
+
+                        // Errors are reported in the result of the action, so that the rest of the batch still runs
+                        executionMonos.add(resultMono
+                                .onErrorResume(error -> {
+                                    ActionExecutionResult result = new ActionExecutionResult();
+                                    result.setIsExecutionSuccess(false);
+                                    result.setBody(error.getMessage());
+                                    if (error instanceof AppsmithException) {
+                                        result.setStatusCode(((AppsmithException) error).getAppErrorCode().toString());
+                                        result.setTitle(((AppsmithException) error).getTitle());
+                                        result.setErrorType(((AppsmithException) error).getErrorType());
+                                    } else {
+                                        result.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
+                                    }
+                                    return Mono.just(result);
+                                })
+                                .map(result -> new PageLoadActionExecutionResultDTO(defaultActionId, result)));
+                    }
+
+                    return Flux.fromIterable(executionMonos)
+                            .flatMap(Function.identity(), PAGE_LOAD_EXECUTION_CONCURRENCY);
+                });
+    }
+
+    private Mono<ActionExecutionResult> executePageLoadAction(ExecuteActionDTO executeActionDTO,
+                                                              NewAction newAction,
+                                                              Boolean viewMode,
+                                                              String environmentName,
+                                                              Map<String, Mono<Datasource>> datasourceMonoMap,
+                                                              Map<String, Mono<Plugin>> pluginMonoMap,
+                                                              Map<String, Mono<Map>> editorConfigLabelMapMonoMap) {
+        final String actionId = newAction.getId();
+        executeActionDTO.setActionId(actionId);
+        executeActionDTO.setViewMode(viewMode);
+
+        // The params are identified by their pseudo binding names, as in the multipart request
+        final List<Param> params = executeActionDTO.getParams() == null
+                ? new ArrayList<>()
+                : new ArrayList<>(executeActionDTO.getParams());
+        if (executeActionDTO.getParameterMap() != null) {
+            if (executeActionDTO.getParamProperties() == null) {
+                executeActionDTO.setParamProperties(new HashMap<>());
+            }
+            setParamKeysAndDataTypes(executeActionDTO, params);
+        } else {
+            executeActionDTO.setParams(params);
+        }
+        replaceNullWithQuotesForParamValues(executeActionDTO.getParams());
+
+        Mono<NewAction> actionMono = Mono.just(newAction);
+        Mono<ActionDTO> actionDTOMono = getCachedActionDTOForActionExecution(actionMono, executeActionDTO, actionId);
+
+        final ActionDTO storedActionDTO = TRUE.equals(viewMode) ? newAction.getPublishedAction() : newAction.getUnpublishedAction();
+        final String datasourceId = storedActionDTO != null && storedActionDTO.getDatasource() != null
+                ? storedActionDTO.getDatasource().getId()
+                : null;
+
+        // Embedded datasources are specific to the action, and are validated for every execution
+        if (datasourceId == null) {
+            Mono<Datasource> datasourceMono = getCachedDatasourceForActionExecution(actionDTOMono, environmentName);
+            return executeAction(executeActionDTO,
+                    actionMono,
+                    actionDTOMono,
+                    datasourceMono,
+                    getCachedPluginForActionExecution(datasourceMono, actionId),
+                    getEditorConfigLabelMap(datasourceMono),
+                    environmentName);
+        }
+
+        // The datasource is looked up from the stored action rather than the validated one, so that an invalid action
+        // doesn't fail the lookup for the other actions on the same datasource.
+        Mono<Datasource> datasourceMono = datasourceMonoMap.computeIfAbsent(datasourceId,
+                id -> getCachedDatasourceForActionExecution(Mono.just(storedActionDTO), environmentName));
+        Mono<Plugin> pluginMono = pluginMonoMap.computeIfAbsent(datasourceId,
+                id -> getCachedPluginForActionExecution(datasourceMono, actionId));
+        Mono<Map> editorConfigLabelMapMono = editorConfigLabelMapMonoMap.computeIfAbsent(datasourceId,
+                id -> getEditorConfigLabelMap(datasourceMono).cache());
+
+        return executeAction(executeActionDTO,
+                actionMono,
+                actionDTOMono,
+                datasourceMono,
+                pluginMono,
+                editorConfigLabelMapMono,
+                environmentName);
+    }
+
 
     @Override
     public Mono<ActionDTO> getValidActionForExecution(ExecuteActionDTO executeActionDTO, String actionId, NewAction newAction) {
@@ -1923,6 +2286,31 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                 .flatMapMany(actionList -> repository.saveAll(actionList));
     }
 
+    /**
+     * Inserts new actions in batches. Unlike {@link #saveAll(List)}, the actions may already have their ids set, which
+     * lets the references to them be resolved before they are inserted.
+     */
+    @Override
+    public Flux<NewAction> bulkInsert(List<NewAction> actions) {
+        // A timestamp can be shared by several actions of the batch, unlike an ObjectId
+        actions.stream()
+                .filter(action -> action.getGitSyncId() == null)
+                .forEach(action -> action.setGitSyncId(action.getApplicationId() + "_" + new ObjectId()));
+
+        return Flux.fromIterable(actions)
+                .concatMap(this::sanitizeAction)
+                .collectList()
+                .flatMapMany(actionList -> repository.bulkInsert(actionList));
+    }
+
+    /**
+     * Moves the given actions into the collection with a single update, without reading them first.
+     */
+    @Override
+    public Mono<UpdateResult> updateUnpublishedCollectionId(List<String> actionIds, String collectionId) {
+        return repository.updateUnpublishedCollectionId(actionIds, collectionId, actionPermission.getEditPermission());
+    }
+
     @Override
     public Flux<NewAction> findByPageId(String pageId) {
         return repository.findByPageId(pageId)
@@ -2134,6 +2522,20 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                 .collectList();
     }
 
+    /**
+     * Publishes the actions of an application by copying their unpublished action into their published action inside
+     * the database, so that the actions are not loaded into the server. Actions that were deleted in edit mode are
+     * archived instead.
+     *
+     * @return the number of actions published
+     */
+    @Override
+    public Mono<Long> publishActions(String applicationId, AclPermission permission) {
+        return repository.archiveDeletedUnpublishedActions(applicationId, permission)
+                .then(repository.publishActions(applicationId, permission))
+                .map(UpdateResult::getMatchedCount);
+    }
+
     public List<MustacheBindingToken> extractMustacheKeysInOrder(String query) {
         return MustacheHelper.extractMustacheKeysInOrder(query);
     }
@@ -10,6 +10,7 @@ import com.appsmith.server.services.CrudService;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -74,6 +75,8 @@ public interface NewPageServiceCE extends CrudService<NewPage, String> {
 
     Flux<NewPage> saveAll(List<NewPage> pages);
 
+    Flux<NewPage> bulkInsert(List<NewPage> pages);
+
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
 
     Mono<NewPage> findByBranchNameAndDefaultPageId(String branchName, String defaultPageId, AclPermission permission);
@@ -87,4 +90,6 @@ public interface NewPageServiceCE extends CrudService<NewPage, String> {
     Mono<NewPage> findByGitSyncIdAndDefaultApplicationId(String defaultApplicationId, String gitSyncId, Optional<AclPermission> permission);
 
     Flux<NewPage> findPageSlugsByApplicationIds(List<String> applicationIds, AclPermission aclPermission);
+
+    Mono<Long> publishPages(Collection<String> pageIds, AclPermission permission);
 }
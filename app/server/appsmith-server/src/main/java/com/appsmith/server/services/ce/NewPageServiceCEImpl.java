@@ -22,6 +22,7 @@ import com.appsmith.server.services.BaseService;
 import com.appsmith.server.services.UserDataService;
 import com.appsmith.server.solutions.ApplicationPermission;
 import com.appsmith.server.solutions.PagePermission;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
@@ -37,6 +38,7 @@ import reactor.core.scheduler.Scheduler;
 
 import jakarta.validation.Validator;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -59,6 +61,10 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
     private final ApplicationPermission applicationPermission;
     private final PagePermission pagePermission;
 
+    // The number of pages published by a single update, which bounds the work done by the database for each update as
+    // the pages may have large layouts
+    public static final int PUBLISH_PAGES_BATCH_SIZE = 20;
+
     @Autowired
     public NewPageServiceCEImpl(Scheduler scheduler,
                                 Validator validator,
@@ -551,6 +557,18 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
         return repository.saveAll(pages);
     }
 
+    /**
+     * Inserts new pages in batches. Unlike {@link #saveAll(List)}, the pages may already have their ids set, which lets
+     * the references to them be resolved before they are inserted.
+     */
+    @Override
+    public Flux<NewPage> bulkInsert(List<NewPage> pages) {
+        pages.stream()
+                .filter(newPage -> newPage.getGitSyncId() == null)
+                .forEach(newPage -> newPage.setGitSyncId(newPage.getApplicationId() + "_" + new ObjectId()));
+        return repository.bulkInsert(pages);
+    }
+
     @Override
     public Mono<String> getNameByPageId(String pageId, boolean isPublishedName) {
         return repository.getNameByPageId(pageId, isPublishedName);
@@ -655,4 +673,19 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
             return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.APPLICATION_ID + " or " + FieldName.PAGE_ID));
         }
     }
+
+    /**
+     * Publishes the given pages by copying their unpublished page into their published page inside the database, in
+     * batches of {@link #PUBLISH_PAGES_BATCH_SIZE}. Pages without the given permission are skipped.
+     *
+     * @return the number of pages published
+     */
+    @Override
+    public Mono<Long> publishPages(Collection<String> pageIds, AclPermission permission) {
+        return Flux.fromIterable(pageIds)
+                .buffer(PUBLISH_PAGES_BATCH_SIZE)
+                .concatMap(pageIdsBatch -> repository.publishPages(pageIdsBatch, permission))
+                .map(UpdateResult::getMatchedCount)
+                .reduce(0L, Long::sum);
+    }
 }
@@ -171,6 +171,7 @@ public class AuthenticationServiceCEImpl implements AuthenticationServiceCE {
                         return Mono.just(localState.split(",")[1]);
                 })
                 .flatMap(datasourceService::getById)
+                .map(datasourceService::decryptSecrets)
                 .flatMap(datasource -> {
                     OAuth2 oAuth2 = (OAuth2) datasource.getDatasourceConfiguration().getAuthentication();
                     final HttpClient httpClient = HttpClient.create();
@@ -449,6 +450,7 @@ public class AuthenticationServiceCEImpl implements AuthenticationServiceCE {
         assert (datasource != null &&
                 datasource.getDatasourceConfiguration() != null &&
                 datasource.getDatasourceConfiguration().getAuthentication() instanceof OAuth2);
+        datasourceService.decryptSecrets(datasource);
         OAuth2 oAuth2 = (OAuth2) datasource.getDatasourceConfiguration().getAuthentication();
         return pluginService.findById(datasource.getPluginId())
                 .filter(plugin -> PluginType.SAAS.equals(plugin.getType()) || PluginType.REMOTE.equals(plugin.getType()))
@@ -80,6 +80,9 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
             return Mono.just(datasource.getStructure());
         }
 
+        // The plugin reads the structure with the plaintext of the secrets
+        datasourceService.decryptSecrets(datasource);
+
         // This mono, when computed, will load the structure of the datasource by calling the plugin method.
         return pluginExecutorHelper
                 .getPluginExecutor(pluginService.findById(datasource.getPluginId()))
@@ -90,7 +90,7 @@ public class DatasourceTriggerSolutionCEImpl implements DatasourceTriggerSolutio
                                 }
                             })
                             // Now that we have the context (connection details), execute the action.
-                            .flatMap(resourceContext -> validatedDatasourceMono
+                            .flatMap(datasourceContext -> datasourceContextService.executeInDatasourceContext(datasourceContext, resourceContext -> validatedDatasourceMono
                                     .flatMap(datasource1 -> {
                                         return (Mono<TriggerResultDTO>) pluginExecutor.trigger(
                                                 resourceContext.getConnection(),
@@ -98,7 +98,7 @@ public class DatasourceTriggerSolutionCEImpl implements DatasourceTriggerSolutio
                                                 triggerRequestDTO
                                         );
                                     })
-                            );
+                            ));
                 });
 
         // If the plugin hasn't, go for the default implementation
@@ -7,7 +7,6 @@ import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.DefaultResources;
 import com.appsmith.server.constants.FieldName;
-import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.Layout;
@@ -289,7 +288,7 @@ public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE
                                             // Pick all action collections
                                             return actionCollectionService
                                                     .findByPageId(templatePageId)
-                                                    .flatMap(actionCollection -> {
+                                                    .map(actionCollection -> {
                                                         // Keep a record of the original collection id
                                                         final String originalCollectionId = actionCollection.getId();
                                                         log.info("Creating clone of action collection {}", originalCollectionId);
@@ -306,8 +305,14 @@ public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE
                                                         actionCollection.setWorkspaceId(toWorkspaceId);
                                                         actionCollection.setApplicationId(savedPage.getApplicationId());
 
+                                                        // The id of the clone is generated up front so that it can be inserted along
+                                                        // with its default resources and the other clones of the page in one go
+                                                        actionCollection.setId(new ObjectId().toString());
+                                                        collectionIdsMap.put(originalCollectionId, actionCollection.getId());
+
                                                         DefaultResources defaultResources1 = new DefaultResources();
                                                         defaultResources1.setApplicationId(savedPage.getApplicationId());
+                                                        defaultResources1.setCollectionId(actionCollection.getId());
                                                         actionCollection.setDefaultResources(defaultResources1);
 
                                                         actionCollectionService.generateAndSetPolicies(savedPage, actionCollection);
@@ -331,32 +336,16 @@ public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE
                                                                 });
 
                                                         unpublishedCollection.setDefaultToBranchedActionIdsMap(newActionIds);
-
-                                                        return actionCollectionService.create(actionCollection)
-                                                                .flatMap(clonedActionCollection -> {
-                                                                    if (StringUtils.isEmpty(clonedActionCollection.getDefaultResources().getCollectionId())) {
-                                                                        ActionCollection updates = new ActionCollection();
-                                                                        DefaultResources defaultResources2 = clonedActionCollection.getDefaultResources();
-                                                                        defaultResources2.setCollectionId(clonedActionCollection.getId());
-                                                                        updates.setDefaultResources(defaultResources2);
-                                                                        return actionCollectionService.update(clonedActionCollection.getId(), updates);
-                                                                    }
-                                                                    return Mono.just(clonedActionCollection);
-                                                                })
-                                                                .flatMap(clonedActionCollection -> {
-                                                                    collectionIdsMap.put(originalCollectionId, clonedActionCollection.getId());
-                                                                    return Flux.fromIterable(newActionIds.values())
-                                                                            .flatMap(newActionService::findById)
-                                                                            .flatMap(newlyCreatedAction -> {
-                                                                                ActionDTO unpublishedAction = newlyCreatedAction.getUnpublishedAction();
-                                                                                unpublishedAction.setCollectionId(clonedActionCollection.getId());
-                                                                                unpublishedAction.getDefaultResources().setCollectionId(clonedActionCollection.getId());
-                                                                                return newActionService.update(newlyCreatedAction.getId(), newlyCreatedAction);
-                                                                            })
-                                                                            .collectList();
-                                                                });
+                                                        return actionCollection;
                                                     })
                                                     .collectList()
+                                                    .flatMapMany(actionCollectionService::bulkInsert)
+                                                    .flatMap(clonedActionCollection -> newActionService.updateUnpublishedCollectionId(
+                                                            new ArrayList<>(clonedActionCollection.getUnpublishedCollection()
+                                                                    .getDefaultToBranchedActionIdsMap().values()),
+                                                            clonedActionCollection.getId()
+                                                    ))
+                                                    .collectList()
                                                     .then(Mono.zip(Mono.just(actionIdsMap), Mono.just(collectionIdsMap)));
                                         });
                             });
@@ -502,7 +491,8 @@ public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE
 
         return Mono.zip(datasourceRepository.findById(datasourceId), existingDatasourcesMono)
                 .flatMap(tuple -> {
-                    final Datasource templateDatasource = tuple.getT1();
+                    // Secrets are encrypted with a random salt, so they can only be compared by their plaintext
+                    final Datasource templateDatasource = datasourceService.decryptSecrets(tuple.getT1());
                     final List<Datasource> existingDatasources = tuple.getT2();
 
                     final AuthenticationDTO authentication = templateDatasource.getDatasourceConfiguration() == null
@@ -514,6 +504,7 @@ public class ExamplesWorkspaceClonerCEImpl implements ExamplesWorkspaceClonerCE
 
                     return Flux.fromIterable(existingDatasources)
                             .map(ds -> {
+                                datasourceService.decryptSecrets(ds);
                                 final AuthenticationDTO auth = ds.getDatasourceConfiguration() == null
                                         ? null : ds.getDatasourceConfiguration().getAuthentication();
                                 if (auth != null) {
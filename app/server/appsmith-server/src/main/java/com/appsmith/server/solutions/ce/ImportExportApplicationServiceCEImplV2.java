@@ -36,6 +36,7 @@ import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.DefaultResourcesUtils;
+import com.appsmith.server.helpers.ImportFileUtils;
 import com.appsmith.server.helpers.TextUtils;
 import com.appsmith.server.migrations.ApplicationVersion;
 import com.appsmith.server.migrations.JsonSchemaMigration;
@@ -69,7 +70,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
@@ -78,6 +78,7 @@ import org.springframework.http.codec.multipart.Part;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
@@ -553,16 +554,16 @@ public class ImportExportApplicationServiceCEImplV2 implements ImportExportAppli
             return Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE));
         }
 
-        Mono<String> stringifiedFile = DataBufferUtils.join(filePart.content())
-                .map(dataBuffer -> {
-                    byte[] data = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(data);
-                    DataBufferUtils.release(dataBuffer);
-                    return new String(data);
-                });
+        Type fileType = new TypeToken<ApplicationJson>() {
+        }.getType();
+
+        // The file is parsed straight from the uploaded buffers, without holding a copy of it as a string
+        Mono<ApplicationJson> applicationJsonMono = ImportFileUtils
+                .<ApplicationJson>readJson(filePart.content(), gson, fileType)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE)));
 
-        Mono<ApplicationImportDTO> importedApplicationMono = stringifiedFile
-                .flatMap(data -> {
+        Mono<ApplicationImportDTO> importedApplicationMono = applicationJsonMono
+                .flatMap(jsonFile -> {
                     /*
                     // Use JsonObject to migrate when we remove some field from the collection which is being exported
                     JsonObject json = gson.fromJson(data, JsonObject.class);
@@ -574,9 +575,6 @@ public class ImportExportApplicationServiceCEImplV2 implements ImportExportAppli
                     ((JsonArray) json.get("pageList"))
                     */
 
-                    Type fileType = new TypeToken<ApplicationJson>() {
-                    }.getType();
-                    ApplicationJson jsonFile = gson.fromJson(data, fileType);
                     return importApplicationInWorkspace(workspaceId, jsonFile)
                             .onErrorResume(error -> {
                                 if (error instanceof AppsmithException) {
@@ -1264,6 +1262,7 @@ public class ImportExportApplicationServiceCEImplV2 implements ImportExportAppli
                     .filter(newPage -> !StringUtils.isEmpty(newPage.getGitSyncId()))
                     .forEach(newPage -> savedPagesGitIdToPageMap.put(newPage.getGitSyncId(), newPage));
 
+            final List<NewPage> newPagesToInsert = new ArrayList<>();
             return Flux.fromIterable(pages)
                     .flatMap(newPage -> {
 
@@ -1305,8 +1304,11 @@ public class ImportExportApplicationServiceCEImplV2 implements ImportExportAppli
                                         return newPageService.save(newPage);
                                     });
                         }
-                        return saveNewPageAndUpdateDefaultResources(newPage, branchName);
-                    });
+                        // New pages are inserted together once all the imported pages have been gone through
+                        newPagesToInsert.add(prepareForBulkInsert(newPage, branchName));
+                        return Mono.<NewPage>empty();
+                    })
+                    .concatWith(Flux.defer(() -> newPageService.bulkInsert(newPagesToInsert)));
         });
     }
 
@@ -1353,7 +1355,7 @@ public class ImportExportApplicationServiceCEImplV2 implements ImportExportAppli
                 .filter(newAction -> newAction.getGitSyncId() != null)
                 .forEach(newAction -> savedActionsGitIdToActionsMap.put(newAction.getGitSyncId(), newAction));
 
-
+        final List<NewAction> newActionsToInsert = new ArrayList<>();
         return Flux.fromIterable(importedNewActionList)
                 .filter(action -> action.getUnpublishedAction() != null
                         && !StringUtils.isEmpty(action.getUnpublishedAction().getPageId()))
@@ -1441,8 +1443,11 @@ public class ImportExportApplicationServiceCEImplV2 implements ImportExportAppli
                                 });
                     }
 
-                    return saveNewActionAndUpdateDefaultResources(newAction, branchName);
+                    // New actions are inserted together once all the imported actions have been gone through
+                    newActionsToInsert.add(prepareForBulkInsert(newAction, branchName));
+                    return Mono.<NewAction>empty();
                 })
+                .concatWith(Flux.defer(() -> newActionService.bulkInsert(newActionsToInsert)))
                 .map(newAction -> {
                     // Populate actionIdsMap to associate the appropriate actions to run on page load
                     if (newAction.getUnpublishedAction() != null) {
@@ -1504,6 +1509,9 @@ public class ImportExportApplicationServiceCEImplV2 implements ImportExportAppli
             boolean appendToApp) {
 
         final String workspaceId = importedApplication.getWorkspaceId();
+        // Ids of the imported collections, by the ids generated for the new collections that are inserted together
+        final Map<String, String> newCollectionIdToImportedIdMap = new HashMap<>();
+        final List<ActionCollection> newCollectionsToInsert = new ArrayList<>();
         return Flux.fromIterable(importedActionCollectionList)
                 .filter(actionCollection -> actionCollection.getUnpublishedCollection() != null
                         && !StringUtils.isEmpty(actionCollection.getUnpublishedCollection().getPageId()))
@@ -1602,11 +1610,17 @@ public class ImportExportApplicationServiceCEImplV2 implements ImportExportAppli
                                 });
                     }
 
-                    return Mono.zip(
-                            Mono.just(importedActionCollectionId),
-                            saveNewCollectionAndUpdateDefaultResources(actionCollection, branchName)
-                    );
-                });
+                    // New collections are inserted together once all the imported collections have been gone through
+                    newCollectionsToInsert.add(prepareForBulkInsert(actionCollection, branchName));
+                    newCollectionIdToImportedIdMap.put(actionCollection.getId(), importedActionCollectionId);
+                    return Mono.<Tuple2<String, ActionCollection>>empty();
+                })
+                .concatWith(Flux.defer(() -> actionCollectionService.bulkInsert(newCollectionsToInsert))
+                        .map(savedActionCollection -> Tuples.of(
+                                newCollectionIdToImportedIdMap.get(savedActionCollection.getId()),
+                                savedActionCollection
+                        ))
+                );
     }
 
     private Flux<NewAction> updateActionsWithImportedCollectionIds(
@@ -1674,6 +1688,16 @@ public class ImportExportApplicationServiceCEImplV2 implements ImportExportAppli
                 .flatMapMany(newActionService::saveAll);
     }
 
+    /**
+     * Generates the id of a new resource and sets its default resources in memory, so that it can be inserted along
+     * with the other new resources instead of being saved first and then updated with the default resources that
+     * depend on its id.
+     */
+    private <T extends BaseDomain> T prepareForBulkInsert(T resource, String branchName) {
+        resource.setId(new ObjectId().toString());
+        return DefaultResourcesUtils.createDefaultIdsOrUpdateWithGivenResourceIds(resource, branchName);
+    }
+
     private Mono<NewPage> saveNewPageAndUpdateDefaultResources(NewPage newPage, String branchName) {
         NewPage update = new NewPage();
         return newPageService.save(newPage)
@@ -1969,6 +1993,7 @@ public class ImportExportApplicationServiceCEImplV2 implements ImportExportAppli
      * @return sensitive fields which then will be deserialized and exported in JSON file
      */
     private DecryptedSensitiveFields getDecryptedFields(Datasource datasource) {
+        datasourceService.decryptSecrets(datasource);
         final AuthenticationDTO authentication = datasource.getDatasourceConfiguration() == null
                 ? null : datasource.getDatasourceConfiguration().getAuthentication();
 
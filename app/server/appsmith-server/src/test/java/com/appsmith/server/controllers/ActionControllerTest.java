@@ -0,0 +1,124 @@
+package com.appsmith.server.controllers;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionStreamFrame;
+import com.appsmith.external.models.ActionExecutionStreamFrame.FrameType;
+import com.appsmith.server.configurations.SecurityTestConfig;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.constants.Url;
+import com.appsmith.server.services.LayoutActionService;
+import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.solutions.RefactoringSolution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@WebFluxTest(ActionController.class)
+@Import(SecurityTestConfig.class)
+public class ActionControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    LayoutActionService layoutActionService;
+
+    @MockBean
+    NewActionService newActionService;
+
+    @MockBean
+    RefactoringSolution refactoringSolution;
+
+    private MultipartBodyBuilder createBodyBuilder() {
+        MultipartBodyBuilder bodyBuilder = new MultipartBodyBuilder();
+        bodyBuilder.part("executeActionDTO", "{\"actionId\":\"actionId\",\"viewMode\":false}");
+        return bodyBuilder;
+    }
+
+    @Test
+    @WithMockUser
+    public void executeActionStreamed_WhenExecuted_RespondsWithOneFramePerLine() {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+
+        Mockito.when(newActionService.executeActionStreamed(Mockito.any(Flux.class), Mockito.eq("main"), Mockito.any()))
+                .thenReturn(Flux.just(
+                        ActionExecutionStreamFrame.header(List.of("id"), null, null),
+                        ActionExecutionStreamFrame.rows(List.of(Map.of("id", 1), Map.of("id", 2))),
+                        ActionExecutionStreamFrame.rows(List.of(Map.of("id", 3))),
+                        ActionExecutionStreamFrame.result(result, 3L)
+                ));
+
+        String body = webTestClient.post()
+                .uri(Url.ACTION_URL + "/execute/stream")
+                .header(FieldName.BRANCH_NAME, "main")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(BodyInserters.fromMultipartData(createBodyBuilder().build()))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        List<String> lines = List.of(body.trim().split("\n"));
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).contains("\"type\":\"HEADER\"").contains("\"columns\":[\"id\"]");
+        assertThat(lines.get(1)).contains("\"type\":\"ROWS\"").contains("{\"id\":1}").contains("{\"id\":2}");
+        assertThat(lines.get(2)).contains("\"type\":\"ROWS\"").contains("{\"id\":3}");
+        assertThat(lines.get(3)).contains("\"type\":\"RESULT\"").contains("\"rowCount\":3")
+                .contains("\"isExecutionSuccess\":true");
+    }
+
+    @Test
+    @WithMockUser
+    public void executeActionStreamed_WhenExecuted_FramesCanBeReadBack() {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(false);
+        result.setBody("connection reset");
+
+        Mockito.when(newActionService.executeActionStreamed(Mockito.any(Flux.class), Mockito.any(), Mockito.any()))
+                .thenReturn(Flux.just(
+                        ActionExecutionStreamFrame.header(List.of("id"), null, null),
+                        ActionExecutionStreamFrame.result(result, null)
+                ));
+
+        List<ActionExecutionStreamFrame> frames = webTestClient.post()
+                .uri(Url.ACTION_URL + "/execute/stream")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(BodyInserters.fromMultipartData(createBodyBuilder().build()))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBodyList(ActionExecutionStreamFrame.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(frames).hasSize(2);
+        assertThat(frames.get(0).getType()).isEqualTo(FrameType.HEADER);
+        assertThat(frames.get(1).getType()).isEqualTo(FrameType.RESULT);
+        assertThat(frames.get(1).getResult().getIsExecutionSuccess()).isFalse();
+        assertThat(frames.get(1).getResult().getBody()).isEqualTo("connection reset");
+    }
+}
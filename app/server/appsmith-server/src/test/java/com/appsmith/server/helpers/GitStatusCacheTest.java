@@ -0,0 +1,133 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.dtos.GitStatusDTO;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationPage;
+import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.ThemeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GitStatusCacheTest {
+
+    private NewPageRepository newPageRepository;
+
+    private DatasourceRepository datasourceRepository;
+
+    private GitStatusCache gitStatusCache;
+
+    @BeforeEach
+    public void setup() {
+        newPageRepository = Mockito.mock(NewPageRepository.class);
+        NewActionRepository newActionRepository = Mockito.mock(NewActionRepository.class);
+        ActionCollectionRepository actionCollectionRepository = Mockito.mock(ActionCollectionRepository.class);
+        datasourceRepository = Mockito.mock(DatasourceRepository.class);
+        ThemeRepository themeRepository = Mockito.mock(ThemeRepository.class);
+
+        Mockito.when(newPageRepository.getLastModifiedWatermark(Mockito.anyList())).thenReturn(Mono.just("1:100"));
+        Mockito.when(newActionRepository.getLastModifiedWatermark(Mockito.anyList())).thenReturn(Mono.just("2:200"));
+        Mockito.when(actionCollectionRepository.getLastModifiedWatermark(Mockito.anyList())).thenReturn(Mono.just("0:"));
+        Mockito.when(datasourceRepository.getLastModifiedWatermark(Mockito.anyList())).thenReturn(Mono.just("1:300"));
+        Mockito.when(themeRepository.findById(Mockito.anyString())).thenReturn(Mono.empty());
+
+        gitStatusCache = new GitStatusCache(newPageRepository, newActionRepository, actionCollectionRepository,
+                themeRepository, datasourceRepository);
+    }
+
+    @Test
+    public void getWatermark_WhenAPageIsUpdated_WatermarkChanges() {
+        Application application = new Application();
+        application.setId("applicationId");
+        application.setWorkspaceId("workspaceId");
+
+        String watermark = gitStatusCache.getWatermark(application).block();
+
+        Mockito.when(newPageRepository.getLastModifiedWatermark(Mockito.anyList())).thenReturn(Mono.just("1:101"));
+
+        StepVerifier.create(gitStatusCache.getWatermark(application))
+                .assertNext(updatedWatermark -> assertThat(updatedWatermark).isNotEqualTo(watermark))
+                .verifyComplete();
+    }
+
+    @Test
+    public void getWatermark_WhenADatasourceIsUpdated_WatermarkChanges() {
+        Application application = new Application();
+        application.setId("applicationId");
+        application.setWorkspaceId("workspaceId");
+
+        String watermark = gitStatusCache.getWatermark(application).block();
+
+        Mockito.when(datasourceRepository.getLastModifiedWatermark(Mockito.anyList())).thenReturn(Mono.just("1:301"));
+
+        StepVerifier.create(gitStatusCache.getWatermark(application))
+                .assertNext(updatedWatermark -> assertThat(updatedWatermark).isNotEqualTo(watermark))
+                .verifyComplete();
+    }
+
+    @Test
+    public void getWatermark_WhenPagesAreReorderedOrThemeIsChanged_WatermarkChanges() {
+        ApplicationPage page1 = new ApplicationPage();
+        page1.setId("page1");
+        page1.setIsDefault(true);
+        ApplicationPage page2 = new ApplicationPage();
+        page2.setId("page2");
+        page2.setIsDefault(false);
+
+        Application application = new Application();
+        application.setId("applicationId");
+        application.setWorkspaceId("workspaceId");
+        application.setPages(List.of(page1, page2));
+
+        String watermark = gitStatusCache.getWatermark(application).block();
+
+        application.setPages(List.of(page2, page1));
+        String reorderedWatermark = gitStatusCache.getWatermark(application).block();
+        assertThat(reorderedWatermark).isNotEqualTo(watermark);
+
+        page1.setIsDefault(false);
+        page2.setIsDefault(true);
+        String defaultPageWatermark = gitStatusCache.getWatermark(application).block();
+        assertThat(defaultPageWatermark).isNotEqualTo(reorderedWatermark);
+
+        application.setEditModeThemeId("themeId");
+
+        StepVerifier.create(gitStatusCache.getWatermark(application))
+                .assertNext(updatedWatermark -> assertThat(updatedWatermark).isNotEqualTo(defaultPageWatermark))
+                .verifyComplete();
+    }
+
+    @Test
+    public void get_WhenWatermarkHasChangedOrApplicationIsEvicted_ReturnsEmpty() {
+        GitStatusDTO status = new GitStatusDTO();
+        gitStatusCache.put("applicationId", "main", "watermark", status);
+        gitStatusCache.put("applicationId", "feature", "watermark", status);
+        gitStatusCache.put("otherApplicationId", "main", "watermark", status);
+
+        assertThat(gitStatusCache.get("applicationId", "main", "watermark")).containsSame(status);
+        assertThat(gitStatusCache.get("applicationId", "main", "updatedWatermark")).isEmpty();
+
+        gitStatusCache.evict("applicationId");
+
+        assertThat(gitStatusCache.get("applicationId", "main", "watermark")).isEmpty();
+        assertThat(gitStatusCache.get("applicationId", "feature", "watermark")).isEmpty();
+        assertThat(gitStatusCache.get("otherApplicationId", "main", "watermark")).containsSame(status);
+    }
+
+    @Test
+    public void tryStartRemoteFetch_WhenCalledAgainWithinInterval_ReturnsFalse() {
+        assertThat(gitStatusCache.tryStartRemoteFetch("applicationId", "main")).isTrue();
+        assertThat(gitStatusCache.tryStartRemoteFetch("applicationId", "main")).isFalse();
+        assertThat(gitStatusCache.tryStartRemoteFetch("applicationId", "feature")).isTrue();
+        assertThat(gitStatusCache.tryStartRemoteFetch("otherApplicationId", "main")).isTrue();
+    }
+}
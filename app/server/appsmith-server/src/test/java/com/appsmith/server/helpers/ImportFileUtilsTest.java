@@ -0,0 +1,68 @@
+package com.appsmith.server.helpers;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImportFileUtilsTest {
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+
+    private final Gson gson = new Gson();
+
+    private List<NettyDataBuffer> toBuffers(String content, int chunkSize) {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        final List<NettyDataBuffer> buffers = new ArrayList<>();
+        for (int start = 0; start < bytes.length; start += chunkSize) {
+            buffers.add(bufferFactory.wrap(Arrays.copyOfRange(bytes, start, Math.min(bytes.length, start + chunkSize))));
+        }
+        return buffers;
+    }
+
+    @Test
+    public void readJson_WhenSplitAcrossBuffers_ParsesAndReleasesEveryBuffer() {
+        // The chunk size splits the multibyte characters across buffers
+        final List<NettyDataBuffer> buffers = toBuffers("{\"name\": \"página de prueba 测试页\", \"pages\": [1, 2]}", 3);
+
+        StepVerifier.create(ImportFileUtils.<Map<String, Object>>readJson(
+                        Flux.fromIterable(buffers).cast(DataBuffer.class), gson, Map.class))
+                .assertNext(json -> {
+                    assertThat(json.get("name")).isEqualTo("página de prueba 测试页");
+                    assertThat((List<?>) json.get("pages")).hasSize(2);
+                })
+                .verifyComplete();
+
+        assertThat(buffers).allMatch(buffer -> buffer.getNativeBuffer().refCnt() == 0);
+    }
+
+    @Test
+    public void readJson_WhenJsonIsInvalid_ReleasesEveryBuffer() {
+        final List<NettyDataBuffer> buffers = toBuffers("{\"name\": \"unterminated", 4);
+
+        StepVerifier.create(ImportFileUtils.readJson(Flux.fromIterable(buffers).cast(DataBuffer.class), gson, Map.class))
+                .expectError(JsonSyntaxException.class)
+                .verify();
+
+        assertThat(buffers).allMatch(buffer -> buffer.getNativeBuffer().refCnt() == 0);
+    }
+
+    @Test
+    public void readJson_WhenContentIsEmpty_ReturnsEmpty() {
+        StepVerifier.create(ImportFileUtils.readJson(Flux.empty(), gson, Map.class))
+                .verifyComplete();
+    }
+}
@@ -1,8 +1,10 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.PermissionGroup;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.Workspace;
+import com.appsmith.server.helpers.PermissionGroupsRequestCache;
 import com.appsmith.server.services.WorkspaceService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +16,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.appsmith.server.constants.FieldName.ADMINISTRATOR;
@@ -35,6 +38,9 @@ public class CacheableRepositoryTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    WorkspaceRepository workspaceRepository;
+
 
     @Test
     @WithUserDetails(value = "api_user")
@@ -64,4 +70,37 @@ public class CacheableRepositoryTest {
         Set<String> userPermissionGroupsPostWorkspaceDelete = cacheableRepositoryHelper.getPermissionGroupsOfUser(api_user).block();
         assertThat(userPermissionGroupsPostWorkspaceDelete).doesNotContain(adminPg.getId());
     }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getAllPermissionGroupsForUser_withRequestCache_resolvedOncePerRequestUntilEvicted() {
+
+        User api_user = userRepository.findByEmail("api_user").block();
+
+        Workspace workspace = new Workspace();
+        workspace.setName("getAllPermissionGroupsForUser_withRequestCache_resolvedOncePerRequestUntilEvicted Workspace");
+        Workspace createdWorkspace = workspaceService.create(workspace).block();
+
+        Mono<Workspace> workspaceMono = workspaceRepository.findById(createdWorkspace.getId(),
+                Optional.of(AclPermission.READ_WORKSPACES));
+
+        // The second query of the request reuses the permission groups resolved for the first one
+        PermissionGroupsRequestCache requestCache = new PermissionGroupsRequestCache();
+        StepVerifier.create(workspaceMono
+                        .then(workspaceMono)
+                        .contextWrite(ctx -> ctx.put(PermissionGroupsRequestCache.CONTEXT_KEY, requestCache)))
+                .assertNext(workspace1 -> assertThat(workspace1.getId()).isEqualTo(createdWorkspace.getId()))
+                .verifyComplete();
+        assertThat(requestCache.getReuseCount()).isEqualTo(1);
+
+        // Evicting the permission groups of the user makes the rest of the request resolve them again
+        PermissionGroupsRequestCache requestCacheWithEviction = new PermissionGroupsRequestCache();
+        StepVerifier.create(workspaceMono
+                        .then(cacheableRepositoryHelper.evictPermissionGroupsUser(api_user.getEmail(), api_user.getTenantId()))
+                        .then(workspaceMono)
+                        .contextWrite(ctx -> ctx.put(PermissionGroupsRequestCache.CONTEXT_KEY, requestCacheWithEviction)))
+                .assertNext(workspace1 -> assertThat(workspace1.getId()).isEqualTo(createdWorkspace.getId()))
+                .verifyComplete();
+        assertThat(requestCacheWithEviction.getReuseCount()).isZero();
+    }
 }
@@ -1,19 +1,28 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.domains.Application;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -49,4 +58,63 @@ public class CustomApplicationRepositoryImplTest {
             assertThat(CollectionUtils.isEmpty(strings)).isTrue();
         }).verifyComplete();
     }
-}
\ No newline at end of file
+
+    private Set<String> getPermissionGroups(Application application, String permission) {
+        return application.getPolicies().stream()
+                .filter(policy -> permission.equals(policy.getPermission()))
+                .findFirst()
+                .map(Policy::getPermissionGroups)
+                .orElse(null);
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updatePolicies_WhenPoliciesAddedAndRemoved_PermissionGroupsUpdated() {
+        String randomWorkspaceId = UUID.randomUUID().toString();
+        Application application = new Application();
+        application.setWorkspaceId(randomWorkspaceId);
+        application.setName("my policy test app");
+        application.setPolicies(new HashSet<>(Set.of(Policy.builder()
+                .permission(READ_APPLICATIONS.getValue())
+                .permissionGroups(new HashSet<>(Set.of("existingPermissionGroup")))
+                .build())));
+
+        Map<String, Policy> policyMap = Map.of(
+                READ_APPLICATIONS.getValue(), Policy.builder()
+                        .permission(READ_APPLICATIONS.getValue())
+                        .permissionGroups(Set.of("newPermissionGroup"))
+                        .build(),
+                MANAGE_APPLICATIONS.getValue(), Policy.builder()
+                        .permission(MANAGE_APPLICATIONS.getValue())
+                        .permissionGroups(Set.of("newPermissionGroup"))
+                        .build()
+        );
+        List<Criteria> criterias = List.of(where("workspaceId").is(randomWorkspaceId));
+
+        Application savedApplication = applicationRepository.save(application).block();
+
+        StepVerifier.create(applicationRepository.updatePolicies(criterias, null, policyMap, true)
+                        .zipWhen(count -> applicationRepository.findById(savedApplication.getId())))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isEqualTo(1L);
+                    Application updatedApplication = tuple.getT2();
+                    assertThat(getPermissionGroups(updatedApplication, READ_APPLICATIONS.getValue()))
+                            .containsExactlyInAnyOrder("existingPermissionGroup", "newPermissionGroup");
+                    assertThat(getPermissionGroups(updatedApplication, MANAGE_APPLICATIONS.getValue()))
+                            .containsExactly("newPermissionGroup");
+                    assertThat(updatedApplication.getName()).isEqualTo("my policy test app");
+                })
+                .verifyComplete();
+
+        StepVerifier.create(applicationRepository.updatePolicies(criterias, null, policyMap, false)
+                        .zipWhen(count -> applicationRepository.findById(savedApplication.getId())))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isEqualTo(1L);
+                    Application updatedApplication = tuple.getT2();
+                    assertThat(getPermissionGroups(updatedApplication, READ_APPLICATIONS.getValue()))
+                            .containsExactly("existingPermissionGroup");
+                    assertThat(getPermissionGroups(updatedApplication, MANAGE_APPLICATIONS.getValue())).isEmpty();
+                })
+                .verifyComplete();
+    }
+}
@@ -1,5 +1,6 @@
 package com.appsmith.server.services;
 
+import com.appsmith.external.annotations.encryption.DeferredSecrets;
 import com.appsmith.external.models.ApiKeyAuth;
 import com.appsmith.external.models.BasicAuth;
 import com.appsmith.external.models.DBAuth;
@@ -7,6 +8,7 @@ import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.services.EncryptionService;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
@@ -28,15 +30,23 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -76,6 +86,9 @@ public class DatasourceContextServiceTest {
     @SpyBean
     DatasourceContextServiceImpl datasourceContextService;
 
+    @SpyBean
+    DatasourceContextConfig datasourceContextConfig;
+
     @Test
     @WithUserDetails(value = "api_user")
     public void testDatasourceCache_afterDatasourceDeleted_doesNotReturnOldConnection() {
@@ -164,6 +177,9 @@ public class DatasourceContextServiceTest {
                 .create(datasourceMono)
                 .assertNext(savedDatasource -> {
                     DBAuth authentication = (DBAuth) savedDatasource.getDatasourceConfiguration().getAuthentication();
+                    // The password is only decrypted when it is needed
+                    assertTrue(DeferredSecrets.isDeferred(authentication.getPassword()));
+                    datasourceService.decryptSecrets(savedDatasource);
                     assertEquals(password, authentication.getPassword());
                     DBAuth encryptedAuthentication = (DBAuth) createdDatasource.getDatasourceConfiguration().getAuthentication();
                     assertEquals(password, encryptionService.decryptString(encryptedAuthentication.getPassword()));
@@ -308,4 +324,106 @@ public class DatasourceContextServiceTest {
         assertTrue(dsc2.getConnection() instanceof UpdatableConnection);
         assertTrue(((UpdatableConnection) dsc2.getConnection()).getAuthenticationDTO(new ApiKeyAuth()) instanceof BasicAuth);
     }
+
+    @Test
+    public void testGetDecryptedConfiguration_untilDatasourceIsUpdated_returnsConfigurationOfCachedContext() {
+        doReturn(false).when(datasourceContextService).getIsStale(any());
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("decrypted_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        Datasource datasource = createDatasourceForEviction("decryptedId");
+        DBAuth authentication = new DBAuth();
+        authentication.setPassword("password");
+        datasource.getDatasourceConfiguration().setAuthentication(authentication);
+        datasource.setUpdatedAt(Instant.now());
+
+        assertTrue(datasourceContextService.getDecryptedConfiguration(datasource).isEmpty());
+
+        datasourceContextService.getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, new Object()).block();
+
+        Datasource fetchedDatasource = createDatasourceForEviction("decryptedId");
+        fetchedDatasource.setUpdatedAt(datasource.getUpdatedAt());
+        Optional<DatasourceConfiguration> decryptedConfiguration =
+                datasourceContextService.getDecryptedConfiguration(fetchedDatasource);
+        assertTrue(decryptedConfiguration.isPresent());
+        assertEquals("password", ((DBAuth) decryptedConfiguration.get().getAuthentication()).getPassword());
+
+        fetchedDatasource.setUpdatedAt(datasource.getUpdatedAt().plusSeconds(1));
+        assertTrue(datasourceContextService.getDecryptedConfiguration(fetchedDatasource).isEmpty());
+    }
+
+    private Datasource createDatasourceForEviction(String id) {
+        Datasource datasource = new Datasource();
+        datasource.setId(id);
+        datasource.setPluginId("mockPluginId");
+        datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+        return datasource;
+    }
+
+    @Test
+    public void testDatasourceCreate_whenMaxSizeExceeded_destroysLeastRecentlyUsedConnection() {
+        doReturn(false).when(datasourceContextService).getIsStale(any());
+        doReturn(1).when(datasourceContextConfig).getMaxSize();
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("lru_connection_1")).doReturn(Mono.just("lru_connection_2"))
+                .when(spyMockPluginExecutor).datasourceCreate(any());
+
+        datasourceContextService.getCachedDatasourceContextMono(createDatasourceForEviction("lruId1"),
+                spyMockPluginExecutor, new Object()).block();
+        DatasourceContext<?> dsContext2 = (DatasourceContext<?>) datasourceContextService
+                .getCachedDatasourceContextMono(createDatasourceForEviction("lruId2"), spyMockPluginExecutor, new Object())
+                .block();
+
+        assertEquals("lru_connection_2", dsContext2.getConnection());
+        verify(spyMockPluginExecutor, timeout(5000)).datasourceDestroy("lru_connection_1");
+        verify(spyMockPluginExecutor, never()).datasourceDestroy("lru_connection_2");
+    }
+
+    @Test
+    public void testEvictIdleDatasourceContexts_withIdleContext_destroysConnection() {
+        doReturn(false).when(datasourceContextService).getIsStale(any());
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("idle_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        datasourceContextService.getCachedDatasourceContextMono(createDatasourceForEviction("idleId"),
+                spyMockPluginExecutor, new Object()).block();
+
+        datasourceContextService.evictIdleDatasourceContexts();
+        verify(spyMockPluginExecutor, never()).datasourceDestroy("idle_connection");
+
+        doReturn(Duration.ZERO).when(datasourceContextConfig).getMaxIdleTime();
+        datasourceContextService.evictIdleDatasourceContexts();
+        verify(spyMockPluginExecutor, timeout(5000)).datasourceDestroy("idle_connection");
+    }
+
+    @Test
+    public void testEvictIdleDatasourceContexts_whileActionIsExecuting_keepsConnection() {
+        doReturn(false).when(datasourceContextService).getIsStale(any());
+        doReturn(Duration.ZERO).when(datasourceContextConfig).getMaxIdleTime();
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("busy_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceContext<?> dsContext = (DatasourceContext<?>) datasourceContextService
+                .getCachedDatasourceContextMono(createDatasourceForEviction("busyId"), spyMockPluginExecutor, new Object())
+                .block();
+
+        Sinks.One<String> executionResult = Sinks.one();
+        Mono<String> executionMono = datasourceContextService
+                .executeInDatasourceContext(dsContext, datasourceContext -> executionResult.asMono())
+                .cache();
+        executionMono.subscribe();
+
+        datasourceContextService.evictIdleDatasourceContexts();
+        verify(spyMockPluginExecutor, never()).datasourceDestroy("busy_connection");
+
+        executionResult.tryEmitValue("result");
+        StepVerifier.create(executionMono).expectNext("result").verifyComplete();
+
+        datasourceContextService.evictIdleDatasourceContexts();
+        verify(spyMockPluginExecutor, timeout(5000)).datasourceDestroy("busy_connection");
+    }
 }
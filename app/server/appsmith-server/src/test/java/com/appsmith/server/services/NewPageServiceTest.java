@@ -4,12 +4,14 @@ import com.appsmith.external.models.DefaultResources;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.PermissionGroup;
 import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.repositories.PermissionGroupRepository;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +21,9 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -167,4 +172,35 @@ public class NewPageServiceTest {
                 .verifyComplete();
     }
 
-}
\ No newline at end of file
+    @Test
+    @WithUserDetails("api_user")
+    public void bulkInsert_WhenIdsArePresetOrMissing_InsertsAllPages() {
+        String randomId = UUID.randomUUID().toString();
+        String presetId = new ObjectId().toString();
+        List<NewPage> pages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            NewPage newPage = new NewPage();
+            newPage.setApplicationId("app_" + randomId);
+            PageDTO pageDTO = new PageDTO();
+            pageDTO.setName("page_" + i);
+            newPage.setUnpublishedPage(pageDTO);
+            pages.add(newPage);
+        }
+        pages.get(0).setId(presetId);
+
+        Mono<List<NewPage>> savedPagesMono = newPageService.bulkInsert(pages)
+                .thenMany(newPageService.findNewPagesByApplicationId("app_" + randomId, Optional.empty()))
+                .collectList();
+
+        StepVerifier.create(savedPagesMono)
+                .assertNext(savedPages -> {
+                    assertThat(savedPages).hasSize(3);
+                    assertThat(savedPages).extracting(NewPage::getId).contains(presetId).doesNotContainNull();
+                    assertThat(savedPages).allMatch(newPage -> newPage.getCreatedAt() != null);
+                    assertThat(savedPages).allMatch(newPage -> "api_user".equals(newPage.getCreatedBy()));
+                    assertThat(savedPages).allMatch(newPage -> newPage.getGitSyncId() != null);
+                })
+                .verifyComplete();
+    }
+
+}
@@ -16,6 +16,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DefaultResources;
 import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.PaginationType;
+import com.appsmith.external.models.PluginType;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.Policy;
 import com.appsmith.external.models.Property;
@@ -2859,4 +2860,30 @@ public class ActionServiceCE_Test {
         datasource = datasourceRepository.save(datasource).block();
     }
 
+    @Test
+    @WithUserDetails("api_user")
+    public void bulkInsert_WhenGitSyncIdsAreMissing_GivesEveryActionADistinctGitSyncId() {
+        String applicationId = "app_" + UUID.randomUUID();
+        List<NewAction> actions = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            NewAction newAction = new NewAction();
+            newAction.setApplicationId(applicationId);
+            newAction.setPluginId("pluginId");
+            newAction.setPluginType(PluginType.DB);
+            ActionDTO actionDTO = new ActionDTO();
+            actionDTO.setName("action_" + i);
+            newAction.setUnpublishedAction(actionDTO);
+            actions.add(newAction);
+        }
+
+        StepVerifier.create(newActionService.bulkInsert(actions).collectList())
+                .assertNext(insertedActions -> {
+                    assertThat(insertedActions).hasSize(50);
+                    assertThat(insertedActions).extracting(NewAction::getGitSyncId)
+                            .doesNotContainNull()
+                            .doesNotHaveDuplicates();
+                })
+                .verifyComplete();
+    }
+
 }
@@ -2362,6 +2362,67 @@ public class ApplicationServiceCETest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void publishApplication_withActionAndActionCollection_unpublishedResourcesCopiedToPublished() {
+        Application testApplication = new Application();
+        testApplication.setName("Publish Application Copies Unpublished Resources");
+        Mono<Tuple3<NewAction, ActionCollection, NewPage>> resultMono = applicationPageService.createApplication(testApplication, workspaceId)
+                .flatMap(application -> Mono.zip(
+                        newPageService.findById(application.getPages().get(0).getId(), READ_PAGES),
+                        pluginRepository.findByPackageName("installed-plugin")
+                ))
+                .flatMap(tuple -> {
+                    final NewPage page = tuple.getT1();
+                    final Datasource datasource = new Datasource();
+                    datasource.setName("Default Database");
+                    datasource.setWorkspaceId(workspaceId);
+                    datasource.setPluginId(tuple.getT2().getId());
+                    datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+
+                    ActionDTO action = new ActionDTO();
+                    action.setName("publishCopyActionTest");
+                    action.setPageId(page.getId());
+                    ActionConfiguration actionConfiguration = new ActionConfiguration();
+                    actionConfiguration.setHttpMethod(HttpMethod.GET);
+                    action.setActionConfiguration(actionConfiguration);
+                    action.setDatasource(datasource);
+
+                    ActionCollectionDTO actionCollectionDTO = new ActionCollectionDTO();
+                    actionCollectionDTO.setName("publishCopyCollectionTest");
+                    actionCollectionDTO.setPageId(page.getId());
+                    actionCollectionDTO.setPluginId(datasource.getPluginId());
+                    actionCollectionDTO.setApplicationId(testApplication.getId());
+                    actionCollectionDTO.setWorkspaceId(testApplication.getWorkspaceId());
+                    actionCollectionDTO.setPluginType(PluginType.JS);
+
+                    return layoutActionService.createSingleAction(action, Boolean.FALSE)
+                            .zipWith(layoutCollectionService.createCollection(actionCollectionDTO))
+                            .flatMap(tuple1 -> applicationPageService.publish(testApplication.getId(), true)
+                                    .then(Mono.zip(
+                                            newActionService.findById(tuple1.getT1().getId(), READ_ACTIONS),
+                                            actionCollectionService.findById(tuple1.getT2().getId(), READ_ACTIONS),
+                                            newPageService.findById(page.getId(), READ_PAGES)
+                                    )));
+                });
+
+        StepVerifier
+                .create(resultMono)
+                .assertNext(tuple -> {
+                    NewAction action = tuple.getT1();
+                    ActionCollection actionCollection = tuple.getT2();
+                    NewPage page = tuple.getT3();
+
+                    assertThat(action.getPublishedAction().getName()).isEqualTo("publishCopyActionTest");
+                    assertThat(action.getPublishedAction().getPageId()).isEqualTo(page.getId());
+                    assertThat(actionCollection.getPublishedCollection().getName()).isEqualTo("publishCopyCollectionTest");
+                    assertThat(page.getPublishedPage().getName()).isEqualTo(page.getUnpublishedPage().getName());
+                    assertThat(page.getPublishedPage().getLayouts().get(0).getDsl())
+                            .isEqualTo(page.getUnpublishedPage().getLayouts().get(0).getDsl());
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void publishApplication_withGitConnectedApp_success() {
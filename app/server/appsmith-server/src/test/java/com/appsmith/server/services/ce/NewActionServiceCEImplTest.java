@@ -1,13 +1,26 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.external.datatypes.ClientDataType;
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionStreamFrame;
+import com.appsmith.external.models.ActionExecutionStreamFrame.FrameType;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DefaultResources;
+import com.appsmith.external.models.Param;
 import com.appsmith.external.models.PluginType;
+import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.acl.PolicyGenerator;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.dtos.ExecutePageLoadActionsDTO;
+import com.appsmith.server.dtos.PageLoadActionExecutionResultDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.PluginExecutorHelper;
@@ -69,11 +82,15 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 
 @ExtendWith(SpringExtension.class)
@@ -405,4 +422,128 @@ public class NewActionServiceCEImplTest {
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testExecutePageLoadActions_withActionsOnSameDatasource_loadsDatasourceOnce() {
+        Datasource datasource = new Datasource();
+        datasource.setId("datasourceId");
+        datasource.setName("datasourceName");
+
+        List<NewAction> pageActions = new ArrayList<>();
+        for (String actionId : List.of("actionId1", "actionId2")) {
+            ActionDTO actionDTO = new ActionDTO();
+            actionDTO.setName(actionId);
+            actionDTO.setDatasource(datasource);
+            DefaultResources defaultResources = new DefaultResources();
+            defaultResources.setActionId("default" + actionId);
+            NewAction newAction = new NewAction();
+            newAction.setId(actionId);
+            newAction.setDefaultResources(defaultResources);
+            newAction.setUnpublishedAction(actionDTO);
+            pageActions.add(newAction);
+        }
+
+        NewPage page = new NewPage();
+        page.setId("pageId");
+        doReturn(Mono.just(page)).when(newPageService).findByBranchNameAndDefaultPageId(any(), any(), any());
+        doReturn(Flux.fromIterable(pageActions)).when(newActionRepository).findByPageIdAndViewMode(any(), any(), any());
+        doReturn(Mono.just(datasource)).when(datasourceService).getValidDatasourceFromActionMono(any(), any());
+
+        NewActionServiceCEImpl newActionServiceSpy = spy((NewActionServiceCEImpl) newActionService);
+        doAnswer(invocation -> {
+            ExecuteActionDTO executeActionDTO = invocation.getArgument(0);
+            Mono<Datasource> datasourceMono = invocation.getArgument(3);
+            return datasourceMono.map(datasource1 -> {
+                ActionExecutionResult result = new ActionExecutionResult();
+                result.setIsExecutionSuccess(true);
+                result.setBody(executeActionDTO.getActionId() + ":" + datasource1.getName());
+                return result;
+            });
+        }).when(newActionServiceSpy).executeAction(any(ExecuteActionDTO.class), any(), any(), any(), any(), any(), any());
+
+        ExecutePageLoadActionsDTO executePageLoadActionsDTO = new ExecutePageLoadActionsDTO();
+        executePageLoadActionsDTO.setPageId("defaultPageId");
+        List<ExecuteActionDTO> actions = new ArrayList<>();
+        for (String actionId : List.of("defaultactionId1", "defaultactionId2", "missingActionId")) {
+            ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+            executeActionDTO.setActionId(actionId);
+            executeActionDTO.setParamProperties(Map.of("k0", "string"));
+            executeActionDTO.setParameterMap(Map.of("Input1.text", "k0"));
+            Param param = new Param();
+            param.setPseudoBindingName("k0");
+            param.setValue("xyz");
+            executeActionDTO.setParams(List.of(param));
+            actions.add(executeActionDTO);
+        }
+        executePageLoadActionsDTO.setActions(actions);
+
+        Mono<Map<String, ActionExecutionResult>> resultsMono = newActionServiceSpy
+                .executePageLoadActions(executePageLoadActionsDTO, null, null)
+                .collectMap(PageLoadActionExecutionResultDTO::getActionId, PageLoadActionExecutionResultDTO::getResult);
+
+        StepVerifier
+                .create(resultsMono)
+                .assertNext(results -> {
+                    assertEquals(3, results.size());
+                    assertEquals("actionId1:datasourceName", results.get("defaultactionId1").getBody());
+                    assertEquals("actionId2:datasourceName", results.get("defaultactionId2").getBody());
+                    assertFalse(results.get("missingActionId").getIsExecutionSuccess());
+                    assertEquals(AppsmithError.NO_RESOURCE_FOUND.getAppErrorCode().toString(),
+                            results.get("missingActionId").getStatusCode());
+                    assertEquals("Input1.text", actions.get(0).getParams().get(0).getKey());
+                    assertEquals(ClientDataType.STRING, actions.get(0).getParams().get(0).getClientDataType());
+                })
+                .verifyComplete();
+
+        verify(datasourceService, times(1)).getValidDatasourceFromActionMono(any(), any());
+    }
+
+    @Test
+    public void testExecuteActionStreamed_withErrorAfterRows_endsWithMappedResultFrame() {
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setName("Query1");
+        actionDTO.setActionConfiguration(new ActionConfiguration());
+        NewAction newAction = new NewAction();
+        newAction.setId("actionId");
+        Datasource datasource = new Datasource();
+        datasource.setId("datasourceId");
+        Plugin plugin = new Plugin();
+        plugin.setId("pluginId");
+
+        NewActionServiceCEImpl newActionServiceSpy = spy((NewActionServiceCEImpl) newActionService);
+        doReturn(Mono.just(newAction)).when(newActionServiceSpy).getCachedActionForActionExecution(any());
+        doReturn(Mono.just(actionDTO)).when(newActionServiceSpy).getCachedActionDTOForActionExecution(any(), any(), any());
+        doReturn(Mono.just(datasource)).when(newActionServiceSpy).getCachedDatasourceForActionExecution(any(), any());
+        doReturn(Mono.just(plugin)).when(newActionServiceSpy).getCachedPluginForActionExecution(any(), any());
+        doReturn(Mono.just(Map.of())).when(newActionServiceSpy).getEditorConfigLabelMap(any());
+        doReturn(false).when(newActionServiceSpy).isSendExecuteAnalyticsEvent();
+        doReturn(Mono.just(Mockito.mock(PluginExecutor.class))).when(pluginExecutorHelper).getPluginExecutor(any());
+
+        // The datasource fails after the first chunk of rows has been sent
+        doReturn(Flux.concat(
+                Flux.just(
+                        ActionExecutionStreamFrame.header(List.of("id"), null, null),
+                        ActionExecutionStreamFrame.rows(List.of(Map.of("id", 1)))),
+                Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "connection reset"))
+        )).when(newActionServiceSpy).verifyDatasourceAndMakeStreamedRequest(any(), any(), any(), any(), any(), any());
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("actionId");
+        executeActionDTO.setViewMode(false);
+
+        StepVerifier
+                .create(newActionServiceSpy.executeActionStreamed(executeActionDTO, null))
+                .assertNext(frame -> assertEquals(FrameType.HEADER, frame.getType()))
+                .assertNext(frame -> assertEquals(FrameType.ROWS, frame.getType()))
+                .assertNext(frame -> {
+                    assertEquals(FrameType.RESULT, frame.getType());
+                    ActionExecutionResult result = frame.getResult();
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getAppErrorCode().toString(),
+                            result.getStatusCode());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                    assertEquals("connection reset", result.getBody());
+                })
+                .verifyComplete();
+    }
+}
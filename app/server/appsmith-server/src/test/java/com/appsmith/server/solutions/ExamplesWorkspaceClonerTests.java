@@ -16,6 +16,7 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.models.UploadedFile;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.Layout;
@@ -779,6 +780,79 @@ public class ExamplesWorkspaceClonerTests {
 
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void cloneWorkspaceWithActionCollections_ClonedActionsReferToClonedCollection() {
+        Workspace newWorkspace = new Workspace();
+        newWorkspace.setName("Template Workspace With Collections");
+        final Workspace workspace = workspaceService.create(newWorkspace).block();
+        final User user = sessionUserService.getCurrentUser().block();
+
+        final Application app1 = new Application();
+        app1.setName("application with collections");
+        app1.setWorkspaceId(workspace.getId());
+        app1.setIsPublic(true);
+        final Application app = applicationPageService.createApplication(app1).block();
+
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutor.getHintMessages(Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.zip(Mono.just(new HashSet<>()), Mono.just(new HashSet<>())));
+
+        Plugin installedJsPlugin = pluginRepository.findByPackageName("installed-js-plugin").block();
+        assert installedJsPlugin != null;
+
+        ActionCollectionDTO actionCollectionDTO = new ActionCollectionDTO();
+        actionCollectionDTO.setName("testCollection");
+        actionCollectionDTO.setPageId(app.getPages().get(0).getId());
+        actionCollectionDTO.setApplicationId(app.getId());
+        actionCollectionDTO.setWorkspaceId(workspace.getId());
+        actionCollectionDTO.setPluginId(installedJsPlugin.getId());
+        ActionDTO runAction = new ActionDTO();
+        runAction.setName("run");
+        runAction.setActionConfiguration(new ActionConfiguration());
+        runAction.getActionConfiguration().setBody("mockBody");
+        ActionDTO resetAction = new ActionDTO();
+        resetAction.setName("reset");
+        resetAction.setActionConfiguration(new ActionConfiguration());
+        resetAction.getActionConfiguration().setBody("mockBody");
+        actionCollectionDTO.setActions(List.of(runAction, resetAction));
+        actionCollectionDTO.setPluginType(PluginType.JS);
+        final ActionCollectionDTO templateCollection = layoutCollectionService.createCollection(actionCollectionDTO).block();
+
+        final Workspace clonedWorkspace = examplesWorkspaceCloner.cloneWorkspaceForUser(
+                        workspace.getId(),
+                        user,
+                        Flux.fromIterable(List.of(app)),
+                        Flux.empty())
+                .doOnError(error -> log.error("Error preparing data for test", error))
+                .block();
+
+        final List<ActionCollection> clonedCollections = mongoTemplate.find(
+                Query.query(Criteria.where("workspaceId").is(clonedWorkspace.getId())), ActionCollection.class);
+        final List<NewAction> clonedActions = mongoTemplate.find(
+                Query.query(Criteria.where("workspaceId").is(clonedWorkspace.getId())), NewAction.class);
+
+        assertThat(clonedCollections).hasSize(1);
+        final ActionCollection clonedCollection = clonedCollections.get(0);
+        assertThat(clonedCollection.getId()).isNotEqualTo(templateCollection.getId());
+        assertThat(clonedCollection.getDefaultResources().getCollectionId()).isEqualTo(clonedCollection.getId());
+        assertThat(clonedCollection.getCreatedBy()).isEqualTo("api_user");
+
+        final Set<String> collectionActionIds = new HashSet<>(
+                clonedCollection.getUnpublishedCollection().getDefaultToBranchedActionIdsMap().values());
+        assertThat(collectionActionIds).hasSize(2);
+        assertThat(map(clonedActions, NewAction::getId)).containsAll(collectionActionIds);
+
+        // The actions are moved into the cloned collection after the collection has been inserted
+        clonedActions.stream()
+                .filter(newAction -> collectionActionIds.contains(newAction.getId()))
+                .forEach(newAction -> {
+                    assertThat(newAction.getUnpublishedAction().getCollectionId()).isEqualTo(clonedCollection.getId());
+                    assertThat(newAction.getUnpublishedAction().getDefaultResources().getCollectionId())
+                            .isEqualTo(clonedCollection.getId());
+                });
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void cloneApplicationWithActionsThrice() {
@@ -950,6 +950,71 @@ public class ImportExportApplicationServiceTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void importApplicationFromValidJsonFile_NewResourcesInserted_DefaultResourcesAndCreatorSet() {
+
+        FilePart filePart = createFilePart("test_assets/ImportExportServiceTest/valid-application.json");
+
+        Workspace newWorkspace = new Workspace();
+        newWorkspace.setName("Bulk insert import workspace");
+
+        final Mono<Tuple4<List<NewPage>, List<NewAction>, List<ActionCollection>, Application>> resultMono = workspaceService
+                .create(newWorkspace)
+                .flatMap(workspace -> importExportApplicationService
+                        .extractFileAndSaveApplication(workspace.getId(), filePart)
+                )
+                .map(ApplicationImportDTO::getApplication)
+                .flatMap(application -> Mono.zip(
+                        newPageService.findNewPagesByApplicationId(application.getId(), Optional.empty()).collectList(),
+                        newActionService.findAllByApplicationIdAndViewMode(application.getId(), false, READ_ACTIONS, null).collectList(),
+                        actionCollectionService.findAllByApplicationIdAndViewMode(application.getId(), false, MANAGE_ACTIONS, null).collectList(),
+                        Mono.just(application)
+                ));
+
+        StepVerifier
+                .create(resultMono)
+                .assertNext(tuple -> {
+                    final List<NewPage> pageList = tuple.getT1();
+                    final List<NewAction> actionList = tuple.getT2();
+                    final List<ActionCollection> actionCollectionList = tuple.getT3();
+                    final Application application = tuple.getT4();
+
+                    assertThat(pageList).hasSize(2);
+                    pageList.forEach(newPage -> {
+                        assertThat(newPage.getDefaultResources().getPageId()).isEqualTo(newPage.getId());
+                        assertThat(newPage.getDefaultResources().getApplicationId()).isEqualTo(application.getId());
+                        assertThat(newPage.getCreatedAt()).isNotNull();
+                        assertThat(newPage.getCreatedBy()).isEqualTo("api_user");
+                    });
+
+                    assertThat(actionList).isNotEmpty();
+                    actionList.forEach(newAction -> {
+                        assertThat(newAction.getDefaultResources().getActionId()).isEqualTo(newAction.getId());
+                        assertThat(newAction.getDefaultResources().getApplicationId()).isEqualTo(application.getId());
+                        assertThat(newAction.getCreatedAt()).isNotNull();
+                        assertThat(newAction.getCreatedBy()).isEqualTo("api_user");
+                    });
+
+                    final Set<String> collectionIds = actionCollectionList.stream()
+                            .map(ActionCollection::getId)
+                            .collect(Collectors.toSet());
+                    assertThat(actionCollectionList).isNotEmpty();
+                    actionCollectionList.forEach(actionCollection -> {
+                        assertThat(actionCollection.getDefaultResources().getCollectionId()).isEqualTo(actionCollection.getId());
+                        assertThat(actionCollection.getCreatedAt()).isNotNull();
+                        assertThat(actionCollection.getCreatedBy()).isEqualTo("api_user");
+                    });
+
+                    // The actions of the collections refer to the ids generated for the inserted collections
+                    actionList.stream()
+                            .map(NewAction::getUnpublishedAction)
+                            .filter(actionDTO -> !StringUtils.isEmpty(actionDTO.getCollectionId()))
+                            .forEach(actionDTO -> assertThat(collectionIds).contains(actionDTO.getCollectionId()));
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void importApplicationInWorkspace_WhenCustomizedThemes_ThemesCreated() {
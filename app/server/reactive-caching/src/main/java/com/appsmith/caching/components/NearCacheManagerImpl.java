@@ -0,0 +1,203 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheInvalidationMessage;
+import com.appsmith.caching.model.CacheStats;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NearCacheManagerImpl is a CacheManager that keeps a bounded in-memory copy of the items in front of Redis.
+ * Items are looked up in memory first and only go to Redis (RedisCacheManagerImpl) on a miss. Evictions are published
+ * on a Redis channel, so that the other nodes drop the evicted items from their memory as well. Items also expire from
+ * memory after a while, which bounds how long a node can serve a stale item if an eviction message is lost.
+ * <p>
+ * The same object is returned for every hit on a node, so callers must not modify the objects they get from the cache.
+ */
+@Primary
+@Component
+@ConditionalOnClass({ReactiveRedisTemplate.class})
+@Slf4j
+public class NearCacheManagerImpl implements CacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "appsmith:cache:invalidation";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Duration INVALIDATION_RETRY_MIN_BACKOFF = Duration.ofSeconds(1);
+
+    private static final Duration INVALIDATION_RETRY_MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private final RedisCacheManagerImpl redisCacheManager;
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache;
+
+    // Identifies this node in the invalidation messages, so that it can ignore the messages it has published itself
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // Incremented on every invalidation, so that an item read from Redis while it was being evicted isn't kept in memory
+    private final AtomicLong invalidationCount = new AtomicLong(0);
+
+    private final Disposable invalidationSubscription;
+
+    @Autowired
+    public NearCacheManagerImpl(RedisCacheManagerImpl redisCacheManager,
+                                ReactiveRedisOperations<String, String> reactiveRedisOperations,
+                                @Value("${appsmith.cache.near.max-size:10000}") long maxSize,
+                                @Value("${appsmith.cache.near.ttl-seconds:60}") long ttlSeconds) {
+        this.redisCacheManager = redisCacheManager;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.invalidationSubscription = subscribeToInvalidations();
+    }
+
+    private Disposable subscribeToInvalidations() {
+        return reactiveRedisOperations.listenToChannel(INVALIDATION_CHANNEL)
+                .map(message -> parseInvalidationMessage(message.getMessage()))
+                .filter(message -> !nodeId.equals(message.getNodeId()))
+                .doOnError(throwable -> {
+                    // The listener is cancelled when the Redis connection is closed on shut down
+                    if (!(throwable instanceof CancellationException)) {
+                        log.error("Error occurred while listening to cache invalidations: ", throwable);
+                        // Evictions published until the listener is back are missed, so nothing in memory can be trusted
+                        invalidationCount.incrementAndGet();
+                        nearCache.invalidateAll();
+                    }
+                })
+                // Without the listener, items evicted on other nodes would be served from memory until they expire
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, INVALIDATION_RETRY_MIN_BACKOFF)
+                        .maxBackoff(INVALIDATION_RETRY_MAX_BACKOFF)
+                        .filter(throwable -> !(throwable instanceof CancellationException)))
+                .subscribe(message -> {
+                    if (message.getKey() == null) {
+                        invalidateAllLocally(message.getCacheName());
+                    } else {
+                        invalidateLocally(message.getCacheName(), message.getKey());
+                    }
+                });
+    }
+
+    private static CacheInvalidationMessage parseInvalidationMessage(String message) {
+        try {
+            return OBJECT_MAPPER.readValue(message, CacheInvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            // Ignore the message, the items it was meant for still expire from memory after the TTL
+            log.error("Unable to parse cache invalidation message {}", message, e);
+            return CacheInvalidationMessage.of(null, null, null);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        invalidationSubscription.dispose();
+    }
+
+    private static String getPath(String cacheName, String key) {
+        return cacheName + ":" + key;
+    }
+
+    private void invalidateLocally(String cacheName, String key) {
+        if (cacheName == null) {
+            return;
+        }
+        invalidationCount.incrementAndGet();
+        nearCache.invalidate(getPath(cacheName, key));
+    }
+
+    private void invalidateAllLocally(String cacheName) {
+        if (cacheName == null) {
+            return;
+        }
+        invalidationCount.incrementAndGet();
+        String prefix = cacheName + ":";
+        nearCache.asMap().keySet().removeIf(path -> path.startsWith(prefix));
+    }
+
+    private Mono<Void> publishInvalidation(String cacheName, String key) {
+        try {
+            String message = OBJECT_MAPPER.writeValueAsString(CacheInvalidationMessage.of(nodeId, cacheName, key));
+            return reactiveRedisOperations.convertAndSend(INVALIDATION_CHANNEL, message).then();
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+
+    @Override
+    public void logStats() {
+        log.debug("Near cache size = {}", nearCache.estimatedSize());
+        redisCacheManager.logStats();
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            CacheStats stats = redisCacheManager.getStats(cacheName);
+            String path = getPath(cacheName, key);
+
+            Object value = nearCache.getIfPresent(path);
+            if (value != null) {
+                stats.getNearCacheHits().incrementAndGet();
+                stats.getNearCacheHitNanos().addAndGet(System.nanoTime() - startTime);
+                return Mono.just(value);
+            }
+
+            stats.getNearCacheMisses().incrementAndGet();
+            long invalidationCountAtStart = invalidationCount.get();
+            return redisCacheManager.get(cacheName, key)
+                    .doOnNext(redisValue -> {
+                        // Skip keeping the item in memory if anything was evicted in the meantime, it may be stale
+                        if (invalidationCount.get() == invalidationCountAtStart) {
+                            nearCache.put(path, redisValue);
+                        }
+                    })
+                    .doFinally(signalType -> stats.getNearCacheMissNanos().addAndGet(System.nanoTime() - startTime));
+        });
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value) {
+        return redisCacheManager.put(cacheName, key, value)
+                .doOnNext(isPut -> {
+                    if (Boolean.TRUE.equals(isPut)) {
+                        nearCache.put(getPath(cacheName, key), value);
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        // Dropping the item from memory after it is deleted from Redis ensures that it can't be read back in between
+        return redisCacheManager.evict(cacheName, key)
+                .then(Mono.fromRunnable(() -> invalidateLocally(cacheName, key)))
+                .then(publishInvalidation(cacheName, key));
+    }
+
+    @Override
+    public Mono<Void> evictAll(String cacheName) {
+        return redisCacheManager.evictAll(cacheName)
+                .then(Mono.fromRunnable(() -> invalidateAllLocally(cacheName)))
+                .then(publishInvalidation(cacheName, null));
+    }
+}
@@ -37,14 +37,32 @@ public class RedisCacheManagerImpl implements CacheManager {
         }
     }
 
+    /**
+     * Returns the stats of the cache, so that other cache layers in front of Redis can record into them as well.
+     * @param cacheName The name of the cache.
+     * @return The stats of the cache.
+     */
+    CacheStats getStats(String cacheName) {
+        ensureStats(cacheName);
+        return statsMap.get(cacheName);
+    }
+
     @Override
     public void logStats() {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug("Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}", key, stats.getHits(), stats.getMisses(), stats.getSingleEvictions(), stats.getCompleteEvictions());
+            log.debug("Cache {} near cache stats: hits = {}, misses = {}, average hit time = {} nanos, average miss time = {} nanos", key,
+                    stats.getNearCacheHits(), stats.getNearCacheMisses(),
+                    average(stats.getNearCacheHitNanos().get(), stats.getNearCacheHits().get()),
+                    average(stats.getNearCacheMissNanos().get(), stats.getNearCacheMisses().get()));
         });
     }
 
+    private static long average(long total, int count) {
+        return count == 0 ? 0 : total / count;
+    }
+
     /**
      * Resets the stats.
      */
@@ -0,0 +1,29 @@
+package com.appsmith.caching.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * This is the message published on Redis when a cache entry is evicted, so that all the nodes drop the entry from
+ * their in-memory near cache as well.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class CacheInvalidationMessage {
+    /**
+     * The id of the node that evicted the entry. Nodes ignore the messages they have published themselves.
+     */
+    private String nodeId;
+
+    /**
+     * The name of the cache.
+     */
+    private String cacheName;
+
+    /**
+     * The key of the evicted item, null if all the items of the cache were evicted.
+     */
+    private String key;
+}
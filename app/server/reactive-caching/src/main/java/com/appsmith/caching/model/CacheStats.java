@@ -1,6 +1,7 @@
 package com.appsmith.caching.model;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -31,4 +32,24 @@ public class CacheStats {
      * The number of times the cache was evicted (all keys).
      */
     private AtomicInteger completeEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of times the item was found in the in-memory near cache.
+     */
+    private AtomicInteger nearCacheHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the item was not found in the in-memory near cache, and had to be looked up in Redis.
+     */
+    private AtomicInteger nearCacheMisses = new AtomicInteger(0);
+
+    /**
+     * The total time in nanoseconds spent on lookups that were served by the near cache.
+     */
+    private AtomicLong nearCacheHitNanos = new AtomicLong(0);
+
+    /**
+     * The total time in nanoseconds spent on lookups that missed the near cache, including the Redis lookup.
+     */
+    private AtomicLong nearCacheMissNanos = new AtomicLong(0);
 }
@@ -11,11 +11,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.NearCacheManagerImpl;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
 import com.appsmith.caching.model.ArgumentModel;
+import com.appsmith.caching.model.CacheInvalidationMessage;
 import com.appsmith.caching.model.TestModel;
 import com.appsmith.caching.service.CacheTestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,6 +35,12 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private RedisCacheManagerImpl redisCacheManager;
+
+    @Autowired
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -97,6 +108,31 @@ public class TestCachingMethods {
         assertNotEquals(model, model2);
     }
 
+    /**
+     * This Test is used to test that items are served from memory until another node evicts them
+     */
+    @Test
+    public void testNearCacheInvalidatedByOtherNode() throws Exception {
+        TestModel model = cacheTestService.getObjectFor("test3").block();
+
+        // Another node replaces the item in Redis, this node keeps serving the item it has in memory
+        TestModel newModel = new TestModel();
+        newModel.setId("test3");
+        redisCacheManager.put("objectcache", "test3", newModel).block();
+        assertEquals(model, cacheTestService.getObjectFor("test3").block());
+
+        // Once the other node publishes the eviction, this node reads the item from Redis again
+        String message = new ObjectMapper()
+                .writeValueAsString(CacheInvalidationMessage.of("otherNode", "objectcache", "test3"));
+        TestModel model2 = model;
+        for (int i = 0; i < 50 && model.equals(model2); i++) {
+            reactiveRedisOperations.convertAndSend(NearCacheManagerImpl.INVALIDATION_CHANNEL, message).block();
+            Thread.sleep(100);
+            model2 = cacheTestService.getObjectFor("test3").block();
+        }
+        assertEquals(newModel, model2);
+    }
+
     /**
      * Test to measure performance of caching
      */